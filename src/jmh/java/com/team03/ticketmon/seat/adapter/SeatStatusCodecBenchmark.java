@@ -0,0 +1,92 @@
+package com.team03.ticketmon.seat.adapter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.team03.ticketmon.seat.domain.SeatStatus;
+import com.team03.ticketmon.seat.domain.SeatStatus.SeatStatusEnum;
+import io.netty.buffer.ByteBuf;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.redisson.codec.JsonJacksonCodec;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 좌석 상태 Codec 비교 벤치마크 (JsonJacksonCodec vs SeatStatusCodec 바이너리)
+ * - encode: SeatStatus → ByteBuf, decode: ByteBuf → SeatStatus (Hash 값 1건 기준)
+ * - 인코딩 크기는 Trial Setup 단계에서 1회 로그로 남김
+ * - 실행: ./gradlew jmh
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SeatStatusCodecBenchmark {
+
+    private static final Logger log = LoggerFactory.getLogger(SeatStatusCodecBenchmark.class);
+
+    @Param({"JSON", "BINARY"})
+    private String format;
+
+    @Param({"AVAILABLE", "RESERVED"})
+    private String seatState;
+
+    private SeatStatusCodec codec;
+    private SeatStatus seat;
+    private ByteBuf encoded;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        // RedissonConfig와 동일한 JSON Codec 구성
+        ObjectMapper om = new ObjectMapper()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .registerModule(new JavaTimeModule());
+        codec = new SeatStatusCodec(new JsonJacksonCodec(om), "BINARY".equals(format));
+
+        LocalDateTime now = LocalDateTime.now();
+        boolean reserved = "RESERVED".equals(seatState);
+        seat = SeatStatus.builder()
+                .id("42-12345")
+                .concertId(42L)
+                .seatId(12345L)
+                .status(reserved ? SeatStatusEnum.RESERVED : SeatStatusEnum.AVAILABLE)
+                .userId(reserved ? 987654L : null)
+                .reservedAt(reserved ? now : null)
+                .expiresAt(reserved ? now.plusMinutes(5) : null)
+                .seatInfo("VIP-A-12")
+                .build();
+
+        encoded = codec.getMapValueEncoder().encode(seat);
+        log.info("[{}/{}] encoded size = {} bytes", format, seatState, encoded.readableBytes());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        encoded.release();
+    }
+
+    @Benchmark
+    public int encode() throws IOException {
+        ByteBuf buf = codec.getMapValueEncoder().encode(seat);
+        int size = buf.readableBytes();
+        buf.release();
+        return size;
+    }
+
+    @Benchmark
+    public Object decode() throws IOException {
+        return codec.getMapValueDecoder().decode(encoded.duplicate(), null);
+    }
+}
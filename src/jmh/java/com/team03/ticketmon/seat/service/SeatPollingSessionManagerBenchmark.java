@@ -0,0 +1,83 @@
+package com.team03.ticketmon.seat.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.team03.ticketmon.seat.config.SeatProperties;
+import com.team03.ticketmon.seat.domain.SeatStatus.SeatStatusEnum;
+import com.team03.ticketmon.seat.dto.SeatUpdateEventDTO;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 좌석 폴링 세션 관리 벤치마크 (콘서트당 대기 세션 10,000개 기준)
+ * - registerAndRemove: 대기 세션이 가득한 상태에서 세션 1건 등록 + 제거
+ * - notifySessions: 좌석 변경 이벤트 1건을 모든 대기 세션에 전달 (응답 직렬화 1회 포함)
+ * - 실행: ./gradlew jmh
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SeatPollingSessionManagerBenchmark {
+
+    private static final Long CONCERT_ID = 42L;
+
+    @Param({"10000"})
+    private int sessionCount;
+
+    private SeatPollingSessionManager sessionManager;
+    private SeatUpdateEventDTO event;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SeatProperties seatProperties = new SeatProperties();
+        seatProperties.getSession().setMaxSessionsPerConcert(sessionCount * 2);
+
+        // Spring Boot 기본 ObjectMapper와 동일하게 날짜를 ISO 문자열로 직렬화
+        ObjectMapper om = new ObjectMapper()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .registerModule(new JavaTimeModule());
+        sessionManager = new SeatPollingSessionManager(seatProperties, om);
+
+        event = new SeatUpdateEventDTO(CONCERT_ID, 12345L, SeatStatusEnum.RESERVED, 987654L,
+                "VIP-A-12", LocalDateTime.now(), null);
+    }
+
+    /**
+     * 알림으로 완료된 세션을 정리하고 매 호출 전에 대기 세션을 다시 채움
+     * (서블릿 비동기 요청이 없으므로 DeferredResult 완료 콜백이 호출되지 않음)
+     */
+    @Setup(Level.Invocation)
+    public void fillSessions() {
+        sessionManager.cleanupExpiredSessions();
+        for (int i = sessionManager.getSessionCount(CONCERT_ID); i < sessionCount; i++) {
+            sessionManager.registerSession(CONCERT_ID, new DeferredResult<>(), (long) i, "jmh");
+        }
+    }
+
+    @Benchmark
+    public int registerAndRemove() {
+        DeferredResult<ResponseEntity<?>> deferredResult = new DeferredResult<>();
+        String sessionId = sessionManager.registerSession(CONCERT_ID, deferredResult, 1L, "jmh");
+        sessionManager.removeSession(CONCERT_ID, sessionId);
+        return sessionManager.getSessionCount(CONCERT_ID);
+    }
+
+    @Benchmark
+    public int notifySessions() {
+        sessionManager.notifyWaitingSessions(event);
+        return sessionManager.getSessionCount(CONCERT_ID);
+    }
+}
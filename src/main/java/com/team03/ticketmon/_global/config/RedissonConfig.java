@@ -5,9 +5,14 @@ import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import lombok.extern.slf4j.Slf4j;
 import org.redisson.Redisson;
+import org.redisson.api.NatMapper;
 import org.redisson.api.RedissonClient;
+import org.redisson.config.BaseConfig;
+import org.redisson.config.ClusterServersConfig;
 import org.redisson.config.Config;
+import org.redisson.config.ReadMode;
 import org.redisson.config.SingleServerConfig;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -19,17 +24,23 @@ import com.fasterxml.jackson.databind.ObjectMapper;
  * Redisson 설정 클래스
  * - Redis 분산 락, Pub/Sub, 캐시 기능을 위한 RedissonClient 설정
  * - Aiven Redis 서버 및 로컬 테스트 환경 연결 설정
+ * - spring.data.redis.cluster.nodes 가 설정되면 Redis Cluster 모드, 없으면 단일 서버 모드
+ *   (🏷️ 콘서트 단위 키는 {concertId} 해시 태그로 같은 슬롯에 배치되므로 Lua 스크립트/원자 배치가 그대로 동작)
  */
 @Slf4j
 @Configuration
 public class RedissonConfig {
 
-    @Value("${spring.data.redis.host}")
+    @Value("${spring.data.redis.host:localhost}")
     private String redisHost;
 
-    @Value("${spring.data.redis.port}")
+    @Value("${spring.data.redis.port:6379}")
     private int redisPort;
 
+    // 예: host1:6379,host2:6379,host3:6379 (비어 있으면 단일 서버 모드)
+    @Value("${spring.data.redis.cluster.nodes:}")
+    private String clusterNodes;
+
     @Value("${spring.data.redis.username:#{null}}")
     private String redisUsername;
 
@@ -43,9 +54,10 @@ public class RedissonConfig {
      * RedissonClient Bean 설정
      * - spring.data.redis.ssl.enabled 값에 따라 프로토콜(redis:// 또는 rediss://) 결정
      * - destroyMethod = "shutdown" 추가로 애플리케이션 종료 시 안전한 리소스 해제
+     * - 클러스터 노드가 내부 주소를 광고하는 환경(Docker 등)은 NatMapper Bean으로 접속 주소 변환
      */
     @Bean(destroyMethod = "shutdown")
-    public RedissonClient redissonClient() {
+    public RedissonClient redissonClient(ObjectProvider<NatMapper> natMapperProvider) {
         Config config = new Config();
 
         // 1) JSON 직렬화용 Codec 설정, Java 8 Date/Time 모듈 등록
@@ -54,28 +66,69 @@ public class RedissonConfig {
                 .registerModule(new JavaTimeModule());
         // 필요에 따라 모듈 등록, 옵션 설정…
         config.setCodec(new JsonJacksonCodec(om));
+        // 2) Lua 스크립트 캐시 사용 (EVALSHA로 스크립트 본문 재전송 방지)
+        config.setUseScriptCache(true);
 
         String protocol = sslEnabled ? "rediss" : "redis";
+
+        BaseConfig<?> serverConfig = StringUtils.hasText(clusterNodes)
+                ? useClusterServers(config, protocol, natMapperProvider.getIfAvailable())
+                : useSingleServer(config, protocol);
+
+        if (StringUtils.hasText(redisUsername)) {
+            serverConfig.setUsername(redisUsername);
+        }
+        if (StringUtils.hasText(redisPassword)) {
+            serverConfig.setPassword(redisPassword);
+        }
+
+        return Redisson.create(config);
+    }
+
+    /**
+     * 단일 서버 모드 설정
+     */
+    private SingleServerConfig useSingleServer(Config config, String protocol) {
         String redisUrl = "%s://%s:%d".formatted(protocol, redisHost, redisPort);
 
         log.debug("Redisson Client를 생성합니다. Address: {}", redisUrl);
 
-        // 단일 서버 모드 설정
-        SingleServerConfig serverConfig = config.useSingleServer()
+        return config.useSingleServer()
                 .setAddress(redisUrl)
                 .setConnectionMinimumIdleSize(1)    // 최소 유휴 연결 수
                 .setConnectionPoolSize(10)          // 연결 풀 크기
                 .setRetryAttempts(3)                // 재시도 횟수
                 .setRetryInterval(1000)             // 재시도 간격 (ms)
                 .setTimeout(3000);                  // 타임아웃 (ms)
+    }
 
-        if (StringUtils.hasText(redisUsername)) {
-            serverConfig.setUsername(redisUsername);
+    /**
+     * Redis Cluster 모드 설정
+     * - 좌석 선점 직후 조회가 복제 지연으로 이전 상태를 읽지 않도록 읽기/쓰기 모두 마스터 노드 사용
+     * - 슬롯 재배치(리샤딩, 페일오버)는 토폴로지 주기 스캔으로 반영
+     */
+    private ClusterServersConfig useClusterServers(Config config, String protocol, NatMapper natMapper) {
+        ClusterServersConfig clusterConfig = config.useClusterServers()
+                .setReadMode(ReadMode.MASTER)
+                .setScanInterval(2000)                    // 클러스터 토폴로지 스캔 주기 (ms)
+                .setMasterConnectionMinimumIdleSize(1)    // 노드별 최소 유휴 연결 수
+                .setMasterConnectionPoolSize(10)          // 노드별 연결 풀 크기
+                .setRetryAttempts(3)                      // 재시도 횟수
+                .setRetryInterval(1000)                   // 재시도 간격 (ms)
+                .setTimeout(3000);                        // 타임아웃 (ms)
+
+        for (String node : clusterNodes.split(",")) {
+            if (StringUtils.hasText(node)) {
+                clusterConfig.addNodeAddress("%s://%s".formatted(protocol, node.trim()));
+            }
         }
-        if (StringUtils.hasText(redisPassword)) {
-            serverConfig.setPassword(redisPassword);
+
+        if (natMapper != null) {
+            clusterConfig.setNatMapper(natMapper);
         }
 
-        return Redisson.create(config);
+        log.debug("Redisson Cluster Client를 생성합니다. Nodes: {}", clusterConfig.getNodeAddresses());
+
+        return clusterConfig;
     }
 }
\ No newline at end of file
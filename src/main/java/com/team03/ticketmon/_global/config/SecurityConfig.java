@@ -142,6 +142,7 @@ public class SecurityConfig {
 					// 관리자 전용 경로 - ADMIN 역할만 접근 허용 (관리자 페이지 및 API)
 					.requestMatchers("/admin/**").hasRole("ADMIN")
 					.requestMatchers("/api/admin/seats/**").hasRole("ADMIN")
+					.requestMatchers("/api/admin/queue/**").hasRole("ADMIN")
 
 					// 실제 판매자 기능 (콘서트 CRUD) - SELLER 역할만 접근 허용
 					.requestMatchers("/api/seller/concerts/**").hasRole("SELLER")
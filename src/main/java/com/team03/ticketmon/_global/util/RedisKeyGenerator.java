@@ -2,6 +2,8 @@ package com.team03.ticketmon._global.util;
 
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.regex.Pattern;
 
 /**
@@ -12,9 +14,11 @@ import java.util.regex.Pattern;
  *
  * 📌 키 구성 규칙:<br>
  * 접두사(prefix)를 통해 도메인 영역을 구분하고, 하위 리소스를 `:`로 연결합니다.<br>
+ * 콘서트별 키의 콘서트 ID는 해시 태그(`{concertId}`, 중괄호 포함)로 감싸 Redis Cluster에서 같은 슬롯에 배치합니다.<br>
  *
  * <ul>
  *     <li>waitqueue:concert:{concertId}         → 콘서트별 대기열 Sorted Set</li>
+ *     <li>waitqueue_seq:concert:{concertId}     → 콘서트별 대기열 점수 시퀀스 카운터</li>
  *     <li>active_sessions:concert:{concertId}   → 콘서트별 활성 세션 Sorted Set</li>
  *     <li>active_users_count:concert:{concertId}→ 콘서트별 활성 사용자 수 AtomicLong</li>
  *     <li>accesskey:concert:{concertId}:user:{userId} → 사용자별 입장 AccessKey</li>
@@ -38,11 +42,17 @@ public class RedisKeyGenerator {
 
     /** 🔑 `waitqueue:concert:{concertId}`<br>
      * 콘서트별 대기열 정보를 담는 Sorted Set 키입니다.<br>
-     * - score: 대기 순번용 timestamp + sequence<br>
+     * - score: 대기 순번용 콘서트별 시퀀스 값 (waitqueue_seq 카운터)<br>
      * - value: userId
      */
     private static final String WAIT_QUEUE_KEY_PREFIX = "waitqueue:";
 
+    /** 🔑 `waitqueue_seq:concert:{concertId}`<br>
+     * 콘서트별 대기열 점수를 발급하는 단일 시퀀스 카운터 키입니다.<br>
+     * 대기열 등록 스크립트 안에서만 증가하며, 단조 증가 값이 곧 대기 순서입니다.
+     */
+    private static final String WAIT_QUEUE_SEQUENCE_KEY_PREFIX = "waitqueue_seq:";
+
     // --- 활성 사용자 관련 키 ---
 
     /** 🔑 `active_sessions:concert:{concertId}`<br>
@@ -67,23 +77,36 @@ public class RedisKeyGenerator {
 
     // --- 스케줄러 락 키 ---
 
-    /** 🔒 `lock:cleanupScheduler`<br>
-     * 만료 세션 정리 작업용 분산 락 키입니다.
+    /** 🔒 `lock:cleanupScheduler:{concertId}`<br>
+     * 콘서트별 만료 세션 정리 작업용 분산 락 키 접두사입니다.
+     */
+    public static final String CLEANUP_SCHEDULER_LOCK_KEY_PREFIX = "lock:cleanupScheduler:";
+
+    /** 🔒 `lock:admissionScheduler:{concertId}`<br>
+     * 콘서트별 대기열 입장 처리용 스케줄러 락 키 접두사입니다.
+     */
+    public static final String ADMISSION_SCHEDULER_LOCK_KEY_PREFIX = "lock:admissionScheduler:";
+
+    /** 🔒 `lock:consistencyCheckScheduler:{concertId}`<br>
+     * 콘서트별 정합성 체크 스케줄러 락 키 접두사입니다.
      */
-    public static final String CLEANUP_SCHEDULER_LOCK_KEY = "lock:cleanupScheduler";
+    public static final String CONSISTENCY_CHECK_LOCK_KEY_PREFIX = "lock:consistencyCheckScheduler:";
 
-    /** 🔒 `lock:admissionScheduler`<br>
-     * 대기열 입장 처리용 스케줄러 락 키입니다.
+    /** 🔒 `lock:queue:registry:reconcile`<br>
+     * 활성 대기열 콘서트 레지스트리 DB 정합성 복구 스케줄러 락 키입니다.
      */
-    public static final String ADMISSION_SCHEDULER_LOCK_KEY = "lock:admissionScheduler";
+    public static final String QUEUE_REGISTRY_RECONCILE_LOCK_KEY = "lock:queue:registry:reconcile";
 
-    /** 🔒 `lock:consistencyCheckScheduler`<br>
-     * 정합성 체크 스케줄러 락 키입니다.
+    /** 🔑 `waitqueue:active_concerts`<br>
+     * 대기열 스케줄러 순회 대상 콘서트 ID Set 키입니다. (판매 중이거나 대기열/활성 세션이 남아 있는 콘서트)
      */
-    public static final String CONSISTENCY_CHECK_LOCK_KEY = "lock:consistencyCheckScheduler";
+    public static final String QUEUE_ACTIVE_CONCERTS_KEY = "waitqueue:active_concerts";
 
     // --- 🪑 좌석 관리 관련 키 ---
 
+    /** 🔑 `seat:status:{concertId}` (단일 Hash) / `seat:status:{concertId}:{shard}` (샤드 Hash)<br>
+     * 좌석 상태 Hash 키 접두사입니다. 샤드 키는 {@link #seatStatusKey(Long, Long, int)}로 생성합니다.
+     */
     public static final String SEAT_STATUS_KEY_PREFIX = "seat:status:";
 
     public static final String SEAT_LOCK_KEY_PREFIX = "seat:lock:";
@@ -96,6 +119,276 @@ public class RedisKeyGenerator {
 
     public static final String SEAT_LAST_UPDATE_KEY_PREFIX = "seat:last_update:";
 
+    /** 🔑 `seat:status_build:{concertId}:{token}`<br>
+     * 좌석 Hash 재구성용 임시 Hash 키입니다. 채운 뒤 RENAME으로 `seat:status:{concertId}`와 교체합니다.<br>
+     * (재구성이 중단되면 TTL로 자동 삭제)
+     */
+    public static final String SEAT_STATUS_BUILD_KEY_PREFIX = "seat:status_build:";
+
+    /** 🔒 `lock:seat:cache:init:{concertId}`<br>
+     * Cache Miss 시 좌석 캐시 재구성 단일 실행(Single-Flight)용 락 키입니다.
+     */
+    public static final String SEAT_CACHE_INIT_LOCK_KEY_PREFIX = "lock:seat:cache:init:";
+
+    /** 🔑 `seat:user_seats:{concertId}:{userId}`<br>
+     * 콘서트별 사용자 선점 좌석 인덱스 Set 키입니다. (value: concertSeatId)<br>
+     * 좌석 상태 전이 스크립트에서 좌석 Hash와 함께 원자적으로 갱신됩니다.
+     */
+    public static final String SEAT_USER_INDEX_KEY_PREFIX = "seat:user_seats:";
+
+    /** 🔑 `seat:state:{concertId}`<br>
+     * 좌석 순번별 2비트 패킹 상태 String(BITFIELD u2) 키입니다.<br>
+     * 전체 좌석 가용성 조회 시 JSON Hash 대신 사용합니다.
+     */
+    public static final String SEAT_STATE_KEY_PREFIX = "seat:state:";
+
+    /** 🔑 `seat:ordinal:{concertId}`<br>
+     * concertSeatId → 좌석 순번(ordinal) Hash 키입니다. (상태 전이 스크립트에서 비트 위치 계산용)
+     */
+    public static final String SEAT_ORDINAL_KEY_PREFIX = "seat:ordinal:";
+
+    /** 🔑 `seat:meta:{concertId}`<br>
+     * concertSeatId → 좌석 정보(seatInfo) Hash 키입니다. (정적 메타데이터)
+     */
+    public static final String SEAT_META_KEY_PREFIX = "seat:meta:";
+
+    /** 🔑 `seat:layout_gen:{concertId}`<br>
+     * 좌석 순번/메타데이터 세대(generation) 번호입니다. 캐시 재구성 시 갱신됩니다.
+     */
+    public static final String SEAT_LAYOUT_GENERATION_KEY_PREFIX = "seat:layout_gen:";
+
+    /** 🔑 `seat:section:{concertId}`<br>
+     * concertSeatId → 구역명 Hash 키입니다. (상태 전이 스크립트에서 구역별 카운터 갱신용)
+     */
+    public static final String SEAT_SECTION_KEY_PREFIX = "seat:section:";
+
+    /** 🔑 `seat:counts:{concertId}`<br>
+     * 좌석 가용성 카운터 Hash 키입니다. (필드: `total:{상태}`, `{구역}:{상태}`)<br>
+     * 상태 전이 스크립트에서 패킹 상태와 함께 원자적으로 증감되며, 캐시 초기화 시 재구성됩니다.
+     */
+    public static final String SEAT_COUNTS_KEY_PREFIX = "seat:counts:";
+
+    /** 🔑 `seat:version:{concertId}`<br>
+     * 콘서트 좌석 상태 버전 (상태 전이마다 1씩 증가하는 단조 증가 번호)
+     */
+    public static final String SEAT_VERSION_KEY_PREFIX = "seat:version:";
+
+    /** 🔑 `seat:changes:{concertId}`<br>
+     * 좌석 변경 로그 Stream 키입니다. (Stream ID = `{version}-0`, MAXLEN ~ 로 길이 제한)
+     */
+    public static final String SEAT_CHANGE_LOG_KEY_PREFIX = "seat:changes:";
+
+    /** 🔑 `seat:expiry:{concertId}`<br>
+     * 임시 선점 만료 큐 Sorted Set 키입니다. (member: concertSeatId, score: 만료 시각 epoch millis)<br>
+     * 상태 전이 스크립트에서 좌석 Hash와 함께 원자적으로 갱신되며, 선점 만료 워커가 일괄 해제합니다.
+     */
+    public static final String SEAT_EXPIRY_QUEUE_KEY_PREFIX = "seat:expiry:";
+
+    /** 🔑 `seat:expiry_concerts`<br>
+     * 만료 대기 선점이 있는 콘서트 ID Set 키입니다. (선점 만료 워커의 순회 대상)
+     */
+    public static final String SEAT_EXPIRY_CONCERTS_KEY = "seat:expiry_concerts";
+
+    /** 🔒 `lock:seat:hold-expiry`<br>
+     * 선점 만료 워커 리더 선출용 락 키입니다.
+     */
+    public static final String SEAT_HOLD_EXPIRY_LOCK_KEY = "lock:seat:hold-expiry";
+
+    /** 🔒 `lock:seat:user-index:reconcile`<br>
+     * 사용자 선점 인덱스 정합성 복구 스케줄러 락 키입니다.
+     */
+    public static final String SEAT_USER_INDEX_RECONCILE_LOCK_KEY = "lock:seat:user-index:reconcile";
+
+    /** 🔒 `lock:seat:counter-drift`<br>
+     * 좌석 가용성 카운터 정합성 검사 스케줄러 락 키입니다.
+     */
+    public static final String SEAT_COUNTER_DRIFT_LOCK_KEY = "lock:seat:counter-drift";
+
+    /** 🔑 `seat:journal_cursor`<br>
+     * 콘서트 ID → 선점 저널(DB)에 반영한 마지막 좌석 버전 Hash 키입니다.<br>
+     * (유실되면 다음 반영 시 좌석 Hash 기준 스냅샷으로 저널을 다시 맞춤)
+     */
+    public static final String SEAT_JOURNAL_CURSOR_KEY = "seat:journal_cursor";
+
+    /** 🔒 `lock:seat:journal`<br>
+     * 좌석 선점 저널 반영/압축 스케줄러 락 키입니다. (반영과 압축이 동시에 실행되지 않도록 같은 락 사용)
+     */
+    public static final String SEAT_JOURNAL_LOCK_KEY = "lock:seat:journal";
+
+    /**
+     * 🔑 좌석이 속한 좌석 상태 Hash 키<br>
+     * shardCount가 1 이하면 `seat:status:{concertId}`, 그 외에는 `seat:status:{concertId}:{concertSeatId % shardCount}`
+     */
+    public static String seatStatusKey(Long concertId, Long concertSeatId, int shardCount) {
+        if (shardCount <= 1) {
+            return seatStatusKey(concertId);
+        }
+        return seatStatusShardKey(concertId, seatStatusShardOf(concertSeatId, shardCount));
+    }
+
+    /**
+     * 🔑 단일 좌석 상태 Hash 키: `seat:status:{concertId}` (샤드 미사용 콘서트 / 샤드 전환 전 레거시 키)
+     */
+    public static String seatStatusKey(Long concertId) {
+        return SEAT_STATUS_KEY_PREFIX + concertTag(concertId);
+    }
+
+    /**
+     * 🔑 좌석 상태 샤드 Hash 키: `seat:status:{concertId}:{shard}`
+     */
+    public static String seatStatusShardKey(Long concertId, int shard) {
+        return SEAT_STATUS_KEY_PREFIX + concertTag(concertId) + ":" + shard;
+    }
+
+    /**
+     * 콘서트의 전체 좌석 상태 Hash 키 목록 (샤드 순서)
+     */
+    public static List<String> seatStatusKeys(Long concertId, int shardCount) {
+        if (shardCount <= 1) {
+            return List.of(seatStatusKey(concertId));
+        }
+        List<String> keys = new ArrayList<>(shardCount);
+        for (int shard = 0; shard < shardCount; shard++) {
+            keys.add(seatStatusShardKey(concertId, shard));
+        }
+        return keys;
+    }
+
+    /**
+     * 좌석 샤드 번호 (concertSeatId % shardCount, 조회 없이 모든 서버/스크립트 인자에서 동일하게 계산)
+     */
+    public static int seatStatusShardOf(long concertSeatId, int shardCount) {
+        return (int) Math.floorMod(concertSeatId, (long) shardCount);
+    }
+
+    /**
+     * 🔑 좌석 Hash 재구성용 임시 Hash 키: `seat:status_build:{concertId}:{token}`
+     */
+    public static String seatStatusBuildKey(Long concertId, String token) {
+        return SEAT_STATUS_BUILD_KEY_PREFIX + concertTag(concertId) + ":" + token;
+    }
+
+    /**
+     * 🔒 좌석 분산 락 키: `seat:lock:{concertId}:{concertSeatId}`
+     */
+    public static String seatLockKey(Long concertId, Long concertSeatId) {
+        return SEAT_LOCK_KEY_PREFIX + concertTag(concertId) + ":" + concertSeatId;
+    }
+
+    /**
+     * 🔑 좌석 선점 TTL 키: `seat:expire:{concertId}:{concertSeatId}`
+     */
+    public static String seatTtlKey(Long concertId, Long concertSeatId) {
+        return seatTtlKeyPrefix(concertId) + concertSeatId;
+    }
+
+    /**
+     * 🔑 좌석 선점 TTL 키 접두사: `seat:expire:{concertId}:` (Lua 스크립트에서 seatId를 붙여 키 구성)
+     */
+    public static String seatTtlKeyPrefix(Long concertId) {
+        return SEAT_TTL_KEY_PREFIX + concertTag(concertId) + ":";
+    }
+
+    /**
+     * 🔑 콘서트 좌석 마지막 업데이트 시간 키: `seat:last_update:{concertId}`
+     */
+    public static String seatLastUpdateKey(Long concertId) {
+        return SEAT_LAST_UPDATE_KEY_PREFIX + concertTag(concertId);
+    }
+
+    /**
+     * 🔒 좌석 캐시 재구성 락 키: `lock:seat:cache:init:{concertId}`
+     */
+    public static String seatCacheInitLockKey(Long concertId) {
+        return SEAT_CACHE_INIT_LOCK_KEY_PREFIX + concertTag(concertId);
+    }
+
+    /**
+     * 🔑 사용자 선점 좌석 인덱스 Set 키: `seat:user_seats:{concertId}:{userId}`
+     */
+    public static String seatUserIndexKey(Long concertId, Long userId) {
+        return seatUserIndexKeyPrefix(concertId) + userId;
+    }
+
+    /**
+     * 🔑 사용자 선점 좌석 인덱스 키 접두사: `seat:user_seats:{concertId}:` (Lua 스크립트에서 userId를 붙여 키 구성)
+     */
+    public static String seatUserIndexKeyPrefix(Long concertId) {
+        return SEAT_USER_INDEX_KEY_PREFIX + concertTag(concertId) + ":";
+    }
+
+    /**
+     * 🔑 좌석 패킹 상태 키: `seat:state:{concertId}`
+     */
+    public static String seatStateKey(Long concertId) {
+        return SEAT_STATE_KEY_PREFIX + concertTag(concertId);
+    }
+
+    /**
+     * 🔑 좌석 순번 Hash 키: `seat:ordinal:{concertId}`
+     */
+    public static String seatOrdinalKey(Long concertId) {
+        return SEAT_ORDINAL_KEY_PREFIX + concertTag(concertId);
+    }
+
+    /**
+     * 🔑 좌석 정적 메타데이터 Hash 키: `seat:meta:{concertId}`
+     */
+    public static String seatMetaKey(Long concertId) {
+        return SEAT_META_KEY_PREFIX + concertTag(concertId);
+    }
+
+    /**
+     * 🔑 좌석 순번/메타데이터 세대 번호 키: `seat:layout_gen:{concertId}`
+     */
+    public static String seatLayoutGenerationKey(Long concertId) {
+        return SEAT_LAYOUT_GENERATION_KEY_PREFIX + concertTag(concertId);
+    }
+
+    /**
+     * 🔑 좌석 구역 Hash 키: `seat:section:{concertId}`
+     */
+    public static String seatSectionKey(Long concertId) {
+        return SEAT_SECTION_KEY_PREFIX + concertTag(concertId);
+    }
+
+    /**
+     * 🔑 좌석 가용성 카운터 Hash 키: `seat:counts:{concertId}`
+     */
+    public static String seatCountsKey(Long concertId) {
+        return SEAT_COUNTS_KEY_PREFIX + concertTag(concertId);
+    }
+
+    /**
+     * 🔑 콘서트 좌석 상태 버전 키: `seat:version:{concertId}`
+     */
+    public static String seatVersionKey(Long concertId) {
+        return SEAT_VERSION_KEY_PREFIX + concertTag(concertId);
+    }
+
+    /**
+     * 🔑 좌석 변경 로그 Stream 키: `seat:changes:{concertId}`
+     */
+    public static String seatChangeLogKey(Long concertId) {
+        return SEAT_CHANGE_LOG_KEY_PREFIX + concertTag(concertId);
+    }
+
+    /**
+     * 🔑 임시 선점 만료 큐 Sorted Set 키: `seat:expiry:{concertId}`
+     */
+    public static String seatExpiryQueueKey(Long concertId) {
+        return SEAT_EXPIRY_QUEUE_KEY_PREFIX + concertTag(concertId);
+    }
+
+    /**
+     * 🏷️ 콘서트 해시 태그: `{concertId}`<br>
+     * Redis Cluster는 키의 `{...}` 부분만으로 슬롯을 계산하므로, 같은 콘서트의 키는 모두 같은 슬롯(노드)에 배치됩니다.<br>
+     * → Lua 스크립트, MULTI/EXEC 배치, RENAME 등 콘서트 단위 다중 키 연산이 CROSSSLOT 오류 없이 동작
+     */
+    public static String concertTag(Long concertId) {
+        return "{" + concertId + "}";
+    }
+
     // --- 🪑 Warm-up ---
 
     public static final String WARMUP_LOCK_KEY = "lock:seat:cache:warmup";
@@ -105,7 +398,7 @@ public class RedisKeyGenerator {
     // --- 🪑 keyspace-event ---
 
     public static final String SEAT_EXPIRE_KEY_PATTERN = "seat:expire:*";
-    public static final Pattern SEAT_KEY_REGEX = Pattern.compile("seat:expire:(\\d+):(\\d+)");
+    public static final Pattern SEAT_KEY_REGEX = Pattern.compile("seat:expire:\\{(\\d+)\\}:(\\d+)");
 
     // --- Pub/Sub 토픽 관련 키 ---
 
@@ -122,13 +415,28 @@ public class RedisKeyGenerator {
      */
     public static final String RANK_UPDATE_TOPIC = "rank-update-channel";
 
+    /**
+     * 📣 `seat-layout-evict-channel`<br>
+     * 좌석 배치도 스냅샷 삭제 요청(메시지: concertId)을 모든 서버에 전달하는 Redis Pub/Sub 채널 이름입니다.<br>
+     */
+    public static final String SEAT_LAYOUT_EVICT_TOPIC = "seat-layout-evict-channel";
+
     /**
      * 🎯 콘서트별 대기열 키 생성
      * @param concertId 콘서트 ID
      * @return Redis 키: `waitqueue:concert:{concertId}`
      */
     public String getWaitQueueKey(Long concertId) {
-        return WAIT_QUEUE_KEY_PREFIX + CONCERT_PREFIX + concertId;
+        return WAIT_QUEUE_KEY_PREFIX + CONCERT_PREFIX + concertTag(concertId);
+    }
+
+    /**
+     * 🎯 콘서트별 대기열 시퀀스 카운터 키 생성
+     * @param concertId 콘서트 ID
+     * @return Redis 키: `waitqueue_seq:concert:{concertId}`
+     */
+    public String getWaitQueueSequenceKey(Long concertId) {
+        return WAIT_QUEUE_SEQUENCE_KEY_PREFIX + CONCERT_PREFIX + concertTag(concertId);
     }
 
     /**
@@ -137,7 +445,7 @@ public class RedisKeyGenerator {
      * @return Redis 키: `active_sessions:concert:{concertId}`
      */
     public String getActiveSessionsKey(Long concertId) {
-        return ACTIVE_SESSIONS_KEY_PREFIX + CONCERT_PREFIX + concertId;
+        return ACTIVE_SESSIONS_KEY_PREFIX + CONCERT_PREFIX + concertTag(concertId);
     }
 
     /**
@@ -146,7 +454,7 @@ public class RedisKeyGenerator {
      * @return Redis 키: `active_users_count:concert:{concertId}`
      */
     public String getActiveUsersCountKey(Long concertId) {
-        return ACTIVE_USERS_COUNT_KEY_PREFIX + CONCERT_PREFIX + concertId;
+        return ACTIVE_USERS_COUNT_KEY_PREFIX + CONCERT_PREFIX + concertTag(concertId);
     }
 
     /**
@@ -156,7 +464,43 @@ public class RedisKeyGenerator {
      * @return Redis 키: `accesskey:concert:{concertId}:user:{userId}`
      */
     public String getAccessKey(Long concertId, Long userId) {
-        return ACCESS_KEY_PREFIX + CONCERT_PREFIX + concertId + ":" + USER_PREFIX + userId;
+        return getAccessKeyPrefix(concertId) + userId;
+    }
+
+    /**
+     * 🎯 콘서트별 AccessKey 키 접두사 생성 (Lua 스크립트에서 userId를 붙여 키 구성)
+     * @param concertId 콘서트 ID
+     * @return Redis 키 접두사: `accesskey:concert:{concertId}:user:`
+     */
+    public String getAccessKeyPrefix(Long concertId) {
+        return ACCESS_KEY_PREFIX + CONCERT_PREFIX + concertTag(concertId) + ":" + USER_PREFIX;
+    }
+
+    /**
+     * 🔒 콘서트별 만료 세션 정리 스케줄러 락 키 생성
+     * @param concertId 콘서트 ID
+     * @return Redis 키: `lock:cleanupScheduler:{concertId}`
+     */
+    public String getCleanupSchedulerLockKey(Long concertId) {
+        return CLEANUP_SCHEDULER_LOCK_KEY_PREFIX + concertTag(concertId);
+    }
+
+    /**
+     * 🔒 콘서트별 대기열 입장 처리 스케줄러 락 키 생성
+     * @param concertId 콘서트 ID
+     * @return Redis 키: `lock:admissionScheduler:{concertId}`
+     */
+    public String getAdmissionSchedulerLockKey(Long concertId) {
+        return ADMISSION_SCHEDULER_LOCK_KEY_PREFIX + concertTag(concertId);
+    }
+
+    /**
+     * 🔒 콘서트별 정합성 체크 스케줄러 락 키 생성
+     * @param concertId 콘서트 ID
+     * @return Redis 키: `lock:consistencyCheckScheduler:{concertId}`
+     */
+    public String getConsistencyCheckLockKey(Long concertId) {
+        return CONSISTENCY_CHECK_LOCK_KEY_PREFIX + concertTag(concertId);
     }
 
 }
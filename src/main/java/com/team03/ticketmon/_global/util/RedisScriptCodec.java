@@ -0,0 +1,71 @@
+package com.team03.ticketmon._global.util;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import org.redisson.client.codec.ByteArrayCodec;
+import org.redisson.client.handler.State;
+import org.redisson.client.protocol.Decoder;
+import org.redisson.client.protocol.Encoder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Lua 스크립트 실행 전용 Redisson Codec
+ * - ARGV: byte[]는 그대로, 그 외 값(숫자/키 접두사 등 문자열)은 UTF-8 문자열로 전송
+ *   (ByteArrayCodec은 byte[]만 인코딩할 수 있어 문자열 인자와 섞어 쓸 수 없음)
+ * - 반환값: ByteArrayCodec과 동일 (정수는 Long, 문자열은 byte[])
+ * <br>
+ * 🔑 Redisson Codec으로 미리 인코딩한 값(byte[])과 평문 인자를 한 스크립트에 함께 전달할 때 사용
+ */
+public class RedisScriptCodec extends ByteArrayCodec {
+
+    public static final RedisScriptCodec INSTANCE = new RedisScriptCodec();
+
+    private final Encoder encoder = new Encoder() {
+        @Override
+        public ByteBuf encode(Object in) throws IOException {
+            if (in instanceof byte[] bytes) {
+                return Unpooled.wrappedBuffer(bytes);
+            }
+            return Unpooled.wrappedBuffer(String.valueOf(in).getBytes(StandardCharsets.UTF_8));
+        }
+    };
+
+    @Override
+    public Encoder getValueEncoder() {
+        return encoder;
+    }
+
+    /**
+     * Redisson Codec으로 값을 인코딩하여 스크립트 인자용 byte[]로 변환
+     */
+    public static byte[] encode(Encoder encoder, Object value) {
+        ByteBuf buf = null;
+        try {
+            buf = encoder.encode(value);
+            return ByteBufUtil.getBytes(buf);
+        } catch (IOException e) {
+            throw new IllegalStateException("Redis 스크립트 인자 인코딩 실패: " + value, e);
+        } finally {
+            if (buf != null) {
+                buf.release();
+            }
+        }
+    }
+
+    /**
+     * 스크립트가 반환한 값(byte[])을 Redisson Codec으로 디코딩 (RBucket 등으로 저장된 값을 스크립트에서 그대로 읽어온 경우)
+     */
+    public static Object decode(Decoder<Object> decoder, byte[] value) {
+        ByteBuf buf = Unpooled.wrappedBuffer(value);
+        try {
+            return decoder.decode(buf, new State());
+        } catch (IOException e) {
+            throw new IllegalStateException("Redis 스크립트 결과 디코딩 실패", e);
+        } finally {
+            buf.release();
+        }
+    }
+}
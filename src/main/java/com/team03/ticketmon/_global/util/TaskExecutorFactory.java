@@ -0,0 +1,47 @@
+package com.team03.ticketmon._global.util;
+
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * 컴포넌트 전용 고정 크기 스레드 풀 생성 유틸
+ * - 데몬 스레드 + 스레드 이름 접두사(예: seat-sse-writer-1)로 스레드 덤프에서 용도를 구분
+ * - 공용 Executor 빈(applicationTaskExecutor)과 분리하여 컴포넌트별로 풀 크기/대기열을 제한하고,
+ *   생성한 컴포넌트가 @PreDestroy에서 {@link ThreadPoolTaskExecutor#shutdown()}으로 종료
+ * - 풀과 대기열이 가득 차거나 종료된 뒤 제출하면 TaskRejectedException(RejectedExecutionException 하위 타입) 발생
+ */
+public final class TaskExecutorFactory {
+
+    private TaskExecutorFactory() {
+    }
+
+    /**
+     * 대기열 제한 없는 고정 크기 풀 생성
+     *
+     * @param threadNamePrefix 스레드 이름 접두사
+     * @param threads          스레드 수 (1 미만이면 1)
+     * @return 초기화된 ThreadPoolTaskExecutor
+     */
+    public static ThreadPoolTaskExecutor fixedPool(String threadNamePrefix, int threads) {
+        return fixedPool(threadNamePrefix, threads, Integer.MAX_VALUE);
+    }
+
+    /**
+     * 대기열 크기를 제한한 고정 크기 풀 생성
+     *
+     * @param threadNamePrefix 스레드 이름 접두사
+     * @param threads          스레드 수 (1 미만이면 1)
+     * @param queueCapacity    대기열 크기 (1 미만이면 1)
+     * @return 초기화된 ThreadPoolTaskExecutor
+     */
+    public static ThreadPoolTaskExecutor fixedPool(String threadNamePrefix, int threads, int queueCapacity) {
+        int poolSize = Math.max(1, threads);
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(Math.max(1, queueCapacity));
+        executor.setThreadNamePrefix(threadNamePrefix);
+        executor.setDaemon(true);
+        executor.initialize();
+        return executor;
+    }
+}
@@ -0,0 +1,18 @@
+package com.team03.ticketmon.concert.dto;
+
+/**
+ * 좌석 캐시 적재용 콘서트 좌석 프로젝션 (엔티티/연관관계 로딩 없이 필요한 컬럼만 조회)
+ *
+ * @param concertSeatId 콘서트 좌석 ID (키셋 페이지네이션 기준)
+ * @param section       구역
+ * @param seatRow       열
+ * @param seatNumber    번호
+ * @param ticketId      티켓 ID (예매되지 않은 좌석이면 null)
+ */
+public record ConcertSeatCacheRowDTO(Long concertSeatId, String section, String seatRow, Integer seatNumber,
+									 Long ticketId) {
+
+	public boolean isBooked() {
+		return ticketId != null;
+	}
+}
@@ -1,6 +1,8 @@
 package com.team03.ticketmon.concert.repository;
 
 import com.team03.ticketmon.concert.domain.ConcertSeat;
+import com.team03.ticketmon.concert.dto.ConcertSeatCacheRowDTO;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -37,6 +39,30 @@ public interface ConcertSeatRepository extends JpaRepository<ConcertSeat, Long>
 			"ORDER BY s.section, s.seatRow, s.seatNumber")
 	List<ConcertSeat> findByConcertIdWithDetails(@Param("concertId") Long concertId);
 
+	/**
+	 * 좌석 캐시 적재용 키셋 페이지 조회 (concertSeatId 오름차순)
+	 * - 엔티티 대신 프로젝션으로 필요한 컬럼만 조회하여 대형 공연장도 청크 단위로 힙 사용량 제한
+	 * - 호출 측은 마지막 concertSeatId를 다음 페이지의 afterConcertSeatId로 전달
+	 */
+	@Query("SELECT new com.team03.ticketmon.concert.dto.ConcertSeatCacheRowDTO(" +
+			"cs.concertSeatId, s.section, s.seatRow, s.seatNumber, t.ticketId) " +
+			"FROM ConcertSeat cs " +
+			"JOIN cs.seat s " +
+			"LEFT JOIN cs.ticket t " +
+			"WHERE cs.concert.concertId = :concertId " +
+			"AND cs.concertSeatId > :afterConcertSeatId " +
+			"ORDER BY cs.concertSeatId")
+	List<ConcertSeatCacheRowDTO> findCacheRowsAfter(@Param("concertId") Long concertId,
+													@Param("afterConcertSeatId") Long afterConcertSeatId,
+													Pageable pageable);
+
+	/**
+	 * 특정 콘서트의 전체 좌석 수 조회 (캐시 적재 진행률 계산용)
+	 */
+	@Query("SELECT COUNT(cs) FROM ConcertSeat cs " +
+			"WHERE cs.concert.concertId = :concertId")
+	long countByConcertId(@Param("concertId") Long concertId);
+
 	/**
 	 * 특정 콘서트의 특정 좌석만 조회 (성능 최적화)
 	 * SeatInfoHelper에서 사용
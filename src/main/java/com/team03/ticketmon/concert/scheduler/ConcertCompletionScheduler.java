@@ -11,6 +11,7 @@ import org.springframework.transaction.annotation.Transactional;
 import com.team03.ticketmon.concert.domain.Concert;
 import com.team03.ticketmon.concert.domain.enums.ConcertStatus;
 import com.team03.ticketmon.concert.repository.ConcertRepository;
+import com.team03.ticketmon.queue.service.QueueConcertRegistry;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -21,6 +22,7 @@ import lombok.extern.slf4j.Slf4j;
 public class ConcertCompletionScheduler {
 
 	private final ConcertRepository concertRepository;
+	private final QueueConcertRegistry queueConcertRegistry;
 
 	/**
 	 * 공연 완료 처리만 담당하는 단순한 스케줄러
@@ -53,6 +55,9 @@ public class ConcertCompletionScheduler {
 					concertRepository.save(concert);
 					completedCount++;
 
+					// 대기열이 비었으면 대기열 스케줄러 순회 대상에서 제외 (남아 있으면 세션 정리 후 정합성 복구 시 제외)
+					queueConcertRegistry.onStatusChanged(concert.getConcertId(), ConcertStatus.COMPLETED);
+
 					log.info("공연 완료 처리: ID={}, 제목='{}', {} → COMPLETED",
 						concert.getConcertId(), concert.getTitle(), oldStatus);
 				}
@@ -16,6 +16,7 @@ import com.team03.ticketmon.payment.dto.PaymentExecutionResponse;
 import com.team03.ticketmon.payment.dto.PaymentHistoryDto;
 import com.team03.ticketmon.payment.repository.PaymentCancelHistoryRepository;
 import com.team03.ticketmon.payment.repository.PaymentRepository;
+import com.team03.ticketmon.queue.service.WaitingQueueService;
 import com.team03.ticketmon.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -26,6 +27,8 @@ import org.springframework.http.MediaType;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Mono;
 
@@ -54,6 +57,7 @@ public class PaymentService {
     private final AppProperties appProperties;
     private final WebClient webClient;
     private final UserRepository userRepository;
+    private final WaitingQueueService waitingQueueService;
 
     @Transactional
     public PaymentExecutionResponse initiatePayment(Booking booking, Long currentUserId) {
@@ -160,6 +164,9 @@ public class PaymentService {
                     throw new BusinessException(ErrorCode.TOSS_API_ERROR, "결제 승인에 실패했습니다: " + e.getMessage());
                 })
                 .block(); // 동기적으로 결과를 기다림
+
+        // 콜백은 WebClient 스레드에서 실행되므로, 트랜잭션 동기화 등록은 호출 스레드에서 수행
+        releaseQueueSlot(payment.getBooking());
     }
 
     @Transactional
@@ -264,6 +271,7 @@ public class PaymentService {
                 if (payment.getStatus() == PaymentStatus.PENDING) {
                     payment.complete(payment.getPaymentKey(), LocalDateTime.now());
                     payment.getBooking().confirm();
+                    releaseQueueSlot(payment.getBooking());
                     log.info("웹훅: 결제 {} 상태 PENDING -> DONE 업데이트 완료", orderId);
                 } else {
                     log.warn("웹훅: 잘못된 상태 전이 시도(DONE). orderId={}, 현재상태={}", orderId, payment.getStatus());
@@ -342,6 +350,35 @@ public class PaymentService {
                 }); // 💡 컴파일 에러 해결
     }
 
+    /**
+     * 예매 완료 사용자의 대기열 입장 슬롯 반환 (다음 대기자 즉시 입장)
+     * 결제 트랜잭션이 커밋된 뒤에만 반환하여, 롤백된 예매의 슬롯이 다음 대기자에게 넘어가지 않도록 함
+     * 슬롯 반환 실패는 결제 결과에 영향을 주지 않으며, 세션 만료 시 정리 스케줄러가 회수
+     */
+    private void releaseQueueSlot(Booking booking) {
+        Long bookingId = booking.getBookingId();
+        Long concertId = booking.getConcert().getConcertId();
+        Long userId = booking.getUserId();
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            leaveQueue(bookingId, concertId, userId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                leaveQueue(bookingId, concertId, userId);
+            }
+        });
+    }
+
+    private void leaveQueue(Long bookingId, Long concertId, Long userId) {
+        try {
+            waitingQueueService.leave(concertId, userId);
+        } catch (Exception e) {
+            log.warn("예매 완료 후 대기열 슬롯 반환 실패: bookingId={}, 오류={}", bookingId, e.getMessage());
+        }
+    }
+
     private LocalDateTime parseDateTime(Object dateTimeObj) {
         if (dateTimeObj instanceof String dateTimeStr) {
             try {
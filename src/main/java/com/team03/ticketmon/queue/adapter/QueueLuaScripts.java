@@ -0,0 +1,153 @@
+package com.team03.ticketmon.queue.adapter;
+
+/**
+ * 대기열 도메인 Redis Lua 스크립트 모음
+ * <br>
+ * 🔒 KEYS는 모두 같은 콘서트 해시 태그({concertId})를 사용하므로 Redis Cluster에서도 한 슬롯에서 실행됩니다.
+ */
+public final class QueueLuaScripts {
+
+    private QueueLuaScripts() {
+    }
+
+    /**
+     * 즉시 입장 또는 대기열 등록 스크립트 (WaitingQueueService.apply)
+     * - 이미 입장한 사용자(활성 세션 + AccessKey 보유)면 슬롯을 다시 점유하지 않고 기존 AccessKey 반환
+     *   (AccessKey가 이미 만료된 세션은 정리 스케줄러를 기다리지 않고 여기서 슬롯을 반환한 뒤 신규 신청으로 처리)
+     * - 이미 대기 중이면 기존 순번 반환
+     * - 대기자가 없고 활성 사용자 수가 최대치 미만일 때만 슬롯 점유 + AccessKey 발급 + 활성 세션 등록
+     *   (대기자가 있으면 빈 슬롯이 있어도 새치기하지 않고 대기열 뒤에 등록)
+     * - 그 외에는 콘서트별 시퀀스 카운터를 증가시킨 값을 점수로 대기열에 등록하고 순번 반환
+     *   (단일 스레드로 실행되는 Redis 안에서 증가하므로 노드 시계와 무관하게 도착 순서가 곧 대기 순서)
+     * <br>
+     * KEYS[1] 활성 사용자 수, KEYS[2] 활성 세션 ZSET, KEYS[3] 사용자 AccessKey, KEYS[4] 대기열 ZSET,
+     * KEYS[5] 대기열 시퀀스 카운터
+     * <br>
+     * ARGV[1] userId, ARGV[2] 최대 활성 사용자 수, ARGV[3] AccessKey 값(인코딩), ARGV[4] AccessKey TTL(ms),
+     * ARGV[5] 세션 만료 시각(epoch millis)
+     * <br>
+     * 반환: {결과코드, 0-based 순번, 빈 슬롯 여부 또는 기존 AccessKey}
+     * (1 즉시 입장, 0 대기열 등록, 2 이미 대기 중, 3 이미 입장)
+     * - 대기열 등록 시 세 번째 값은 빈 슬롯이 남아 있으면 1 (선두 대기자 입장 처리 필요)
+     * - 이미 입장 시 세 번째 값은 기존 AccessKey 값(인코딩)
+     */
+    static final String ADMIT_OR_ENQUEUE = """
+            if redis.call('ZSCORE', KEYS[2], ARGV[1]) then
+                local existing = redis.call('GET', KEYS[3])
+                if existing then
+                    return {3, 0, existing}
+                end
+                redis.call('ZREM', KEYS[2], ARGV[1])
+                if redis.call('DECR', KEYS[1]) < 0 then
+                    redis.call('SET', KEYS[1], 0)
+                end
+            end
+
+            local rank = redis.call('ZRANK', KEYS[4], ARGV[1])
+            if rank then
+                return {2, rank, 0}
+            end
+
+            local active = tonumber(redis.call('GET', KEYS[1]) or '0')
+            local slot_free = active < tonumber(ARGV[2])
+            if slot_free and redis.call('ZCARD', KEYS[4]) == 0 then
+                redis.call('INCR', KEYS[1])
+                redis.call('SET', KEYS[3], ARGV[3], 'PX', ARGV[4])
+                redis.call('ZADD', KEYS[2], ARGV[5], ARGV[1])
+                return {1, 0, 0}
+            end
+
+            -- 카운터 값은 2^53 미만이므로 double 점수로 저장해도 정밀도 손실 없음
+            local sequence = redis.call('INCR', KEYS[5])
+            redis.call('ZADD', KEYS[4], 'NX', sequence, ARGV[1])
+            return {0, redis.call('ZRANK', KEYS[4], ARGV[1]), slot_free and 1 or 0}
+            """;
+
+    /**
+     * 대기열 선두 사용자 입장 스크립트 (이벤트 기반 입장 + 안전망 스케줄러)
+     * - 빈 슬롯 수(최대 활성 사용자 수 - 현재 활성 사용자 수)와 전달된 AccessKey 수 중 작은 만큼 ZPOPMIN
+     * - 입장한 사용자마다 AccessKey 저장 + 활성 세션 등록, 활성 사용자 수는 실제로 세션이 추가된 인원만큼 한 번에 증가
+     *   (이미 활성 세션이 있는 사용자는 슬롯을 다시 점유하지 않고 기존 AccessKey 유지)
+     * - 여러 서버가 동시에 실행해도 빈 슬롯을 초과해 입장시키지 않음
+     * <br>
+     * KEYS[1] 활성 사용자 수, KEYS[2] 활성 세션 ZSET, KEYS[3] 대기열 ZSET
+     * <br>
+     * ARGV[1] 최대 활성 사용자 수, ARGV[2] AccessKey TTL(ms), ARGV[3] 세션 만료 시각(epoch millis),
+     * ARGV[4] AccessKey 키 접두사(accesskey:concert:{concertId}:user:), ARGV[5..] 발급할 AccessKey 값(인코딩)
+     * <br>
+     * 반환: 새로 입장한 userId 목록 (순서대로 ARGV[5..]의 AccessKey가 발급됨)
+     */
+    static final String ADMIT_FROM_QUEUE = """
+            local active = tonumber(redis.call('GET', KEYS[1]) or '0')
+            local count = math.min(tonumber(ARGV[1]) - active, #ARGV - 4)
+            if count <= 0 then
+                return {}
+            end
+
+            local popped = redis.call('ZPOPMIN', KEYS[3], count)
+            local admitted = {}
+            for i = 1, #popped, 2 do
+                local user_id = popped[i]
+                if redis.call('ZADD', KEYS[2], 'NX', ARGV[3], user_id) == 1 then
+                    local index = #admitted + 1
+                    redis.call('SET', ARGV[4] .. user_id, ARGV[4 + index], 'PX', ARGV[2])
+                    admitted[index] = tonumber(user_id)
+                end
+            end
+
+            if #admitted > 0 then
+                redis.call('INCRBY', KEYS[1], #admitted)
+            end
+            return admitted
+            """;
+
+    /**
+     * 사용자 퇴장 스크립트 (예매 완료 / 예매 페이지 이탈)
+     * - 활성 세션이면 세션 + AccessKey 삭제 후 활성 사용자 수 감소 (0 미만 방지)
+     * - 대기 중이면 대기열에서만 제거
+     * <br>
+     * KEYS[1] 활성 사용자 수, KEYS[2] 활성 세션 ZSET, KEYS[3] 사용자 AccessKey, KEYS[4] 대기열 ZSET
+     * <br>
+     * ARGV[1] userId
+     * <br>
+     * 반환: 1 슬롯 반환, 2 대기열 이탈, 0 해당 없음
+     */
+    static final String RELEASE_USER = """
+            if redis.call('ZREM', KEYS[2], ARGV[1]) == 1 then
+                redis.call('DEL', KEYS[3])
+                if redis.call('DECR', KEYS[1]) < 0 then
+                    redis.call('SET', KEYS[1], 0)
+                end
+                return 1
+            end
+            if redis.call('ZREM', KEYS[4], ARGV[1]) == 1 then
+                return 2
+            end
+            return 0
+            """;
+
+    /**
+     * 만료 세션 정리 스크립트 (CleanupScheduler)
+     * - 만료 시각이 지난 활성 세션을 최대 ARGV[2]개 제거하고 활성 사용자 수를 같은 수만큼 감소 (0 미만 방지)
+     * - AccessKey는 세션과 같은 TTL로 저장되므로 Redis가 자동 만료
+     * <br>
+     * KEYS[1] 활성 사용자 수, KEYS[2] 활성 세션 ZSET
+     * <br>
+     * ARGV[1] 현재 시각(epoch millis), ARGV[2] 1회 최대 정리 수
+     * <br>
+     * 반환: 정리된 세션 수
+     */
+    static final String EXPIRE_SESSIONS = """
+            local expired = redis.call('ZRANGEBYSCORE', KEYS[2], '-inf', ARGV[1], 'LIMIT', 0, tonumber(ARGV[2]))
+            if #expired == 0 then
+                return 0
+            end
+
+            redis.call('ZREM', KEYS[2], unpack(expired))
+            local remaining = redis.call('DECRBY', KEYS[1], #expired)
+            if remaining < 0 then
+                redis.call('SET', KEYS[1], 0)
+            end
+            return #expired
+            """;
+}
@@ -1,15 +1,17 @@
 package com.team03.ticketmon.queue.adapter;
 
-import com.team03.ticketmon._global.exception.BusinessException;
-import com.team03.ticketmon._global.exception.ErrorCode;
 import com.team03.ticketmon._global.util.RedisKeyGenerator;
+import com.team03.ticketmon._global.util.RedisScriptCodec;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.redisson.api.*;
+import org.redisson.client.codec.Codec;
 import org.redisson.client.codec.LongCodec;
+import org.redisson.client.codec.StringCodec;
 import org.springframework.stereotype.Component;
 
-import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * 대기열 도메인의 Redis 데이터 접근을 전담하는 어댑터 클래스
@@ -23,34 +25,154 @@ public class QueueRedisAdapter {
     private final RedissonClient redissonClient;
     private final RedisKeyGenerator keyGenerator;
 
-    private static final String SEQUENCE_KEY_SUFFIX = ":seq:";
-    private static final int SEQUENCE_BITS = 21;
-    private static final long MAX_SEQUENCE = (1L << SEQUENCE_BITS) - 1;
-
     /**
-     * 타임스탬프와 원자적 시퀀스를 조합하여 유니크한 대기열 점수(score)를 생성
-     * 대기열 점수 생성에 대한 모든 책임
-     * @param concertId 점수를 생성할 콘서트 ID
-     * @return 생성된 유니크한 점수(long)
+     * 즉시 입장(슬롯 점유 + AccessKey 발급) 또는 대기열 등록을 단일 Lua 스크립트로 원자적으로 처리
+     * - 슬롯 확인/점유, AccessKey 저장, 활성 세션 등록, 대기열 등록이 1회 왕복으로 수행되어
+     *   CAS 재시도 루프나 점유 후 발급 사이의 경쟁 상태가 발생하지 않음
+     * - 대기열 점수는 콘서트별 단일 시퀀스 카운터를 스크립트 안에서 INCR한 값으로,
+     *   서버 노드 간 시계 차이와 무관하게 Redis 도착 순서대로 엄격한 FIFO를 보장
+     * - 이미 입장한 사용자는 슬롯을 다시 점유하지 않고 기존 AccessKey를 반환하며,
+     *   대기자가 있으면 빈 슬롯이 있어도 즉시 입장시키지 않고 대기열 뒤에 등록 (새치기 방지)
+     *
+     * @param concertId           콘서트 ID
+     * @param userId              사용자 ID
+     * @param accessKey           슬롯 점유 시 발급할 AccessKey
+     * @param maxActiveUsers      최대 활성 사용자 수
+     * @param accessKeyTtlSeconds AccessKey 유효 시간 (초)
+     * @return 처리 결과와 0-based 대기 순번 (이미 입장한 사용자는 기존 AccessKey 포함)
      */
-    public long generateQueueScore(Long concertId) {
+    public AdmitOrEnqueueResult admitOrEnqueue(Long concertId, Long userId, String accessKey,
+                                               long maxActiveUsers, long accessKeyTtlSeconds) {
         long timestamp = System.currentTimeMillis();
-        String queueKey = keyGenerator.getWaitQueueKey(concertId);
-        String sequenceKey = queueKey + SEQUENCE_KEY_SUFFIX + timestamp;
+        List<Object> keys = List.of(
+                keyGenerator.getActiveUsersCountKey(concertId),
+                keyGenerator.getActiveSessionsKey(concertId),
+                keyGenerator.getAccessKey(concertId, userId),
+                keyGenerator.getWaitQueueKey(concertId),
+                keyGenerator.getWaitQueueSequenceKey(concertId)
+        );
+
+        // AccessKey 값은 getAccessKeyBucket()과 같은 포맷이 되도록 Redisson 전역 Codec으로 인코딩
+        Codec codec = redissonClient.getConfig().getCodec();
+        List<Object> result = redissonClient.getScript(RedisScriptCodec.INSTANCE).eval(
+                RScript.Mode.READ_WRITE,
+                QueueLuaScripts.ADMIT_OR_ENQUEUE,
+                RScript.ReturnType.MULTI,
+                keys,
+                String.valueOf(userId),
+                String.valueOf(maxActiveUsers),
+                RedisScriptCodec.encode(codec.getValueEncoder(), accessKey),
+                String.valueOf(accessKeyTtlSeconds * 1000),
+                String.valueOf(timestamp + accessKeyTtlSeconds * 1000)
+        );
 
-        RAtomicLong sequence = redissonClient.getAtomicLong(sequenceKey);
-        long currentSequence = sequence.incrementAndGet();
+        AdmitOrEnqueueOutcome outcome = AdmitOrEnqueueOutcome.fromCode(((Number) result.get(0)).intValue());
+        long rank = ((Number) result.get(1)).longValue();
 
-        if (sequence.remainTimeToLive() == -1) {
-            sequence.expire(Duration.ofMillis(200));
+        log.debug("입장/대기열 등록 스크립트 실행: concertId={}, userId={}, outcome={}, rank={}",
+                concertId, userId, outcome, rank);
+        if (outcome == AdmitOrEnqueueOutcome.ALREADY_ADMITTED) {
+            String existingAccessKey = (String) RedisScriptCodec.decode(codec.getValueDecoder(), (byte[]) result.get(2));
+            return new AdmitOrEnqueueResult(outcome, rank, existingAccessKey, false);
+        }
+        boolean slotAvailable = ((Number) result.get(2)).intValue() == 1;
+        return new AdmitOrEnqueueResult(outcome, rank, null, slotAvailable);
+    }
+
+    /**
+     * 대기열 선두 사용자를 빈 슬롯 수만큼 원자적으로 입장 처리 (대기열 추출 + AccessKey 발급 + 활성 세션 등록)
+     * - 빈 슬롯 확인부터 입장까지 단일 스크립트로 처리되어 여러 서버가 동시에 호출해도 최대 인원을 초과하지 않음
+     *
+     * @param concertId           콘서트 ID
+     * @param maxActiveUsers      최대 활성 사용자 수
+     * @param accessKeys          발급할 AccessKey 후보 (입장 가능 최대 인원 = 후보 수)
+     * @param accessKeyTtlSeconds AccessKey 유효 시간 (초)
+     * @return 입장한 사용자 ID 목록 (i번째 사용자에게 accessKeys의 i번째 값이 발급됨)
+     */
+    public List<Long> admitFromQueue(Long concertId, long maxActiveUsers, List<String> accessKeys, long accessKeyTtlSeconds) {
+        if (accessKeys.isEmpty()) {
+            return List.of();
         }
 
-        if (currentSequence > MAX_SEQUENCE) {
-            log.error("1ms 내 요청 한도 초과! ({}개 이상)", MAX_SEQUENCE);
-            throw new BusinessException(ErrorCode.QUEUE_TOO_MANY_REQUESTS);
+        long now = System.currentTimeMillis();
+        List<Object> keys = List.of(
+                keyGenerator.getActiveUsersCountKey(concertId),
+                keyGenerator.getActiveSessionsKey(concertId),
+                keyGenerator.getWaitQueueKey(concertId)
+        );
+
+        Codec codec = redissonClient.getConfig().getCodec();
+        List<Object> args = new ArrayList<>(4 + accessKeys.size());
+        args.add(String.valueOf(maxActiveUsers));
+        args.add(String.valueOf(accessKeyTtlSeconds * 1000));
+        args.add(String.valueOf(now + accessKeyTtlSeconds * 1000));
+        args.add(keyGenerator.getAccessKeyPrefix(concertId));
+        for (String accessKey : accessKeys) {
+            args.add(RedisScriptCodec.encode(codec.getValueEncoder(), accessKey));
         }
 
-        return (timestamp << SEQUENCE_BITS) | currentSequence;
+        List<Object> result = redissonClient.getScript(RedisScriptCodec.INSTANCE).eval(
+                RScript.Mode.READ_WRITE,
+                QueueLuaScripts.ADMIT_FROM_QUEUE,
+                RScript.ReturnType.MULTI,
+                keys,
+                args.toArray()
+        );
+
+        List<Long> admittedUserIds = new ArrayList<>(result.size());
+        for (Object userId : result) {
+            admittedUserIds.add(((Number) userId).longValue());
+        }
+        return admittedUserIds;
+    }
+
+    /**
+     * 사용자 퇴장 처리 (활성 세션이면 슬롯 반환, 대기 중이면 대기열에서 제거)
+     *
+     * @param concertId 콘서트 ID
+     * @param userId    사용자 ID
+     * @return 퇴장 처리 결과
+     */
+    public ReleaseOutcome releaseUser(Long concertId, Long userId) {
+        List<Object> keys = List.of(
+                keyGenerator.getActiveUsersCountKey(concertId),
+                keyGenerator.getActiveSessionsKey(concertId),
+                keyGenerator.getAccessKey(concertId, userId),
+                keyGenerator.getWaitQueueKey(concertId)
+        );
+
+        Long code = redissonClient.getScript(RedisScriptCodec.INSTANCE).eval(
+                RScript.Mode.READ_WRITE,
+                QueueLuaScripts.RELEASE_USER,
+                RScript.ReturnType.INTEGER,
+                keys,
+                String.valueOf(userId)
+        );
+        return ReleaseOutcome.fromCode(code.intValue());
+    }
+
+    /**
+     * 만료 시각이 지난 활성 세션을 정리하고 활성 사용자 수를 감소
+     *
+     * @param concertId 콘서트 ID
+     * @param limit     1회 최대 정리 수
+     * @return 정리된 세션 수
+     */
+    public long expireSessions(Long concertId, int limit) {
+        List<Object> keys = List.of(
+                keyGenerator.getActiveUsersCountKey(concertId),
+                keyGenerator.getActiveSessionsKey(concertId)
+        );
+
+        Long expired = redissonClient.getScript(RedisScriptCodec.INSTANCE).eval(
+                RScript.Mode.READ_WRITE,
+                QueueLuaScripts.EXPIRE_SESSIONS,
+                RScript.ReturnType.INTEGER,
+                keys,
+                String.valueOf(System.currentTimeMillis()),
+                String.valueOf(limit)
+        );
+        return expired == null ? 0 : expired;
     }
 
     /**
@@ -89,21 +211,45 @@ public class QueueRedisAdapter {
         return redissonClient.getBucket(accessKey);
     }
 
-    public RLock getAdmissionSchedulerLock() {
-        String key = RedisKeyGenerator.ADMISSION_SCHEDULER_LOCK_KEY;
+    /**
+     * 콘서트별 입장 처리 스케줄러 락
+     */
+    public RLock getAdmissionSchedulerLock(Long concertId) {
+        String key = keyGenerator.getAdmissionSchedulerLockKey(concertId);
         return redissonClient.getLock(key);
     }
 
-    public RLock getCleanupSchedulerLock() {
-        String key = RedisKeyGenerator.CLEANUP_SCHEDULER_LOCK_KEY;
+    /**
+     * 콘서트별 만료 세션 정리 스케줄러 락
+     */
+    public RLock getCleanupSchedulerLock(Long concertId) {
+        String key = keyGenerator.getCleanupSchedulerLockKey(concertId);
         return redissonClient.getLock(key);
     }
 
-    public RLock getConsistencyCheckLock() {
-        String key = RedisKeyGenerator.CONSISTENCY_CHECK_LOCK_KEY;
+    /**
+     * 콘서트별 정합성 체크 스케줄러 락
+     */
+    public RLock getConsistencyCheckLock(Long concertId) {
+        String key = keyGenerator.getConsistencyCheckLockKey(concertId);
         return redissonClient.getLock(key);
     }
 
+    /**
+     * 활성 대기열 콘서트 레지스트리(콘서트 ID Set) 객체를 반환
+     * 콘서트 공용 키라 Cluster에서는 콘서트 키와 슬롯이 달라 대기열 스크립트 밖에서 갱신
+     */
+    public RSet<String> getActiveConcertRegistry() {
+        return redissonClient.getSet(RedisKeyGenerator.QUEUE_ACTIVE_CONCERTS_KEY, StringCodec.INSTANCE);
+    }
+
+    /**
+     * 활성 대기열 콘서트 레지스트리 정합성 복구 스케줄러 락
+     */
+    public RLock getRegistryReconcileLock() {
+        return redissonClient.getLock(RedisKeyGenerator.QUEUE_REGISTRY_RECONCILE_LOCK_KEY);
+    }
+
     public RTopic getAdmissionTopic() {
         return redissonClient.getTopic(RedisKeyGenerator.ADMISSION_TOPIC);
     }
@@ -111,4 +257,65 @@ public class QueueRedisAdapter {
     public RTopic getRankUpdateTopic() {
         return redissonClient.getTopic(RedisKeyGenerator.RANK_UPDATE_TOPIC);
     }
+
+    /**
+     * 입장/대기열 등록 스크립트 결과 코드
+     */
+    public enum AdmitOrEnqueueOutcome {
+        ADMITTED(1),
+        ENQUEUED(0),
+        ALREADY_WAITING(2),
+        ALREADY_ADMITTED(3);
+
+        private final int code;
+
+        AdmitOrEnqueueOutcome(int code) {
+            this.code = code;
+        }
+
+        static AdmitOrEnqueueOutcome fromCode(int code) {
+            for (AdmitOrEnqueueOutcome outcome : values()) {
+                if (outcome.code == code) {
+                    return outcome;
+                }
+            }
+            throw new IllegalStateException("알 수 없는 입장/대기열 등록 스크립트 결과 코드: " + code);
+        }
+    }
+
+    /**
+     * 사용자 퇴장 스크립트 결과 코드
+     */
+    public enum ReleaseOutcome {
+        SLOT_RELEASED(1),
+        LEFT_QUEUE(2),
+        NOT_FOUND(0);
+
+        private final int code;
+
+        ReleaseOutcome(int code) {
+            this.code = code;
+        }
+
+        static ReleaseOutcome fromCode(int code) {
+            for (ReleaseOutcome outcome : values()) {
+                if (outcome.code == code) {
+                    return outcome;
+                }
+            }
+            throw new IllegalStateException("알 수 없는 사용자 퇴장 스크립트 결과 코드: " + code);
+        }
+    }
+
+    /**
+     * 입장/대기열 등록 스크립트 실행 결과
+     *
+     * @param outcome           처리 결과
+     * @param rank              0-based 대기 순번 (ENQUEUED, ALREADY_WAITING일 때만 유효)
+     * @param existingAccessKey 이미 발급된 AccessKey (ALREADY_ADMITTED일 때만 유효)
+     * @param slotAvailable     대기열 등록 시점에 빈 슬롯이 남아 있었는지 (선두 대기자 입장 처리 필요)
+     */
+    public record AdmitOrEnqueueResult(AdmitOrEnqueueOutcome outcome, long rank,
+                                       String existingAccessKey, boolean slotAvailable) {
+    }
 }
\ No newline at end of file
@@ -0,0 +1,64 @@
+package com.team03.ticketmon.queue.controller;
+
+import com.team03.ticketmon._global.exception.SuccessResponse;
+import com.team03.ticketmon.queue.scheduler.QueueConcertTaskRunner;
+import com.team03.ticketmon.queue.service.AdmissionDispatcher;
+import com.team03.ticketmon.queue.service.QueueConcertRegistry;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+/**
+ * 대기열 관리자 API 컨트롤러
+ * 🔒 보안: 모든 API는 ADMIN 권한 필요
+ */
+@Tag(name = "대기열 관리자", description = "관리자 전용 대기열 모니터링 API")
+@RestController
+@RequestMapping("/api/admin/queue")
+@RequiredArgsConstructor
+public class QueueAdminController {
+
+    private final AdmissionDispatcher admissionDispatcher;
+    private final QueueConcertTaskRunner queueConcertTaskRunner;
+    private final QueueConcertRegistry queueConcertRegistry;
+
+    /**
+     * 이벤트 기반 입장 처리 통계 조회 (빈 슬롯 유휴 시간 포함)
+     */
+    @Operation(summary = "대기열 입장 처리 통계 조회",
+            description = "슬롯 반환 이벤트 기반 입장 처리 건수와 빈 슬롯 유휴 시간(반환 → 다음 대기자 입장) 통계를 조회합니다. (현재 서버 기준)")
+    @PreAuthorize("hasRole('ADMIN')")
+    @GetMapping("/admission/stats")
+    public ResponseEntity<SuccessResponse<Map<String, Object>>> getAdmissionStats() {
+        return ResponseEntity.ok(SuccessResponse.of("대기열 입장 처리 통계 조회 성공", admissionDispatcher.getStats()));
+    }
+
+    /**
+     * 대기열 스케줄러 콘서트별 병렬 실행 통계 조회
+     */
+    @Operation(summary = "대기열 스케줄러 실행 통계 조회",
+            description = "입장/세션 정리/정합성 체크 스케줄러의 콘서트별 처리, 락 경합으로 인한 건너뜀, 실패 건수를 조회합니다. (현재 서버 기준)")
+    @PreAuthorize("hasRole('ADMIN')")
+    @GetMapping("/scheduler/stats")
+    public ResponseEntity<SuccessResponse<Map<String, Object>>> getSchedulerStats() {
+        return ResponseEntity.ok(SuccessResponse.of("대기열 스케줄러 실행 통계 조회 성공", queueConcertTaskRunner.getStats()));
+    }
+
+    /**
+     * 활성 대기열 콘서트 레지스트리 크기 및 DB 정합성 복구(drift) 통계 조회
+     */
+    @Operation(summary = "대기열 콘서트 레지스트리 통계 조회",
+            description = "스케줄러 순회 대상 콘서트 레지스트리 크기와 DB 정합성 복구 시 발견된 누락/유휴/정리 중 콘서트 수를 조회합니다. (복구 통계는 현재 서버 기준)")
+    @PreAuthorize("hasRole('ADMIN')")
+    @GetMapping("/registry/stats")
+    public ResponseEntity<SuccessResponse<Map<String, Object>>> getRegistryStats() {
+        return ResponseEntity.ok(SuccessResponse.of("대기열 콘서트 레지스트리 통계 조회 성공", queueConcertRegistry.getStats()));
+    }
+}
@@ -43,6 +43,25 @@ public class WaitingQueueController {
         return ResponseEntity.ok(SuccessResponse.of("대기열 진입 처리 완료", response));
     }
 
+    /**
+     * [POST /api/queue/leave]
+     * 예매 페이지 또는 대기열에서 나감 (활성 사용자였다면 슬롯을 반환하여 다음 대기자가 즉시 입장)
+     *
+     * @param concertId 콘서트 ID
+     * @param user 인증된 사용자 정보
+     * @return HTTP 200 OK
+     */
+    @PostMapping("/leave")
+    public ResponseEntity<SuccessResponse<Void>> leaveQueue(
+            @RequestParam Long concertId,
+            @AuthenticationPrincipal CustomUserDetails user
+    ) {
+        log.debug("[userId: {}] 대기열/예매 페이지 퇴장 요청 수신. 콘서트 ID: {}", user.getUserId(), concertId);
+
+        waitingQueueService.leave(concertId, user.getUserId());
+        return ResponseEntity.ok(SuccessResponse.of("퇴장 처리 완료", null));
+    }
+
     @GetMapping("/status")
     public ResponseEntity<SuccessResponse<QueueStatusDto>> getQueueStatus(
             @RequestParam Long concertId,
@@ -1,86 +1,61 @@
 package com.team03.ticketmon.queue.scheduler;
 
-import com.team03.ticketmon.concert.domain.enums.ConcertStatus;
-import com.team03.ticketmon.concert.repository.ConcertRepository;
 import com.team03.ticketmon.queue.adapter.QueueRedisAdapter;
+import com.team03.ticketmon.queue.service.AdmissionDispatcher;
+import com.team03.ticketmon.queue.service.QueueConcertRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.redisson.api.RAtomicLong;
-import org.redisson.api.RLock;
-import org.redisson.api.RScoredSortedSet;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
-import java.util.Collection;
 import java.util.List;
-import java.util.concurrent.TimeUnit;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class CleanupScheduler {
 
-    private final ConcertRepository concertRepository;
-    private final QueueRedisAdapter queueRedisAdapter;
+    // 콘서트당 1회 최대 정리 세션 수 (남은 세션은 다음 실행에서 정리)
+    private static final int EXPIRE_BATCH_SIZE = 1000;
+    private static final String JOB_NAME = "session-cleanup";
 
-    @Scheduled(fixedDelay = 10000)
+    private final QueueConcertRegistry queueConcertRegistry;
+    private final QueueRedisAdapter queueRedisAdapter;
+    private final AdmissionDispatcher admissionDispatcher;
+    private final QueueConcertTaskRunner queueConcertTaskRunner;
+
+    /**
+     * 만료된 활성 세션(= AccessKey 만료)을 정리하고, 빈 슬롯이 생긴 콘서트의 입장 처리를 즉시 요청
+     * 만료 후 슬롯이 비어 있는 시간을 줄이기 위해 짧은 주기(기본 1초)로 실행
+     */
+    @Scheduled(fixedDelayString = "${app.queue.session-cleanup-interval-ms:1000}")
     public void cleanupExpiredSessions() {
-        RLock lock = queueRedisAdapter.getCleanupSchedulerLock();
-
-        try {
-            // 1. 분산 락 획득 시도
-            boolean isLocked = lock.tryLock(100, 5, TimeUnit.SECONDS);
-            if (!isLocked) {
-                log.debug("===== 다른 세션 정리 스케줄러 인스턴스에서 스케줄러가 실행 중이므로, 현재 스케줄러는 건너뜁니다.");
-                return;
-            }
-
-            // 2. 현재 ON_SALE 상태인 모든 콘서트 ID 목록을 가져옴
-            List<Long> activeConcertIds = concertRepository.findConcertIdsByStatus(ConcertStatus.ON_SALE);
-            if (activeConcertIds.isEmpty()) {
-                log.debug("===== 현재 처리할 ON_SALE 상태의 콘서트가 없습니다.");
-                return;
-            }
-
-            log.info("===== 세션 정리 스케줄러 실행 시작 (대상 콘서트 : {}개) =====", activeConcertIds.size());
-
-            // 3. 각 콘서트별로 세션 정리 작업을 수행
-            for (Long concertId : activeConcertIds) {
-                RScoredSortedSet<Long> activeSessions = queueRedisAdapter.getActiveSessions(concertId);
+        // 1. 현재 활성 대기열 콘서트 ID 목록을 레지스트리(Redis)에서 가져옴 (판매 종료 후 세션이 남은 콘서트 포함)
+        List<Long> activeConcertIds = queueConcertRegistry.getActiveConcertIds();
+        if (activeConcertIds.isEmpty()) {
+            log.debug("===== 현재 처리할 활성 대기열 콘서트가 없습니다.");
+            return;
+        }
 
-                // 락이 걸려 있으므로, '조회'와 '삭제'를 순차적으로 실행해도 안전
-                // 3-1. 만료된 멤버들을 조회
-                Collection<Long> expiredUserIds = activeSessions.valueRange(
-                        0, true,                  // 0점부터 (포함)
-                        System.currentTimeMillis(), true // 현재 시간까지 (포함)
-                );
+        log.debug("===== 세션 정리 스케줄러 실행 시작 (대상 콘서트 : {}개) =====", activeConcertIds.size());
 
-                if (expiredUserIds != null && !expiredUserIds.isEmpty()) {
-                    // 3-2. 조회된 멤버들을 삭제
-                    activeSessions.removeAll(expiredUserIds);
+        // 2. 각 콘서트별로 콘서트 락을 잡고 병렬로 세션 정리 작업을 수행
+        queueConcertTaskRunner.runForEachConcert(JOB_NAME, activeConcertIds,
+                queueRedisAdapter::getCleanupSchedulerLock, this::cleanupConcert);
 
-                    // 3-3. 활성 사용자 수 감소
-                    long expiredCount = expiredUserIds.size();
-                    RAtomicLong activeUserCounter = queueRedisAdapter.getActiveUserCounter(concertId);
+        log.debug("===== 세션 정리 스케줄러 실행 종료 =====");
+    }
 
-                    // compareAndSet을 이용한 원자적 업데이트 루프
-                    long prevValue, nextValue;
-                    do {
-                        prevValue = activeUserCounter.get();
-                        nextValue = Math.max(0, prevValue - expiredCount);
-                    } while (!activeUserCounter.compareAndSet(prevValue, nextValue));
+    /**
+     * 콘서트 만료 세션 정리 (조회/삭제/카운터 감소를 단일 스크립트로 원자적 처리)
+     */
+    private void cleanupConcert(Long concertId) {
+        long expiredCount = queueRedisAdapter.expireSessions(concertId, EXPIRE_BATCH_SIZE);
 
-                    log.info("[콘서트 ID: {}] {}개의 세션 정리 완료. 남은 활성 사용자 수: {}", concertId, expiredCount, nextValue);
-                }
-            }
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            log.error("세션 정리 스케줄러 락 획득 중 인터럽트 발생", e);
-        } finally {
-            if (lock.isHeldByCurrentThread()) {
-                lock.unlock();
-            }
-            log.info("===== 세션 정리 스케줄러 실행 종료 =====");
+        if (expiredCount > 0) {
+            log.info("[콘서트 ID: {}] {}개의 세션 정리 완료.", concertId, expiredCount);
+            // 빈 슬롯이 생겼으므로 대기자 입장 즉시 요청
+            admissionDispatcher.requestAdmission(concertId);
         }
     }
-}
\ No newline at end of file
+}
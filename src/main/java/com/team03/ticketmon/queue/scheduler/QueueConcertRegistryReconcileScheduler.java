@@ -0,0 +1,55 @@
+package com.team03.ticketmon.queue.scheduler;
+
+import com.team03.ticketmon.queue.adapter.QueueRedisAdapter;
+import com.team03.ticketmon.queue.service.QueueConcertRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RLock;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 활성 대기열 콘서트 레지스트리 정합성 복구 스케줄러
+ * 기능:
+ * - DB의 판매 중(ON_SALE) 콘서트와 레지스트리를 비교하여 누락 등록 / 유휴 콘서트 해제
+ * - 평상시 레지스트리는 대기열 진입과 공연 상태 변경으로 갱신되므로 안전망 역할
+ * - 애플리케이션 시작 직후 1회 실행되어 레지스트리 키 유실 시에도 바로 복구
+ * - 분산 락을 사용하여 중복 실행 방지
+ *
+ * 스케줄링 주기: app.queue.registry.reconcile-interval-ms (기본 5분)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class QueueConcertRegistryReconcileScheduler {
+
+    private final QueueRedisAdapter queueRedisAdapter;
+    private final QueueConcertRegistry queueConcertRegistry;
+
+    @Scheduled(fixedDelayString = "${app.queue.registry.reconcile-interval-ms:300000}")
+    public void reconcileRegistry() {
+        RLock lock = queueRedisAdapter.getRegistryReconcileLock();
+
+        try {
+            // waitTime 0: 다른 인스턴스가 실행 중이면 즉시 건너뜀, leaseTime -1: 워치독 자동 갱신
+            boolean isLocked = lock.tryLock(0, -1, TimeUnit.SECONDS);
+            if (!isLocked) {
+                log.debug("다른 인스턴스에서 대기열 콘서트 레지스트리 정합성 복구가 실행 중입니다. 건너뜁니다.");
+                return;
+            }
+
+            queueConcertRegistry.reconcile();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.error("대기열 콘서트 레지스트리 정합성 복구 스케줄러 락 획득 중 인터럽트 발생", e);
+        } catch (Exception e) {
+            log.error("대기열 콘서트 레지스트리 정합성 복구 실패", e);
+        } finally {
+            if (lock.isHeldByCurrentThread()) {
+                lock.unlock();
+            }
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package com.team03.ticketmon.queue.scheduler;
+
+import com.team03.ticketmon._global.util.TaskExecutorFactory;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RLock;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * 대기열 스케줄러의 콘서트 단위 병렬 실행기
+ * - 콘서트마다 분산 락(lock:{작업}:{concertId})을 따로 획득하므로, 여러 서버가 동시에 실행하면
+ *   먼저 락을 잡은 서버가 해당 콘서트를 처리 → 콘서트 작업이 서버 간에 자연스럽게 분산됨
+ * - 서버 안에서는 제한된 스레드 풀로 콘서트를 병렬 처리하여, 느린 콘서트가 다른 콘서트 처리를 지연시키지 않음
+ * - 이전 실행의 같은 작업/콘서트가 아직 진행 중이면 새 작업을 만들지 않고 건너뜀
+ */
+@Slf4j
+@Component
+public class QueueConcertTaskRunner {
+
+    private final ThreadPoolTaskExecutor workerExecutor;
+    private final long runTimeoutMs;
+
+    // 현재 서버에서 실행 중(대기 포함)인 작업 키 ("작업명:concertId")
+    private final Set<String> inFlight = ConcurrentHashMap.newKeySet();
+
+    // 작업별 모니터링 지표
+    private final Map<String, JobStats> statsByJob = new ConcurrentHashMap<>();
+
+    public QueueConcertTaskRunner(@Value("${app.queue.scheduler.worker-threads:8}") int workerThreads,
+                                  @Value("${app.queue.scheduler.queue-capacity:1000}") int queueCapacity,
+                                  @Value("${app.queue.scheduler.run-timeout-ms:30000}") long runTimeoutMs) {
+        this.workerExecutor = TaskExecutorFactory.fixedPool("queue-scheduler-worker-", workerThreads, queueCapacity);
+        this.runTimeoutMs = runTimeoutMs;
+    }
+
+    /**
+     * 콘서트별 작업을 병렬로 실행하고, 모두 끝나거나 실행 제한 시간이 지날 때까지 대기
+     * 제한 시간을 넘긴 작업은 계속 실행되며, 끝나기 전까지 같은 콘서트의 다음 실행은 건너뜀
+     *
+     * @param jobName      작업 이름 (로그/통계/중복 실행 판단용)
+     * @param concertIds   처리 대상 콘서트 ID
+     * @param lockProvider 콘서트별 분산 락 제공자
+     * @param task         콘서트 단위 작업
+     */
+    public void runForEachConcert(String jobName, Collection<Long> concertIds,
+                                  Function<Long, RLock> lockProvider, Consumer<Long> task) {
+        JobStats stats = statsByJob.computeIfAbsent(jobName, name -> new JobStats());
+        stats.runCount.incrementAndGet();
+
+        List<CompletableFuture<Void>> futures = new ArrayList<>(concertIds.size());
+        for (Long concertId : concertIds) {
+            String taskKey = jobName + ":" + concertId;
+            if (!inFlight.add(taskKey)) {
+                stats.skippedInFlightCount.incrementAndGet();
+                continue;
+            }
+
+            try {
+                futures.add(CompletableFuture.runAsync(
+                        () -> runLocked(jobName, concertId, taskKey, lockProvider, task, stats), workerExecutor));
+            } catch (RejectedExecutionException e) {
+                inFlight.remove(taskKey);
+                stats.rejectedCount.incrementAndGet();
+                log.warn("[{}] 작업 대기열이 가득 차 콘서트 ID {} 처리를 다음 실행으로 미룹니다.", jobName, concertId);
+            }
+        }
+
+        awaitAll(jobName, futures, stats);
+    }
+
+    private void runLocked(String jobName, Long concertId, String taskKey,
+                           Function<Long, RLock> lockProvider, Consumer<Long> task, JobStats stats) {
+        RLock lock = lockProvider.apply(concertId);
+        long startNanos = System.nanoTime();
+        try {
+            // waitTime(0): 다른 서버가 처리 중이면 즉시 건너뜀, leaseTime(-1): 워치독으로 작업 종료까지 락 자동 갱신
+            if (!lock.tryLock(0, -1, TimeUnit.SECONDS)) {
+                stats.skippedLockedCount.incrementAndGet();
+                return;
+            }
+            task.accept(concertId);
+            stats.processedCount.incrementAndGet();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("[{}] 콘서트 ID {} 락 획득 중 인터럽트 발생", jobName, concertId);
+        } catch (Exception e) {
+            stats.failedCount.incrementAndGet();
+            log.error("[{}] 콘서트 ID {} 처리 실패", jobName, concertId, e);
+        } finally {
+            if (lock.isHeldByCurrentThread()) {
+                lock.unlock();
+            }
+            inFlight.remove(taskKey);
+            stats.maxTaskDurationMs.accumulateAndGet(
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos), Math::max);
+        }
+    }
+
+    private void awaitAll(String jobName, List<CompletableFuture<Void>> futures, JobStats stats) {
+        if (futures.isEmpty()) {
+            return;
+        }
+        try {
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).get(runTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            stats.timedOutRunCount.incrementAndGet();
+            log.warn("[{}] 실행 제한 시간({}ms) 초과. 남은 콘서트 작업은 백그라운드에서 계속 진행됩니다.", jobName, runTimeoutMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("[{}] 콘서트 작업 대기 중 인터럽트 발생", jobName);
+        } catch (ExecutionException e) {
+            log.error("[{}] 콘서트 작업 실행 오류", jobName, e.getCause());
+        }
+    }
+
+    /**
+     * 작업별 실행 통계 조회 (모니터링용, 현재 서버 기준)
+     */
+    public Map<String, Object> getStats() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("activeWorkers", workerExecutor.getActiveCount());
+        result.put("queuedTasks", workerExecutor.getQueueSize());
+        result.put("inFlightTasks", inFlight.size());
+        statsByJob.forEach((jobName, stats) -> result.put(jobName, stats.toMap()));
+        return result;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workerExecutor.shutdown();
+    }
+
+    private static class JobStats {
+        private final AtomicLong runCount = new AtomicLong(0);
+        private final AtomicLong processedCount = new AtomicLong(0);
+        private final AtomicLong skippedLockedCount = new AtomicLong(0);
+        private final AtomicLong skippedInFlightCount = new AtomicLong(0);
+        private final AtomicLong rejectedCount = new AtomicLong(0);
+        private final AtomicLong failedCount = new AtomicLong(0);
+        private final AtomicLong timedOutRunCount = new AtomicLong(0);
+        private final AtomicLong maxTaskDurationMs = new AtomicLong(0);
+
+        private Map<String, Object> toMap() {
+            return Map.of(
+                    "runCount", runCount.get(),
+                    "processedCount", processedCount.get(),
+                    "skippedLockedCount", skippedLockedCount.get(),
+                    "skippedInFlightCount", skippedInFlightCount.get(),
+                    "rejectedCount", rejectedCount.get(),
+                    "failedCount", failedCount.get(),
+                    "timedOutRunCount", timedOutRunCount.get(),
+                    "maxTaskDurationMs", maxTaskDurationMs.get()
+            );
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package com.team03.ticketmon.queue.service;
+
+import com.team03.ticketmon._global.util.TaskExecutorFactory;
+import com.team03.ticketmon.queue.adapter.QueueRedisAdapter;
+import com.team03.ticketmon.queue.strategy.PersonalizedRankStrategy;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RScoredSortedSet;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 빈 슬롯 발생 즉시 대기열 입장을 처리하는 이벤트 기반 디스패처
+ * - 세션 만료 정리, 예매 완료/이탈 등 슬롯이 반환되는 시점에 requestAdmission()으로 입장 처리를 요청
+ * - 콘서트별로 요청을 합쳐(coalescing) 실행 중이거나 대기 중인 작업이 있으면 추가 작업을 만들지 않음
+ * - 입장 처리 자체는 원자적 스크립트(AdmissionService.admitWaitingUsers)라 여러 서버에서 동시에 실행해도 안전
+ * <br>
+ * 🔑 WaitingQueueScheduler는 이벤트 유실(서버 재시작 등)에 대비한 안전망으로만 동작하며, 같은 admit() 경로를 사용
+ */
+@Slf4j
+@Service
+public class AdmissionDispatcher {
+
+    private final AdmissionService admissionService;
+    private final QueueRedisAdapter queueRedisAdapter;
+    private final PersonalizedRankStrategy personalizedRankStrategy;
+    private final ThreadPoolTaskExecutor dispatchExecutor;
+    private final int batchSize;
+
+    // 콘서트별 입장 처리 요청 대기 (값: 아직 채워지지 않은 가장 오래된 빈 슬롯 발생 시각)
+    private final Map<Long, Long> pendingSince = new ConcurrentHashMap<>();
+
+    // 모니터링 지표
+    private final AtomicLong triggerCount = new AtomicLong(0);
+    private final AtomicLong coalescedTriggerCount = new AtomicLong(0);
+    private final AtomicLong eventAdmittedCount = new AtomicLong(0);
+    private final AtomicLong safetyNetAdmittedCount = new AtomicLong(0);
+    private final AtomicLong failedRunCount = new AtomicLong(0);
+    private final AtomicLong slotIdleSampleCount = new AtomicLong(0);
+    private final AtomicLong totalSlotIdleMs = new AtomicLong(0);
+    private final AtomicLong maxSlotIdleMs = new AtomicLong(0);
+    private final AtomicLong lastSlotIdleMs = new AtomicLong(0);
+
+    public AdmissionDispatcher(AdmissionService admissionService,
+                               QueueRedisAdapter queueRedisAdapter,
+                               PersonalizedRankStrategy personalizedRankStrategy,
+                               @Value("${app.queue.admission.dispatcher-threads:2}") int dispatcherThreads,
+                               @Value("${app.queue.admission.batch-size:500}") int batchSize) {
+        this.admissionService = admissionService;
+        this.queueRedisAdapter = queueRedisAdapter;
+        this.personalizedRankStrategy = personalizedRankStrategy;
+        this.batchSize = Math.max(1, batchSize);
+        this.dispatchExecutor = TaskExecutorFactory.fixedPool("queue-admission-dispatcher-", dispatcherThreads);
+    }
+
+    /**
+     * 빈 슬롯 발생 알림 → 해당 콘서트 입장 처리를 비동기로 요청
+     * 이미 대기 중인 요청이 있으면 합쳐지며, 빈 슬롯 발생 시각은 가장 오래된 값을 유지
+     *
+     * @param concertId 슬롯이 반환된 콘서트 ID
+     */
+    public void requestAdmission(Long concertId) {
+        triggerCount.incrementAndGet();
+        long now = System.currentTimeMillis();
+        if (pendingSince.putIfAbsent(concertId, now) != null) {
+            coalescedTriggerCount.incrementAndGet();
+            return;
+        }
+
+        try {
+            dispatchExecutor.execute(() -> runPending(concertId));
+        } catch (RejectedExecutionException e) {
+            pendingSince.remove(concertId);
+            log.warn("[콘서트 ID: {}] 입장 디스패처가 종료되어 요청을 처리하지 못했습니다. (안전망 스케줄러가 처리)", concertId);
+        }
+    }
+
+    /**
+     * 동기 입장 처리 (안전망 스케줄러에서 호출)
+     *
+     * @param concertId 처리할 콘서트 ID
+     * @return 입장 처리된 인원 수
+     */
+    public int admit(Long concertId) {
+        Long freedAt = pendingSince.remove(concertId);
+        int admitted = runAdmission(concertId, freedAt);
+        safetyNetAdmittedCount.addAndGet(admitted);
+        return admitted;
+    }
+
+    private void runPending(Long concertId) {
+        // 실행 시작 시 요청 표시를 제거 → 실행 중 새로 반환된 슬롯은 다음 작업으로 다시 요청됨
+        Long freedAt = pendingSince.remove(concertId);
+        try {
+            eventAdmittedCount.addAndGet(runAdmission(concertId, freedAt));
+        } catch (Exception e) {
+            failedRunCount.incrementAndGet();
+            log.error("[콘서트 ID: {}] 이벤트 기반 입장 처리 실패 (안전망 스케줄러가 재처리)", concertId, e);
+        }
+    }
+
+    private int runAdmission(Long concertId, Long freedAt) {
+        List<Long> admittedUserIds = admissionService.admitWaitingUsers(concertId, batchSize);
+        if (admittedUserIds.isEmpty()) {
+            return 0;
+        }
+
+        if (freedAt != null) {
+            recordSlotIdle(System.currentTimeMillis() - freedAt);
+        }
+
+        RScoredSortedSet<Long> queue = queueRedisAdapter.getQueue(concertId);
+        if (!queue.isEmpty()) {
+            log.debug("[Notification] 콘서트 ID {}: 알림 전략 실행.", concertId);
+            personalizedRankStrategy.execute(concertId, queue);
+        }
+        return admittedUserIds.size();
+    }
+
+    private void recordSlotIdle(long idleMs) {
+        long idle = Math.max(0, idleMs);
+        slotIdleSampleCount.incrementAndGet();
+        totalSlotIdleMs.addAndGet(idle);
+        lastSlotIdleMs.set(idle);
+        maxSlotIdleMs.accumulateAndGet(idle, Math::max);
+    }
+
+    /**
+     * 입장 디스패처 통계 조회 (모니터링용, 현재 서버 기준)
+     * - slotIdle*: 빈 슬롯 발생(요청 시각)부터 대기자가 입장하기까지 걸린 시간
+     * - safetyNetAdmittedCount: 이벤트가 아닌 안전망 스케줄러로 입장한 인원 (높으면 이벤트 누락 의심)
+     */
+    public Map<String, Object> getStats() {
+        long samples = slotIdleSampleCount.get();
+        return Map.of(
+                "pendingConcerts", pendingSince.size(),
+                "triggerCount", triggerCount.get(),
+                "coalescedTriggerCount", coalescedTriggerCount.get(),
+                "eventAdmittedCount", eventAdmittedCount.get(),
+                "safetyNetAdmittedCount", safetyNetAdmittedCount.get(),
+                "failedRunCount", failedRunCount.get(),
+                "slotIdleSampleCount", samples,
+                "avgSlotIdleMs", samples == 0 ? 0 : totalSlotIdleMs.get() / samples,
+                "maxSlotIdleMs", maxSlotIdleMs.get(),
+                "lastSlotIdleMs", lastSlotIdleMs.get()
+        );
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        dispatchExecutor.shutdown();
+    }
+}
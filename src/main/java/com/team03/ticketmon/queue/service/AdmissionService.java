@@ -2,18 +2,15 @@ package com.team03.ticketmon.queue.service;
 
 import com.team03.ticketmon._global.exception.BusinessException;
 import com.team03.ticketmon._global.exception.ErrorCode;
-import com.team03.ticketmon._global.util.RedisKeyGenerator;
 import com.team03.ticketmon.queue.adapter.QueueRedisAdapter;
+import com.team03.ticketmon.queue.adapter.QueueRedisAdapter.AdmitOrEnqueueOutcome;
+import com.team03.ticketmon.queue.adapter.QueueRedisAdapter.AdmitOrEnqueueResult;
+import com.team03.ticketmon.queue.adapter.QueueRedisAdapter.ReleaseOutcome;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.redisson.api.RAtomicLong;
-import org.redisson.api.RBatch;
-import org.redisson.api.RedissonClient;
-import org.redisson.client.codec.LongCodec;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
-import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -22,18 +19,17 @@ import java.util.UUID;
 
 /**
  * 사용자의 '입장(Admission)'과 관련된 핵심 비즈니스 로직을 처리하는 서비스
- * - 원자적인 슬롯 점유 시도
- * - 여러 사용자에 대한 동시 입장 처리 (AccessKey 발급, 세션 등록 등)
+ * - 원자적인 슬롯 점유(즉시 입장) 또는 대기열 등록 시도
+ * - 대기열 선두 사용자 입장 처리 (AccessKey 발급, 세션 등록 등)
+ * - 예매 완료/이탈 시 슬롯 반환
  */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class AdmissionService {
-    private final RedissonClient redissonClient;
-    private final RedisKeyGenerator keyGenerator;
-
     private final NotificationService notificationService;
     private final QueueRedisAdapter queueRedisAdapter;
+    private final QueueConcertRegistry queueConcertRegistry;
 
     @Value("${app.queue.access-key-ttl-seconds}")
     private long accessKeyTtlSeconds; // 발급된 입장 허가 키의 유효 시간 (분)
@@ -41,95 +37,92 @@ public class AdmissionService {
     private long maxActiveUsers;
 
     /**
-     * 단일 사용자 즉시 입장
-     * 내부적으로 리스트 처리 메서드를 호출하여 코드 중복 방지
-     *
-     * @param concertId 입장시킬 콘서트 ID
-     * @param userId 입장시킬 사용자 ID
-     * @return 발급된 AccessKey
-     */
-    public String grantAccess(Long concertId, Long userId) {
-        List<String> accessKeys = grantAccess(concertId, List.of(userId), false); // 즉시 입장은 알림을 보내지 않음
-        return accessKeys.isEmpty() ? null : accessKeys.get(0);
-    }
-
-    /**
-     * 여러 사용자의 입장을 처리하고, 선택적으로 알림을 전송
-     * Redis 파이프라이닝을 활용하기 위해 RBatch를 사용하여 여러 명령을 한 번에 전송
+     * 대기열 선두 사용자를 빈 슬롯 수만큼 입장시키고 입장 알림을 전송
+     * 빈 슬롯 확인, 대기열 추출, AccessKey 발급, 세션 등록, 활성 사용자 수 증가가 단일 Redis 스크립트로 처리되어
+     * 여러 서버에서 동시에 호출해도 최대 활성 사용자 수를 초과하지 않으며, 추출 후 발급 전 장애로 사용자가 유실되지 않음
      *
-     * @param userIds 입장시킬 사용자 ID 리스트
-     * @param sendNotification Redis Pub/Sub으로 알림을 보낼지 여부
-     * @return 발급된 AccessKey 리스트
+     * @param concertId 입장 처리할 콘서트 ID
+     * @param maxCount  1회 최대 입장 인원
+     * @return 입장 처리된 사용자 ID 리스트 (대기 순서)
      */
-    public List<String> grantAccess(Long concertId, List<Long> userIds, boolean sendNotification) {
-        if (userIds == null || userIds.isEmpty()) {
+    public List<Long> admitWaitingUsers(Long concertId, int maxCount) {
+        // 발급할 AccessKey 후보 수 = 현재 빈 슬롯 추정치 (실제 입장 인원은 스크립트가 다시 판단)
+        long availableSlots = maxActiveUsers - queueRedisAdapter.getActiveUserCounter(concertId).get();
+        int candidateCount = (int) Math.min(availableSlots, maxCount);
+        if (candidateCount <= 0) {
             return Collections.emptyList();
         }
 
-        log.debug("{}명의 신규 사용자 입장 처리 시작. 알림 발송: {}", userIds.size(), sendNotification);
-
-        String activeSessionsKey = keyGenerator.getActiveSessionsKey(concertId);
-        String activeUserCountKey = keyGenerator.getActiveUsersCountKey(concertId);
-
-        long expiryTimestamp = System.currentTimeMillis() + (accessKeyTtlSeconds * 1000);
-        Duration ttl = Duration.ofSeconds(accessKeyTtlSeconds);
-
-        List<String> issuedKeys = new ArrayList<>();
-
-        // RBatch를 사용하여 여러 명령을 원자적으로 실행 (파이프라이닝 효과로 성능 향상)
-        RBatch batch = redissonClient.createBatch();
-
-        for (Long userId : userIds) {
-            String accessKey = UUID.randomUUID().toString();
-            issuedKeys.add(accessKey);
-
-            // 1. AccessKey 저장
-            String accessKeyRedisKey = keyGenerator.getAccessKey(concertId, userId);
-            batch.getBucket(accessKeyRedisKey).setAsync(accessKey, ttl);
-
-            // 2. 만료 시간 관리를 위해 active_sessions Sorted Set에 추가 (Score: 만료시간, Value: userId)
-            batch.getScoredSortedSet(activeSessionsKey, LongCodec.INSTANCE).addAsync(expiryTimestamp, userId);
-
-            // 3. 알림이 필요한 경우 (스케줄러에 의해 호출될 때) 알림 전송
-            if (sendNotification) {
-                notificationService.sendAdmissionNotification(userId, accessKey);
-            }
+        List<String> accessKeys = new ArrayList<>(candidateCount);
+        for (int i = 0; i < candidateCount; i++) {
+            accessKeys.add(UUID.randomUUID().toString());
         }
 
-        // 4. 활성 사용자 수 원자적으로 증가
-        batch.getAtomicLong(activeUserCountKey).addAndGetAsync(userIds.size());
-
-        // 5. 준비된 모든 명령을 Redis 서버로 한 번에 전송
+        List<Long> admittedUserIds;
         try {
-            batch.execute();
-            log.info("{}명 입장 처리 배치 작업 성공. 현재 총 활성 사용자 수: {}",
-                    userIds.size(), redissonClient.getAtomicLong(activeUserCountKey).get());
+            admittedUserIds = queueRedisAdapter.admitFromQueue(concertId, maxActiveUsers, accessKeys, accessKeyTtlSeconds);
         } catch (Exception e) {
-            log.error("[BATCH_EXECUTE_FAILED] 사용자 ID 리스트 {} 입장 처리 중 배치 실행 실패", userIds, e);
+            log.error("[ADMIT_SCRIPT_FAILED] 콘서트 ID {} 대기열 입장 처리 스크립트 실행 실패", concertId, e);
             throw new BusinessException(ErrorCode.REDIS_COMMAND_FAILED, "입장 처리 중 시스템 오류가 발생");
         }
 
-        return issuedKeys;
+        for (int i = 0; i < admittedUserIds.size(); i++) {
+            notificationService.sendAdmissionNotification(admittedUserIds.get(i), accessKeys.get(i));
+        }
+
+        if (!admittedUserIds.isEmpty()) {
+            log.info("[콘서트 ID: {}] {}명 입장 처리 완료.", concertId, admittedUserIds.size());
+        }
+        return admittedUserIds;
     }
 
     /**
-     * 즉시 입장을 위해 슬롯이 남아있는지 확인하고 원자적으로 점유를 시도
-     * 'Compare-And-Set' (CAS) 연산을 사용하여 여러 스레드가 동시에 접근해도 경쟁 상태(Race Condition)를 방지
+     * 사용자의 활성 세션(슬롯)을 반환하거나, 대기 중이면 대기열에서 제거
      *
-     * @param concertId 점유를 시도할 콘서트 ID
-     * @return 슬롯 점유에 성공하면 true, 실패하면 false
+     * @param concertId 콘서트 ID
+     * @param userId    사용자 ID
+     * @return 퇴장 처리 결과 (SLOT_RELEASED면 빈 슬롯이 생김)
      */
-    public boolean tryClaimSlot(Long concertId) {
-        RAtomicLong activeUsersCount = queueRedisAdapter.getActiveUserCounter(concertId);
+    public ReleaseOutcome releaseSlot(Long concertId, Long userId) {
+        ReleaseOutcome outcome = queueRedisAdapter.releaseUser(concertId, userId);
+        log.debug("[userId: {}] 퇴장 처리. [콘서트: {}, 결과: {}]", userId, concertId, outcome);
+        return outcome;
+    }
 
-        while (true) {
-            long current = activeUsersCount.get();
-            if (current >= maxActiveUsers) {
-                return false; // 슬롯 점유 실패
-            }
-            if (activeUsersCount.compareAndSet(current, current + 1)) {
-                return true; // 슬롯 점유 성공!
+    /**
+     * 즉시 입장을 위해 슬롯 점유와 AccessKey 발급을 시도하고, 슬롯이 없으면 대기열에 등록
+     * 단일 Lua 스크립트로 처리되어 여러 서버/스레드가 동시에 접근해도 재시도 없이 경쟁 상태(Race Condition)를 방지
+     *
+     * @param concertId 입장을 시도할 콘서트 ID
+     * @param userId    입장을 시도할 사용자 ID
+     * @return 즉시 입장 시 발급된 AccessKey(이미 입장한 사용자는 기존 AccessKey), 대기열 등록 시 대기 순번을 담은 결과
+     */
+    public AdmissionAttempt claimSlotOrEnqueue(Long concertId, Long userId) {
+        String accessKey = UUID.randomUUID().toString();
+        AdmitOrEnqueueResult result = queueRedisAdapter.admitOrEnqueue(
+                concertId, userId, accessKey, maxActiveUsers, accessKeyTtlSeconds);
+        // 세션/대기열이 생긴 콘서트를 스케줄러 순회 대상으로 등록
+        queueConcertRegistry.register(concertId);
+
+        return switch (result.outcome()) {
+            case ADMITTED -> {
+                log.info("[userId: {}] 즉시 입장 처리 완료. [콘서트: {}]", userId, concertId);
+                yield new AdmissionAttempt(result.outcome(), accessKey, result.rank(), false);
             }
-        }
+            // 이미 입장한 사용자는 슬롯을 다시 점유하지 않고 기존 AccessKey를 그대로 사용
+            case ALREADY_ADMITTED -> new AdmissionAttempt(result.outcome(), result.existingAccessKey(), result.rank(), false);
+            case ENQUEUED, ALREADY_WAITING -> new AdmissionAttempt(result.outcome(), null, result.rank(), result.slotAvailable());
+        };
+    }
+
+    /**
+     * 즉시 입장/대기열 등록 시도 결과
+     *
+     * @param outcome       처리 결과
+     * @param accessKey     즉시 입장 시 발급된 AccessKey 또는 이미 입장한 사용자의 기존 AccessKey (그 외 null)
+     * @param rank          0-based 대기 순번
+     * @param slotAvailable 대기열 등록 시점에 빈 슬롯이 남아 있었는지 (선두 대기자 입장 처리 필요)
+     */
+    public record AdmissionAttempt(AdmitOrEnqueueOutcome outcome, String accessKey, long rank, boolean slotAvailable) {
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,190 @@
+package com.team03.ticketmon.queue.service;
+
+import com.team03.ticketmon.concert.domain.enums.ConcertStatus;
+import com.team03.ticketmon.concert.repository.ConcertRepository;
+import com.team03.ticketmon.queue.adapter.QueueRedisAdapter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RSet;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 대기열 스케줄러 순회 대상 콘서트 레지스트리 (Redis Set: waitqueue:active_concerts)
+ * - 판매 중(ON_SALE)이거나 대기열/활성 세션이 남아 있는 콘서트 ID를 보관하여,
+ *   스케줄러가 매 실행마다 DB를 조회하지 않고 Redis에서 바로 대상 콘서트를 가져옴
+ * - 대기열 진입 시 등록, 공연 상태 변경(판매 종료 등) 시 대기열이 비었으면 해제
+ * - 상태 변경 경로 누락이나 키 유실에 대비해 reconcile()로 DB와 주기적으로 정합성 복구
+ * <br>
+ * 🔑 판매가 끝났어도 대기열/활성 세션이 남은 콘서트(draining)는 세션 만료 정리가 필요하므로 해제하지 않음
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class QueueConcertRegistry {
+
+    private final QueueRedisAdapter queueRedisAdapter;
+    private final ConcertRepository concertRepository;
+
+    // 이 인스턴스가 등록을 확인한 콘서트 ID (대기열 진입마다 Redis 쓰기를 반복하지 않기 위한 로컬 캐시)
+    // getActiveConcertIds()가 레지스트리를 읽을 때마다 실제 멤버와 맞춰, 다른 인스턴스의 해제도 곧바로 반영
+    private final Set<Long> registeredConcertIds = ConcurrentHashMap.newKeySet();
+
+    // 모니터링 지표
+    private final AtomicLong reconcileCount = new AtomicLong(0);
+    private final AtomicLong lastReconciledAt = new AtomicLong(0);
+    private final AtomicLong lastMissingCount = new AtomicLong(0);
+    private final AtomicLong totalMissingCount = new AtomicLong(0);
+    private final AtomicLong lastStaleRemovedCount = new AtomicLong(0);
+    private final AtomicLong totalStaleRemovedCount = new AtomicLong(0);
+    private final AtomicLong lastDrainingCount = new AtomicLong(0);
+
+    /**
+     * 콘서트를 순회 대상으로 등록
+     * 이미 등록한 콘서트는 건너뛰고, 처음 보는 콘서트만 대기열 진입 응답 지연을 늘리지 않도록 비동기 전송
+     * 전송 실패 시 로컬 캐시에서 제거하여 다음 진입 때 다시 등록 (그 사이 누락은 reconcile()이 복구)
+     *
+     * @param concertId 콘서트 ID
+     */
+    public void register(Long concertId) {
+        if (!registeredConcertIds.add(concertId)) {
+            return;
+        }
+        queueRedisAdapter.getActiveConcertRegistry().addAsync(concertId.toString())
+                .whenComplete((added, e) -> {
+                    if (e != null) {
+                        registeredConcertIds.remove(concertId);
+                        log.warn("대기열 콘서트 레지스트리 등록 실패: concertId={}, 오류={}", concertId, e.getMessage());
+                    }
+                });
+    }
+
+    /**
+     * 대기열과 활성 세션이 모두 비었으면 등록 해제
+     * 해제 직후 다시 확인하여, 그 사이 새 사용자가 진입했으면 재등록 (등록 누락 방지)
+     *
+     * @param concertId 콘서트 ID
+     * @return 해제되었으면 true, 대기열/세션이 남아 있어 유지되면 false
+     */
+    public boolean unregisterIfIdle(Long concertId) {
+        if (hasLiveQueue(concertId)) {
+            return false;
+        }
+
+        RSet<String> registry = queueRedisAdapter.getActiveConcertRegistry();
+        registeredConcertIds.remove(concertId);
+        registry.remove(concertId.toString());
+        if (hasLiveQueue(concertId)) {
+            registry.add(concertId.toString());
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * 공연 상태 변경 반영 (판매 시작 → 등록, 그 외 → 대기열이 비었으면 해제)
+     *
+     * @param concertId 콘서트 ID
+     * @param status    변경된 상태
+     */
+    public void onStatusChanged(Long concertId, ConcertStatus status) {
+        if (status == ConcertStatus.ON_SALE) {
+            register(concertId);
+        } else {
+            unregisterIfIdle(concertId);
+        }
+    }
+
+    /**
+     * 스케줄러 순회 대상 콘서트 ID 목록 조회
+     * 레지스트리에 없는 콘서트는 로컬 등록 캐시에서도 제거하여, 다음 대기열 진입 시 다시 등록되도록 함
+     */
+    public List<Long> getActiveConcertIds() {
+        Set<String> members = queueRedisAdapter.getActiveConcertRegistry().readAll();
+        List<Long> concertIds = new ArrayList<>(members.size());
+        for (String member : members) {
+            concertIds.add(Long.valueOf(member));
+        }
+        registeredConcertIds.retainAll(new HashSet<>(concertIds));
+        return concertIds;
+    }
+
+    /**
+     * DB 기준 레지스트리 정합성 복구
+     * - ON_SALE인데 레지스트리에 없는 콘서트 → 등록 (missing)
+     * - ON_SALE이 아니고 대기열/세션이 비어 있는 콘서트 → 해제 (stale)
+     * - ON_SALE이 아니지만 대기열/세션이 남아 있는 콘서트 → 유지 (draining)
+     */
+    public void reconcile() {
+        Set<Long> onSaleIds = new HashSet<>(concertRepository.findConcertIdsByStatus(ConcertStatus.ON_SALE));
+        Set<Long> registeredIds = new HashSet<>(getActiveConcertIds());
+        RSet<String> registry = queueRedisAdapter.getActiveConcertRegistry();
+
+        int missing = 0;
+        for (Long concertId : onSaleIds) {
+            if (!registeredIds.contains(concertId)) {
+                registry.add(concertId.toString());
+                missing++;
+            }
+        }
+
+        int staleRemoved = 0;
+        int draining = 0;
+        for (Long concertId : registeredIds) {
+            if (onSaleIds.contains(concertId)) {
+                continue;
+            }
+            if (unregisterIfIdle(concertId)) {
+                staleRemoved++;
+            } else {
+                draining++;
+            }
+        }
+
+        reconcileCount.incrementAndGet();
+        lastReconciledAt.set(System.currentTimeMillis());
+        lastMissingCount.set(missing);
+        totalMissingCount.addAndGet(missing);
+        lastStaleRemovedCount.set(staleRemoved);
+        totalStaleRemovedCount.addAndGet(staleRemoved);
+        lastDrainingCount.set(draining);
+
+        if (missing > 0 || staleRemoved > 0) {
+            log.warn("대기열 콘서트 레지스트리 불일치 보정: missing={}, staleRemoved={}, draining={}",
+                    missing, staleRemoved, draining);
+        }
+    }
+
+    private boolean hasLiveQueue(Long concertId) {
+        return !queueRedisAdapter.getQueue(concertId).isEmpty()
+                || !queueRedisAdapter.getActiveSessions(concertId).isEmpty();
+    }
+
+    /**
+     * 레지스트리 통계 조회 (모니터링용)
+     * - registrySize: 현재 레지스트리 크기 (Redis 기준)
+     * - *MissingCount: DB는 ON_SALE인데 레지스트리에 없던 콘서트 수 (높으면 등록 경로 누락 의심)
+     * - *StaleRemovedCount: 판매가 끝났는데 남아 있던 유휴 콘서트 수 (높으면 해제 경로 누락 의심)
+     * - lastDrainingCount: 판매는 끝났지만 대기열/세션 정리 중인 콘서트 수
+     */
+    public Map<String, Object> getStats() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("registrySize", queueRedisAdapter.getActiveConcertRegistry().size());
+        result.put("reconcileCount", reconcileCount.get());
+        result.put("lastReconciledAt", lastReconciledAt.get());
+        result.put("lastMissingCount", lastMissingCount.get());
+        result.put("totalMissingCount", totalMissingCount.get());
+        result.put("lastStaleRemovedCount", lastStaleRemovedCount.get());
+        result.put("totalStaleRemovedCount", totalStaleRemovedCount.get());
+        result.put("lastDrainingCount", lastDrainingCount.get());
+        return result;
+    }
+}
@@ -1,14 +1,13 @@
 package com.team03.ticketmon.queue.service;
 
-import com.team03.ticketmon._global.exception.BusinessException;
-import com.team03.ticketmon._global.exception.ErrorCode;
 import com.team03.ticketmon.queue.adapter.QueueRedisAdapter;
+import com.team03.ticketmon.queue.adapter.QueueRedisAdapter.ReleaseOutcome;
 import com.team03.ticketmon.queue.dto.QueueStatusDto;
+import com.team03.ticketmon.queue.service.AdmissionService.AdmissionAttempt;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.redisson.api.RBucket;
 import org.redisson.api.RScoredSortedSet;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
@@ -26,48 +25,55 @@ import java.util.List;
 public class WaitingQueueService {
 
     private final AdmissionService admissionService;
+    private final AdmissionDispatcher admissionDispatcher;
     private final QueueRedisAdapter queueRedisAdapter;
 
     /**
-     * 특정 콘서트의 대기열에 사용자를 추가하고, 현재 대기 순번을 반환
-     * 타임스탬프와 원자적 시퀀스를 조합한 유니크한 점수를 사용해 공정성을 보장
+     * 특정 콘서트에 즉시 입장시키거나, 슬롯이 없으면 대기열에 사용자를 추가하고 현재 대기 순번을 반환
+     * 슬롯 점유/AccessKey 발급/대기열 등록은 단일 Redis 스크립트로 원자적으로 처리되며,
+     * 콘서트별 단일 시퀀스 카운터 값을 점수로 사용해 서버 간 시계 차이와 무관하게 공정성을 보장
      *
      * @param concertId 대기열을 식별하는 콘서트 ID
      * @param userId    대기열에 추가할 사용자 ID
-     * @return 1부터 시작하는 사용자의 대기 순번
+     * @return 즉시 입장 시 AccessKey(이미 입장한 사용자는 기존 AccessKey), 대기 시 1부터 시작하는 사용자의 대기 순번
      */
     public QueueStatusDto apply(Long concertId, Long userId) {
+        AdmissionAttempt attempt = admissionService.claimSlotOrEnqueue(concertId, userId);
 
-        // 1. 원자적 슬롯 점유 시도
-        if (admissionService.tryClaimSlot(concertId)) {
-            log.debug("[userId: {}] 즉시 입장 처리 시작.", userId);
-            String accessKey = admissionService.grantAccess(concertId, userId);
-            return QueueStatusDto.immediateEntry(accessKey);
+        if (attempt.slotAvailable()) {
+            // 빈 슬롯이 있지만 앞선 대기자가 있어 대기열에 등록된 경우 → 선두 대기자 입장을 즉시 요청
+            admissionDispatcher.requestAdmission(concertId);
         }
 
-        // 2. 슬롯이 꽉 찼거나, 점유 시도에 실패(경쟁에서 밀림)하면 대기열로 진입
-        log.debug("사용자 {} 대기열 진입 처리 시작.", userId);
-        RScoredSortedSet<Long> queue = queueRedisAdapter.getQueue(concertId);
-        long uniqueScore = queueRedisAdapter.generateQueueScore(concertId);
-
-        if (!queue.addIfAbsent(uniqueScore, userId)) {
-            log.warn("[userId: {}] 이미 대기열에 등록된 상태", userId);
-            Integer existingRank = queue.rank(userId);
-            if (existingRank != null) {
-                return QueueStatusDto.waiting(existingRank.longValue() + 1);
+        return switch (attempt.outcome()) {
+            case ADMITTED -> QueueStatusDto.immediateEntry(attempt.accessKey());
+            case ALREADY_ADMITTED -> {
+                log.warn("[userId: {}] 이미 입장 허가를 받은 상태", userId);
+                yield QueueStatusDto.admitted(attempt.accessKey());
             }
-            throw new BusinessException(ErrorCode.QUEUE_ALREADY_JOINED);
-        }
-
-        log.debug("[userId: {}] 대기열 신규 신청. [콘서트: {}, 부여된 점수: {}]", userId, concertId, uniqueScore);
-        Integer rankIndex = queue.rank(userId);
+            case ALREADY_WAITING -> {
+                log.warn("[userId: {}] 이미 대기열에 등록된 상태", userId);
+                yield QueueStatusDto.waiting(attempt.rank() + 1);
+            }
+            case ENQUEUED -> {
+                log.debug("[userId: {}] 대기열 신규 신청. [콘서트: {}, 순번: {}]", userId, concertId, attempt.rank() + 1);
+                yield QueueStatusDto.waiting(attempt.rank() + 1);
+            }
+        };
+    }
 
-        if (rankIndex == null) {
-            log.error("[userId: {}] 대기열 순위 조회 실패", userId);
-            throw new BusinessException(ErrorCode.SERVER_ERROR);
+    /**
+     * 사용자 퇴장 처리 (예매 완료 또는 예매 페이지/대기열 이탈)
+     * 활성 사용자였다면 슬롯을 반환하고 다음 대기자 입장을 즉시 요청
+     *
+     * @param concertId 콘서트 ID
+     * @param userId    퇴장할 사용자 ID
+     */
+    public void leave(Long concertId, Long userId) {
+        ReleaseOutcome outcome = admissionService.releaseSlot(concertId, userId);
+        if (outcome == ReleaseOutcome.SLOT_RELEASED) {
+            admissionDispatcher.requestAdmission(concertId);
         }
-
-        return QueueStatusDto.waiting(rankIndex.longValue() + 1);
     }
 
     /**
@@ -0,0 +1,462 @@
+package com.team03.ticketmon.seat.adapter;
+
+/**
+ * 좌석 도메인 Redis Lua 스크립트 모음
+ * <br>
+ * 🔑 좌석 Hash 값은 SeatStatusCodec으로 직렬화된 JSON 또는 바이너리이므로
+ * 스크립트에서는 decode_seat(cjson / struct.unpack)으로 디코딩하여 상태를 판단하고,
+ * 저장할 값은 Java에서 미리 인코딩하여 ARGV로 전달합니다.
+ * <br>
+ * ⚠️ JsonJacksonCodec은 Long 필드를 ["java.lang.Long", 1] 형태로 기록할 수 있으므로
+ * 숫자 비교는 반드시 {@code as_number} 헬퍼를 거칩니다.
+ * <br>
+ * 🔒 KEYS와 스크립트 안에서 조합하는 키(TTL 키, 사용자 선점 인덱스)는 모두 같은 콘서트 해시 태그({concertId})를 사용하므로
+ * Redis Cluster에서도 한 슬롯에서 실행됩니다. 콘서트 공용 키(seat:expiry_concerts 등)는 스크립트에서 접근하지 않습니다.
+ */
+public final class SeatLuaScripts {
+
+    private SeatLuaScripts() {
+    }
+
+    /**
+     * 공통 헬퍼 함수 (모든 좌석 스크립트 앞에 붙여서 사용)
+     */
+    static final String COMMON = """
+            local function is_null(v)
+                return v == nil or v == cjson.null
+            end
+
+            local function as_number(v)
+                if is_null(v) then return nil end
+                if type(v) == 'table' then return tonumber(v[2]) end
+                return tonumber(v)
+            end
+
+            local SEAT_STATUSES = {'AVAILABLE', 'RESERVED', 'BOOKED', 'UNAVAILABLE'}
+
+            -- 좌석 값 디코딩: 바이너리(매직 바이트 0xB5) / JSON 두 포맷 모두 지원
+            local function decode_seat(raw)
+                if not raw then return nil end
+                if string.byte(raw, 1) == 181 and #raw >= 46 then
+                    local _, _, status, flags, _, _, user_id = struct.unpack('>BBBBi8i8i8', raw)
+                    return {
+                        status = SEAT_STATUSES[status + 1],
+                        userId = bit.band(flags, 1) ~= 0 and user_id or nil,
+                        expiresAt = bit.band(flags, 4) ~= 0 and 1 or nil
+                    }
+                end
+                local ok, seat = pcall(cjson.decode, raw)
+                if not ok or type(seat) ~= 'table' then return nil end
+                return seat
+            end
+
+            -- 사용자별 선점 인덱스(seat:user_seats:{concertId}:{userId}) 갱신
+            local function update_user_index(prefix, seat_id, old_seat, new_status, new_user)
+                if old_seat and old_seat.status == 'RESERVED' then
+                    local old_user = as_number(old_seat.userId)
+                    if old_user then
+                        redis.call('SREM', prefix .. string.format('%d', old_user), seat_id)
+                    end
+                end
+                if new_status == 'RESERVED' and new_user ~= '' then
+                    redis.call('SADD', prefix .. new_user, seat_id)
+                end
+            end
+
+            local PACKED_STATES = {'AVAILABLE', 'RESERVED', 'PERMANENTLY_RESERVED', 'BOOKED'}
+
+            -- 패킹 상태(seat:state:{concertId}) 갱신: 좌석 순번 위치의 u2 값 설정
+            -- 이전 값과 다르면 가용성 카운터(seat:counts:{concertId})의 전체/구역 카운트를 함께 이동
+            -- (카운터가 아직 구성되지 않은 콘서트는 캐시 초기화/정합성 검사에서 구성되므로 건너뜀)
+            local function set_packed_state(state_key, ordinal_key, seat_id, code, section_key, counts_key)
+                local ordinal = redis.call('HGET', ordinal_key, seat_id)
+                if ordinal then
+                    local old = redis.call('BITFIELD', state_key, 'SET', 'u2', '#' .. ordinal, code)[1]
+                    if old ~= code and redis.call('EXISTS', counts_key) == 1 then
+                        local section = redis.call('HGET', section_key, seat_id) or '?'
+                        local from, to = PACKED_STATES[old + 1], PACKED_STATES[code + 1]
+                        redis.call('HINCRBY', counts_key, 'total:' .. from, -1)
+                        redis.call('HINCRBY', counts_key, 'total:' .. to, 1)
+                        redis.call('HINCRBY', counts_key, section .. ':' .. from, -1)
+                        redis.call('HINCRBY', counts_key, section .. ':' .. to, 1)
+                    end
+                end
+            end
+
+            -- 변경 로그 기록: 콘서트 버전을 1 증가시키고 버전 번호를 Stream ID로 사용 ({version}-0)
+            -- 버전 키가 유실된 경우 마지막 Stream ID에서 이어서 증가 (XADD ID 역전 방지)
+            -- expiresAt(선점 만료 epoch millis, 없으면 빈 문자열)은 선점 저널(DB) 반영 시 남은 TTL 복원용
+            local function append_change(version_key, log_key, max_len, seat_id, status, code, user_id, expires_at)
+                if redis.call('EXISTS', version_key) == 0 then
+                    local last = redis.call('XREVRANGE', log_key, '+', '-', 'COUNT', 1)
+                    if last[1] then
+                        redis.call('SET', version_key, string.match(last[1][1], '^(%d+)'))
+                    end
+                end
+                local version = redis.call('INCR', version_key)
+                redis.call('XADD', log_key, 'MAXLEN', '~', max_len, version .. '-0',
+                        'seatId', seat_id, 'status', status, 'state', code, 'userId', user_id,
+                        'expiresAt', expires_at)
+                return version
+            end
+
+            -- 선점 만료 큐(seat:expiry:{concertId}) 갱신: 만료 시간이 있는 RESERVED면 등록, 그 외 상태면 제거
+            -- (만료 큐 보유 콘서트 Set은 다른 슬롯이므로 스크립트 실행 후 어댑터에서 등록)
+            local function track_expiry(expiry_key, seat_id, status, expires_at)
+                if status == 'RESERVED' and expires_at ~= '' then
+                    redis.call('ZADD', expiry_key, expires_at, seat_id)
+                else
+                    redis.call('ZREM', expiry_key, seat_id)
+                end
+            end
+            """;
+
+    /**
+     * 좌석 임시 선점 스크립트
+     * <br>
+     * KEYS[1] 좌석이 속한 좌석 상태 Hash(샤드), KEYS[2] 좌석 TTL 키, KEYS[3] 마지막 업데이트 시간 키,
+     * KEYS[4] 요청 사용자의 선점 인덱스 Set, KEYS[5] 패킹 상태, KEYS[6] 좌석 순번 Hash,
+     * KEYS[7] 콘서트 버전, KEYS[8] 변경 로그 Stream, KEYS[9] 선점 만료 큐 ZSET,
+     * KEYS[10] 좌석 구역 Hash, KEYS[11] 가용성 카운터 Hash
+     * <br>
+     * ARGV[1] Hash 필드(인코딩), ARGV[2] 선점 상태 값(인코딩), ARGV[3] userId, ARGV[4] seatId,
+     * ARGV[5] 최대 선점 수, ARGV[6] 선점 TTL(초), ARGV[7] TTL 키 값(인코딩),
+     * ARGV[8] 마지막 업데이트 시간 값(인코딩), ARGV[9] 마지막 업데이트 TTL(초),
+     * ARGV[10] 이벤트 채널명(빈 문자열이면 발행 생략 → 배치 모드), ARGV[11] 이벤트 JSON(version 필드 제외), ARGV[12] 사용자 인덱스 키 접두사,
+     * ARGV[13] 변경 로그 최대 길이, ARGV[14] 선점 만료 시각(epoch millis)
+     * <br>
+     * 반환: {결과코드, 현재 선점 수(LIMIT_EXCEEDED), 변경 후 버전(RESERVED)}
+     * <br>
+     * ⚠️ 샤드 Hash는 비어 있을 수 있으므로 좌석 순번 Hash가 없을 때만 캐시 미스로 판단
+     * <br>
+     * 📡 발행 메시지에는 변경 후 버전을 version 필드로 덧붙이고, 기본 Codec(JsonJacksonCodec)의 문자열 형식에 맞춰
+     * JSON 문자열로 한 번 더 감싸서 PUBLISH (다른 필드는 다시 인코딩하지 않아 숫자 정밀도 손실 없음)
+     */
+    static final String RESERVE_SEAT = COMMON + """
+            if redis.call('EXISTS', KEYS[1]) == 0 and redis.call('EXISTS', KEYS[6]) == 0 then
+                return {-4, 0, 0}
+            end
+
+            local user_id = tonumber(ARGV[3])
+            local seat_id = tonumber(ARGV[4])
+
+            local current = decode_seat(redis.call('HGET', KEYS[1], ARGV[1]))
+            if current then
+                if current.status == 'BOOKED' then
+                    return {-1, 0, 0}
+                end
+                if current.status == 'RESERVED' then
+                    local expired = (not is_null(current.expiresAt)) and redis.call('EXISTS', KEYS[2]) == 0
+                    if not expired then
+                        if as_number(current.userId) == user_id then
+                            return {2, 0, 0}
+                        end
+                        return {-2, 0, 0}
+                    end
+                end
+            end
+
+            local held = redis.call('SCARD', KEYS[4]) - redis.call('SISMEMBER', KEYS[4], ARGV[4])
+            if held >= tonumber(ARGV[5]) then
+                return {-3, held, 0}
+            end
+
+            redis.call('HSET', KEYS[1], ARGV[1], ARGV[2])
+            update_user_index(ARGV[12], ARGV[4], current, 'RESERVED', ARGV[3])
+            set_packed_state(KEYS[5], KEYS[6], ARGV[4], 1, KEYS[10], KEYS[11])
+            local version = append_change(KEYS[7], KEYS[8], ARGV[13], ARGV[4], 'RESERVED', 1, ARGV[3], ARGV[14])
+            track_expiry(KEYS[9], ARGV[4], 'RESERVED', ARGV[14])
+            redis.call('SET', KEYS[2], ARGV[7], 'EX', ARGV[6])
+            redis.call('SET', KEYS[3], ARGV[8], 'EX', ARGV[9])
+            if ARGV[10] ~= '' then
+                local event = string.sub(ARGV[11], 1, -2) .. ',"version":' .. version .. '}'
+                redis.call('PUBLISH', ARGV[10], cjson.encode(event))
+            end
+            return {1, 0, version}
+            """;
+
+    /**
+     * 다중 좌석 일괄 임시 선점 스크립트 (All-or-Nothing)
+     * - 모든 좌석을 먼저 검증하고, 하나라도 실패하면 아무것도 기록하지 않고 좌석별 결과 코드만 반환
+     * - 이미 본인이 선점 중인 좌석은 성공으로 간주하고 다시 기록하지 않음
+     * <br>
+     * KEYS[1] 첫 좌석이 속한 좌석 상태 Hash(샤드), KEYS[2] 마지막 업데이트 시간 키, KEYS[3] 요청 사용자의 선점 인덱스 Set,
+     * KEYS[4] 패킹 상태, KEYS[5] 좌석 순번 Hash, KEYS[6] 콘서트 버전, KEYS[7] 변경 로그 Stream,
+     * KEYS[8] 선점 만료 큐 ZSET, KEYS[9] 좌석 구역 Hash, KEYS[10] 가용성 카운터 Hash,
+     * KEYS[11]~ 나머지 좌석 상태 샤드 Hash
+     * <br>
+     * ARGV[1] userId, ARGV[2] 최대 선점 수, ARGV[3] 선점 TTL(초), ARGV[4] TTL 키 값(인코딩),
+     * ARGV[5] 마지막 업데이트 시간 값(인코딩), ARGV[6] 마지막 업데이트 TTL(초), ARGV[7] 사용자 인덱스 키 접두사,
+     * ARGV[8] 변경 로그 최대 길이, ARGV[9] 선점 만료 시각(epoch millis), ARGV[10] TTL 키 접두사(seat:expire:{concertId}:),
+     * 이후 (좌석 상태 Hash의 KEYS 인덱스, Hash 필드(인코딩), seatId, 선점 상태 값(인코딩)) 반복
+     * <br>
+     * 반환: {전체 결과코드, 현재 선점 수(LIMIT_EXCEEDED), 변경 후 버전, 좌석별 결과코드...}
+     * (좌석별: 1 선점, 2 본인 선점 중, -1 예매 완료, -2 타인 선점 중, -5 좌석 없음)
+     */
+    static final String RESERVE_SEATS = COMMON + """
+            if redis.call('EXISTS', KEYS[1]) == 0 and redis.call('EXISTS', KEYS[5]) == 0 then
+                return {-4, 0, 0}
+            end
+
+            local user_id = tonumber(ARGV[1])
+            local codes = {}
+            local seats = {}
+            local failed = false
+            local in_index = 0
+
+            for i = 11, #ARGV, 4 do
+                local raw = redis.call('HGET', KEYS[tonumber(ARGV[i])], ARGV[i + 1])
+                local current = decode_seat(raw)
+                local code = 1
+                if not raw then
+                    code = -5
+                elseif current and current.status == 'BOOKED' then
+                    code = -1
+                elseif current and current.status == 'RESERVED' then
+                    local expired = (not is_null(current.expiresAt)) and redis.call('EXISTS', ARGV[10] .. ARGV[i + 2]) == 0
+                    if not expired then
+                        if as_number(current.userId) == user_id then
+                            code = 2
+                        else
+                            code = -2
+                        end
+                    end
+                end
+                if code < 0 then
+                    failed = true
+                end
+                codes[#codes + 1] = code
+                seats[#seats + 1] = current or false
+                in_index = in_index + redis.call('SISMEMBER', KEYS[3], ARGV[i + 2])
+            end
+
+            if failed then
+                return {-6, 0, 0, unpack(codes)}
+            end
+
+            -- 요청 좌석을 제외한 기존 선점 수 + 요청 좌석 수가 한도를 넘으면 거부
+            local held = redis.call('SCARD', KEYS[3]) - in_index
+            if held + #codes > tonumber(ARGV[2]) then
+                return {-3, held, 0, unpack(codes)}
+            end
+
+            local version = 0
+            for n = 1, #codes do
+                if codes[n] == 1 then
+                    local i = 11 + (n - 1) * 4
+                    local seat_id = ARGV[i + 2]
+                    redis.call('HSET', KEYS[tonumber(ARGV[i])], ARGV[i + 1], ARGV[i + 3])
+                    update_user_index(ARGV[7], seat_id, seats[n], 'RESERVED', ARGV[1])
+                    set_packed_state(KEYS[4], KEYS[5], seat_id, 1, KEYS[9], KEYS[10])
+                    version = append_change(KEYS[6], KEYS[7], ARGV[8], seat_id, 'RESERVED', 1, ARGV[1], ARGV[9])
+                    track_expiry(KEYS[8], seat_id, 'RESERVED', ARGV[9])
+                    redis.call('SET', ARGV[10] .. seat_id, ARGV[4], 'EX', ARGV[3])
+                end
+            end
+            redis.call('SET', KEYS[2], ARGV[5], 'EX', ARGV[6])
+            return {1, 0, version, unpack(codes)}
+            """;
+
+    /**
+     * 좌석 상태 전이 스크립트 (updateSeatStatus 공통 경로)
+     * - 이전 상태를 읽어 사용자별 선점 인덱스를 상태 저장과 함께 원자적으로 갱신
+     * <br>
+     * KEYS[1] 좌석이 속한 좌석 상태 Hash(샤드), KEYS[2] 마지막 업데이트 시간 키, KEYS[3] 패킹 상태, KEYS[4] 좌석 순번 Hash,
+     * KEYS[5] 콘서트 버전, KEYS[6] 변경 로그 Stream, KEYS[7] 선점 만료 큐 ZSET,
+     * KEYS[8] 좌석 구역 Hash, KEYS[9] 가용성 카운터 Hash
+     * <br>
+     * ARGV[1] Hash 필드(인코딩), ARGV[2] 새 상태 값(인코딩), ARGV[3] seatId, ARGV[4] 새 상태명,
+     * ARGV[5] 새 userId (없으면 빈 문자열), ARGV[6] 사용자 인덱스 키 접두사,
+     * ARGV[7] 마지막 업데이트 시간 값(인코딩), ARGV[8] 마지막 업데이트 TTL(초), ARGV[9] 패킹 상태 코드,
+     * ARGV[10] 변경 로그 최대 길이, ARGV[11] 선점 만료 시각(epoch millis, 없으면 빈 문자열)
+     * <br>
+     * 반환: 변경 후 콘서트 버전
+     */
+    static final String UPDATE_SEAT = COMMON + """
+            local previous = decode_seat(redis.call('HGET', KEYS[1], ARGV[1]))
+            redis.call('HSET', KEYS[1], ARGV[1], ARGV[2])
+            update_user_index(ARGV[6], ARGV[3], previous, ARGV[4], ARGV[5])
+            set_packed_state(KEYS[3], KEYS[4], ARGV[3], tonumber(ARGV[9]), KEYS[8], KEYS[9])
+            local version = append_change(KEYS[5], KEYS[6], ARGV[10], ARGV[3], ARGV[4], ARGV[9], ARGV[5], ARGV[11])
+            track_expiry(KEYS[7], ARGV[3], ARGV[4], ARGV[11])
+            redis.call('SET', KEYS[2], ARGV[7], 'EX', ARGV[8])
+            return version
+            """;
+
+    /**
+     * 사용자 선점 좌석 일괄 전이 스크립트 (영구 선점 / 임시 선점 복원, All-or-Nothing)
+     * - 사용자 선점 인덱스의 모든 좌석을 전달받아, 대상 좌석(새 상태 값이 있는 좌석)을 모두 검증한 뒤 한 번에 전이
+     * - 하나라도 실패하면 아무것도 기록하지 않음 (보상 처리 불필요)
+     * - 조회 이후 인덱스가 바뀌었거나(좌석 추가/삭제) 대상이 아니던 좌석이 대상 조건을 만족하면 HOLDS_CHANGED 반환 → 재조회 후 재시도
+     * <br>
+     * KEYS[1] 첫 좌석이 속한 좌석 상태 Hash(샤드), KEYS[2] 마지막 업데이트 시간 키, KEYS[3] 사용자 선점 인덱스 Set,
+     * KEYS[4] 패킹 상태, KEYS[5] 좌석 순번 Hash, KEYS[6] 콘서트 버전, KEYS[7] 변경 로그 Stream,
+     * KEYS[8] 선점 만료 큐 ZSET, KEYS[9] 좌석 구역 Hash, KEYS[10] 가용성 카운터 Hash,
+     * KEYS[11]~ 나머지 좌석 상태 샤드 Hash
+     * <br>
+     * ARGV[1] 전이 유형(LOCK: 영구 선점, RESTORE: 영구 선점 → 임시 선점 복원), ARGV[2] userId,
+     * ARGV[3] TTL 키 접두사(seat:expire:{concertId}:), ARGV[4] 변경 로그 최대 길이,
+     * ARGV[5] 마지막 업데이트 시간 값(인코딩), ARGV[6] 마지막 업데이트 TTL(초), ARGV[7] 전이 후 패킹 상태 코드,
+     * ARGV[8] 전이 후 선점 만료 시각(epoch millis, 없으면 빈 문자열), ARGV[9] 선점 TTL(초), ARGV[10] TTL 키 값(인코딩),
+     * 이후 (좌석 상태 Hash의 KEYS 인덱스, Hash 필드(인코딩), seatId, 전이 후 상태 값(인코딩, 대상이 아니면 빈 문자열)) 반복
+     * <br>
+     * 반환: {전체 결과코드, 변경 후 버전, 좌석별 결과코드...}
+     * (좌석별: 1 전이, 0 대상 아님, -1 예매 완료, -2 본인 선점 아님, -5 좌석 없음, -7 선점 만료, -8 영구 선점 아님)
+     */
+    static final String TRANSITION_USER_HOLDS = COMMON + """
+            if redis.call('EXISTS', KEYS[1]) == 0 and redis.call('EXISTS', KEYS[5]) == 0 then
+                return {-4, 0}
+            end
+
+            local lock = ARGV[1] == 'LOCK'
+            local user_id = tonumber(ARGV[2])
+            local codes = {}
+            local failed = false
+            local changed = false
+            local in_index = 0
+
+            for i = 11, #ARGV, 4 do
+                local raw = redis.call('HGET', KEYS[tonumber(ARGV[i])], ARGV[i + 1])
+                local current = decode_seat(raw)
+                local held = current and current.status == 'RESERVED' and as_number(current.userId) == user_id
+                local permanent = held and is_null(current.expiresAt)
+                local code = 1
+                if ARGV[i + 3] == '' then
+                    code = 0
+                    if held and (lock or permanent) then
+                        changed = true
+                    end
+                elseif not raw then
+                    code = -5
+                elseif current and current.status == 'BOOKED' then
+                    code = -1
+                elseif not held then
+                    code = -2
+                elseif lock and not permanent and redis.call('EXISTS', ARGV[3] .. ARGV[i + 2]) == 0 then
+                    code = -7
+                elseif not lock and not permanent then
+                    code = -8
+                end
+                if code < 0 then
+                    failed = true
+                end
+                codes[#codes + 1] = code
+                in_index = in_index + redis.call('SISMEMBER', KEYS[3], ARGV[i + 2])
+            end
+
+            if failed then
+                return {-6, 0, unpack(codes)}
+            end
+            if changed or in_index ~= #codes or redis.call('SCARD', KEYS[3]) ~= #codes then
+                return {-9, 0, unpack(codes)}
+            end
+
+            local version = 0
+            for n = 1, #codes do
+                if codes[n] == 1 then
+                    local i = 11 + (n - 1) * 4
+                    local seat_id = ARGV[i + 2]
+                    redis.call('HSET', KEYS[tonumber(ARGV[i])], ARGV[i + 1], ARGV[i + 3])
+                    set_packed_state(KEYS[4], KEYS[5], seat_id, tonumber(ARGV[7]), KEYS[9], KEYS[10])
+                    version = append_change(KEYS[6], KEYS[7], ARGV[4], seat_id, 'RESERVED', ARGV[7], ARGV[2], ARGV[8])
+                    track_expiry(KEYS[8], seat_id, 'RESERVED', ARGV[8])
+                    if ARGV[8] ~= '' then
+                        redis.call('SET', ARGV[3] .. seat_id, ARGV[10], 'EX', ARGV[9])
+                    else
+                        redis.call('DEL', ARGV[3] .. seat_id)
+                    end
+                end
+            end
+            redis.call('SET', KEYS[2], ARGV[5], 'EX', ARGV[6])
+            return {1, version, unpack(codes)}
+            """;
+
+    /**
+     * 만료된 임시 선점 일괄 해제 스크립트 (선점 만료 워커용)
+     * - 후보 좌석마다 현재 상태를 다시 확인하여, 만료 시간이 있는 RESERVED이고 TTL 키가 없는 경우에만 해제
+     * - 이미 해제/예매/영구 선점된 좌석은 만료 큐에서만 제거 → 여러 서버가 같은 후보를 처리해도 결과 동일 (멱등)
+     * - TTL 키가 아직 남아있으면(서버 간 시계 차이) 만료 큐에 남겨두고 다음 실행에서 재확인
+     * <br>
+     * KEYS[1] 첫 후보 좌석이 속한 좌석 상태 Hash(샤드), KEYS[2] 마지막 업데이트 시간 키, KEYS[3] 패킹 상태,
+     * KEYS[4] 좌석 순번 Hash, KEYS[5] 콘서트 버전, KEYS[6] 변경 로그 Stream, KEYS[7] 선점 만료 큐 ZSET,
+     * KEYS[8] 좌석 구역 Hash, KEYS[9] 가용성 카운터 Hash, KEYS[10]~ 나머지 좌석 상태 샤드 Hash
+     * <br>
+     * ARGV[1] 사용자 인덱스 키 접두사, ARGV[2] TTL 키 접두사(seat:expire:{concertId}:), ARGV[3] 변경 로그 최대 길이,
+     * ARGV[4] 마지막 업데이트 시간 값(인코딩), ARGV[5] 마지막 업데이트 TTL(초),
+     * 이후 (좌석 상태 Hash의 KEYS 인덱스, Hash 필드(인코딩), seatId, AVAILABLE 상태 값(인코딩, 해제 대상이 아니면 빈 문자열)) 반복
+     * <br>
+     * 반환: {변경 후 버전(해제 없으면 0), 해제된 seatId 목록, 만료 큐에 남은 좌석 수}
+     */
+    static final String RELEASE_EXPIRED_HOLDS = COMMON + """
+            local released = {}
+            local version = 0
+            for i = 6, #ARGV, 4 do
+                local status_key = KEYS[tonumber(ARGV[i])]
+                local seat_id = ARGV[i + 2]
+                local seat = decode_seat(redis.call('HGET', status_key, ARGV[i + 1]))
+                if seat and seat.status == 'RESERVED' and not is_null(seat.expiresAt) then
+                    if ARGV[i + 3] ~= '' and redis.call('EXISTS', ARGV[2] .. seat_id) == 0 then
+                        redis.call('HSET', status_key, ARGV[i + 1], ARGV[i + 3])
+                        update_user_index(ARGV[1], seat_id, seat, 'AVAILABLE', '')
+                        set_packed_state(KEYS[3], KEYS[4], seat_id, 0, KEYS[8], KEYS[9])
+                        version = append_change(KEYS[5], KEYS[6], ARGV[3], seat_id, 'AVAILABLE', 0, '', '')
+                        redis.call('ZREM', KEYS[7], seat_id)
+                        released[#released + 1] = seat_id
+                    end
+                else
+                    redis.call('ZREM', KEYS[7], seat_id)
+                end
+            end
+            if #released > 0 then
+                redis.call('SET', KEYS[2], ARGV[4], 'EX', ARGV[5])
+            end
+            return {version, released, redis.call('ZCARD', KEYS[7])}
+            """;
+
+    /**
+     * 사용자별 선점 인덱스 재검증 스크립트 (정합성 복구용)
+     * - 후보 좌석마다 현재 Hash 값을 확인하여 인덱스 포함 여부를 맞춤
+     * <br>
+     * KEYS[1] 첫 후보 좌석이 속한 좌석 상태 Hash(샤드), KEYS[2] 사용자 선점 인덱스 Set, KEYS[3]~ 나머지 좌석 상태 샤드 Hash
+     * <br>
+     * ARGV[1] userId, 이후 (좌석 상태 Hash의 KEYS 인덱스, Hash 필드(인코딩), seatId) 반복
+     * <br>
+     * 반환: 수정된 인덱스 항목 수
+     */
+    static final String RECONCILE_USER_INDEX = COMMON + """
+            local user_id = tonumber(ARGV[1])
+            local changed = 0
+            for i = 2, #ARGV, 3 do
+                local seat = decode_seat(redis.call('HGET', KEYS[tonumber(ARGV[i])], ARGV[i + 1]))
+                local seat_id = ARGV[i + 2]
+                if seat and seat.status == 'RESERVED' and as_number(seat.userId) == user_id then
+                    changed = changed + redis.call('SADD', KEYS[2], seat_id)
+                else
+                    changed = changed + redis.call('SREM', KEYS[2], seat_id)
+                end
+            end
+            return changed
+            """;
+
+    /**
+     * 가용성 카운터 교체 스크립트 (정합성 복구용)
+     * - 카운터 재계산 중 좌석 상태가 바뀌었으면(콘서트 버전 변경) 교체하지 않음
+     * <br>
+     * KEYS[1] 콘서트 버전, KEYS[2] 가용성 카운터 Hash
+     * <br>
+     * ARGV[1] 재계산 시점의 콘서트 버전, 이후 (필드, 카운트) 쌍 반복
+     * <br>
+     * 반환: 1 교체, 0 버전 불일치
+     */
+    static final String REPLACE_COUNTERS = """
+            local version = tonumber(redis.call('GET', KEYS[1]) or '0')
+            if version ~= tonumber(ARGV[1]) then
+                return 0
+            end
+            redis.call('DEL', KEYS[2])
+            for i = 2, #ARGV, 2 do
+                redis.call('HSET', KEYS[2], ARGV[i], ARGV[i + 1])
+            end
+            return 1
+            """;
+}
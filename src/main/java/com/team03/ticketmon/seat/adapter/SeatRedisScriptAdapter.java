@@ -0,0 +1,692 @@
+package com.team03.ticketmon.seat.adapter;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.team03.ticketmon._global.util.RedisKeyGenerator;
+import com.team03.ticketmon._global.util.RedisScriptCodec;
+import com.team03.ticketmon.seat.config.SeatProperties;
+import com.team03.ticketmon.seat.domain.PackedSeatState;
+import com.team03.ticketmon.seat.domain.SeatStatus;
+import com.team03.ticketmon.seat.dto.BulkSeatLockResultDTO.BulkOperationType;
+import com.team03.ticketmon.seat.dto.SeatUpdateEventDTO;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RScript;
+import org.redisson.api.RSet;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.Codec;
+import org.redisson.client.codec.StringCodec;
+import org.redisson.client.protocol.Encoder;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 좌석 도메인의 Redis Lua 스크립트 실행을 전담하는 어댑터 클래스
+ * - 여러 Redis 명령을 단일 스크립트로 묶어 1회 왕복으로 원자적으로 처리
+ * - 스크립트 인자는 Redisson 전역 Codec으로 미리 인코딩하여 기존 RMap/RBucket 조회와 포맷을 맞춤
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SeatRedisScriptAdapter {
+
+    private final RedissonClient redissonClient;
+    private final ObjectMapper objectMapper;
+    private final SeatProperties seatProperties;
+    private final SeatStatusCodec seatStatusCodec;
+    private final SeatStatusShardRouter seatStatusShardRouter;
+
+    private static final String TTL_KEY_VALUE = "reserved";
+
+    /**
+     * 좌석 임시 선점 스크립트 실행
+     * - 좌석 상태 확인, 사용자별 선점 수 제한, 상태 저장, TTL 키 생성, 가용성 카운터 갱신, 이벤트 발행을 원자적으로 수행
+     * - 이벤트 배치 모드(seat.event-batch.enabled)면 스크립트에서 발행하지 않음 (호출 측에서 배치 버퍼로 발행)
+     *
+     * @param reserved           저장할 선점 상태 (RESERVED)
+     * @param maxSeatCount       사용자당 최대 선점 가능 좌석 수
+     * @param ttlSeconds         선점 유지 시간 (초)
+     * @param lastUpdateTtlSecs  마지막 업데이트 시간 키 TTL (초)
+     * @return 스크립트 실행 결과
+     */
+    public ReserveResult reserve(SeatStatus reserved, int maxSeatCount, long ttlSeconds, long lastUpdateTtlSecs) {
+        Long concertId = reserved.getConcertId();
+        Long concertSeatId = reserved.getSeatId();
+        Codec codec = redissonClient.getConfig().getCodec();
+        boolean publishInScript = !seatProperties.getEventBatch().isEnabled();
+
+        List<Object> keys = List.of(
+                seatStatusShardRouter.keyOf(concertId, concertSeatId),
+                RedisKeyGenerator.seatTtlKey(concertId, concertSeatId),
+                RedisKeyGenerator.seatLastUpdateKey(concertId),
+                getUserIndexKey(concertId, reserved.getUserId()),
+                RedisKeyGenerator.seatStateKey(concertId),
+                RedisKeyGenerator.seatOrdinalKey(concertId),
+                RedisKeyGenerator.seatVersionKey(concertId),
+                RedisKeyGenerator.seatChangeLogKey(concertId),
+                getExpiryQueueKey(concertId),
+                RedisKeyGenerator.seatSectionKey(concertId),
+                RedisKeyGenerator.seatCountsKey(concertId)
+        );
+
+        List<Object> result = redissonClient.getScript(RedisScriptCodec.INSTANCE).eval(
+                RScript.Mode.READ_WRITE,
+                SeatLuaScripts.RESERVE_SEAT,
+                RScript.ReturnType.MULTI,
+                keys,
+                encode(seatStatusCodec.getMapKeyEncoder(), concertSeatId.toString()),
+                encode(seatStatusCodec.getMapValueEncoder(), reserved),
+                String.valueOf(reserved.getUserId()),
+                String.valueOf(concertSeatId),
+                String.valueOf(maxSeatCount),
+                String.valueOf(ttlSeconds),
+                encode(codec.getValueEncoder(), TTL_KEY_VALUE),
+                encode(codec.getValueEncoder(), LocalDateTime.now()),
+                String.valueOf(lastUpdateTtlSecs),
+                publishInScript ? RedisKeyGenerator.SEAT_CHANNEL_PREFIX + concertId : "",
+                publishInScript ? toEventJson(SeatUpdateEventDTO.from(reserved)) : "",
+                getUserIndexKeyPrefix(concertId),
+                String.valueOf(seatProperties.getChangeLog().getMaxLength()),
+                toExpiryScore(reserved.getExpiresAt())
+        );
+
+        ReserveOutcome outcome = ReserveOutcome.fromCode(((Number) result.get(0)).intValue());
+        long heldCount = ((Number) result.get(1)).longValue();
+        long version = ((Number) result.get(2)).longValue();
+        if (outcome == ReserveOutcome.RESERVED) {
+            registerExpiryConcert(concertId);
+        }
+
+        log.debug("좌석 선점 스크립트 실행: concertId={}, concertSeatId={}, userId={}, outcome={}, version={}",
+                concertId, concertSeatId, reserved.getUserId(), outcome, version);
+
+        return new ReserveResult(outcome, heldCount, version);
+    }
+
+    /**
+     * 다중 좌석 일괄 임시 선점 스크립트 실행 (All-or-Nothing)
+     *
+     * @param concertId         콘서트 ID
+     * @param userId            사용자 ID
+     * @param reservedSeats     저장할 선점 상태 목록 (요청 순서 유지, 만료 시간 동일)
+     * @param maxSeatCount      사용자당 최대 선점 가능 좌석 수
+     * @param ttlSeconds        선점 유지 시간 (초)
+     * @param lastUpdateTtlSecs 마지막 업데이트 시간 키 TTL (초)
+     * @return 전체 결과와 좌석별 결과 코드
+     */
+    public BulkReserveResult reserveAll(Long concertId, Long userId, List<SeatStatus> reservedSeats,
+                                        int maxSeatCount, long ttlSeconds, long lastUpdateTtlSecs) {
+        Codec codec = redissonClient.getConfig().getCodec();
+
+        List<Object> keys = new ArrayList<>(List.of(
+                seatStatusShardRouter.keyOf(concertId, reservedSeats.get(0).getSeatId()),
+                RedisKeyGenerator.seatLastUpdateKey(concertId),
+                getUserIndexKey(concertId, userId),
+                RedisKeyGenerator.seatStateKey(concertId),
+                RedisKeyGenerator.seatOrdinalKey(concertId),
+                RedisKeyGenerator.seatVersionKey(concertId),
+                RedisKeyGenerator.seatChangeLogKey(concertId),
+                getExpiryQueueKey(concertId),
+                RedisKeyGenerator.seatSectionKey(concertId),
+                RedisKeyGenerator.seatCountsKey(concertId)
+        ));
+        Map<String, Integer> shardIndexes = new HashMap<>();
+
+        List<Object> args = new ArrayList<>(reservedSeats.size() * 4 + 10);
+        args.add(String.valueOf(userId));
+        args.add(String.valueOf(maxSeatCount));
+        args.add(String.valueOf(ttlSeconds));
+        args.add(encode(codec.getValueEncoder(), TTL_KEY_VALUE));
+        args.add(encode(codec.getValueEncoder(), LocalDateTime.now()));
+        args.add(String.valueOf(lastUpdateTtlSecs));
+        args.add(getUserIndexKeyPrefix(concertId));
+        args.add(String.valueOf(seatProperties.getChangeLog().getMaxLength()));
+        args.add(toExpiryScore(reservedSeats.get(0).getExpiresAt()));
+        args.add(RedisKeyGenerator.seatTtlKeyPrefix(concertId));
+        for (SeatStatus reserved : reservedSeats) {
+            args.add(statusKeyIndex(keys, shardIndexes, concertId, reserved.getSeatId()));
+            args.add(encode(seatStatusCodec.getMapKeyEncoder(), reserved.getSeatId().toString()));
+            args.add(String.valueOf(reserved.getSeatId()));
+            args.add(encode(seatStatusCodec.getMapValueEncoder(), reserved));
+        }
+
+        List<Object> result = redissonClient.getScript(RedisScriptCodec.INSTANCE).eval(
+                RScript.Mode.READ_WRITE,
+                SeatLuaScripts.RESERVE_SEATS,
+                RScript.ReturnType.MULTI,
+                keys,
+                args.toArray()
+        );
+
+        BulkReserveOutcome outcome = BulkReserveOutcome.fromCode(((Number) result.get(0)).intValue());
+        long heldCount = ((Number) result.get(1)).longValue();
+        long version = ((Number) result.get(2)).longValue();
+        if (outcome == BulkReserveOutcome.RESERVED) {
+            registerExpiryConcert(concertId);
+        }
+
+        Map<Long, ReserveOutcome> seatOutcomes = new LinkedHashMap<>();
+        for (int i = 3; i < result.size(); i++) {
+            seatOutcomes.put(reservedSeats.get(i - 3).getSeatId(),
+                    ReserveOutcome.fromCode(((Number) result.get(i)).intValue()));
+        }
+
+        log.debug("좌석 일괄 선점 스크립트 실행: concertId={}, userId={}, seats={}, outcome={}, version={}",
+                concertId, userId, reservedSeats.size(), outcome, version);
+
+        return new BulkReserveResult(outcome, heldCount, version, seatOutcomes);
+    }
+
+    /**
+     * 좌석 상태 전이 스크립트 실행
+     * - 좌석 Hash 저장과 사용자별 선점 인덱스, 패킹 상태, 가용성 카운터, 변경 로그, 마지막 업데이트 시간 갱신을 원자적으로 수행
+     *
+     * @param seatStatus        저장할 좌석 상태
+     * @param lastUpdateTtlSecs 마지막 업데이트 시간 키 TTL (초)
+     * @return 변경 후 콘서트 좌석 버전
+     */
+    public long updateSeatStatus(SeatStatus seatStatus, long lastUpdateTtlSecs) {
+        Long concertId = seatStatus.getConcertId();
+        Codec codec = redissonClient.getConfig().getCodec();
+
+        List<Object> keys = List.of(
+                seatStatusShardRouter.keyOf(concertId, seatStatus.getSeatId()),
+                RedisKeyGenerator.seatLastUpdateKey(concertId),
+                RedisKeyGenerator.seatStateKey(concertId),
+                RedisKeyGenerator.seatOrdinalKey(concertId),
+                RedisKeyGenerator.seatVersionKey(concertId),
+                RedisKeyGenerator.seatChangeLogKey(concertId),
+                getExpiryQueueKey(concertId),
+                RedisKeyGenerator.seatSectionKey(concertId),
+                RedisKeyGenerator.seatCountsKey(concertId)
+        );
+
+        Long version = redissonClient.getScript(RedisScriptCodec.INSTANCE).eval(
+                RScript.Mode.READ_WRITE,
+                SeatLuaScripts.UPDATE_SEAT,
+                RScript.ReturnType.INTEGER,
+                keys,
+                encode(seatStatusCodec.getMapKeyEncoder(), seatStatus.getSeatId().toString()),
+                encode(seatStatusCodec.getMapValueEncoder(), seatStatus),
+                String.valueOf(seatStatus.getSeatId()),
+                seatStatus.getStatus().name(),
+                seatStatus.getUserId() != null ? String.valueOf(seatStatus.getUserId()) : "",
+                getUserIndexKeyPrefix(concertId),
+                encode(codec.getValueEncoder(), LocalDateTime.now()),
+                String.valueOf(lastUpdateTtlSecs),
+                String.valueOf(PackedSeatState.codeOf(seatStatus)),
+                String.valueOf(seatProperties.getChangeLog().getMaxLength()),
+                toExpiryScore(seatStatus.getExpiresAt())
+        );
+        if (seatStatus.isReserved() && seatStatus.getExpiresAt() != null) {
+            registerExpiryConcert(concertId);
+        }
+        return version != null ? version : 0;
+    }
+
+    /**
+     * 사용자 선점 좌석 일괄 전이 스크립트 실행 (영구 선점 / 임시 선점 복원, All-or-Nothing)
+     * - 사용자 선점 인덱스의 모든 좌석을 전달해야 하며, 스크립트가 조회 이후 인덱스 변경 여부를 함께 확인
+     *
+     * @param concertId         콘서트 ID
+     * @param userId            사용자 ID
+     * @param operation         전이 유형 (LOCK / RESTORE)
+     * @param indexedSeats      사용자 선점 인덱스의 좌석 ID → 전이 후 상태 (대상이 아니면 null, 대상 좌석의 만료 시간은 동일)
+     * @param ttlSeconds        전이 후 선점 TTL (초, 만료 시간이 없으면 사용하지 않음)
+     * @param lastUpdateTtlSecs 마지막 업데이트 시간 키 TTL (초)
+     * @return 전체 결과와 좌석별 결과 코드
+     */
+    public HoldTransitionResult transitionUserHolds(Long concertId, Long userId, BulkOperationType operation,
+                                                    Map<Long, SeatStatus> indexedSeats, long ttlSeconds,
+                                                    long lastUpdateTtlSecs) {
+        Codec codec = redissonClient.getConfig().getCodec();
+        SeatStatus sample = indexedSeats.values().stream()
+                .filter(Objects::nonNull)
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("전이 대상 좌석이 없습니다."));
+
+        List<Object> keys = new ArrayList<>(List.of(
+                seatStatusShardRouter.keyOf(concertId, indexedSeats.keySet().iterator().next()),
+                RedisKeyGenerator.seatLastUpdateKey(concertId),
+                getUserIndexKey(concertId, userId),
+                RedisKeyGenerator.seatStateKey(concertId),
+                RedisKeyGenerator.seatOrdinalKey(concertId),
+                RedisKeyGenerator.seatVersionKey(concertId),
+                RedisKeyGenerator.seatChangeLogKey(concertId),
+                getExpiryQueueKey(concertId),
+                RedisKeyGenerator.seatSectionKey(concertId),
+                RedisKeyGenerator.seatCountsKey(concertId)
+        ));
+        Map<String, Integer> shardIndexes = new HashMap<>();
+
+        List<Object> args = new ArrayList<>(indexedSeats.size() * 4 + 10);
+        args.add(operation.name());
+        args.add(String.valueOf(userId));
+        args.add(RedisKeyGenerator.seatTtlKeyPrefix(concertId));
+        args.add(String.valueOf(seatProperties.getChangeLog().getMaxLength()));
+        args.add(encode(codec.getValueEncoder(), LocalDateTime.now()));
+        args.add(String.valueOf(lastUpdateTtlSecs));
+        args.add(String.valueOf(PackedSeatState.codeOf(sample)));
+        args.add(toExpiryScore(sample.getExpiresAt()));
+        args.add(String.valueOf(ttlSeconds));
+        args.add(encode(codec.getValueEncoder(), TTL_KEY_VALUE));
+        for (Map.Entry<Long, SeatStatus> entry : indexedSeats.entrySet()) {
+            Long seatId = entry.getKey();
+            SeatStatus target = entry.getValue();
+            args.add(statusKeyIndex(keys, shardIndexes, concertId, seatId));
+            args.add(encode(seatStatusCodec.getMapKeyEncoder(), seatId.toString()));
+            args.add(String.valueOf(seatId));
+            args.add(target != null ? encode(seatStatusCodec.getMapValueEncoder(), target) : "");
+        }
+
+        List<Object> result = redissonClient.getScript(RedisScriptCodec.INSTANCE).eval(
+                RScript.Mode.READ_WRITE,
+                SeatLuaScripts.TRANSITION_USER_HOLDS,
+                RScript.ReturnType.MULTI,
+                keys,
+                args.toArray()
+        );
+
+        HoldTransitionOutcome outcome = HoldTransitionOutcome.fromCode(((Number) result.get(0)).intValue());
+        long version = ((Number) result.get(1)).longValue();
+        if (outcome == HoldTransitionOutcome.TRANSITIONED && sample.getExpiresAt() != null) {
+            registerExpiryConcert(concertId);
+        }
+
+        Map<Long, HoldCheckOutcome> seatOutcomes = new LinkedHashMap<>();
+        List<Long> seatIds = new ArrayList<>(indexedSeats.keySet());
+        for (int i = 2; i < result.size(); i++) {
+            seatOutcomes.put(seatIds.get(i - 2), HoldCheckOutcome.fromCode(((Number) result.get(i)).intValue()));
+        }
+
+        log.debug("사용자 선점 좌석 일괄 전이 스크립트 실행: concertId={}, userId={}, operation={}, seats={}, outcome={}, version={}",
+                concertId, userId, operation, indexedSeats.size(), outcome, version);
+
+        return new HoldTransitionResult(outcome, version, seatOutcomes);
+    }
+
+    /**
+     * 만료된 임시 선점 일괄 해제 스크립트 실행
+     * - 후보 좌석의 현재 상태를 스크립트 안에서 다시 확인하므로, 후보 조회 이후 상태가 바뀐 좌석은 해제되지 않음
+     *
+     * @param concertId         콘서트 ID
+     * @param candidates        만료 큐에서 꺼낸 좌석 ID → 해제 시 저장할 AVAILABLE 상태 (해제 대상이 아니면 null)
+     * @param lastUpdateTtlSecs 마지막 업데이트 시간 키 TTL (초)
+     * @return 해제된 좌석 ID 목록과 변경 후 버전
+     */
+    public ReleaseResult releaseExpiredHolds(Long concertId, Map<Long, SeatStatus> candidates, long lastUpdateTtlSecs) {
+        if (candidates.isEmpty()) {
+            return new ReleaseResult(List.of(), 0);
+        }
+        Codec codec = redissonClient.getConfig().getCodec();
+
+        List<Object> keys = new ArrayList<>(List.of(
+                seatStatusShardRouter.keyOf(concertId, candidates.keySet().iterator().next()),
+                RedisKeyGenerator.seatLastUpdateKey(concertId),
+                RedisKeyGenerator.seatStateKey(concertId),
+                RedisKeyGenerator.seatOrdinalKey(concertId),
+                RedisKeyGenerator.seatVersionKey(concertId),
+                RedisKeyGenerator.seatChangeLogKey(concertId),
+                getExpiryQueueKey(concertId),
+                RedisKeyGenerator.seatSectionKey(concertId),
+                RedisKeyGenerator.seatCountsKey(concertId)
+        ));
+        Map<String, Integer> shardIndexes = new HashMap<>();
+
+        List<Object> args = new ArrayList<>(candidates.size() * 4 + 5);
+        args.add(getUserIndexKeyPrefix(concertId));
+        args.add(RedisKeyGenerator.seatTtlKeyPrefix(concertId));
+        args.add(String.valueOf(seatProperties.getChangeLog().getMaxLength()));
+        args.add(encode(codec.getValueEncoder(), LocalDateTime.now()));
+        args.add(String.valueOf(lastUpdateTtlSecs));
+        for (Map.Entry<Long, SeatStatus> candidate : candidates.entrySet()) {
+            Long seatId = candidate.getKey();
+            SeatStatus available = candidate.getValue();
+            args.add(statusKeyIndex(keys, shardIndexes, concertId, seatId));
+            args.add(encode(seatStatusCodec.getMapKeyEncoder(), seatId.toString()));
+            args.add(String.valueOf(seatId));
+            args.add(available != null ? encode(seatStatusCodec.getMapValueEncoder(), available) : "");
+        }
+
+        List<Object> result = redissonClient.getScript(RedisScriptCodec.INSTANCE).eval(
+                RScript.Mode.READ_WRITE,
+                SeatLuaScripts.RELEASE_EXPIRED_HOLDS,
+                RScript.ReturnType.MULTI,
+                keys,
+                args.toArray()
+        );
+
+        long version = ((Number) result.get(0)).longValue();
+        List<Long> releasedSeatIds = new ArrayList<>();
+        for (Object seatId : (List<?>) result.get(1)) {
+            releasedSeatIds.add(Long.valueOf(toText(seatId)));
+        }
+        if (((Number) result.get(2)).longValue() == 0) {
+            unregisterExpiryConcert(concertId);
+        }
+        return new ReleaseResult(releasedSeatIds, version);
+    }
+
+    /**
+     * 만료 큐 보유 콘서트 Set(seat:expiry_concerts)에 콘서트 등록
+     * - 콘서트 공용 키라 Cluster에서는 콘서트 키와 슬롯이 달라 스크립트 밖에서 갱신 (만료 큐 ZADD 이후 실행)
+     * - 선점 응답 지연을 늘리지 않도록 비동기 전송 (이미 등록된 콘서트가 대부분)
+     */
+    private void registerExpiryConcert(Long concertId) {
+        redissonClient.getSet(RedisKeyGenerator.SEAT_EXPIRY_CONCERTS_KEY, StringCodec.INSTANCE)
+                .addAsync(concertId.toString());
+    }
+
+    /**
+     * 만료 큐가 비었으면 콘서트 등록 해제
+     * - 해제 직후 만료 큐를 다시 확인하여, 그 사이 다른 선점이 등록됐으면 재등록 (등록 누락 방지)
+     */
+    private void unregisterExpiryConcert(Long concertId) {
+        RSet<String> registry = redissonClient.getSet(RedisKeyGenerator.SEAT_EXPIRY_CONCERTS_KEY, StringCodec.INSTANCE);
+        registry.remove(concertId.toString());
+        if (redissonClient.getScoredSortedSet(getExpiryQueueKey(concertId), StringCodec.INSTANCE).size() > 0) {
+            registry.add(concertId.toString());
+        }
+    }
+
+    /**
+     * 사용자 선점 인덱스 재검증
+     * - 후보 좌석들의 현재 Hash 상태를 기준으로 인덱스 항목을 추가/삭제
+     *
+     * @param concertId        콘서트 ID
+     * @param userId           사용자 ID
+     * @param candidateSeatIds 검증 대상 좌석 ID (인덱스 항목 ∪ Hash 기준 선점 좌석)
+     * @return 수정된 인덱스 항목 수
+     */
+    public long reconcileUserIndex(Long concertId, Long userId, Collection<Long> candidateSeatIds) {
+        if (candidateSeatIds.isEmpty()) {
+            return 0;
+        }
+
+        List<Object> keys = new ArrayList<>(List.of(
+                seatStatusShardRouter.keyOf(concertId, candidateSeatIds.iterator().next()),
+                getUserIndexKey(concertId, userId)
+        ));
+        Map<String, Integer> shardIndexes = new HashMap<>();
+
+        List<Object> args = new ArrayList<>(candidateSeatIds.size() * 3 + 1);
+        args.add(String.valueOf(userId));
+        for (Long seatId : candidateSeatIds) {
+            args.add(statusKeyIndex(keys, shardIndexes, concertId, seatId));
+            args.add(encode(seatStatusCodec.getMapKeyEncoder(), seatId.toString()));
+            args.add(String.valueOf(seatId));
+        }
+
+        Long changed = redissonClient.getScript(RedisScriptCodec.INSTANCE).eval(
+                RScript.Mode.READ_WRITE,
+                SeatLuaScripts.RECONCILE_USER_INDEX,
+                RScript.ReturnType.INTEGER,
+                keys,
+                args.toArray()
+        );
+        return changed != null ? changed : 0;
+    }
+
+    /**
+     * 가용성 카운터 교체 (정합성 복구용)
+     * - 재계산 시점 이후 좌석 상태가 바뀌었으면 교체하지 않음 (다음 검사에서 다시 확인)
+     *
+     * @param concertId       콘서트 ID
+     * @param expectedVersion 재계산에 사용한 스냅샷의 콘서트 버전
+     * @param counts          카운터 필드 → 값
+     * @return 교체 여부
+     */
+    public boolean replaceCounters(Long concertId, long expectedVersion, Map<String, Long> counts) {
+        List<Object> keys = List.of(
+                RedisKeyGenerator.seatVersionKey(concertId),
+                RedisKeyGenerator.seatCountsKey(concertId)
+        );
+
+        List<Object> args = new ArrayList<>(counts.size() * 2 + 1);
+        args.add(String.valueOf(expectedVersion));
+        counts.forEach((field, count) -> {
+            args.add(field);
+            args.add(String.valueOf(count));
+        });
+
+        Long replaced = redissonClient.getScript(RedisScriptCodec.INSTANCE).eval(
+                RScript.Mode.READ_WRITE,
+                SeatLuaScripts.REPLACE_COUNTERS,
+                RScript.ReturnType.INTEGER,
+                keys,
+                args.toArray()
+        );
+        return replaced != null && replaced == 1;
+    }
+
+    /**
+     * 좌석이 속한 좌석 상태 Hash의 KEYS 인덱스 (Lua 1-based)
+     * - KEYS[1]은 첫 좌석의 샤드이며, 처음 등장한 다른 샤드는 KEYS 끝에 추가 (단일 Hash 모드에서는 항상 1)
+     */
+    private String statusKeyIndex(List<Object> keys, Map<String, Integer> shardIndexes, Long concertId, Long seatId) {
+        if (shardIndexes.isEmpty()) {
+            shardIndexes.put((String) keys.get(0), 1);
+        }
+        String statusKey = seatStatusShardRouter.keyOf(concertId, seatId);
+        Integer index = shardIndexes.get(statusKey);
+        if (index == null) {
+            keys.add(statusKey);
+            index = keys.size();
+            shardIndexes.put(statusKey, index);
+        }
+        return String.valueOf(index);
+    }
+
+    /**
+     * 사용자 선점 인덱스 키: seat:user_seats:{concertId}:{userId}
+     */
+    public String getUserIndexKey(Long concertId, Long userId) {
+        return getUserIndexKeyPrefix(concertId) + userId;
+    }
+
+    /**
+     * 사용자 선점 인덱스 키 접두사: seat:user_seats:{concertId}:
+     */
+    public String getUserIndexKeyPrefix(Long concertId) {
+        return RedisKeyGenerator.seatUserIndexKeyPrefix(concertId);
+    }
+
+    /**
+     * 선점 만료 큐 키: seat:expiry:{concertId}
+     */
+    public String getExpiryQueueKey(Long concertId) {
+        return RedisKeyGenerator.seatExpiryQueueKey(concertId);
+    }
+
+    /**
+     * 선점 만료 시각 → 만료 큐 score (epoch millis, 만료 시간이 없으면 빈 문자열)
+     */
+    public static String toExpiryScore(LocalDateTime expiresAt) {
+        return expiresAt != null
+                ? String.valueOf(expiresAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli())
+                : "";
+    }
+
+    /**
+     * 스크립트 결과 값(byte[])을 문자열로 변환
+     */
+    private String toText(Object value) {
+        return value instanceof byte[] bytes ? new String(bytes, StandardCharsets.UTF_8) : String.valueOf(value);
+    }
+
+    /**
+     * 이벤트 DTO를 구독자가 기대하는 JSON 문자열로 직렬화
+     */
+    private String toEventJson(SeatUpdateEventDTO event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("좌석 이벤트 JSON 직렬화 실패: " + event, e);
+        }
+    }
+
+    /**
+     * Redisson Codec으로 값을 인코딩하여 스크립트 인자용 byte[]로 변환
+     */
+    private byte[] encode(Encoder encoder, Object value) {
+        return RedisScriptCodec.encode(encoder, value);
+    }
+
+    /**
+     * 좌석 선점 스크립트 결과 코드
+     */
+    public enum ReserveOutcome {
+        RESERVED(1),
+        ALREADY_HELD_BY_USER(2),
+        ALREADY_BOOKED(-1),
+        HELD_BY_OTHER(-2),
+        LIMIT_EXCEEDED(-3),
+        CACHE_MISS(-4),
+        SEAT_NOT_FOUND(-5);
+
+        private final int code;
+
+        ReserveOutcome(int code) {
+            this.code = code;
+        }
+
+        static ReserveOutcome fromCode(int code) {
+            for (ReserveOutcome outcome : values()) {
+                if (outcome.code == code) {
+                    return outcome;
+                }
+            }
+            throw new IllegalStateException("알 수 없는 좌석 선점 스크립트 결과 코드: " + code);
+        }
+    }
+
+    /**
+     * 일괄 선점 스크립트 전체 결과 코드
+     */
+    public enum BulkReserveOutcome {
+        RESERVED(1),
+        LIMIT_EXCEEDED(-3),
+        CACHE_MISS(-4),
+        SEAT_UNAVAILABLE(-6);
+
+        private final int code;
+
+        BulkReserveOutcome(int code) {
+            this.code = code;
+        }
+
+        static BulkReserveOutcome fromCode(int code) {
+            for (BulkReserveOutcome outcome : values()) {
+                if (outcome.code == code) {
+                    return outcome;
+                }
+            }
+            throw new IllegalStateException("알 수 없는 좌석 일괄 선점 스크립트 결과 코드: " + code);
+        }
+    }
+
+    /**
+     * 사용자 선점 좌석 일괄 전이 스크립트 전체 결과 코드
+     */
+    public enum HoldTransitionOutcome {
+        TRANSITIONED(1),
+        CACHE_MISS(-4),
+        SEAT_UNAVAILABLE(-6),
+        HOLDS_CHANGED(-9);
+
+        private final int code;
+
+        HoldTransitionOutcome(int code) {
+            this.code = code;
+        }
+
+        static HoldTransitionOutcome fromCode(int code) {
+            for (HoldTransitionOutcome outcome : values()) {
+                if (outcome.code == code) {
+                    return outcome;
+                }
+            }
+            throw new IllegalStateException("알 수 없는 선점 좌석 일괄 전이 스크립트 결과 코드: " + code);
+        }
+    }
+
+    /**
+     * 사용자 선점 좌석 일괄 전이 스크립트 좌석별 결과 코드
+     */
+    public enum HoldCheckOutcome {
+        TRANSITIONED(1),
+        NOT_TARGET(0),
+        ALREADY_BOOKED(-1),
+        NOT_HELD_BY_USER(-2),
+        SEAT_NOT_FOUND(-5),
+        HOLD_EXPIRED(-7),
+        NOT_PERMANENT(-8);
+
+        private final int code;
+
+        HoldCheckOutcome(int code) {
+            this.code = code;
+        }
+
+        static HoldCheckOutcome fromCode(int code) {
+            for (HoldCheckOutcome outcome : values()) {
+                if (outcome.code == code) {
+                    return outcome;
+                }
+            }
+            throw new IllegalStateException("알 수 없는 선점 좌석 전이 좌석별 결과 코드: " + code);
+        }
+    }
+
+    /**
+     * 좌석 선점 스크립트 실행 결과
+     *
+     * @param outcome   결과 코드
+     * @param heldCount LIMIT_EXCEEDED인 경우 사용자가 이미 선점 중인 좌석 수
+     * @param version   RESERVED인 경우 변경 후 콘서트 좌석 버전
+     */
+    public record ReserveResult(ReserveOutcome outcome, long heldCount, long version) {
+    }
+
+    /**
+     * 일괄 선점 스크립트 실행 결과
+     *
+     * @param outcome      전체 결과 코드
+     * @param heldCount    LIMIT_EXCEEDED인 경우 요청 좌석을 제외하고 이미 선점 중인 좌석 수
+     * @param version      RESERVED인 경우 변경 후 콘서트 좌석 버전
+     * @param seatOutcomes 좌석별 결과 코드 (요청 순서, CACHE_MISS면 비어있음)
+     */
+    public record BulkReserveResult(BulkReserveOutcome outcome, long heldCount, long version,
+                                    Map<Long, ReserveOutcome> seatOutcomes) {
+    }
+
+    /**
+     * 사용자 선점 좌석 일괄 전이 결과
+     *
+     * @param outcome      전체 결과 코드
+     * @param version      TRANSITIONED인 경우 변경 후 콘서트 좌석 버전
+     * @param seatOutcomes 좌석별 결과 코드 (전달 순서, CACHE_MISS면 비어있음)
+     */
+    public record HoldTransitionResult(HoldTransitionOutcome outcome, long version,
+                                       Map<Long, HoldCheckOutcome> seatOutcomes) {
+    }
+
+    /**
+     * 만료 선점 일괄 해제 결과
+     *
+     * @param releasedSeatIds 이번 실행으로 해제된 좌석 ID
+     * @param version         변경 후 콘서트 좌석 버전 (해제된 좌석이 없으면 0)
+     */
+    public record ReleaseResult(List<Long> releasedSeatIds, long version) {
+    }
+}
@@ -0,0 +1,240 @@
+package com.team03.ticketmon.seat.adapter;
+
+import com.team03.ticketmon.seat.domain.SeatStatus;
+import com.team03.ticketmon.seat.domain.SeatStatus.SeatStatusEnum;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import org.redisson.client.codec.BaseCodec;
+import org.redisson.client.codec.Codec;
+import org.redisson.client.handler.State;
+import org.redisson.client.protocol.Decoder;
+import org.redisson.client.protocol.Encoder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 좌석 상태 Hash(seat:status:{concertId}) 전용 Redisson Codec
+ * <br>
+ * 🔑 바이너리 포맷 (Big-Endian, 고정 길이 헤더 46바이트 + seatInfo)
+ * <pre>
+ * [0]      매직 바이트 0xB5 (JSON 값은 '{' 로 시작하므로 첫 바이트로 포맷 판별)
+ * [1]      포맷 버전 (1)
+ * [2]      상태 (SeatStatusEnum ordinal)
+ * [3]      플래그 (bit0 userId, bit1 reservedAt, bit2 expiresAt 존재 여부)
+ * [4..11]  concertId        [12..19] seatId        [20..27] userId
+ * [28..35] reservedAt (epoch millis, UTC 기준)     [36..43] expiresAt (epoch millis, UTC 기준)
+ * [44..45] seatInfo 길이    [46..]   seatInfo (UTF-8)
+ * </pre>
+ * - 읽기는 항상 두 포맷을 모두 지원 (Dual-Read) → 쓰기 포맷만 전환하면 무중단 마이그레이션 가능
+ * - Hash 필드(좌석 ID)는 기존 Codec 그대로 인코딩하여 Lua 스크립트와 기존 필드 포맷을 유지
+ * - Lua 스크립트의 decode_seat도 동일한 레이아웃을 struct.unpack으로 해석
+ * - LocalDateTime은 밀리초 단위로 저장 (밀리초 미만 정밀도는 버림)
+ */
+public class SeatStatusCodec extends BaseCodec {
+
+    public static final byte MAGIC = (byte) 0xB5;
+    public static final byte FORMAT_VERSION = 1;
+
+    static final int FLAG_USER_ID = 1;
+    static final int FLAG_RESERVED_AT = 1 << 1;
+    static final int FLAG_EXPIRES_AT = 1 << 2;
+    static final int HEADER_SIZE = 46;
+
+    // seatInfo 문자열 공유 사전 (같은 좌석 정보 문자열을 JVM 내 하나의 인스턴스로 재사용)
+    private static final int SEAT_INFO_DICTIONARY_LIMIT = 500_000;
+    private static final Map<String, String> SEAT_INFO_DICTIONARY = new ConcurrentHashMap<>();
+
+    private static final SeatStatusEnum[] STATUSES = SeatStatusEnum.values();
+
+    private final Codec jsonCodec;
+    private final boolean writeBinary;
+
+    private final Encoder valueEncoder;
+    private final Decoder<Object> valueDecoder;
+
+    /**
+     * @param jsonCodec   기존 JSON Codec (Hash 필드 인코딩 및 JSON 값 읽기/쓰기용)
+     * @param writeBinary true면 값을 바이너리 포맷으로 기록, false면 JSON으로 기록
+     */
+    public SeatStatusCodec(Codec jsonCodec, boolean writeBinary) {
+        this.jsonCodec = jsonCodec;
+        this.writeBinary = writeBinary;
+        this.valueEncoder = writeBinary ? new BinaryEncoder() : jsonCodec.getMapValueEncoder();
+        this.valueDecoder = new DualFormatDecoder(jsonCodec.getMapValueDecoder());
+    }
+
+    /**
+     * Redisson 내부 Codec 복제용 생성자
+     */
+    public SeatStatusCodec(ClassLoader classLoader, SeatStatusCodec codec) {
+        this(codec.jsonCodec, codec.writeBinary);
+    }
+
+    public boolean isWriteBinary() {
+        return writeBinary;
+    }
+
+    @Override
+    public Decoder<Object> getMapKeyDecoder() {
+        return jsonCodec.getMapKeyDecoder();
+    }
+
+    @Override
+    public Encoder getMapKeyEncoder() {
+        return jsonCodec.getMapKeyEncoder();
+    }
+
+    @Override
+    public Decoder<Object> getMapValueDecoder() {
+        return valueDecoder;
+    }
+
+    @Override
+    public Encoder getMapValueEncoder() {
+        return valueEncoder;
+    }
+
+    @Override
+    public Decoder<Object> getValueDecoder() {
+        return valueDecoder;
+    }
+
+    @Override
+    public Encoder getValueEncoder() {
+        return valueEncoder;
+    }
+
+    @Override
+    public ClassLoader getClassLoader() {
+        return jsonCodec.getClassLoader();
+    }
+
+    /**
+     * 첫 바이트로 바이너리 포맷 여부 판별 (읽기 위치는 변경하지 않음)
+     */
+    static boolean isBinary(ByteBuf buf) {
+        return buf.readableBytes() >= HEADER_SIZE && buf.getByte(buf.readerIndex()) == MAGIC;
+    }
+
+    /**
+     * SeatStatus → 바이너리 포맷
+     */
+    public static ByteBuf encodeBinary(SeatStatus seat) {
+        byte[] seatInfo = seat.getSeatInfo() != null
+                ? seat.getSeatInfo().getBytes(StandardCharsets.UTF_8)
+                : new byte[0];
+        if (seatInfo.length > 0xFFFF) {
+            throw new IllegalArgumentException("seatInfo가 너무 깁니다: " + seatInfo.length + " bytes");
+        }
+
+        int flags = (seat.getUserId() != null ? FLAG_USER_ID : 0)
+                | (seat.getReservedAt() != null ? FLAG_RESERVED_AT : 0)
+                | (seat.getExpiresAt() != null ? FLAG_EXPIRES_AT : 0);
+
+        ByteBuf out = ByteBufAllocator.DEFAULT.buffer(HEADER_SIZE + seatInfo.length);
+        out.writeByte(MAGIC);
+        out.writeByte(FORMAT_VERSION);
+        out.writeByte(seat.getStatus() != null ? seat.getStatus().ordinal() : SeatStatusEnum.UNAVAILABLE.ordinal());
+        out.writeByte(flags);
+        out.writeLong(orZero(seat.getConcertId()));
+        out.writeLong(orZero(seat.getSeatId()));
+        out.writeLong(orZero(seat.getUserId()));
+        out.writeLong(toEpochMillis(seat.getReservedAt()));
+        out.writeLong(toEpochMillis(seat.getExpiresAt()));
+        out.writeShort(seatInfo.length);
+        out.writeBytes(seatInfo);
+        return out;
+    }
+
+    /**
+     * 바이너리 포맷 → SeatStatus
+     */
+    public static SeatStatus decodeBinary(ByteBuf buf) {
+        buf.skipBytes(1); // 매직 바이트
+        byte version = buf.readByte();
+        if (version != FORMAT_VERSION) {
+            throw new IllegalStateException("지원하지 않는 좌석 상태 바이너리 포맷 버전: " + version);
+        }
+        SeatStatusEnum status = STATUSES[buf.readUnsignedByte()];
+        int flags = buf.readUnsignedByte();
+        long concertId = buf.readLong();
+        long seatId = buf.readLong();
+        long userId = buf.readLong();
+        long reservedAt = buf.readLong();
+        long expiresAt = buf.readLong();
+        int seatInfoLength = buf.readUnsignedShort();
+        String seatInfo = seatInfoLength > 0
+                ? internSeatInfo(buf.readCharSequence(seatInfoLength, StandardCharsets.UTF_8).toString())
+                : null;
+
+        return SeatStatus.builder()
+                .id(concertId + "-" + seatId)
+                .concertId(concertId)
+                .seatId(seatId)
+                .status(status)
+                .userId((flags & FLAG_USER_ID) != 0 ? userId : null)
+                .reservedAt((flags & FLAG_RESERVED_AT) != 0 ? fromEpochMillis(reservedAt) : null)
+                .expiresAt((flags & FLAG_EXPIRES_AT) != 0 ? fromEpochMillis(expiresAt) : null)
+                .seatInfo(seatInfo)
+                .build();
+    }
+
+    private static String internSeatInfo(String seatInfo) {
+        String interned = SEAT_INFO_DICTIONARY.get(seatInfo);
+        if (interned != null) {
+            return interned;
+        }
+        if (SEAT_INFO_DICTIONARY.size() >= SEAT_INFO_DICTIONARY_LIMIT) {
+            return seatInfo;
+        }
+        interned = SEAT_INFO_DICTIONARY.putIfAbsent(seatInfo, seatInfo);
+        return interned != null ? interned : seatInfo;
+    }
+
+    private static long orZero(Long value) {
+        return value != null ? value : 0L;
+    }
+
+    private static long toEpochMillis(LocalDateTime time) {
+        return time != null ? time.toInstant(ZoneOffset.UTC).toEpochMilli() : 0L;
+    }
+
+    private static LocalDateTime fromEpochMillis(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneOffset.UTC);
+    }
+
+    /**
+     * 바이너리 포맷 인코더
+     */
+    private static final class BinaryEncoder implements Encoder {
+        @Override
+        public ByteBuf encode(Object in) {
+            return encodeBinary((SeatStatus) in);
+        }
+    }
+
+    /**
+     * Dual-Read 디코더: 매직 바이트가 있으면 바이너리, 아니면 JSON으로 해석
+     */
+    private static final class DualFormatDecoder implements Decoder<Object> {
+        private final Decoder<Object> jsonDecoder;
+
+        private DualFormatDecoder(Decoder<Object> jsonDecoder) {
+            this.jsonDecoder = jsonDecoder;
+        }
+
+        @Override
+        public Object decode(ByteBuf buf, State state) throws IOException {
+            if (isBinary(buf)) {
+                return decodeBinary(buf);
+            }
+            return jsonDecoder.decode(buf, state);
+        }
+    }
+}
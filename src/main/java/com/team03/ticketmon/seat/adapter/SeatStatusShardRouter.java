@@ -0,0 +1,183 @@
+package com.team03.ticketmon.seat.adapter;
+
+import com.team03.ticketmon._global.util.RedisKeyGenerator;
+import com.team03.ticketmon.seat.config.SeatProperties;
+import com.team03.ticketmon.seat.domain.SeatStatus;
+import lombok.RequiredArgsConstructor;
+import org.redisson.api.RFuture;
+import org.redisson.api.RMap;
+import org.redisson.api.RedissonClient;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 좌석 상태 Hash 샤드 라우터
+ * - seat.storage.status-shard-count > 1 이면 좌석 상태를 concertSeatId % 샤드 수 기준의 여러 Hash로 분산 저장
+ *   (대형 공연장의 단일 Big Key HGETALL / RENAME / DEL 지연과 핫스팟 방지)
+ * - 개별 좌석 접근은 해당 샤드로 라우팅, 전체 좌석 조회는 샤드별 비동기 요청을 동시에 보낸 뒤 병합
+ * - 샤드 수가 1이면 기존 단일 Hash(seat:status:{concertId})와 동일하게 동작
+ */
+@Component
+@RequiredArgsConstructor
+public class SeatStatusShardRouter {
+
+    private final RedissonClient redissonClient;
+    private final SeatStatusCodec seatStatusCodec;
+    private final SeatProperties seatProperties;
+
+    public int getShardCount() {
+        return Math.max(1, seatProperties.getStorage().getStatusShardCount());
+    }
+
+    public boolean isSharded() {
+        return getShardCount() > 1;
+    }
+
+    /**
+     * 좌석이 속한 좌석 상태 Hash 키
+     */
+    public String keyOf(Long concertId, Long concertSeatId) {
+        return RedisKeyGenerator.seatStatusKey(concertId, concertSeatId, getShardCount());
+    }
+
+    /**
+     * 콘서트의 전체 좌석 상태 Hash 키 목록
+     */
+    public List<String> keysOf(Long concertId) {
+        return RedisKeyGenerator.seatStatusKeys(concertId, getShardCount());
+    }
+
+    /**
+     * 좌석이 속한 좌석 상태 Hash
+     */
+    public RMap<String, SeatStatus> mapOf(Long concertId, Long concertSeatId) {
+        return redissonClient.getMap(keyOf(concertId, concertSeatId), seatStatusCodec);
+    }
+
+    /**
+     * 여러 좌석 상태 일괄 조회 (샤드별 HMGET 동시 실행 후 병합)
+     *
+     * @param fields 좌석 ID 문자열 목록
+     */
+    public Map<String, SeatStatus> getAll(Long concertId, Collection<String> fields) {
+        if (fields.isEmpty()) {
+            return new HashMap<>();
+        }
+        if (!isSharded()) {
+            return redissonClient.<String, SeatStatus>getMap(keysOf(concertId).get(0), seatStatusCodec)
+                    .getAll(new HashSet<>(fields));
+        }
+
+        Map<String, Set<String>> fieldsByKey = new LinkedHashMap<>();
+        for (String field : fields) {
+            fieldsByKey.computeIfAbsent(keyOf(concertId, Long.valueOf(field)), key -> new HashSet<>()).add(field);
+        }
+
+        List<RFuture<Map<String, SeatStatus>>> futures = new ArrayList<>(fieldsByKey.size());
+        for (Map.Entry<String, Set<String>> entry : fieldsByKey.entrySet()) {
+            futures.add(redissonClient.<String, SeatStatus>getMap(entry.getKey(), seatStatusCodec)
+                    .getAllAsync(entry.getValue()));
+        }
+
+        Map<String, SeatStatus> merged = new HashMap<>();
+        for (RFuture<Map<String, SeatStatus>> future : futures) {
+            merged.putAll(future.toCompletableFuture().join());
+        }
+        return merged;
+    }
+
+    /**
+     * 전체 좌석 상태 조회 (샤드별 HGETALL 동시 실행 후 병합)
+     */
+    public Map<String, SeatStatus> readAll(Long concertId) {
+        List<String> keys = keysOf(concertId);
+        if (keys.size() == 1) {
+            return redissonClient.<String, SeatStatus>getMap(keys.get(0), seatStatusCodec).readAllMap();
+        }
+
+        List<RFuture<Map<String, SeatStatus>>> futures = new ArrayList<>(keys.size());
+        for (String key : keys) {
+            futures.add(redissonClient.<String, SeatStatus>getMap(key, seatStatusCodec).readAllMapAsync());
+        }
+
+        Map<String, SeatStatus> merged = new HashMap<>();
+        for (RFuture<Map<String, SeatStatus>> future : futures) {
+            merged.putAll(future.toCompletableFuture().join());
+        }
+        return merged;
+    }
+
+    /**
+     * 전체 좌석 상태 값 조회 (샤드별 HVALS 동시 실행 후 병합)
+     */
+    public List<SeatStatus> readAllValues(Long concertId) {
+        List<String> keys = keysOf(concertId);
+        List<RFuture<Collection<SeatStatus>>> futures = new ArrayList<>(keys.size());
+        for (String key : keys) {
+            futures.add(redissonClient.<String, SeatStatus>getMap(key, seatStatusCodec).readAllValuesAsync());
+        }
+
+        List<SeatStatus> merged = new ArrayList<>();
+        for (RFuture<Collection<SeatStatus>> future : futures) {
+            merged.addAll(future.toCompletableFuture().join());
+        }
+        return merged;
+    }
+
+    /**
+     * 좌석 상태 캐시 존재 여부 (샤드 중 하나라도 존재하면 true)
+     */
+    public boolean exists(Long concertId) {
+        List<String> keys = keysOf(concertId);
+        if (keys.size() == 1) {
+            return redissonClient.getMap(keys.get(0)).isExists();
+        }
+        return redissonClient.getKeys().countExists(keys.toArray(new String[0])) > 0;
+    }
+
+    /**
+     * 전체 좌석 수 (샤드별 HLEN 합계)
+     */
+    public int size(Long concertId) {
+        List<String> keys = keysOf(concertId);
+        List<RFuture<Integer>> futures = new ArrayList<>(keys.size());
+        for (String key : keys) {
+            futures.add(redissonClient.getMap(key).sizeAsync());
+        }
+
+        int total = 0;
+        for (RFuture<Integer> future : futures) {
+            total += future.toCompletableFuture().join();
+        }
+        return total;
+    }
+
+    /**
+     * 좌석 상태 Hash 전체 삭제
+     *
+     * @return 삭제된 키 수
+     */
+    public long delete(Long concertId) {
+        return redissonClient.getKeys().delete(deletableKeysOf(concertId));
+    }
+
+    /**
+     * 삭제/교체 대상 좌석 상태 Hash 키 (샤드 모드로 전환하기 전의 단일 Hash가 남아 있을 수 있으므로 함께 포함)
+     */
+    public String[] deletableKeysOf(Long concertId) {
+        List<String> keys = new ArrayList<>(keysOf(concertId));
+        String legacyKey = RedisKeyGenerator.seatStatusKey(concertId);
+        if (!keys.contains(legacyKey)) {
+            keys.add(legacyKey);
+        }
+        return keys.toArray(new String[0]);
+    }
+}
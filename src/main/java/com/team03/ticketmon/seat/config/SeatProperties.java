@@ -41,6 +41,56 @@ public class SeatProperties {
      */
     private Cache cache = new Cache();
 
+    /**
+     * 좌석 변경 로그(버전 기반 델타) 설정
+     */
+    private ChangeLog changeLog = new ChangeLog();
+
+    /**
+     * SSE 좌석 스트림 설정
+     */
+    private Sse sse = new Sse();
+
+    /**
+     * 좌석 이벤트 배치 발행 설정
+     */
+    private EventBatch eventBatch = new EventBatch();
+
+    /**
+     * 좌석 상태 Redis 저장 포맷 설정
+     */
+    private Storage storage = new Storage();
+
+    /**
+     * 좌석 상태 JVM 로컬 Near-Cache 설정
+     */
+    private NearCache nearCache = new NearCache();
+
+    /**
+     * 임시 선점 만료 처리 설정
+     */
+    private Expiry expiry = new Expiry();
+
+    /**
+     * 좌석 배치도 스냅샷 설정
+     */
+    private Layout layout = new Layout();
+
+    /**
+     * 좌석 가용성 카운터 설정
+     */
+    private Counters counters = new Counters();
+
+    /**
+     * 좌석 자동 배정(Best-Available) 설정
+     */
+    private Allocation allocation = new Allocation();
+
+    /**
+     * 좌석 선점 Write-Behind 저널(DB) 설정
+     */
+    private Journal journal = new Journal();
+
     @Getter
     @Setter
     public static class Reservation {
@@ -58,6 +108,21 @@ public class SeatProperties {
          * 마지막 업데이트 시간 캐시 TTL (시간)
          */
         private long lastUpdateTtlHours = 1;
+
+        /**
+         * 좌석 선점 처리 방식
+         * - LUA_SCRIPT: 검증/저장/TTL/이벤트 발행을 단일 Lua 스크립트로 1회 왕복 처리 (기본값)
+         * - DISTRIBUTED_LOCK: 기존 RLock 기반 처리 (비교/롤백용)
+         */
+        private ReservationEngine engine = ReservationEngine.LUA_SCRIPT;
+    }
+
+    /**
+     * 좌석 선점 처리 엔진 종류
+     */
+    public enum ReservationEngine {
+        LUA_SCRIPT,
+        DISTRIBUTED_LOCK
     }
 
     @Getter
@@ -114,5 +179,235 @@ public class SeatProperties {
          * 캐시 워밍업 시작 시간 (분 전)
          */
         private long warmupMinutesBefore = 10;
+
+        /**
+         * Cache Miss 시 다른 요청/서버의 캐시 재구성 완료 대기 최대 시간 (ms)
+         */
+        private long initWaitMs = 5000;
+
+        /**
+         * 재구성용 임시 Hash TTL (초, 재구성 중단 시 자동 삭제)
+         */
+        private long buildKeyTtlSeconds = 300;
+
+        /**
+         * DB → Redis 캐시 적재 청크 크기 (키셋 페이지 1회 조회 / 파이프라인 1회 기록 좌석 수)
+         */
+        private int warmupChunkSize = 1000;
+
+        /**
+         * Warm-up 동시 실행 콘서트 수
+         */
+        private int warmupParallelism = 4;
+
+        /**
+         * JVM에 보관할 좌석 순번 인덱스 최대 콘서트 수 (초과 시 가장 오래 조회되지 않은 콘서트부터 제거)
+         */
+        private int maxOrdinalIndexes = 256;
+    }
+
+    @Getter
+    @Setter
+    public static class ChangeLog {
+        /**
+         * 콘서트별 변경 로그 Stream 최대 길이 (근사 트리밍)
+         */
+        private long maxLength = 10000;
+
+        /**
+         * 델타 응답 최대 변경 건수 (초과 시 전체 스냅샷 응답)
+         */
+        private int maxDeltaSize = 1000;
+    }
+
+    @Getter
+    @Setter
+    public static class Sse {
+        /**
+         * 콘서트당 최대 SSE 구독자 수 (초과 시 Long Polling으로 대체)
+         */
+        private int maxSubscribersPerConcert = 5000;
+
+        /**
+         * SSE 연결 유지 시간 (ms, 만료 시 클라이언트가 Last-Event-ID로 재연결)
+         */
+        private long emitterTimeoutMs = 600000;
+
+        /**
+         * 구독자별 전송 대기 이벤트 최대 수 (초과 시 느린 구독자로 판단하여 연결 종료)
+         */
+        private int sendQueueCapacity = 64;
+
+        /**
+         * SSE 전송 스레드 수
+         */
+        private int writerThreads = 4;
+
+        /**
+         * 하트비트 전송 주기 (ms)
+         */
+        private long heartbeatIntervalMs = 15000;
+    }
+
+    @Getter
+    @Setter
+    public static class EventBatch {
+        /**
+         * 배치 발행 사용 여부 (false면 변경마다 즉시 단건 발행)
+         */
+        private boolean enabled = false;
+
+        /**
+         * 배치 최대 좌석 수 (도달 시 즉시 발행)
+         */
+        private int maxBatchSize = 200;
+
+        /**
+         * 배치 버퍼링 최대 시간 (ms)
+         */
+        private long flushIntervalMs = 20;
+    }
+
+    @Getter
+    @Setter
+    public static class Storage {
+        /**
+         * 좌석 상태 Hash 값 쓰기 포맷 (읽기는 항상 JSON/BINARY 모두 지원)
+         */
+        private SeatStatusFormat seatStatusFormat = SeatStatusFormat.JSON;
+
+        /**
+         * 좌석 상태 Hash 샤드 수 (1이면 콘서트당 단일 Hash, 그 외에는 concertSeatId % 샤드 수로 분산)
+         * ⚠️ 변경 시 기존 콘서트 캐시를 재구성해야 함 (모든 서버가 같은 값을 사용해야 함)
+         */
+        private int statusShardCount = 1;
+    }
+
+    @Getter
+    @Setter
+    public static class NearCache {
+        /**
+         * Near-Cache 사용 여부 (읽기 전용 조회에만 적용, 쓰기 경로는 항상 Redis 원본 사용)
+         */
+        private boolean enabled = false;
+
+        /**
+         * 캐시 항목 최대 허용 지연 (ms, 초과 시 Redis 재조회 - Pub/Sub 유실 대비 상한)
+         */
+        private long maxStalenessMs = 1000;
+
+        /**
+         * JVM 전체 최대 캐시 항목 수 (초과 시 가장 오래 사용하지 않은 항목부터 제거)
+         */
+        private int maxEntries = 200000;
+    }
+
+    @Getter
+    @Setter
+    public static class Expiry {
+        /**
+         * 만료 큐 확인 주기 (ms)
+         */
+        private long pollIntervalMs = 1000;
+
+        /**
+         * 스크립트 1회당 해제 후보 최대 좌석 수
+         */
+        private int batchSize = 500;
+
+        /**
+         * 워커 1회 실행에서 콘서트당 최대 배치 수 (대량 만료 시 다음 실행으로 이월)
+         */
+        private int maxBatchesPerRun = 20;
+
+        /**
+         * 기존 Keyspace Notification(__keyevent@*__:expired) 리스너 사용 여부
+         * - 만료 큐 도입 이전 선점이 남아있는 전환 기간에만 사용 (notify-keyspace-events 'Ex' 필요)
+         */
+        private boolean keyspaceListenerEnabled = false;
+    }
+
+    @Getter
+    @Setter
+    public static class Layout {
+        /**
+         * 배치도 스냅샷 재구성 주기 (분, 공개 전 좌석 변경 반영용)
+         */
+        private long snapshotTtlMinutes = 30;
+    }
+
+    @Getter
+    @Setter
+    public static class Counters {
+        /**
+         * 카운터 정합성 검사 주기 (ms, 패킹 상태 전체 재집계와 비교)
+         */
+        private long driftCheckIntervalMs = 600000;
+
+        /**
+         * 불일치 발견 시 재집계 값으로 자동 교체 여부 (false면 로그/지표만 기록)
+         */
+        private boolean driftAutoRepair = false;
+    }
+
+    @Getter
+    @Setter
+    public static class Allocation {
+        /**
+         * 열 가중치 (앞 열에서 한 열 멀어질 때마다 더해지는 점수, 낮을수록 좋은 좌석)
+         */
+        private double rowWeight = 1.0;
+
+        /**
+         * 중앙 가중치 (블록 중앙이 열 중앙에서 좌석 하나만큼 벗어날 때마다 더해지는 점수)
+         */
+        private double centerWeight = 0.5;
+
+        /**
+         * 무작위 선택 대상 상위 후보 블록 수 (동시 요청이 같은 좌석에 몰리지 않도록 분산)
+         */
+        private int candidatePoolSize = 8;
+
+        /**
+         * 선점 충돌 시 최대 시도 횟수
+         */
+        private int maxAttempts = 3;
+    }
+
+    @Getter
+    @Setter
+    public static class Journal {
+        /**
+         * 저널 기록 사용 여부 (false면 DB 기록/캐시 재구성 시 선점 복원 모두 하지 않음)
+         */
+        private boolean enabled = true;
+
+        /**
+         * 변경 로그 → DB 반영 주기 (ms, 이 시간 이내의 선점은 Redis 장애 시 유실될 수 있음)
+         */
+        private long flushIntervalMs = 2000;
+
+        /**
+         * DB 일괄 INSERT 단위 (변경 로그 조회 단위)
+         */
+        private int batchSize = 500;
+
+        /**
+         * 콘서트당 1회 반영 최대 항목 수 (나머지는 다음 주기에 이어서 반영)
+         */
+        private int maxEntriesPerFlush = 5000;
+
+        /**
+         * 저널 압축 주기 (ms, 좌석별 최신 선점 행만 남기고 삭제)
+         */
+        private long compactionIntervalMs = 600000;
+    }
+
+    /**
+     * 좌석 상태 값 저장 포맷
+     */
+    public enum SeatStatusFormat {
+        JSON,   // 기존 JsonJacksonCodec
+        BINARY  // 고정 길이 바이너리 (SeatStatusCodec)
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,24 @@
+package com.team03.ticketmon.seat.config;
+
+import com.team03.ticketmon.seat.adapter.SeatStatusCodec;
+import com.team03.ticketmon.seat.config.SeatProperties.SeatStatusFormat;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RedissonClient;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 좌석 Redis 구조별 Codec 설정
+ * - 좌석 상태 Hash는 전역 JsonJacksonCodec 대신 SeatStatusCodec을 사용 (seat.storage.seat-status-format)
+ */
+@Slf4j
+@Configuration
+public class SeatRedisCodecConfig {
+
+    @Bean
+    public SeatStatusCodec seatStatusCodec(RedissonClient redissonClient, SeatProperties seatProperties) {
+        SeatStatusFormat format = seatProperties.getStorage().getSeatStatusFormat();
+        log.info("좌석 상태 Codec 설정: writeFormat={}", format);
+        return new SeatStatusCodec(redissonClient.getConfig().getCodec(), format == SeatStatusFormat.BINARY);
+    }
+}
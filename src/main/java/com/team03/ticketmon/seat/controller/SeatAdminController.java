@@ -4,7 +4,14 @@ import com.team03.ticketmon._global.exception.SuccessResponse;
 import com.team03.ticketmon.concert.domain.Concert;
 import com.team03.ticketmon.concert.repository.ConcertRepository;
 import com.team03.ticketmon.seat.scheduler.SeatCacheWarmupScheduler;
+import com.team03.ticketmon.seat.service.SeatAutoAssignService;
 import com.team03.ticketmon.seat.service.SeatCacheInitService;
+import com.team03.ticketmon.seat.service.SeatCacheWarmupService;
+import com.team03.ticketmon.seat.service.SeatCounterService;
+import com.team03.ticketmon.seat.service.SeatHoldExpiryService;
+import com.team03.ticketmon.seat.service.SeatJournalService;
+import com.team03.ticketmon.seat.service.SeatLayoutService;
+import com.team03.ticketmon.seat.service.SeatNearCache;
 import com.team03.ticketmon.seat.service.SeatStatusService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -24,6 +31,8 @@ import java.util.*;
  * - 좌석 캐시 초기화/삭제
  * - 만료된 선점 좌석 정리
  * - 캐시 상태 모니터링
+ * - 좌석 Near-Cache 통계 조회
+ * - 선점 만료 큐 처리 통계 조회
  * 🔒 보안: 모든 API는 ADMIN 권한 필요 (테스트 진행이므로 주석 처리)
  */
 @Tag(name = "좌석 관리자", description = "관리자 전용 좌석 캐시 관리 API")
@@ -36,8 +45,15 @@ public class SeatAdminController {
     private final SeatCacheInitService seatCacheInitService;
     private final SeatStatusService seatStatusService;
     private final SeatCacheWarmupScheduler seatCacheWarmupScheduler;
+    private final SeatCacheWarmupService seatCacheWarmupService;
     private final RedissonClient redissonClient;
     private final ConcertRepository concertRepository;
+    private final SeatNearCache seatNearCache;
+    private final SeatHoldExpiryService seatHoldExpiryService;
+    private final SeatLayoutService seatLayoutService;
+    private final SeatCounterService seatCounterService;
+    private final SeatAutoAssignService seatAutoAssignService;
+    private final SeatJournalService seatJournalService;
 
     /**
      * ✨ DB 기반 좌석 캐시 초기화 - 새로 추가된 API
@@ -52,8 +68,9 @@ public class SeatAdminController {
             @PathVariable Long concertId) {
 
         try {
-            // DB 기반 캐시 초기화 실행
+            // DB 기반 캐시 초기화 실행 (좌석 구성 변경 반영을 위해 배치도 스냅샷도 재구성 대상으로 표시)
             seatCacheInitService.initializeSeatCacheFromDB(concertId);
+            seatLayoutService.evictLayoutSnapshot(concertId);
 
             log.info("DB 기반 좌석 캐시 초기화 완료: concertId={}", concertId);
             return ResponseEntity.ok(SuccessResponse.of("DB 기반 좌석 캐시 초기화 성공", "SUCCESS"));
@@ -85,6 +102,21 @@ public class SeatAdminController {
         }
     }
 
+    /**
+     * 좌석 배치도 스냅샷 삭제 (다음 조회 시 DB 기반 재구성)
+     */
+    @Operation(summary = "좌석 배치도 스냅샷 삭제",
+            description = "좌석 구성(구역/가격 등)을 변경한 경우 배치도 스냅샷을 삭제합니다. 다른 서버에는 Redis Pub/Sub으로 전파됩니다")
+    @PreAuthorize("hasRole('ADMIN')")
+    @DeleteMapping("/concerts/{concertId}/layout/snapshot")
+    public ResponseEntity<SuccessResponse<String>> evictLayoutSnapshot(
+            @Parameter(description = "콘서트 ID", example = "1")
+            @PathVariable Long concertId) {
+
+        seatLayoutService.evictLayoutSnapshot(concertId);
+        return ResponseEntity.ok(SuccessResponse.of("좌석 배치도 스냅샷 삭제 성공", "SUCCESS"));
+    }
+
     /**
      * 좌석 캐시 삭제 - 기존 API
      */
@@ -160,6 +192,16 @@ public class SeatAdminController {
         }
     }
 
+    /**
+     * 콘서트별 캐시 Warm-up 진행 상황 조회 (현재 서버 기준)
+     */
+    @Operation(summary = "캐시 Warm-up 진행 상황 조회",
+            description = "콘서트별 적재 좌석 수/진행률과 DB 조회·Redis 기록 소요 시간을 조회합니다. 완료 정보는 24시간 보관됩니다.")
+    @GetMapping("/cache/warmup/progress")
+    public ResponseEntity<SuccessResponse<List<SeatCacheWarmupService.WarmupStatus>>> getWarmupProgress() {
+        return ResponseEntity.ok(SuccessResponse.of("캐시 Warm-up 진행 상황 조회 성공", seatCacheWarmupService.getProgress()));
+    }
+
     /**
      * ✅ 수정된 예매 시작이 임박한 콘서트 목록 조회
      * 스케줄러 상태 확인용
@@ -253,4 +295,79 @@ public class SeatAdminController {
                     .body(SuccessResponse.of("Warm-up 처리 이력 조회 중 오류가 발생했습니다.", null));
         }
     }
+
+    /**
+     * 좌석 캐시 Cache Miss 재구성 통계 조회 (DB 조회 / 요청 합류 / 대기 시간 초과)
+     */
+    @Operation(summary = "좌석 캐시 재구성 통계 조회",
+            description = "Cache Miss 시 Single-Flight 재구성의 DB 조회 횟수와 대기 합류 통계를 조회합니다. (현재 서버 기준)")
+    @GetMapping("/cache/init/stats")
+    public ResponseEntity<SuccessResponse<Map<String, Object>>> getCacheInitStats() {
+        return ResponseEntity.ok(SuccessResponse.of("좌석 캐시 재구성 통계 조회 성공", seatCacheInitService.getCacheInitStats()));
+    }
+
+    /**
+     * 좌석 Near-Cache 통계 조회 (적중/미스/허용 지연 초과/무효화)
+     */
+    @Operation(summary = "좌석 Near-Cache 통계 조회",
+            description = "읽기 전용 좌석 조회에 사용되는 JVM Near-Cache의 적중률과 무효화 통계를 조회합니다. (현재 서버 기준)")
+    @GetMapping("/near-cache/stats")
+    public ResponseEntity<SuccessResponse<Map<String, Object>>> getNearCacheStats() {
+        return ResponseEntity.ok(SuccessResponse.of("좌석 Near-Cache 통계 조회 성공", seatNearCache.getStats()));
+    }
+
+    /**
+     * 선점 만료 큐 처리 통계 조회
+     */
+    @Operation(summary = "선점 만료 처리 통계 조회",
+            description = "선점 만료 큐(seat:expiry:*) 기반 만료 워커의 해제 건수와 지연 통계를 조회합니다. (현재 서버 기준)")
+    @GetMapping("/holds/expiry/stats")
+    public ResponseEntity<SuccessResponse<Map<String, Object>>> getHoldExpiryStats() {
+        return ResponseEntity.ok(SuccessResponse.of("선점 만료 처리 통계 조회 성공", seatHoldExpiryService.getStats()));
+    }
+
+    /**
+     * 좌석 가용성 카운터 정합성 검사 (필요 시 재집계 값으로 교체)
+     */
+    @Operation(summary = "좌석 가용성 카운터 정합성 검사",
+            description = "패킹 상태를 재집계하여 가용성 카운터(seat:counts:*)와 비교합니다. repair=true면 불일치 시 재집계 값으로 교체합니다.")
+    @PostMapping("/concerts/{concertId}/counters/drift-check")
+    public ResponseEntity<SuccessResponse<SeatCounterService.DriftReport>> checkCounterDrift(
+            @Parameter(description = "콘서트 ID", example = "1")
+            @PathVariable Long concertId,
+            @Parameter(description = "불일치 시 교체 여부", example = "false")
+            @RequestParam(defaultValue = "false") boolean repair) {
+        return ResponseEntity.ok(SuccessResponse.of("좌석 가용성 카운터 정합성 검사 완료",
+                seatCounterService.checkDrift(concertId, repair)));
+    }
+
+    /**
+     * 좌석 가용성 카운터 통계 조회
+     */
+    @Operation(summary = "좌석 가용성 카운터 통계 조회",
+            description = "가용성 카운터 누락/정합성 검사/복구 건수를 조회합니다. (현재 서버 기준)")
+    @GetMapping("/counters/stats")
+    public ResponseEntity<SuccessResponse<Map<String, Object>>> getCounterStats() {
+        return ResponseEntity.ok(SuccessResponse.of("좌석 가용성 카운터 통계 조회 성공", seatCounterService.getCounterStats()));
+    }
+
+    /**
+     * 좌석 자동 배정 통계 조회
+     */
+    @Operation(summary = "좌석 자동 배정 통계 조회",
+            description = "Best-Available 자동 배정의 성공/충돌 재시도/연석 없음 건수를 조회합니다. (현재 서버 기준)")
+    @GetMapping("/allocation/stats")
+    public ResponseEntity<SuccessResponse<Map<String, Object>>> getAllocationStats() {
+        return ResponseEntity.ok(SuccessResponse.of("좌석 자동 배정 통계 조회 성공", seatAutoAssignService.getStats()));
+    }
+
+    /**
+     * 좌석 선점 저널 통계 조회
+     */
+    @Operation(summary = "좌석 선점 저널 통계 조회",
+            description = "Write-Behind 선점 저널의 반영 항목/일괄 INSERT/스냅샷/압축 건수를 조회합니다. (현재 서버 기준)")
+    @GetMapping("/journal/stats")
+    public ResponseEntity<SuccessResponse<Map<String, Object>>> getJournalStats() {
+        return ResponseEntity.ok(SuccessResponse.of("좌석 선점 저널 통계 조회 성공", seatJournalService.getJournalStats()));
+    }
 }
\ No newline at end of file
@@ -1,6 +1,8 @@
 package com.team03.ticketmon.seat.controller;
 
+import com.team03.ticketmon._global.exception.BusinessException;
 import com.team03.ticketmon._global.exception.SuccessResponse;
+import com.team03.ticketmon.seat.domain.SeatLayoutSnapshot;
 import com.team03.ticketmon.seat.dto.SeatLayoutResponseDTO;
 import com.team03.ticketmon.seat.dto.SectionLayoutResponseDTO;
 import com.team03.ticketmon.seat.service.SeatLayoutService;
@@ -13,6 +15,10 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -165,6 +171,54 @@ public class SeatLayoutController {
         }
     }
 
+    /**
+     * 정적 좌석 배치도 조회 (가용성 제외, ETag 재검증)
+     * 콘서트당 1회 직렬화된 응답을 그대로 전송하며, 클라이언트는 가용성 API 결과를 덧씌워 사용
+     */
+    @Operation(
+            summary = "정적 좌석 배치도 조회 (ETag)",
+            description = """
+            공개 후 바뀌지 않는 좌석 배치도(공연장, 구역, 좌석 위치, 등급, 가격)를 조회합니다.
+            
+            **캐싱:**
+            - 응답의 ETag를 If-None-Match 헤더로 보내면 변경이 없을 때 304(본문 없음)를 반환합니다
+            - 예매 가능 여부는 포함하지 않으며, /api/seats/concerts/{concertId}/availability 의 패킹 상태를
+              concertSeatId 기준으로 덧씌워 표시합니다
+            """
+    )
+    @GetMapping("/{concertId}/seat-layout/static")
+    public ResponseEntity<?> getStaticSeatLayout(
+            @Parameter(description = "콘서트 ID", example = "1")
+            @PathVariable Long concertId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+
+        try {
+            SeatLayoutSnapshot snapshot = seatLayoutService.getLayoutSnapshot(concertId);
+
+            if (snapshot.matchesETag(ifNoneMatch)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                        .eTag(snapshot.getETag())
+                        .cacheControl(CacheControl.noCache())
+                        .build();
+            }
+
+            return ResponseEntity.ok()
+                    .eTag(snapshot.getETag())
+                    .cacheControl(CacheControl.noCache())
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(snapshot.getBody());
+
+        } catch (BusinessException e) {
+            log.warn("정적 좌석 배치도 조회 실패: concertId={}, error={}", concertId, e.getMessage());
+            return ResponseEntity.status(e.getErrorCode().getStatus())
+                    .body(SuccessResponse.of(e.getMessage(), null));
+        } catch (Exception e) {
+            log.error("정적 좌석 배치도 조회 중 오류: concertId={}", concertId, e);
+            return ResponseEntity.status(500)
+                    .body(SuccessResponse.of("좌석 배치도 조회 중 오류가 발생했습니다", null));
+        }
+    }
+
     /**
      * 특정 구역의 좌석 배치 조회
      * 구역별 상세 정보가 필요한 경우 사용
@@ -306,8 +360,7 @@ public class SeatLayoutController {
         try {
             log.info("좌석 배치도 요약 조회 요청: concertId={}", concertId);
 
-            SeatLayoutResponseDTO fullLayout = seatLayoutService.getSeatLayout(concertId);
-            SeatLayoutResponseDTO.SeatStatistics summary = fullLayout.statistics();
+            SeatLayoutResponseDTO.SeatStatistics summary = seatLayoutService.getSeatLayoutSummary(concertId);
 
             log.info("좌석 배치도 요약 조회 성공: concertId={}, 예매가능률={}%",
                     concertId, summary.availabilityRate());
@@ -3,7 +3,10 @@ package com.team03.ticketmon.seat.controller;
 import com.team03.ticketmon._global.exception.SuccessResponse;
 import com.team03.ticketmon.auth.jwt.CustomUserDetails;
 import com.team03.ticketmon.seat.config.SeatProperties;
+import com.team03.ticketmon.seat.dto.SeatChangesResponseDTO;
+import com.team03.ticketmon.seat.service.SeatChangeLogService;
 import com.team03.ticketmon.seat.service.SeatPollingSessionManager;
+import com.team03.ticketmon.seat.service.SeatSseBroadcaster;
 import com.team03.ticketmon.seat.service.SeatStatusService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -11,10 +14,13 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
@@ -23,6 +29,7 @@ import java.util.Map;
 
 /**
  * 좌석 상태 실시간 폴링 컨트롤러 (개선된 버전)
+ * - SSE 스트림으로 좌석 상태 변경사항을 실시간 전달 (Long Polling은 대체 경로로 유지)
  * - Long Polling 방식으로 좌석 상태 변경사항을 실시간으로 클라이언트에 전달
  * - DeferredResult를 활용한 비동기 응답 처리
  * - 성능 최적화 및 오류 처리 강화
@@ -37,6 +44,8 @@ public class SeatPollingController {
     private final SeatPollingSessionManager sessionManager;
     private final SeatStatusService seatStatusService;
     private final SeatProperties seatProperties;
+    private final SeatChangeLogService seatChangeLogService;
+    private final SeatSseBroadcaster sseBroadcaster;
 
     /**
      * 좌석 상태 실시간 폴링 API (개선된 버전)
@@ -45,6 +54,7 @@ public class SeatPollingController {
      *
      * @param concertId 콘서트 ID
      * @param lastUpdateTime 클라이언트가 마지막으로 받은 업데이트 시간 (선택적)
+     * @param sinceVersion 클라이언트가 마지막으로 반영한 좌석 버전 (선택적, lastUpdateTime보다 우선)
      * @param timeout 폴링 타임아웃 (ms, 기본 30초)
      * @param request HTTP 요청 (User-Agent 등 추출용)
      * @return DeferredResult로 비동기 응답
@@ -60,6 +70,9 @@ public class SeatPollingController {
             @Parameter(description = "마지막 업데이트 시간 (ISO 형식)", example = "2025-06-27T10:30:00")
             @RequestParam(required = false) String lastUpdateTime,
 
+            @Parameter(description = "마지막으로 반영한 좌석 버전 (응답의 currentVersion)", example = "1024")
+            @RequestParam(required = false) Long sinceVersion,
+
             @Parameter(description = "폴링 타임아웃 (밀리초)", example = "30000")
             @RequestParam(defaultValue = "30000") long timeout,
 
@@ -108,7 +121,7 @@ public class SeatPollingController {
 
             // ✅ 개선: 최근 업데이트 시간 파싱 및 즉시 응답 여부 확인
             LocalDateTime lastUpdate = parseLastUpdateTime(lastUpdateTime);
-            if (lastUpdate != null && hasRecentUpdates(concertId, lastUpdate)) {
+            if (sinceVersion == null && lastUpdate != null && hasRecentUpdates(concertId, lastUpdate)) {
                 // 최근 변경사항이 있으면 즉시 현재 상태 응답
                 Map<String, Object> immediateResponse = getCurrentSeatStatusResponse(concertId);
                 deferredResult.setResult(ResponseEntity.ok(SuccessResponse.of("즉시 응답", immediateResponse)));
@@ -167,6 +180,27 @@ public class SeatPollingController {
                         concertId, sessionId, user.getUserId());
             });
 
+            // ✅ 버전 기반 확인은 세션 등록 이후에 수행
+            // - 확인과 등록 사이에 발생한 변경도 버전 비교로 잡히므로 누락 구간이 없음
+            if (sinceVersion != null) {
+                SeatChangesResponseDTO changes = seatChangeLogService.getChangesSince(concertId, sinceVersion, user.getUserId());
+                if (changes.hasChanges()) {
+                    Map<String, Object> deltaResponse = Map.of(
+                            "hasUpdate", true,
+                            "eventType", "SEAT_STATUS_DELTA",
+                            "currentVersion", changes.currentVersion(),
+                            "changes", changes,
+                            "serverTime", LocalDateTime.now()
+                    );
+                    // 이미 이벤트 알림으로 응답이 완료된 경우 setResult는 무시됨
+                    deferredResult.setResult(ResponseEntity.ok(SuccessResponse.of("즉시 응답", deltaResponse)));
+
+                    log.debug("버전 기반 즉시 응답: concertId={}, userId={}, sinceVersion={}, currentVersion={}",
+                            concertId, user.getUserId(), sinceVersion, changes.currentVersion());
+                    return deferredResult;
+                }
+            }
+
             log.debug("폴링 세션 시작: concertId={}, sessionId={}, userId={}, timeout={}ms, clientIp={}",
                     concertId, sessionId, user.getUserId(), finalTimeout, clientIp);
 
@@ -186,6 +220,80 @@ public class SeatPollingController {
         return deferredResult;
     }
 
+    /**
+     * 좌석 상태 SSE 스트림 API
+     * - 하나의 연결로 좌석 변경 이벤트(seat-update)를 계속 수신 (이벤트마다 재연결하지 않음)
+     * - 연결 직후 init 이벤트(현재 버전)를, Last-Event-ID로 재연결하면 delta 이벤트(누락된 변경분)를 먼저 전송
+     * - 구독자 수 초과 시 503 응답 → 클라이언트는 /polling 으로 대체
+     *
+     * @param concertId   콘서트 ID
+     * @param lastEventId 재연결 시 브라우저가 보내는 마지막 이벤트 ID (= 좌석 버전)
+     */
+    @Operation(summary = "좌석 상태 SSE 스트림",
+            description = "좌석 상태 변경을 Server-Sent Events로 수신 (과부하 시 503, Long Polling으로 대체)")
+    @GetMapping(value = "/concerts/{concertId}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamSeatUpdates(
+            @Parameter(description = "콘서트 ID", example = "1")
+            @PathVariable Long concertId,
+
+            @Parameter(description = "마지막으로 받은 이벤트 ID (좌석 버전)", example = "1024")
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId,
+
+            @AuthenticationPrincipal CustomUserDetails user) {
+
+        if (concertId == null || concertId <= 0) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        Long sinceVersion = parseVersion(lastEventId);
+        SseEmitter emitter = sseBroadcaster.subscribe(concertId, user.getUserId(), () -> {
+            if (sinceVersion != null) {
+                SeatChangesResponseDTO changes = seatChangeLogService.getChangesSince(concertId, sinceVersion, user.getUserId());
+                return SseEmitter.event()
+                        .id(String.valueOf(changes.currentVersion()))
+                        .name("delta")
+                        .data(changes, MediaType.APPLICATION_JSON);
+            }
+            long currentVersion = seatChangeLogService.getCurrentVersion(concertId);
+            return SseEmitter.event()
+                    .id(String.valueOf(currentVersion))
+                    .name("init")
+                    .data(Map.of("concertId", concertId, "currentVersion", currentVersion), MediaType.APPLICATION_JSON);
+        });
+
+        if (emitter == null) {
+            return ResponseEntity.status(503)
+                    .header(HttpHeaders.RETRY_AFTER, "5")
+                    .build();
+        }
+
+        log.debug("SSE 스트림 시작: concertId={}, userId={}, lastEventId={}", concertId, user.getUserId(), lastEventId);
+        return ResponseEntity.ok()
+                .header("X-Accel-Buffering", "no") // 프록시 버퍼링 비활성화
+                .body(emitter);
+    }
+
+    /**
+     * 버전 기반 좌석 변경분 조회 API
+     * - sinceVersion 이후 변경 로그를 그대로 반환하고, 로그가 잘려 연속성을 보장할 수 없으면 전체 스냅샷 반환
+     * - 폴링 응답을 받은 뒤 다음 폴링 전까지의 변경분을 빠짐없이 복구할 때 사용
+     */
+    @Operation(summary = "버전 기반 좌석 변경분 조회",
+            description = "sinceVersion 이후의 좌석 변경 로그 조회 (오래된 버전이면 전체 스냅샷)")
+    @GetMapping("/concerts/{concertId}/changes")
+    public ResponseEntity<SuccessResponse<SeatChangesResponseDTO>> getSeatChanges(
+            @Parameter(description = "콘서트 ID", example = "1")
+            @PathVariable Long concertId,
+
+            @Parameter(description = "마지막으로 반영한 좌석 버전 (0이면 전체 스냅샷)", example = "1024")
+            @RequestParam(defaultValue = "0") long sinceVersion,
+
+            @AuthenticationPrincipal CustomUserDetails user) {
+
+        SeatChangesResponseDTO changes = seatChangeLogService.getChangesSince(concertId, sinceVersion, user.getUserId());
+        return ResponseEntity.ok(SuccessResponse.of("좌석 변경분 조회 성공", changes));
+    }
+
     /**
      * 폴링 시스템 상태 조회 (디버깅/모니터링용) - 개선된 버전
      */
@@ -199,6 +307,7 @@ public class SeatPollingController {
             Map<String, Object> status = Map.of(
                     "concertId", concertId,
                     "activeSessionCount", sessionManager.getSessionCount(concertId),
+                    "sseSubscriberCount", sseBroadcaster.getSubscriberCount(concertId),
                     "totalActiveSessionCount", sessionManager.getTotalSessionCount(),
                     "activeConcertCount", sessionManager.getActiveConcertCount(),
                     "maxSessionsPerConcert", seatProperties.getSession().getMaxSessionsPerConcert(),
@@ -231,6 +340,7 @@ public class SeatPollingController {
                     "totalActiveSessions", sessionManager.getTotalSessionCount(),
                     "activeConcerts", sessionManager.getActiveConcertCount(),
                     "systemStatus", sessionManager.getSystemStatus(),
+                    "sseStats", sseBroadcaster.getStats(),
                     "serverInfo", Map.of(
                             "serverTime", LocalDateTime.now(),
                             "maxSessionsPerConcert", seatProperties.getSession().getMaxSessionsPerConcert(),
@@ -264,6 +374,21 @@ public class SeatPollingController {
         }
     }
 
+    /**
+     * 좌석 버전 파싱 (Last-Event-ID 등)
+     */
+    private Long parseVersion(String version) {
+        if (version == null || version.isBlank()) {
+            return null;
+        }
+        try {
+            return Long.parseLong(version.trim());
+        } catch (NumberFormatException e) {
+            log.warn("잘못된 좌석 버전 형식: {}", version);
+            return null;
+        }
+    }
+
     /**
      * 최근 업데이트 여부 확인 (Redis 기반 구현)
      */
@@ -2,8 +2,13 @@ package com.team03.ticketmon.seat.controller;
 
 import com.team03.ticketmon._global.exception.SuccessResponse;
 import com.team03.ticketmon.auth.jwt.CustomUserDetails;
+import com.team03.ticketmon.seat.domain.SeatStateSnapshot;
 import com.team03.ticketmon.seat.domain.SeatStatus;
+import com.team03.ticketmon.seat.dto.SeatAvailabilityResponseDTO;
+import com.team03.ticketmon.seat.dto.SeatOrdinalIndexResponseDTO;
 import com.team03.ticketmon.seat.dto.SeatStatusResponseDTO;
+import com.team03.ticketmon.seat.dto.SeatStatusSnapshotResponseDTO;
+import com.team03.ticketmon.seat.service.SeatStateService;
 import com.team03.ticketmon.seat.service.SeatStatusService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -15,13 +20,13 @@ import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
 /**
  * 좌석 상태 조회 컨트롤러 (읽기 전용)
- * - 콘서트 전체 좌석 상태 조회
+ * - 콘서트 전체 좌석 상태 조회 (패킹 상태 기반)
+ * - 콘서트 좌석 가용성 조회 (좌석당 2비트)
  * - 개별 좌석 상태 조회
  * - 사용자 선점 좌석 조회
  */
@@ -33,26 +38,30 @@ import java.util.stream.Collectors;
 public class SeatQueryController {
 
     private final SeatStatusService seatStatusService;
+    private final SeatStateService seatStateService;
 
-    @Operation(summary = "콘서트 전체 좌석 상태 조회", description = "특정 콘서트의 모든 좌석 상태를 조회합니다")
+    @Operation(summary = "콘서트 전체 좌석 상태 조회",
+            description = "특정 콘서트의 모든 좌석 상태를 패킹 상태(좌석당 2비트)로 조회합니다. 선점 좌석만 상세 정보를 포함하며, "
+                    + "순번 인덱스는 layoutGeneration이 다를 때만 포함합니다")
     @GetMapping("/concerts/{concertId}/status")
-    public ResponseEntity<SuccessResponse<List<SeatStatusResponseDTO>>> getAllSeatStatus(
+    public ResponseEntity<SuccessResponse<SeatStatusSnapshotResponseDTO>> getAllSeatStatus(
             @Parameter(description = "콘서트 ID", example = "1")
             @PathVariable Long concertId,
+            @Parameter(description = "보관 중인 좌석 순번 인덱스 세대 번호 (같으면 인덱스 생략)", example = "1719300000000")
+            @RequestParam(required = false) Long layoutGeneration,
             @AuthenticationPrincipal CustomUserDetails user) {
 
         Long userId = (user != null) ? user.getUserId() : null;
 
 
         try {
-            Map<Long, SeatStatus> seatStatusMap = seatStatusService.getAllSeatStatus(concertId);
+            // ✅ 패킹 상태 기반 조회 (선점 좌석만 상세 조회)
+            SeatStatusSnapshotResponseDTO response =
+                    seatStateService.getSeatStatusSnapshot(concertId, userId, layoutGeneration);
 
-            List<SeatStatusResponseDTO> responses = seatStatusMap.values().stream()
-                    .map(seat -> SeatStatusResponseDTO.from(seat, userId))
-                    .collect(Collectors.toList());
-
-            log.info("전체 좌석 상태 조회 성공: concertId={}, seatCount={}", concertId, responses.size());
-            return ResponseEntity.ok(SuccessResponse.of("좌석 상태 조회 성공", responses));
+            log.info("전체 좌석 상태 조회 성공: concertId={}, seatCount={}, heldSeats={}",
+                    concertId, response.totalSeats(), response.heldSeats().size());
+            return ResponseEntity.ok(SuccessResponse.of("좌석 상태 조회 성공", response));
 
         } catch (Exception e) {
             log.error("전체 좌석 상태 조회 중 오류 발생: concertId={}", concertId, e);
@@ -68,6 +77,43 @@ public class SeatQueryController {
         }
     }
 
+    @Operation(summary = "콘서트 좌석 가용성 조회 (패킹)",
+            description = "좌석당 2비트로 패킹된 전체 좌석 상태를 조회합니다. 순번 → 좌석 매핑은 /availability/index 로 조회합니다")
+    @GetMapping("/concerts/{concertId}/availability")
+    public ResponseEntity<SuccessResponse<SeatAvailabilityResponseDTO>> getSeatAvailability(
+            @Parameter(description = "콘서트 ID", example = "1")
+            @PathVariable Long concertId) {
+
+        try {
+            SeatStateSnapshot snapshot = seatStateService.getSnapshot(concertId);
+            return ResponseEntity.ok(SuccessResponse.of("좌석 가용성 조회 성공", SeatAvailabilityResponseDTO.from(snapshot)));
+
+        } catch (Exception e) {
+            log.error("좌석 가용성 조회 중 오류 발생: concertId={}", concertId, e);
+            return ResponseEntity.status(500)
+                    .body(SuccessResponse.of("좌석 가용성 조회 중 오류가 발생했습니다.", null));
+        }
+    }
+
+    @Operation(summary = "콘서트 좌석 순번 인덱스 조회",
+            description = "패킹 상태의 순번별 좌석 ID/좌석 정보를 조회합니다. layoutGeneration이 바뀔 때만 다시 조회하면 됩니다")
+    @GetMapping("/concerts/{concertId}/availability/index")
+    public ResponseEntity<SuccessResponse<SeatOrdinalIndexResponseDTO>> getSeatOrdinalIndex(
+            @Parameter(description = "콘서트 ID", example = "1")
+            @PathVariable Long concertId) {
+
+        try {
+            SeatStateSnapshot snapshot = seatStateService.getSnapshot(concertId);
+            return ResponseEntity.ok(SuccessResponse.of("좌석 순번 인덱스 조회 성공",
+                    SeatOrdinalIndexResponseDTO.from(concertId, snapshot.index())));
+
+        } catch (Exception e) {
+            log.error("좌석 순번 인덱스 조회 중 오류 발생: concertId={}", concertId, e);
+            return ResponseEntity.status(500)
+                    .body(SuccessResponse.of("좌석 순번 인덱스 조회 중 오류가 발생했습니다.", null));
+        }
+    }
+
     @Operation(summary = "특정 좌석 상태 조회", description = "특정 좌석의 상태를 조회합니다")
     @GetMapping("/concerts/{concertId}/seats/{seatId}/status")
     public ResponseEntity<SuccessResponse<SeatStatusResponseDTO>> getSeatStatus(
@@ -82,7 +128,7 @@ public class SeatQueryController {
 
 
         try {
-            Optional<SeatStatus> seatStatus = seatStatusService.getSeatStatus(concertId, seatId);
+            Optional<SeatStatus> seatStatus = seatStatusService.getSeatStatusForRead(concertId, seatId);
 
             if (seatStatus.isPresent()) {
                 SeatStatusResponseDTO response = SeatStatusResponseDTO.from(seatStatus.get(), userId);
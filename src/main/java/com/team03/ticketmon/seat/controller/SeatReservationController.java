@@ -1,16 +1,23 @@
 package com.team03.ticketmon.seat.controller;
 
+import com.team03.ticketmon._global.exception.BusinessException;
 import com.team03.ticketmon._global.exception.SuccessResponse;
 import com.team03.ticketmon.auth.jwt.CustomUserDetails;
 import com.team03.ticketmon.concert.repository.ConcertSeatRepository;
 import com.team03.ticketmon.seat.domain.SeatStatus;
+import com.team03.ticketmon.seat.dto.SeatAutoAssignRequestDTO;
+import com.team03.ticketmon.seat.dto.SeatAutoAssignResponseDTO;
+import com.team03.ticketmon.seat.dto.SeatBulkReserveRequestDTO;
+import com.team03.ticketmon.seat.dto.SeatBulkReserveResponseDTO;
 import com.team03.ticketmon.seat.dto.SeatStatusResponseDTO;
 import com.team03.ticketmon.seat.exception.SeatReservationException;
+import com.team03.ticketmon.seat.service.SeatAutoAssignService;
 import com.team03.ticketmon.seat.service.SeatInfoHelper;
 import com.team03.ticketmon.seat.service.SeatStatusService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
@@ -35,6 +42,7 @@ import java.util.Optional;
 public class SeatReservationController {
 
     private final SeatStatusService seatStatusService;
+    private final SeatAutoAssignService seatAutoAssignService;
     private final SeatInfoHelper seatInfoHelper;
     private final ConcertSeatRepository concertSeatRepository; // ✅ 추가: 존재성 검증용
 
@@ -57,7 +65,7 @@ public class SeatReservationController {
             // === 임계 구역 시작 ===
 
             // 1. 현재 좌석 상태 확인 (빠른 검증)
-            Optional<SeatStatus> currentStatus = seatStatusService.getSeatStatus(concertId, seatId);
+            Optional<SeatStatus> currentStatus = seatStatusService.getSeatStatusForRead(concertId, seatId);
 
             // ✅ 1-1. DB에서 실제 좌석 존재 여부 확인 (ConcertSeat ID 기반)
             if (!concertSeatRepository.existsByConcertIdAndConcertSeatId(concertId, seatId)) {
@@ -126,6 +134,91 @@ public class SeatReservationController {
         }
     }
 
+    /**
+     * 다중 좌석 일괄 임시 선점 (All-or-Nothing)
+     * - 요청한 좌석을 한 번의 Redis 스크립트로 모두 선점하거나, 하나라도 불가하면 아무것도 선점하지 않음
+     * - 실패 시 좌석별 실패 사유 반환
+     */
+    @Operation(summary = "다중 좌석 일괄 선점",
+            description = "선택한 좌석들을 한 번에 5분간 임시 선점합니다. 하나라도 선점할 수 없으면 아무 좌석도 선점하지 않고 좌석별 실패 사유를 반환합니다.")
+    @PostMapping("/concerts/{concertId}/seats/reserve")
+    public ResponseEntity<SuccessResponse<SeatBulkReserveResponseDTO>> reserveSeats(
+            @Parameter(description = "콘서트 ID", example = "1")
+            @PathVariable Long concertId,
+            @Valid @RequestBody SeatBulkReserveRequestDTO request,
+            @AuthenticationPrincipal CustomUserDetails user) {
+
+        try {
+            log.info("좌석 일괄 선점 요청: concertId={}, seatIds={}, userId={}",
+                    concertId, request.getConcertSeatIds(), user.getUserId());
+
+            SeatBulkReserveResponseDTO response = seatStatusService.reserveSeats(
+                    concertId, request.getConcertSeatIds(), user.getUserId());
+
+            if (!response.reserved()) {
+                return ResponseEntity.badRequest()
+                        .body(SuccessResponse.of("선점할 수 없는 좌석이 있어 선점되지 않았습니다.", response));
+            }
+            return ResponseEntity.ok(SuccessResponse.of("좌석 일괄 선점 성공", response));
+
+        } catch (SeatReservationException e) {
+            log.warn("좌석 일괄 선점 실패: concertId={}, seatIds={}, userId={}, message={}",
+                    concertId, request.getConcertSeatIds(), user.getUserId(), e.getMessage());
+            return ResponseEntity.badRequest()
+                    .body(SuccessResponse.of(e.getMessage(), null));
+        } catch (Exception e) {
+            log.error("좌석 일괄 선점 처리 중 예기치 않은 오류: concertId={}, seatIds={}, userId={}",
+                    concertId, request.getConcertSeatIds(), user.getUserId(), e);
+            return ResponseEntity.status(500)
+                    .body(SuccessResponse.of("좌석 선점 처리 중 오류가 발생했습니다.", null));
+        }
+    }
+
+    /**
+     * 최적 연석 자동 배정 (Best-Available)
+     * - 같은 열에서 번호가 이어지는 예매 가능 좌석 중 앞 열/중앙에 가까운 블록을 골라 일괄 선점
+     * - 다른 사용자와 충돌하면 다른 후보 블록으로 재시도
+     */
+    @Operation(summary = "최적 연석 자동 배정",
+            description = "요청한 수만큼 같은 열의 연속 좌석을 자동으로 골라 5분간 임시 선점합니다. 구역을 지정하지 않으면 전체 구역에서 배정합니다.")
+    @PostMapping("/concerts/{concertId}/seats/auto-assign")
+    public ResponseEntity<SuccessResponse<SeatAutoAssignResponseDTO>> autoAssignSeats(
+            @Parameter(description = "콘서트 ID", example = "1")
+            @PathVariable Long concertId,
+            @Valid @RequestBody SeatAutoAssignRequestDTO request,
+            @AuthenticationPrincipal CustomUserDetails user) {
+
+        try {
+            log.info("좌석 자동 배정 요청: concertId={}, quantity={}, section={}, userId={}",
+                    concertId, request.getQuantity(), request.getSection(), user.getUserId());
+
+            SeatAutoAssignResponseDTO response = seatAutoAssignService.assignBestAvailable(
+                    concertId, user.getUserId(), request.getQuantity(), request.getSection());
+
+            if (!response.assigned()) {
+                return ResponseEntity.badRequest()
+                        .body(SuccessResponse.of("배정 가능한 연속 좌석이 없습니다.", response));
+            }
+            return ResponseEntity.ok(SuccessResponse.of("좌석 자동 배정 성공", response));
+
+        } catch (SeatReservationException e) {
+            log.warn("좌석 자동 배정 실패: concertId={}, userId={}, message={}",
+                    concertId, user.getUserId(), e.getMessage());
+            return ResponseEntity.badRequest()
+                    .body(SuccessResponse.of(e.getMessage(), null));
+        } catch (BusinessException e) {
+            log.warn("좌석 자동 배정 실패: concertId={}, userId={}, message={}",
+                    concertId, user.getUserId(), e.getMessage());
+            return ResponseEntity.status(e.getErrorCode().getStatus())
+                    .body(SuccessResponse.of(e.getMessage(), null));
+        } catch (Exception e) {
+            log.error("좌석 자동 배정 처리 중 예기치 않은 오류: concertId={}, userId={}",
+                    concertId, user.getUserId(), e);
+            return ResponseEntity.status(500)
+                    .body(SuccessResponse.of("좌석 자동 배정 처리 중 오류가 발생했습니다.", null));
+        }
+    }
+
     /**
      * 좌석 선점 해제
      */
@@ -0,0 +1,86 @@
+package com.team03.ticketmon.seat.domain;
+
+import com.team03.ticketmon.seat.domain.SeatStatus.SeatStatusEnum;
+
+/**
+ * 좌석 상태 2비트 패킹 규칙 (Redis BITFIELD u2)
+ * - 키: seat:state:{concertId} (String), 좌석 순번(ordinal) i의 상태는 비트 오프셋 2*i에 기록
+ * - BITFIELD는 첫 바이트의 최상위 비트부터 채우므로, 바이트 하나에 4개 좌석이 앞에서부터 들어감
+ * - 전체 좌석 조회 시 좌석당 2비트만 전송 (5만석 ≈ 12.5KB)
+ */
+public final class PackedSeatState {
+
+    public static final int AVAILABLE = 0;
+    public static final int RESERVED = 1;              // 임시 선점 (TTL 있음)
+    public static final int PERMANENTLY_RESERVED = 2;  // 결제 진행 중 영구 선점 (expiresAt 없음)
+    public static final int BOOKED = 3;                // 예매 완료 / 예매 불가
+
+    public static final int STATE_COUNT = 4;
+
+    private PackedSeatState() {
+    }
+
+    /**
+     * SeatStatus → 2비트 상태 코드
+     */
+    public static int codeOf(SeatStatus seat) {
+        return codeOf(seat.getStatus(), seat.getExpiresAt() == null);
+    }
+
+    /**
+     * 상태값 → 2비트 상태 코드
+     *
+     * @param status       좌석 상태
+     * @param noExpiration 선점 만료 시간이 없는지 여부 (RESERVED일 때 영구 선점 판별용)
+     */
+    public static int codeOf(SeatStatusEnum status, boolean noExpiration) {
+        return switch (status) {
+            case AVAILABLE -> AVAILABLE;
+            case RESERVED -> noExpiration ? PERMANENTLY_RESERVED : RESERVED;
+            case BOOKED, UNAVAILABLE -> BOOKED;
+        };
+    }
+
+    /**
+     * 2비트 상태 코드 → SeatStatusEnum (영구 선점도 RESERVED로 표현)
+     */
+    public static SeatStatusEnum toStatusEnum(int code) {
+        return switch (code) {
+            case RESERVED, PERMANENTLY_RESERVED -> SeatStatusEnum.RESERVED;
+            case BOOKED -> SeatStatusEnum.BOOKED;
+            default -> SeatStatusEnum.AVAILABLE;
+        };
+    }
+
+    /**
+     * 선점(임시/영구) 상태 여부
+     */
+    public static boolean isHeld(int code) {
+        return code == RESERVED || code == PERMANENTLY_RESERVED;
+    }
+
+    /**
+     * 패킹된 상태 배열에서 특정 순번의 상태 코드 조회 (객체 생성 없음)
+     * - 배열 범위를 벗어난 순번은 BITFIELD가 기록하지 않은 영역이므로 AVAILABLE(0)
+     */
+    public static int stateAt(byte[] packed, int ordinal) {
+        int byteIndex = ordinal >>> 2;
+        if (packed == null || ordinal < 0 || byteIndex >= packed.length) {
+            return AVAILABLE;
+        }
+        int shift = 6 - ((ordinal & 3) << 1);
+        return (packed[byteIndex] >>> shift) & 0x3;
+    }
+
+    /**
+     * 상태 코드 배열을 BITFIELD u2 레이아웃의 byte[]로 패킹
+     */
+    public static byte[] pack(int[] codes) {
+        byte[] packed = new byte[(codes.length + 3) >>> 2];
+        for (int ordinal = 0; ordinal < codes.length; ordinal++) {
+            int shift = 6 - ((ordinal & 3) << 1);
+            packed[ordinal >>> 2] |= (byte) ((codes[ordinal] & 0x3) << shift);
+        }
+        return packed;
+    }
+}
@@ -0,0 +1,240 @@
+package com.team03.ticketmon.seat.domain;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * 콘서트 좌석 가용성 카운터 (전체 + 구역별, 상태 코드별 좌석 수)
+ * - Redis 키: seat:counts:{concertId} (Hash, 필드 `total:{상태}` / `{구역}:{상태}`)
+ * - 상태 전이 스크립트가 패킹 상태와 함께 원자적으로 증감하므로, 요약/매진 확인이 좌석 수가 아닌 구역 수에 비례
+ * - 상태 이름은 PackedSeatState 코드 순서 (AVAILABLE, RESERVED, PERMANENTLY_RESERVED, BOOKED)
+ */
+public final class SeatAvailabilityCounts {
+
+    public static final String TOTAL = "total";
+    public static final String UNKNOWN_SECTION = "?";
+
+    private static final String[] STATE_NAMES = {"AVAILABLE", "RESERVED", "PERMANENTLY_RESERVED", "BOOKED"};
+
+    private final long[] total = new long[PackedSeatState.STATE_COUNT];
+    private final Map<String, long[]> sections = new TreeMap<>();
+
+    private SeatAvailabilityCounts() {
+    }
+
+    public static SeatAvailabilityCounts empty() {
+        return new SeatAvailabilityCounts();
+    }
+
+    /**
+     * 좌석 상태 목록으로 집계 (캐시 초기화 시)
+     */
+    public static SeatAvailabilityCounts fromSeats(Collection<SeatStatus> seats) {
+        SeatAvailabilityCounts counts = new SeatAvailabilityCounts();
+        for (SeatStatus seat : seats) {
+            counts.add(sectionOf(seat.getSeatInfo()), PackedSeatState.codeOf(seat));
+        }
+        return counts;
+    }
+
+    /**
+     * 좌석을 하나씩 더해가며 집계 (DB 스트리밍 적재 시)
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * 패킹 상태로 재집계 (정합성 검사 시, 스크립트와 같은 순번/구역 Hash 사용)
+     *
+     * @param packedStates seat:state:{concertId} 원본 바이트
+     * @param ordinals     concertSeatId → 순번 (seat:ordinal:{concertId})
+     * @param sectionsById concertSeatId → 구역명 (seat:section:{concertId})
+     */
+    public static SeatAvailabilityCounts fromPackedState(byte[] packedStates, Map<String, String> ordinals,
+                                                         Map<String, String> sectionsById) {
+        SeatAvailabilityCounts counts = new SeatAvailabilityCounts();
+        for (Map.Entry<String, String> entry : ordinals.entrySet()) {
+            String section = sectionsById.getOrDefault(entry.getKey(), UNKNOWN_SECTION);
+            counts.add(section, PackedSeatState.stateAt(packedStates, Integer.parseInt(entry.getValue())));
+        }
+        return counts;
+    }
+
+    /**
+     * Redis 카운터 Hash → 객체 (알 수 없는 상태 필드는 무시)
+     */
+    public static SeatAvailabilityCounts fromHash(Map<String, String> hash) {
+        SeatAvailabilityCounts counts = new SeatAvailabilityCounts();
+        for (Map.Entry<String, String> entry : hash.entrySet()) {
+            String field = entry.getKey();
+            int separator = field.lastIndexOf(':');
+            int code = separator > 0 ? codeOf(field.substring(separator + 1)) : -1;
+            if (code < 0) {
+                continue;
+            }
+            long value = Long.parseLong(entry.getValue());
+            String scope = field.substring(0, separator);
+            if (TOTAL.equals(scope)) {
+                counts.total[code] = value;
+            } else {
+                counts.sections.computeIfAbsent(scope, k -> new long[PackedSeatState.STATE_COUNT])[code] = value;
+            }
+        }
+        return counts;
+    }
+
+    /**
+     * 좌석 정보(구역-열-번호)에서 구역명 추출 (구역명에 '-'가 있어도 마지막 두 토큰만 제거)
+     */
+    public static String sectionOf(String seatInfo) {
+        if (seatInfo == null || seatInfo.isBlank()) {
+            return UNKNOWN_SECTION;
+        }
+        int numberSeparator = seatInfo.lastIndexOf('-');
+        int rowSeparator = numberSeparator > 0 ? seatInfo.lastIndexOf('-', numberSeparator - 1) : -1;
+        return rowSeparator > 0 ? seatInfo.substring(0, rowSeparator) : UNKNOWN_SECTION;
+    }
+
+    /**
+     * 객체 → Redis 카운터 Hash (전체 카운트는 0이어도 기록하여 Hash 존재 여부로 구성 여부를 판별)
+     */
+    public Map<String, Long> toHash() {
+        Map<String, Long> hash = new LinkedHashMap<>();
+        for (int code = 0; code < PackedSeatState.STATE_COUNT; code++) {
+            hash.put(field(TOTAL, code), total[code]);
+        }
+        sections.forEach((section, counts) -> {
+            for (int code = 0; code < PackedSeatState.STATE_COUNT; code++) {
+                if (counts[code] != 0) {
+                    hash.put(field(section, code), counts[code]);
+                }
+            }
+        });
+        return hash;
+    }
+
+    /**
+     * 다른 카운터와의 차이 (필드 → this - other, 0인 필드 제외)
+     */
+    public Map<String, Long> diff(SeatAvailabilityCounts other) {
+        Map<String, Long> mine = toHash();
+        Map<String, Long> theirs = other.toHash();
+        Map<String, Long> differences = new TreeMap<>();
+        TreeSet<String> fields = new TreeSet<>(mine.keySet());
+        fields.addAll(theirs.keySet());
+        for (String field : fields) {
+            long delta = mine.getOrDefault(field, 0L) - theirs.getOrDefault(field, 0L);
+            if (delta != 0) {
+                differences.put(field, delta);
+            }
+        }
+        return differences;
+    }
+
+    public long count(int code) {
+        return total[code];
+    }
+
+    public long totalSeats() {
+        long sum = 0;
+        for (long count : total) {
+            sum += count;
+        }
+        return sum;
+    }
+
+    public long available() {
+        return total[PackedSeatState.AVAILABLE];
+    }
+
+    /**
+     * 선점 좌석 수 (임시 + 영구)
+     */
+    public long reserved() {
+        return total[PackedSeatState.RESERVED] + total[PackedSeatState.PERMANENTLY_RESERVED];
+    }
+
+    public long booked() {
+        return total[PackedSeatState.BOOKED];
+    }
+
+    /**
+     * 매진 여부 (좌석이 있고 AVAILABLE 좌석이 없음, 선점 좌석은 만료 시 다시 풀릴 수 있음)
+     */
+    public boolean isSoldOut() {
+        return totalSeats() > 0 && available() == 0;
+    }
+
+    /**
+     * 구역별 상태 코드별 좌석 수 (구역명 순, 배열 인덱스 = PackedSeatState 상수)
+     */
+    public Map<String, long[]> getSections() {
+        return Collections.unmodifiableMap(sections);
+    }
+
+    /**
+     * 구역의 예매 가능 좌석 수 (없는 구역이면 0)
+     */
+    public long availableIn(String section) {
+        long[] counts = sections.get(section);
+        return counts != null ? counts[PackedSeatState.AVAILABLE] : 0;
+    }
+
+    /**
+     * 구역별 상태 이름 → 좌석 수 (API 응답용)
+     */
+    public Map<String, Map<String, Long>> toSectionSummary() {
+        Map<String, Map<String, Long>> summary = new LinkedHashMap<>();
+        sections.forEach((section, counts) -> {
+            Map<String, Long> byState = new LinkedHashMap<>();
+            for (int code = 0; code < PackedSeatState.STATE_COUNT; code++) {
+                byState.put(STATE_NAMES[code], counts[code]);
+            }
+            summary.put(section, byState);
+        });
+        return summary;
+    }
+
+    private void add(String section, int code) {
+        total[code]++;
+        sections.computeIfAbsent(section, k -> new long[PackedSeatState.STATE_COUNT])[code]++;
+    }
+
+    private static String field(String scope, int code) {
+        return scope + ":" + STATE_NAMES[code];
+    }
+
+    private static int codeOf(String stateName) {
+        for (int code = 0; code < STATE_NAMES.length; code++) {
+            if (STATE_NAMES[code].equals(stateName)) {
+                return code;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * 스트리밍 집계용 빌더 (build 이후에는 사용하지 않음)
+     */
+    public static final class Builder {
+
+        private final SeatAvailabilityCounts counts = new SeatAvailabilityCounts();
+
+        private Builder() {
+        }
+
+        public Builder add(String section, int code) {
+            counts.add(section, code);
+            return this;
+        }
+
+        public SeatAvailabilityCounts build() {
+            return counts;
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.team03.ticketmon.seat.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 좌석 선점 저널 엔티티 (Redis 좌석 상태 전이의 Write-Behind 기록)
+ * - 선점 경로에서는 DB에 쓰지 않고, 스케줄러가 변경 로그(seat:changes:*)를 모아 일괄 INSERT
+ * - 좌석별 최신 행(journal_id 최대)만 의미가 있으며, 주기적 압축으로 살아있는 선점 행만 남김
+ * - Redis 장애 후 캐시 재구성 시 RESERVED / PERMANENTLY_RESERVED 선점을 남은 TTL과 함께 복원하는 데 사용
+ *   (BOOKED는 tickets 테이블이 원본이므로 복원 대상이 아님)
+ */
+@Entity
+@Table(
+        name = "seat_hold_journal",
+        indexes = {
+                // 좌석별 최신 행 조회 / 압축용
+                @Index(name = "idx_seat_hold_journal_seat", columnList = "concert_id, concert_seat_id, journal_id")
+        }
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class SeatHoldJournal {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "journal_id")
+    private Long journalId;
+
+    @Column(name = "concert_id", nullable = false)
+    private Long concertId;
+
+    @Column(name = "concert_seat_id", nullable = false)
+    private Long concertSeatId;
+
+    /** 전이 시점의 콘서트 좌석 버전 (seat:version:{concertId}, 스냅샷 기록 시 스냅샷 버전) */
+    @Column(name = "seat_version", nullable = false)
+    private Long seatVersion;
+
+    /** PackedSeatState 2비트 상태 코드 (0 AVAILABLE, 1 RESERVED, 2 PERMANENTLY_RESERVED, 3 BOOKED) */
+    @Column(nullable = false)
+    private Byte state;
+
+    /** 선점 사용자 ID (선점 상태일 때만) */
+    @Column(name = "user_id")
+    private Long userId;
+
+    /** 임시 선점 만료 시각 (영구 선점/비선점 상태는 null) */
+    @Column(name = "expires_at")
+    private LocalDateTime expiresAt;
+
+    @Column(name = "recorded_at", nullable = false)
+    private LocalDateTime recordedAt;
+
+    @Builder
+    public SeatHoldJournal(Long concertId, Long concertSeatId, Long seatVersion, int state, Long userId,
+                           LocalDateTime expiresAt, LocalDateTime recordedAt) {
+        this.concertId = concertId;
+        this.concertSeatId = concertSeatId;
+        this.seatVersion = seatVersion;
+        this.state = (byte) state;
+        this.userId = userId;
+        this.expiresAt = expiresAt;
+        this.recordedAt = recordedAt != null ? recordedAt : LocalDateTime.now();
+    }
+
+    /**
+     * 기준 시각에 아직 유효한 선점인지 여부 (영구 선점은 항상 유효, 임시 선점은 만료 전까지)
+     */
+    public boolean isLiveHold(LocalDateTime now) {
+        if (state == PackedSeatState.PERMANENTLY_RESERVED) {
+            return userId != null;
+        }
+        return state == PackedSeatState.RESERVED && userId != null && expiresAt != null && expiresAt.isAfter(now);
+    }
+}
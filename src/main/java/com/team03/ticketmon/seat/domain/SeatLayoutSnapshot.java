@@ -0,0 +1,186 @@
+package com.team03.ticketmon.seat.domain;
+
+import com.team03.ticketmon.concert.domain.ConcertSeat;
+import com.team03.ticketmon.concert.domain.enums.SeatGrade;
+import com.team03.ticketmon.venue.domain.Seat;
+import org.springframework.util.DigestUtils;
+
+import java.math.BigDecimal;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 콘서트 좌석 배치도 스냅샷 (불변, 콘서트당 1회 구성)
+ * - 공연장/구역/좌석 위치/등급/가격 등 공개 후 바뀌지 않는 정보만 보관
+ * - 정적 배치도 응답 JSON을 미리 직렬화한 byte[]와 ETag를 함께 보관 (요청마다 직렬화하지 않음)
+ * - 실시간 가용성은 요청 시 Redis 패킹 상태(seat:state)로 덧씌움
+ */
+public final class SeatLayoutSnapshot {
+
+    private final Long concertId;
+    private final Long venueId;
+    private final String venueName;
+    private final List<Section> sections;
+    private final Map<String, Section> sectionsByName;
+    private final int totalSeats;
+    private final BigDecimal minPrice;
+    private final BigDecimal maxPrice;
+    private final byte[] body;
+    private final String eTag;
+    private final long builtAtMillis;
+
+    /**
+     * @param sections 구역명 순으로 정렬된 구역 목록
+     * @param body     미리 직렬화한 정적 배치도 응답 JSON
+     */
+    public SeatLayoutSnapshot(Long concertId, Long venueId, String venueName, List<Section> sections, byte[] body) {
+        this.concertId = concertId;
+        this.venueId = venueId;
+        this.venueName = venueName;
+        this.sections = List.copyOf(sections);
+        this.body = body;
+        this.eTag = "\"" + DigestUtils.md5DigestAsHex(body) + "\"";
+        this.builtAtMillis = System.currentTimeMillis();
+
+        Map<String, Section> byName = new LinkedHashMap<>();
+        int seatCount = 0;
+        BigDecimal min = null;
+        BigDecimal max = BigDecimal.ZERO;
+        for (Section section : this.sections) {
+            byName.put(normalize(section.name()), section);
+            seatCount += section.seats().size();
+            for (SeatEntry seat : section.seats()) {
+                BigDecimal price = seat.price();
+                if (price == null) {
+                    continue;
+                }
+                // 최저 가격은 0원 좌석 제외 (SeatLayoutResponseDTO 통계와 동일 규칙)
+                if (price.signum() > 0 && (min == null || price.compareTo(min) < 0)) {
+                    min = price;
+                }
+                if (price.compareTo(max) > 0) {
+                    max = price;
+                }
+            }
+        }
+        this.sectionsByName = Map.copyOf(byName);
+        this.totalSeats = seatCount;
+        this.minPrice = min != null ? min : BigDecimal.ZERO;
+        this.maxPrice = max;
+    }
+
+    /**
+     * 구역 조회 (대소문자 무시, 없으면 null)
+     */
+    public Section findSection(String sectionName) {
+        return sectionName != null ? sectionsByName.get(normalize(sectionName.trim())) : null;
+    }
+
+    public List<String> sectionNames() {
+        return sections.stream().map(Section::name).toList();
+    }
+
+    /**
+     * If-None-Match 헤더 값이 현재 ETag와 일치하는지 확인 (약한 비교, 목록/와일드카드 지원)
+     */
+    public boolean matchesETag(String ifNoneMatch) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals("*") || tag.equals(eTag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public boolean isOlderThan(long maxAgeMillis) {
+        return System.currentTimeMillis() - builtAtMillis > maxAgeMillis;
+    }
+
+    public Long getConcertId() {
+        return concertId;
+    }
+
+    public Long getVenueId() {
+        return venueId;
+    }
+
+    public String getVenueName() {
+        return venueName;
+    }
+
+    public List<Section> getSections() {
+        return sections;
+    }
+
+    public int getTotalSeats() {
+        return totalSeats;
+    }
+
+    public BigDecimal getMinPrice() {
+        return minPrice;
+    }
+
+    public BigDecimal getMaxPrice() {
+        return maxPrice;
+    }
+
+    /**
+     * 미리 직렬화한 정적 배치도 응답 (공유 배열이므로 수정 금지)
+     */
+    public byte[] getBody() {
+        return body;
+    }
+
+    public String getETag() {
+        return eTag;
+    }
+
+    private static String normalize(String sectionName) {
+        return sectionName.toUpperCase(Locale.ROOT);
+    }
+
+    /**
+     * 구역 (좌석은 DB 조회 순서: 열 → 번호)
+     */
+    public record Section(String name, List<SeatEntry> seats) {
+
+        public Section {
+            seats = List.copyOf(seats);
+        }
+    }
+
+    /**
+     * 좌석 정적 정보
+     *
+     * @param concertSeatId 콘서트 좌석 ID (패킹 상태/좌석 Hash 기준 ID)
+     * @param seatId        공연장 좌석 ID
+     * @param bookedAtBuild 스냅샷 구성 시점의 DB 예매 여부 (Redis 패킹 상태가 없을 때만 사용)
+     */
+    public record SeatEntry(long concertSeatId, Long seatId, String section, String seatRow, Integer seatNumber,
+                            String seatLabel, SeatGrade grade, BigDecimal price, boolean bookedAtBuild) {
+
+        public static SeatEntry from(ConcertSeat concertSeat) {
+            Seat seat = concertSeat.getSeat();
+            return new SeatEntry(
+                    concertSeat.getConcertSeatId(),
+                    seat.getSeatId(),
+                    seat.getSection(),
+                    seat.getSeatRow(),
+                    seat.getSeatNumber(),
+                    String.format("%s-%s-%d", seat.getSection(), seat.getSeatRow(), seat.getSeatNumber()),
+                    concertSeat.getGrade(),
+                    concertSeat.getPrice(),
+                    concertSeat.getTicket() != null
+            );
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.team03.ticketmon.seat.domain;
+
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * 콘서트 좌석 순번(ordinal) 인덱스 (정적 메타데이터)
+ * - 순번 = concertSeatId 오름차순 위치, 패킹 상태(seat:state:{concertId})의 비트 위치와 일치
+ * - 좌석 정보(seatInfo)는 자주 바뀌지 않으므로 JVM에 보관하고, generation이 바뀔 때만 다시 로딩
+ */
+public final class SeatOrdinalIndex {
+
+    private final long generation;
+    private final long[] concertSeatIds;
+    private final String[] seatInfos;
+
+    private SeatOrdinalIndex(long generation, long[] concertSeatIds, String[] seatInfos) {
+        this.generation = generation;
+        this.concertSeatIds = concertSeatIds;
+        this.seatInfos = seatInfos;
+    }
+
+    /**
+     * concertSeatId → seatInfo 맵으로부터 인덱스 생성 (concertSeatId 오름차순으로 순번 부여)
+     */
+    public static SeatOrdinalIndex of(long generation, Map<Long, String> seatInfoBySeatId) {
+        long[] ids = seatInfoBySeatId.keySet().stream().mapToLong(Long::longValue).sorted().toArray();
+        String[] infos = new String[ids.length];
+        for (int ordinal = 0; ordinal < ids.length; ordinal++) {
+            infos[ordinal] = seatInfoBySeatId.get(ids[ordinal]);
+        }
+        return new SeatOrdinalIndex(generation, ids, infos);
+    }
+
+    public static SeatOrdinalIndex empty() {
+        return new SeatOrdinalIndex(0L, new long[0], new String[0]);
+    }
+
+    /**
+     * concertSeatId의 순번 조회 (없으면 -1)
+     */
+    public int ordinalOf(long concertSeatId) {
+        int ordinal = Arrays.binarySearch(concertSeatIds, concertSeatId);
+        return ordinal >= 0 ? ordinal : -1;
+    }
+
+    public long seatIdAt(int ordinal) {
+        return concertSeatIds[ordinal];
+    }
+
+    public String seatInfoAt(int ordinal) {
+        return seatInfos[ordinal];
+    }
+
+    public int size() {
+        return concertSeatIds.length;
+    }
+
+    public long getGeneration() {
+        return generation;
+    }
+}
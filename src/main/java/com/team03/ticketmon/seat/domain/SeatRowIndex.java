@@ -0,0 +1,104 @@
+package com.team03.ticketmon.seat.domain;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 좌석 자동 배정용 열(row) 인덱스 (불변, 배치도 스냅샷당 1회 구성)
+ * - 구역별로 열을 스냅샷 순서(DB 조회 순서: 열 → 번호)대로 나열하고, 앞 열일수록 rowRank가 작음
+ * - 열 안의 좌석은 좌석 번호 오름차순이며, 번호가 1씩 이어지는 좌석만 연석으로 취급
+ */
+public final class SeatRowIndex {
+
+    private final SeatLayoutSnapshot source;
+    private final List<Row> rows;
+
+    private SeatRowIndex(SeatLayoutSnapshot source, List<Row> rows) {
+        this.source = source;
+        this.rows = List.copyOf(rows);
+    }
+
+    /**
+     * 배치도 스냅샷으로부터 열 인덱스 구성 (좌석 번호가 없는 좌석은 제외)
+     */
+    public static SeatRowIndex of(SeatLayoutSnapshot snapshot) {
+        List<Row> rows = new ArrayList<>();
+        for (SeatLayoutSnapshot.Section section : snapshot.getSections()) {
+            Map<String, List<SeatLayoutSnapshot.SeatEntry>> seatsByRow = new LinkedHashMap<>();
+            for (SeatLayoutSnapshot.SeatEntry seat : section.seats()) {
+                if (seat.seatNumber() == null) {
+                    continue;
+                }
+                String seatRow = seat.seatRow() != null ? seat.seatRow() : "?";
+                seatsByRow.computeIfAbsent(seatRow, k -> new ArrayList<>()).add(seat);
+            }
+
+            int rowRank = 0;
+            for (Map.Entry<String, List<SeatLayoutSnapshot.SeatEntry>> entry : seatsByRow.entrySet()) {
+                List<SeatLayoutSnapshot.SeatEntry> seats = new ArrayList<>(entry.getValue());
+                seats.sort(Comparator.comparing(SeatLayoutSnapshot.SeatEntry::seatNumber));
+                rows.add(Row.of(section.name(), entry.getKey(), rowRank++, seats));
+            }
+        }
+        return new SeatRowIndex(snapshot, rows);
+    }
+
+    /**
+     * 이 인덱스를 구성한 배치도 스냅샷 (스냅샷이 교체되면 인덱스도 다시 구성)
+     */
+    public SeatLayoutSnapshot getSource() {
+        return source;
+    }
+
+    public List<Row> getRows() {
+        return rows;
+    }
+
+    /**
+     * 열 정보
+     *
+     * @param section        구역명
+     * @param seatRow        열
+     * @param rowRank        구역 내 열 순서 (0 = 맨 앞 열)
+     * @param concertSeatIds 좌석 번호 순 콘서트 좌석 ID
+     * @param seatNumbers    좌석 번호 (오름차순)
+     * @param seatLabels     좌석 표시명
+     */
+    public record Row(String section, String seatRow, int rowRank, long[] concertSeatIds, int[] seatNumbers,
+                      String[] seatLabels) {
+
+        static Row of(String section, String seatRow, int rowRank, List<SeatLayoutSnapshot.SeatEntry> seats) {
+            long[] ids = new long[seats.size()];
+            int[] numbers = new int[seats.size()];
+            String[] labels = new String[seats.size()];
+            for (int i = 0; i < seats.size(); i++) {
+                SeatLayoutSnapshot.SeatEntry seat = seats.get(i);
+                ids[i] = seat.concertSeatId();
+                numbers[i] = seat.seatNumber();
+                labels[i] = seat.seatLabel();
+            }
+            return new Row(section, seatRow, rowRank, ids, numbers, labels);
+        }
+
+        public int size() {
+            return concertSeatIds.length;
+        }
+
+        /**
+         * 열 중앙 좌석 번호 (양 끝 좌석 번호의 중간)
+         */
+        public double centerNumber() {
+            return size() > 0 ? (seatNumbers[0] + seatNumbers[size() - 1]) / 2.0 : 0;
+        }
+
+        /**
+         * i번째 좌석이 바로 앞 좌석과 번호가 이어지는지 여부
+         */
+        public boolean isAdjacentToPrevious(int i) {
+            return i > 0 && seatNumbers[i] == seatNumbers[i - 1] + 1;
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.team03.ticketmon.seat.domain;
+
+/**
+ * 콘서트 전체 좌석의 패킹 상태 스냅샷
+ * - 좌석별 객체 생성 없이 순번으로 상태를 디코딩
+ *
+ * @param concertId    콘서트 ID
+ * @param index        좌석 순번 인덱스 (정적 메타데이터)
+ * @param packedStates seat:state:{concertId} 원본 바이트 (좌석당 2비트)
+ */
+public record SeatStateSnapshot(Long concertId, SeatOrdinalIndex index, byte[] packedStates) {
+
+    public static SeatStateSnapshot empty(Long concertId) {
+        return new SeatStateSnapshot(concertId, SeatOrdinalIndex.empty(), new byte[0]);
+    }
+
+    public int size() {
+        return index.size();
+    }
+
+    /**
+     * 순번 기준 상태 코드 (PackedSeatState 상수)
+     */
+    public int stateAt(int ordinal) {
+        return PackedSeatState.stateAt(packedStates, ordinal);
+    }
+
+    /**
+     * concertSeatId 기준 상태 코드 (인덱스에 없는 좌석이면 -1)
+     */
+    public int stateOfSeat(long concertSeatId) {
+        int ordinal = index.ordinalOf(concertSeatId);
+        return ordinal >= 0 ? stateAt(ordinal) : -1;
+    }
+
+    /**
+     * 상태 코드별 좌석 수 (배열 인덱스 = PackedSeatState 상수)
+     */
+    public long[] countByState() {
+        long[] counts = new long[PackedSeatState.STATE_COUNT];
+        for (int ordinal = 0; ordinal < index.size(); ordinal++) {
+            counts[stateAt(ordinal)]++;
+        }
+        return counts;
+    }
+}
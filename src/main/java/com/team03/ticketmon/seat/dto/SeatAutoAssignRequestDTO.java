@@ -0,0 +1,24 @@
+package com.team03.ticketmon.seat.dto;
+
+import jakarta.validation.constraints.Min;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 좌석 자동 배정(Best-Available) 요청 DTO
+ */
+@Getter
+@NoArgsConstructor
+public class SeatAutoAssignRequestDTO {
+
+    /**
+     * 배정받을 연석 수 - 최대 seat.reservation.max-seat-count 개
+     */
+    @Min(value = 1, message = "좌석을 하나 이상 요청해야 합니다.")
+    private int quantity;
+
+    /**
+     * 희망 구역 (없으면 전체 구역에서 배정)
+     */
+    private String section;
+}
@@ -0,0 +1,35 @@
+package com.team03.ticketmon.seat.dto;
+
+import java.util.List;
+
+/**
+ * 좌석 자동 배정(Best-Available) 응답 DTO
+ *
+ * @param concertId   콘서트 ID
+ * @param assigned    배정(선점) 성공 여부
+ * @param section     배정된 구역 (실패 시 null)
+ * @param seatRow     배정된 열 (실패 시 null)
+ * @param seatLabels  배정된 좌석 표시명 (좌석 번호 순)
+ * @param attempts    선점 시도 횟수 (다른 사용자와 충돌하면 다른 후보 블록으로 재시도)
+ * @param reservation 마지막 일괄 선점 결과 (연석 블록이 없으면 null)
+ */
+public record SeatAutoAssignResponseDTO(
+        Long concertId,
+        boolean assigned,
+        String section,
+        String seatRow,
+        List<String> seatLabels,
+        int attempts,
+        SeatBulkReserveResponseDTO reservation
+) {
+
+    public static SeatAutoAssignResponseDTO success(Long concertId, String section, String seatRow,
+                                                    List<String> seatLabels, int attempts,
+                                                    SeatBulkReserveResponseDTO reservation) {
+        return new SeatAutoAssignResponseDTO(concertId, true, section, seatRow, seatLabels, attempts, reservation);
+    }
+
+    public static SeatAutoAssignResponseDTO failure(Long concertId, int attempts, SeatBulkReserveResponseDTO reservation) {
+        return new SeatAutoAssignResponseDTO(concertId, false, null, null, List.of(), attempts, reservation);
+    }
+}
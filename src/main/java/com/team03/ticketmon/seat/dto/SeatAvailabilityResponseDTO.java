@@ -0,0 +1,52 @@
+package com.team03.ticketmon.seat.dto;
+
+import com.team03.ticketmon.seat.domain.PackedSeatState;
+import com.team03.ticketmon.seat.domain.SeatStateSnapshot;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.Base64;
+
+/**
+ * 패킹 좌석 가용성 응답 DTO
+ * - packedStates: 좌석 순번 i의 상태가 비트 오프셋 2*i에 기록된 바이트열 (Base64)
+ * - 상태 코드: 0=AVAILABLE, 1=RESERVED, 2=PERMANENTLY_RESERVED, 3=BOOKED
+ * - 순번 → 좌석 매핑은 layoutGeneration이 바뀔 때만 /availability/index 로 다시 받으면 됨
+ */
+@Schema(description = "패킹 좌석 가용성 정보")
+public record SeatAvailabilityResponseDTO(
+
+        @Schema(description = "콘서트 ID", example = "1")
+        Long concertId,
+
+        @Schema(description = "좌석 순번 인덱스 세대 번호", example = "1719300000000")
+        long layoutGeneration,
+
+        @Schema(description = "총 좌석 수", example = "50000")
+        int totalSeats,
+
+        @Schema(description = "예매 가능 좌석 수", example = "42000")
+        long availableSeats,
+
+        @Schema(description = "선점 중 좌석 수 (임시 + 영구)", example = "300")
+        long reservedSeats,
+
+        @Schema(description = "예매 완료 좌석 수", example = "7700")
+        long bookedSeats,
+
+        @Schema(description = "좌석당 2비트 패킹 상태 (Base64)")
+        String packedStates
+) {
+
+    public static SeatAvailabilityResponseDTO from(SeatStateSnapshot snapshot) {
+        long[] counts = snapshot.countByState();
+        return new SeatAvailabilityResponseDTO(
+                snapshot.concertId(),
+                snapshot.index().getGeneration(),
+                snapshot.size(),
+                counts[PackedSeatState.AVAILABLE],
+                counts[PackedSeatState.RESERVED] + counts[PackedSeatState.PERMANENTLY_RESERVED],
+                counts[PackedSeatState.BOOKED],
+                Base64.getEncoder().encodeToString(snapshot.packedStates())
+        );
+    }
+}
@@ -0,0 +1,21 @@
+package com.team03.ticketmon.seat.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 다중 좌석 일괄 선점 요청 DTO
+ */
+@Getter
+@NoArgsConstructor
+public class SeatBulkReserveRequestDTO {
+
+    /**
+     * 선점할 좌석 ID(ConcertSeat ID) 목록 - 최대 seat.reservation.max-seat-count 개
+     */
+    @NotEmpty(message = "좌석을 하나 이상 선택해야 합니다.")
+    private List<Long> concertSeatIds;
+}
@@ -0,0 +1,38 @@
+package com.team03.ticketmon.seat.dto;
+
+import java.util.List;
+
+/**
+ * 다중 좌석 일괄 선점 응답 DTO
+ * - All-or-Nothing: reserved가 true면 요청한 모든 좌석이 선점됨, false면 아무 좌석도 선점되지 않음
+ *
+ * @param concertId     콘서트 ID
+ * @param reserved      전체 선점 성공 여부
+ * @param reservedSeats 선점된 좌석 목록 (성공 시)
+ * @param failures      좌석별 실패 사유 (실패 시)
+ */
+public record SeatBulkReserveResponseDTO(
+        Long concertId,
+        boolean reserved,
+        List<SeatStatusResponseDTO> reservedSeats,
+        List<SeatFailure> failures
+) {
+
+    public static SeatBulkReserveResponseDTO success(Long concertId, List<SeatStatusResponseDTO> reservedSeats) {
+        return new SeatBulkReserveResponseDTO(concertId, true, reservedSeats, List.of());
+    }
+
+    public static SeatBulkReserveResponseDTO failure(Long concertId, List<SeatFailure> failures) {
+        return new SeatBulkReserveResponseDTO(concertId, false, List.of(), failures);
+    }
+
+    /**
+     * 좌석별 실패 사유
+     *
+     * @param seatId  좌석 ID (ConcertSeat ID)
+     * @param reason  실패 코드 (ALREADY_BOOKED, HELD_BY_OTHER, SEAT_NOT_FOUND, LIMIT_EXCEEDED)
+     * @param message 사용자 표시용 메시지
+     */
+    public record SeatFailure(Long seatId, String reason, String message) {
+    }
+}
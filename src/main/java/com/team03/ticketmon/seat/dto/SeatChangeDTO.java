@@ -0,0 +1,28 @@
+package com.team03.ticketmon.seat.dto;
+
+import com.team03.ticketmon.seat.domain.SeatStatus.SeatStatusEnum;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * 좌석 변경 로그 항목 DTO
+ * - version 순서대로 적용하면 클라이언트 좌석 상태가 서버와 동일해짐 (항목은 변경 후 절대 상태)
+ */
+@Schema(description = "좌석 변경 로그 항목")
+public record SeatChangeDTO(
+
+        @Schema(description = "변경 후 콘서트 좌석 버전", example = "1024")
+        long version,
+
+        @Schema(description = "좌석 ID", example = "15")
+        Long seatId,
+
+        @Schema(description = "변경 후 좌석 상태", example = "RESERVED")
+        SeatStatusEnum status,
+
+        @Schema(description = "패킹 상태 코드 (0=AVAILABLE, 1=RESERVED, 2=PERMANENTLY_RESERVED, 3=BOOKED)", example = "1")
+        int state,
+
+        @Schema(description = "현재 사용자의 선점 좌석 여부", example = "false")
+        boolean isReservedByCurrentUser
+) {
+}
@@ -0,0 +1,48 @@
+package com.team03.ticketmon.seat.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+/**
+ * 버전 기반 좌석 변경분 응답 DTO
+ * - fullSnapshot=false: sinceVersion 이후의 변경 로그(changes)를 빠짐없이 전달
+ * - fullSnapshot=true: 요청 버전이 로그에서 이미 잘려나갔거나 변경량이 많아 전체 좌석 패킹 상태(snapshot)를 전달
+ * - 클라이언트는 다음 요청 시 currentVersion을 sinceVersion으로 사용
+ */
+@Schema(description = "버전 기반 좌석 변경분")
+public record SeatChangesResponseDTO(
+
+        @Schema(description = "콘서트 ID", example = "1")
+        Long concertId,
+
+        @Schema(description = "요청한 기준 버전", example = "1000")
+        long sinceVersion,
+
+        @Schema(description = "응답 시점의 콘서트 좌석 버전", example = "1024")
+        long currentVersion,
+
+        @Schema(description = "전체 스냅샷 응답 여부", example = "false")
+        boolean fullSnapshot,
+
+        @Schema(description = "sinceVersion 이후 변경 로그 (fullSnapshot=false)")
+        List<SeatChangeDTO> changes,
+
+        @Schema(description = "전체 좌석 패킹 상태 (fullSnapshot=true)")
+        SeatStatusSnapshotResponseDTO snapshot
+) {
+
+    public static SeatChangesResponseDTO delta(Long concertId, long sinceVersion, long currentVersion,
+                                               List<SeatChangeDTO> changes) {
+        return new SeatChangesResponseDTO(concertId, sinceVersion, currentVersion, false, changes, null);
+    }
+
+    public static SeatChangesResponseDTO fullSnapshot(Long concertId, long sinceVersion, long currentVersion,
+                                                      SeatStatusSnapshotResponseDTO snapshot) {
+        return new SeatChangesResponseDTO(concertId, sinceVersion, currentVersion, true, List.of(), snapshot);
+    }
+
+    public boolean hasChanges() {
+        return fullSnapshot || !changes.isEmpty();
+    }
+}
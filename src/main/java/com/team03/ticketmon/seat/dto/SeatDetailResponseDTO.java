@@ -1,6 +1,7 @@
 package com.team03.ticketmon.seat.dto;
 
 import com.team03.ticketmon.concert.domain.ConcertSeat;
+import com.team03.ticketmon.seat.domain.SeatLayoutSnapshot;
 import com.team03.ticketmon.venue.domain.Seat;
 import io.swagger.v3.oas.annotations.media.Schema;
 
@@ -45,6 +46,18 @@ public record SeatDetailResponseDTO(
      * @return SeatDetailResponse 객체
      */
     public static SeatDetailResponseDTO from(ConcertSeat concertSeat) {
+        // 예매 가능 여부 판단 (티켓이 없으면 예매 가능)
+        return from(concertSeat, concertSeat.getTicket() == null);
+    }
+
+    /**
+     * ConcertSeat 엔티티와 실시간 가용성(Redis 패킹 상태)으로 SeatDetailResponse 생성
+     *
+     * @param concertSeat 콘서트 좌석 정보
+     * @param isAvailable 예매 가능 여부
+     * @return SeatDetailResponse 객체
+     */
+    public static SeatDetailResponseDTO from(ConcertSeat concertSeat, boolean isAvailable) {
         Seat seat = concertSeat.getSeat();
 
         // 좌석 표시명 생성 (구역-열-번호 형식)
@@ -53,9 +66,6 @@ public record SeatDetailResponseDTO(
                 seat.getSeatRow(),
                 seat.getSeatNumber());
 
-        // 예매 가능 여부 판단 (티켓이 없으면 예매 가능)
-        boolean isAvailable = concertSeat.getTicket() == null;
-
         return new SeatDetailResponseDTO(
                 seat.getSeatId(),
                 seat.getSection(),
@@ -67,4 +77,24 @@ public record SeatDetailResponseDTO(
                 isAvailable
         );
     }
+
+    /**
+     * 좌석 배치도 스냅샷 항목과 실시간 가용성으로 SeatDetailResponse 생성
+     *
+     * @param entry       스냅샷 좌석 정보
+     * @param isAvailable 예매 가능 여부
+     * @return SeatDetailResponse 객체
+     */
+    public static SeatDetailResponseDTO from(SeatLayoutSnapshot.SeatEntry entry, boolean isAvailable) {
+        return new SeatDetailResponseDTO(
+                entry.seatId(),
+                entry.section(),
+                entry.seatRow(),
+                entry.seatNumber(),
+                entry.seatLabel(),
+                entry.grade(),
+                entry.price(),
+                isAvailable
+        );
+    }
 }
\ No newline at end of file
@@ -0,0 +1,82 @@
+package com.team03.ticketmon.seat.dto;
+
+import com.team03.ticketmon.concert.domain.enums.SeatGrade;
+import com.team03.ticketmon.seat.domain.SeatLayoutSnapshot;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 정적 좌석 배치도 응답 DTO (예매 가능 여부 제외)
+ * - 콘서트당 1회만 직렬화되며 ETag로 재검증 (변경이 없으면 304)
+ * - 실시간 가용성은 /api/seats/concerts/{concertId}/availability 의 패킹 상태를 concertSeatId 기준으로 덧씌움
+ */
+@Schema(description = "정적 좌석 배치도 (가용성 제외)")
+public record SeatLayoutStaticResponseDTO(
+
+        @Schema(description = "콘서트 ID", example = "1")
+        Long concertId,
+
+        @Schema(description = "공연장 정보")
+        SeatLayoutResponseDTO.VenueInfo venueInfo,
+
+        @Schema(description = "총 좌석 수", example = "1000")
+        Integer totalSeats,
+
+        @Schema(description = "구역별 좌석 배치")
+        List<StaticSection> sections
+) {
+
+    @Schema(description = "구역별 정적 좌석 배치")
+    public record StaticSection(
+            @Schema(description = "구역명", example = "A")
+            String sectionName,
+
+            @Schema(description = "총 좌석 수", example = "50")
+            Integer totalSeats,
+
+            @Schema(description = "좌석 목록")
+            List<StaticSeat> seats
+    ) {}
+
+    @Schema(description = "정적 좌석 정보")
+    public record StaticSeat(
+            @Schema(description = "콘서트 좌석 ID (가용성 조회 기준)", example = "101")
+            Long concertSeatId,
+
+            @Schema(description = "좌석 ID", example = "1")
+            Long seatId,
+
+            @Schema(description = "열", example = "1")
+            String seatRow,
+
+            @Schema(description = "번호", example = "1")
+            Integer seatNumber,
+
+            @Schema(description = "좌석 표시명", example = "A-1-1")
+            String seatLabel,
+
+            @Schema(description = "좌석 등급", example = "VIP")
+            SeatGrade grade,
+
+            @Schema(description = "가격", example = "150000")
+            BigDecimal price
+    ) {}
+
+    public static SeatLayoutStaticResponseDTO of(Long concertId, SeatLayoutResponseDTO.VenueInfo venueInfo,
+                                                 List<SeatLayoutSnapshot.Section> sections) {
+        int totalSeats = 0;
+        List<StaticSection> staticSections = new ArrayList<>(sections.size());
+        for (SeatLayoutSnapshot.Section section : sections) {
+            List<StaticSeat> seats = section.seats().stream()
+                    .map(seat -> new StaticSeat(seat.concertSeatId(), seat.seatId(), seat.seatRow(),
+                            seat.seatNumber(), seat.seatLabel(), seat.grade(), seat.price()))
+                    .toList();
+            staticSections.add(new StaticSection(section.name(), seats.size(), seats));
+            totalSeats += seats.size();
+        }
+        return new SeatLayoutStaticResponseDTO(concertId, venueInfo, totalSeats, staticSections);
+    }
+}
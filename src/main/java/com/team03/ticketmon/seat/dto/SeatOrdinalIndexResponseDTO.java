@@ -0,0 +1,38 @@
+package com.team03.ticketmon.seat.dto;
+
+import com.team03.ticketmon.seat.domain.SeatOrdinalIndex;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 좌석 순번 인덱스 응답 DTO (정적 메타데이터)
+ * - seatIds[i], seatInfos[i]가 패킹 상태의 순번 i 좌석
+ */
+@Schema(description = "좌석 순번 인덱스")
+public record SeatOrdinalIndexResponseDTO(
+
+        @Schema(description = "콘서트 ID", example = "1")
+        Long concertId,
+
+        @Schema(description = "좌석 순번 인덱스 세대 번호", example = "1719300000000")
+        long layoutGeneration,
+
+        @Schema(description = "순번별 좌석 ID (concertSeatId)")
+        List<Long> seatIds,
+
+        @Schema(description = "순번별 좌석 정보")
+        List<String> seatInfos
+) {
+
+    public static SeatOrdinalIndexResponseDTO from(Long concertId, SeatOrdinalIndex index) {
+        List<Long> seatIds = new ArrayList<>(index.size());
+        List<String> seatInfos = new ArrayList<>(index.size());
+        for (int ordinal = 0; ordinal < index.size(); ordinal++) {
+            seatIds.add(index.seatIdAt(ordinal));
+            seatInfos.add(index.seatInfoAt(ordinal));
+        }
+        return new SeatOrdinalIndexResponseDTO(concertId, index.getGeneration(), seatIds, seatInfos);
+    }
+}
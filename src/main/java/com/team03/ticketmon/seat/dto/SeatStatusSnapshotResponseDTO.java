@@ -0,0 +1,49 @@
+package com.team03.ticketmon.seat.dto;
+
+import com.team03.ticketmon.seat.domain.SeatStateSnapshot;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * 전체 좌석 상태 응답 DTO (패킹 상태 기반)
+ * - packedStates: 좌석 순번 i의 상태가 비트 오프셋 2*i에 기록된 바이트열 (Base64, 0=AVAILABLE, 1=RESERVED,
+ *   2=PERMANENTLY_RESERVED, 3=BOOKED)
+ * - heldSeats: 선점 좌석만 상세 정보(본인 선점 여부, 남은 시간) 포함
+ * - index: 클라이언트가 보관한 layoutGeneration과 다를 때만 포함 (같으면 null → 보관본 재사용)
+ */
+@Schema(description = "전체 좌석 상태 (패킹)")
+public record SeatStatusSnapshotResponseDTO(
+
+        @Schema(description = "콘서트 ID", example = "1")
+        Long concertId,
+
+        @Schema(description = "좌석 순번 인덱스 세대 번호", example = "1719300000000")
+        long layoutGeneration,
+
+        @Schema(description = "총 좌석 수", example = "50000")
+        int totalSeats,
+
+        @Schema(description = "좌석당 2비트 패킹 상태 (Base64)")
+        String packedStates,
+
+        @Schema(description = "선점 좌석 상세 정보")
+        List<SeatStatusResponseDTO> heldSeats,
+
+        @Schema(description = "좌석 순번 인덱스 (layoutGeneration이 같으면 null)")
+        SeatOrdinalIndexResponseDTO index
+) {
+
+    public static SeatStatusSnapshotResponseDTO from(SeatStateSnapshot snapshot, List<SeatStatusResponseDTO> heldSeats,
+                                                     boolean includeIndex) {
+        return new SeatStatusSnapshotResponseDTO(
+                snapshot.concertId(),
+                snapshot.index().getGeneration(),
+                snapshot.size(),
+                Base64.getEncoder().encodeToString(snapshot.packedStates()),
+                heldSeats,
+                includeIndex ? SeatOrdinalIndexResponseDTO.from(snapshot.concertId(), snapshot.index()) : null
+        );
+    }
+}
@@ -0,0 +1,30 @@
+package com.team03.ticketmon.seat.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 좌석 상태 변경 배치 이벤트 DTO
+ * - 같은 콘서트의 짧은 구간 내 변경을 하나의 Pub/Sub 메시지로 묶어 전송
+ * - 같은 좌석의 여러 변경은 마지막 상태 하나로 병합됨
+ * - 단건 이벤트(SeatUpdateEventDTO)와는 eventType 필드 유무로 구분
+ */
+public record SeatUpdateBatchEventDTO(
+        String eventType,                 // 항상 SEAT_STATUS_BATCH
+        Long concertId,                   // 콘서트 ID
+        List<SeatUpdateEventDTO> updates, // 좌석별 최종 변경 (병합 후)
+        LocalDateTime firstEventAt,       // 배치에 포함된 첫 변경 발생 시간
+        LocalDateTime publishedAt,        // 배치 발행 시간
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        Long version                      // 배치에 포함된 변경 중 가장 높은 버전 (모르면 null)
+) {
+
+    public static final String EVENT_TYPE = "SEAT_STATUS_BATCH";
+
+    public static SeatUpdateBatchEventDTO of(Long concertId, List<SeatUpdateEventDTO> updates,
+                                             LocalDateTime firstEventAt, Long version) {
+        return new SeatUpdateBatchEventDTO(EVENT_TYPE, concertId, updates, firstEventAt, LocalDateTime.now(), version);
+    }
+}
@@ -1,5 +1,6 @@
 package com.team03.ticketmon.seat.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.team03.ticketmon.seat.domain.SeatStatus.SeatStatusEnum;
 import lombok.Builder;
 
@@ -9,6 +10,7 @@ import java.time.LocalDateTime;
  * 좌석 상태 변경 이벤트 DTO
  * - Redis Pub/Sub으로 전송되는 메시지 구조
  * - JSON 직렬화/역직렬화를 위한 record 타입 사용
+ * - version: 변경 로그(seat:changes) 버전. SSE 이벤트 ID로 사용되며, 모르면 null (JSON에서 생략)
  */
 @Builder
 public record SeatUpdateEventDTO(
@@ -17,7 +19,9 @@ public record SeatUpdateEventDTO(
         SeatStatusEnum status, // 변경된 좌석 상태 (AVAILABLE, RESERVED, BOOKED)
         Long userId,           // 사용자 ID (AVAILABLE일 때는 null)
         String seatInfo,       // 좌석 정보 (A-1, B-25 등)
-        LocalDateTime timestamp // 이벤트 발생 시간
+        LocalDateTime timestamp, // 이벤트 발생 시간
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        Long version           // 변경 후 콘서트 좌석 버전 (선점 스크립트는 발행 시 직접 추가)
 ) {
 
     /**
@@ -27,6 +31,17 @@ public record SeatUpdateEventDTO(
      * @return SeatUpdateEvent 객체
      */
     public static SeatUpdateEventDTO from(com.team03.ticketmon.seat.domain.SeatStatus seatStatus) {
+        return from(seatStatus, null);
+    }
+
+    /**
+     * SeatStatus 도메인 객체와 변경 후 버전으로부터 이벤트 생성
+     *
+     * @param seatStatus 좌석 상태 도메인 객체
+     * @param version 변경 로그 버전 (모르면 null)
+     * @return SeatUpdateEvent 객체
+     */
+    public static SeatUpdateEventDTO from(com.team03.ticketmon.seat.domain.SeatStatus seatStatus, Long version) {
         return SeatUpdateEventDTO.builder()
                 .concertId(seatStatus.getConcertId())
                 .seatId(seatStatus.getSeatId())
@@ -34,6 +49,7 @@ public record SeatUpdateEventDTO(
                 .userId(seatStatus.getUserId())
                 .seatInfo(seatStatus.getSeatInfo())
                 .timestamp(LocalDateTime.now())
+                .version(version)
                 .build();
     }
 
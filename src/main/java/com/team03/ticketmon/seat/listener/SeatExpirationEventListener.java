@@ -5,6 +5,7 @@ import com.team03.ticketmon.seat.service.SeatStatusService;
 import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.data.redis.connection.Message;
 import org.springframework.data.redis.connection.MessageListener;
 import org.springframework.data.redis.listener.PatternTopic;
@@ -22,9 +23,13 @@ import java.util.regex.Pattern;
  * 📋 동작 조건:
  * - Valkey notify-keyspace-events가 'Ex'로 설정되어야 함
  * - 키 패턴: seat:expire:{concertId}:{seatId}
+ *
+ * ⚠️ 기본 만료 처리는 선점 만료 큐(seat:expiry:*) + SeatHoldExpiryScheduler가 담당
+ * - 이 리스너는 seat.expiry.keyspace-listener-enabled=true 일 때만 등록 (만료 큐 도입 이전 선점 처리용)
  */
 @Slf4j
 @Component
+@ConditionalOnProperty(prefix = "seat.expiry", name = "keyspace-listener-enabled", havingValue = "true")
 @RequiredArgsConstructor
 public class SeatExpirationEventListener implements MessageListener {
 
@@ -0,0 +1,26 @@
+package com.team03.ticketmon.seat.repository;
+
+import com.team03.ticketmon.seat.domain.SeatHoldJournal;
+
+import java.util.List;
+
+/**
+ * 좌석 선점 저널 일괄 INSERT (Spring Data 커스텀 구현 Fragment)
+ * - IDENTITY 키 엔티티는 Hibernate batch insert가 비활성화되므로 JDBC batch로 직접 기록
+ */
+public interface SeatHoldJournalBatchRepository {
+
+	/**
+	 * 저널 행 일괄 INSERT
+	 *
+	 * @return 기록한 행 수
+	 */
+	int insertAll(List<SeatHoldJournal> entries);
+
+	/**
+	 * 콘서트 저널을 주어진 행으로 교체 (하나의 트랜잭션에서 전체 삭제 후 일괄 INSERT)
+	 *
+	 * @return 기록한 행 수
+	 */
+	int replaceConcert(Long concertId, List<SeatHoldJournal> entries);
+}
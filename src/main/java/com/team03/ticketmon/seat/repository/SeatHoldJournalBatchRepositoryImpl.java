@@ -0,0 +1,58 @@
+package com.team03.ticketmon.seat.repository;
+
+import com.team03.ticketmon.seat.domain.SeatHoldJournal;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 좌석 선점 저널 JDBC batch 구현
+ * - MySQL은 rewriteBatchedStatements=true일 때 다중 VALUES 한 문장으로 전송됨
+ */
+@RequiredArgsConstructor
+public class SeatHoldJournalBatchRepositoryImpl implements SeatHoldJournalBatchRepository {
+
+	private static final String INSERT_SQL = "INSERT INTO seat_hold_journal "
+		+ "(concert_id, concert_seat_id, seat_version, state, user_id, expires_at, recorded_at) "
+		+ "VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+	private static final int[] ARG_TYPES = {
+		Types.BIGINT, Types.BIGINT, Types.BIGINT, Types.TINYINT, Types.BIGINT, Types.TIMESTAMP, Types.TIMESTAMP
+	};
+
+	private final JdbcTemplate jdbcTemplate;
+
+	@Override
+	@Transactional
+	public int insertAll(List<SeatHoldJournal> entries) {
+		if (entries.isEmpty()) {
+			return 0;
+		}
+		List<Object[]> batchArgs = new ArrayList<>(entries.size());
+		for (SeatHoldJournal entry : entries) {
+			batchArgs.add(new Object[] {
+				entry.getConcertId(),
+				entry.getConcertSeatId(),
+				entry.getSeatVersion(),
+				entry.getState(),
+				entry.getUserId(),
+				entry.getExpiresAt() != null ? Timestamp.valueOf(entry.getExpiresAt()) : null,
+				Timestamp.valueOf(entry.getRecordedAt())
+			});
+		}
+		jdbcTemplate.batchUpdate(INSERT_SQL, batchArgs, ARG_TYPES);
+		return entries.size();
+	}
+
+	@Override
+	@Transactional
+	public int replaceConcert(Long concertId, List<SeatHoldJournal> entries) {
+		jdbcTemplate.update("DELETE FROM seat_hold_journal WHERE concert_id = ?", concertId);
+		return insertAll(entries);
+	}
+}
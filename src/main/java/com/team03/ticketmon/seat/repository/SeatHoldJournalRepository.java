@@ -0,0 +1,46 @@
+package com.team03.ticketmon.seat.repository;
+
+import com.team03.ticketmon.seat.domain.SeatHoldJournal;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 좌석 선점 저널 Repository
+ * - 일괄 INSERT는 SeatHoldJournalBatchRepository(JDBC batch)로 수행
+ */
+public interface SeatHoldJournalRepository extends JpaRepository<SeatHoldJournal, Long>, SeatHoldJournalBatchRepository {
+
+	/**
+	 * 콘서트 좌석별 최신 저널 행 조회 (journal_id 최대 행, 좌석당 1행)
+	 */
+	@Query("SELECT j FROM SeatHoldJournal j WHERE j.concertId = :concertId AND j.journalId IN ("
+		+ "SELECT MAX(j2.journalId) FROM SeatHoldJournal j2 WHERE j2.concertId = :concertId GROUP BY j2.concertSeatId)")
+	List<SeatHoldJournal> findLatestByConcertId(@Param("concertId") Long concertId);
+
+	/**
+	 * 저널 행이 있는 콘서트 ID 목록 (압축 대상)
+	 */
+	@Query("SELECT DISTINCT j.concertId FROM SeatHoldJournal j")
+	List<Long> findDistinctConcertIds();
+
+	/**
+	 * 압축: maxJournalId 이하 행 중 유지 대상(keepIds)을 제외하고 삭제
+	 */
+	@Modifying
+	@Query("DELETE FROM SeatHoldJournal j WHERE j.concertId = :concertId AND j.journalId <= :maxJournalId "
+		+ "AND j.journalId NOT IN :keepIds")
+	int deleteCompactable(@Param("concertId") Long concertId, @Param("maxJournalId") Long maxJournalId,
+		@Param("keepIds") Collection<Long> keepIds);
+
+	/**
+	 * 압축: maxJournalId 이하 행 전체 삭제 (유지할 선점이 없을 때)
+	 */
+	@Modifying
+	@Query("DELETE FROM SeatHoldJournal j WHERE j.concertId = :concertId AND j.journalId <= :maxJournalId")
+	int deleteUpTo(@Param("concertId") Long concertId, @Param("maxJournalId") Long maxJournalId);
+}
@@ -4,7 +4,8 @@ import com.team03.ticketmon._global.util.RedisKeyGenerator;
 import com.team03.ticketmon.concert.domain.Concert;
 import com.team03.ticketmon.concert.repository.ConcertRepository;
 import com.team03.ticketmon.seat.config.SeatProperties;
-import com.team03.ticketmon.seat.service.SeatCacheInitService;
+import com.team03.ticketmon.seat.service.SeatCacheWarmupService;
+import com.team03.ticketmon.seat.service.SeatCacheWarmupService.WarmupStatus;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.redisson.api.RLock;
@@ -20,8 +21,9 @@ import java.util.concurrent.TimeUnit;
  * 좌석 캐시 자동 Warm-up 스케줄러
  * 기능:
  * - 예매 시작 10분 전에 자동으로 좌석 캐시 초기화
+ * - 대상 콘서트를 SeatCacheWarmupService로 병렬 적재 (동시 실행 수 제한)
  * - 분산 락을 사용하여 중복 실행 방지
- * - 실패한 경우 재시도 로직 포함
+ * - 실패한 경우 처리 완료 마킹을 하지 않아 다음 주기에 재시도
  *
  * 스케줄링 주기: 5분마다 실행
  */
@@ -31,7 +33,7 @@ import java.util.concurrent.TimeUnit;
 public class SeatCacheWarmupScheduler {
 
     private final ConcertRepository concertRepository;
-    private final SeatCacheInitService seatCacheInitService;
+    private final SeatCacheWarmupService seatCacheWarmupService;
     private final RedissonClient redissonClient;
     private final SeatProperties seatProperties;
 
@@ -48,9 +50,8 @@ public class SeatCacheWarmupScheduler {
         RLock lock = redissonClient.getLock(WARMUP_LOCK_KEY);
 
         try {
-            // 분산 락 획득 시도
-            boolean isLocked = lock.tryLock(seatProperties.getLock().getWaitTimeSeconds(), 
-                                          seatProperties.getLock().getLeaseTimeSeconds(), TimeUnit.SECONDS);
+            // 분산 락 획득 시도 (leaseTime -1: 워치독 자동 갱신, 대형 콘서트 적재가 고정 lease보다 길어질 수 있음)
+            boolean isLocked = lock.tryLock(seatProperties.getLock().getWaitTimeSeconds(), -1, TimeUnit.SECONDS);
 
             if (!isLocked) {
                 log.debug("다른 인스턴스에서 캐시 Warm-up이 실행 중입니다. 현재 스케줄러는 건너뜁니다.");
@@ -70,42 +71,37 @@ public class SeatCacheWarmupScheduler {
                 return;
             }
 
-            // 각 콘서트별로 캐시 초기화 실행
+            // 이미 처리된 콘서트 제외
+            List<Concert> targets = upcomingConcerts.stream()
+                    .filter(concert -> {
+                        boolean processed = isAlreadyProcessed(concert.getConcertId());
+                        if (processed) {
+                            log.debug("이미 처리된 콘서트입니다. concertId={}", concert.getConcertId());
+                        }
+                        return !processed;
+                    })
+                    .toList();
+
+            if (targets.isEmpty()) {
+                log.info("Warm-up 대상 콘서트가 모두 처리되었습니다.");
+                return;
+            }
+
+            // 병렬 Warm-up 실행 (기존 캐시는 적재 완료 시 원자적 교체되므로 먼저 삭제하지 않음)
+            List<WarmupStatus> results = seatCacheWarmupService.warmupConcerts(
+                    targets.stream().map(Concert::getConcertId).toList());
+
             int successCount = 0;
             int failureCount = 0;
 
-            for (Concert concert : upcomingConcerts) {
-                try {
-                    // 이미 처리된 콘서트인지 확인
-                    if (isAlreadyProcessed(concert.getConcertId())) {
-                        log.debug("이미 처리된 콘서트입니다. concertId={}", concert.getConcertId());
-                        continue;
-                    }
-
-                    // 기존 캐시가 존재하면 먼저 삭제
-                    if (isSeatCacheExists(concert.getConcertId())) {
-                        log.info("기존 좌석 캐시 발견. 삭제 후 재초기화 진행: concertId={}, title={}", 
-                                concert.getConcertId(), concert.getTitle());
-                        String deleteResult = seatCacheInitService.clearSeatCache(concert.getConcertId());
-                        log.info("기존 캐시 삭제 완료: concertId={}, 결과={}", concert.getConcertId(), deleteResult);
-                    } else {
-                        log.debug("기존 좌석 캐시 없음. 바로 초기화 진행: concertId={}", concert.getConcertId());
-                    }
-
-                    // 좌석 캐시 초기화 실행
-                    seatCacheInitService.initializeSeatCacheFromDB(concert.getConcertId());
-
+            for (WarmupStatus result : results) {
+                if (result.isCompleted()) {
                     // 처리 완료 마킹
-                    markAsProcessed(concert.getConcertId());
-
+                    markAsProcessed(result.concertId());
                     successCount++;
-                    log.info("좌석 캐시 Warm-up 성공: concertId={}, title={}, bookingStartDate={}",
-                            concert.getConcertId(), concert.getTitle(), concert.getBookingStartDate());
-
-                } catch (Exception e) {
+                } else {
                     failureCount++;
-                    log.error("좌석 캐시 Warm-up 실패: concertId={}, title={}, error={}",
-                            concert.getConcertId(), concert.getTitle(), e.getMessage(), e);
+                    log.error("좌석 캐시 Warm-up 실패: concertId={}, error={}", result.concertId(), result.error());
                 }
             }
 
@@ -150,17 +146,6 @@ public class SeatCacheWarmupScheduler {
         return redissonClient.getBucket(key).isExists();
     }
 
-    /**
-     * 좌석 캐시가 이미 존재하는지 확인
-     *
-     * @param concertId 콘서트 ID
-     * @return 캐시 존재 여부
-     */
-    private boolean isSeatCacheExists(Long concertId) {
-        String seatCacheKey = RedisKeyGenerator.SEAT_STATUS_KEY_PREFIX + concertId;
-        return redissonClient.getMap(seatCacheKey).isExists() && !redissonClient.getMap(seatCacheKey).isEmpty();
-    }
-
     /**
      * 콘서트를 처리 완료로 마킹 (24시간 TTL)
      *
@@ -0,0 +1,77 @@
+package com.team03.ticketmon.seat.scheduler;
+
+import com.team03.ticketmon._global.util.RedisKeyGenerator;
+import com.team03.ticketmon.concert.domain.enums.ConcertStatus;
+import com.team03.ticketmon.concert.repository.ConcertRepository;
+import com.team03.ticketmon.seat.config.SeatProperties;
+import com.team03.ticketmon.seat.service.SeatCounterService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 좌석 가용성 카운터 정합성 검사 스케줄러
+ * 기능:
+ * - 판매 중인 콘서트의 카운터(seat:counts:*)를 패킹 상태 재집계 값과 비교
+ * - 상태 전이 스크립트가 카운터를 원자적으로 갱신하므로 평상시에는 불일치 없음 (안전망 역할)
+ * - seat.counters.drift-auto-repair가 true일 때만 교체, 아니면 로그/지표만 기록
+ * - 분산 락을 사용하여 중복 실행 방지
+ *
+ * 스케줄링 주기: seat.counters.drift-check-interval-ms (기본 10분)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SeatCounterDriftScheduler {
+
+    private final ConcertRepository concertRepository;
+    private final SeatCounterService seatCounterService;
+    private final SeatProperties seatProperties;
+    private final RedissonClient redissonClient;
+
+    @Scheduled(fixedDelayString = "${seat.counters.drift-check-interval-ms:600000}")
+    public void checkCounterDrift() {
+        RLock lock = redissonClient.getLock(RedisKeyGenerator.SEAT_COUNTER_DRIFT_LOCK_KEY);
+
+        try {
+            // waitTime 0: 다른 인스턴스가 실행 중이면 즉시 건너뜀, leaseTime -1: 워치독 자동 갱신
+            boolean isLocked = lock.tryLock(0, -1, TimeUnit.SECONDS);
+            if (!isLocked) {
+                log.debug("다른 인스턴스에서 좌석 카운터 정합성 검사가 실행 중입니다. 건너뜁니다.");
+                return;
+            }
+
+            boolean autoRepair = seatProperties.getCounters().isDriftAutoRepair();
+            List<Long> concertIds = concertRepository.findConcertIdsByStatus(ConcertStatus.ON_SALE);
+            int driftCount = 0;
+
+            for (Long concertId : concertIds) {
+                try {
+                    if (seatCounterService.checkDrift(concertId, autoRepair).hasDrift()) {
+                        driftCount++;
+                    }
+                } catch (Exception e) {
+                    log.error("좌석 카운터 정합성 검사 실패: concertId={}", concertId, e);
+                }
+            }
+
+            if (driftCount > 0) {
+                log.warn("좌석 카운터 정합성 검사 완료: concerts={}, drifted={}, autoRepair={}",
+                        concertIds.size(), driftCount, autoRepair);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.error("좌석 카운터 정합성 검사 스케줄러 락 획득 중 인터럽트 발생", e);
+        } finally {
+            if (lock.isHeldByCurrentThread()) {
+                lock.unlock();
+            }
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.team03.ticketmon.seat.scheduler;
+
+import com.team03.ticketmon._global.util.RedisKeyGenerator;
+import com.team03.ticketmon.seat.service.SeatHoldExpiryService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 임시 선점 만료 워커 스케줄러
+ * 기능:
+ * - 선점 만료 큐(seat:expiry:*)에서 만료 시각이 지난 선점을 일괄 해제
+ * - 분산 락으로 한 인스턴스만 실행 (리더 선출), 해제 스크립트가 멱등이므로 락 유실 시에도 중복 해제 없음
+ * - 기존 Keyspace Notification 방식과 달리 모든 서버가 같은 만료 이벤트를 중복 처리하지 않음
+ *
+ * 스케줄링 주기: seat.expiry.poll-interval-ms (기본 1초)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SeatHoldExpiryScheduler {
+
+    private final SeatHoldExpiryService seatHoldExpiryService;
+    private final RedissonClient redissonClient;
+
+    @Scheduled(fixedDelayString = "${seat.expiry.poll-interval-ms:1000}")
+    public void releaseExpiredHolds() {
+        RLock lock = redissonClient.getLock(RedisKeyGenerator.SEAT_HOLD_EXPIRY_LOCK_KEY);
+
+        try {
+            // waitTime 0: 다른 인스턴스가 실행 중이면 즉시 건너뜀, leaseTime -1: 워치독 자동 갱신
+            boolean isLocked = lock.tryLock(0, -1, TimeUnit.SECONDS);
+            if (!isLocked) {
+                log.trace("다른 인스턴스에서 선점 만료 처리가 실행 중입니다. 건너뜁니다.");
+                return;
+            }
+
+            int released = seatHoldExpiryService.releaseAllExpiredHolds();
+            if (released > 0) {
+                log.info("선점 만료 워커 실행 완료: releasedSeats={}", released);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.error("선점 만료 워커 락 획득 중 인터럽트 발생", e);
+        } catch (Exception e) {
+            log.error("선점 만료 워커 실행 중 오류", e);
+        } finally {
+            if (lock.isHeldByCurrentThread()) {
+                lock.unlock();
+            }
+        }
+    }
+}
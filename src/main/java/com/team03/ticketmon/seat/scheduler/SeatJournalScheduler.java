@@ -0,0 +1,113 @@
+package com.team03.ticketmon.seat.scheduler;
+
+import com.team03.ticketmon._global.util.RedisKeyGenerator;
+import com.team03.ticketmon.concert.domain.enums.ConcertStatus;
+import com.team03.ticketmon.concert.repository.ConcertRepository;
+import com.team03.ticketmon.seat.config.SeatProperties;
+import com.team03.ticketmon.seat.service.SeatJournalService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 좌석 선점 저널 스케줄러
+ * 기능:
+ * - 판매 중인 콘서트의 좌석 변경 로그를 seat_hold_journal 테이블에 일괄 반영 (Write-Behind)
+ * - 주기적으로 저널을 압축하여 좌석별 유효 선점 행만 유지
+ * - 반영과 압축은 같은 분산 락을 사용 (한 서버에서만, 서로 겹치지 않게 실행)
+ *
+ * 스케줄링 주기: seat.journal.flush-interval-ms (기본 2초), seat.journal.compaction-interval-ms (기본 10분)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SeatJournalScheduler {
+
+    private final ConcertRepository concertRepository;
+    private final SeatJournalService seatJournalService;
+    private final SeatProperties seatProperties;
+    private final RedissonClient redissonClient;
+
+    @Scheduled(fixedDelayString = "${seat.journal.flush-interval-ms:2000}")
+    public void flushJournal() {
+        if (!seatProperties.getJournal().isEnabled()) {
+            return;
+        }
+
+        RLock lock = redissonClient.getLock(RedisKeyGenerator.SEAT_JOURNAL_LOCK_KEY);
+
+        try {
+            // waitTime 0: 다른 인스턴스가 실행 중이면 즉시 건너뜀, leaseTime -1: 워치독 자동 갱신
+            boolean isLocked = lock.tryLock(0, -1, TimeUnit.SECONDS);
+            if (!isLocked) {
+                return;
+            }
+
+            List<Long> concertIds = concertRepository.findConcertIdsByStatus(ConcertStatus.ON_SALE);
+            int persisted = 0;
+
+            for (Long concertId : concertIds) {
+                try {
+                    persisted += seatJournalService.flush(concertId);
+                } catch (Exception e) {
+                    log.error("좌석 선점 저널 반영 실패: concertId={}", concertId, e);
+                }
+            }
+
+            if (persisted > 0) {
+                log.debug("좌석 선점 저널 반영 완료: concerts={}, entries={}", concertIds.size(), persisted);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.error("좌석 선점 저널 반영 스케줄러 락 획득 중 인터럽트 발생", e);
+        } finally {
+            if (lock.isHeldByCurrentThread()) {
+                lock.unlock();
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${seat.journal.compaction-interval-ms:600000}")
+    public void compactJournal() {
+        if (!seatProperties.getJournal().isEnabled()) {
+            return;
+        }
+
+        RLock lock = redissonClient.getLock(RedisKeyGenerator.SEAT_JOURNAL_LOCK_KEY);
+
+        try {
+            // 반영 주기가 짧아 락이 잠깐씩 점유되므로 대기 후 획득
+            boolean isLocked = lock.tryLock(seatProperties.getLock().getWaitTimeSeconds(), -1, TimeUnit.SECONDS);
+            if (!isLocked) {
+                log.debug("좌석 선점 저널 락을 획득하지 못해 압축을 건너뜁니다.");
+                return;
+            }
+
+            List<Long> concertIds = seatJournalService.getJournaledConcertIds();
+            int deleted = 0;
+
+            for (Long concertId : concertIds) {
+                try {
+                    deleted += seatJournalService.compact(concertId);
+                } catch (Exception e) {
+                    log.error("좌석 선점 저널 압축 실패: concertId={}", concertId, e);
+                }
+            }
+
+            log.info("좌석 선점 저널 압축 완료: concerts={}, deletedRows={}", concertIds.size(), deleted);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.error("좌석 선점 저널 압축 스케줄러 락 획득 중 인터럽트 발생", e);
+        } finally {
+            if (lock.isHeldByCurrentThread()) {
+                lock.unlock();
+            }
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.team03.ticketmon.seat.scheduler;
+
+import com.team03.ticketmon.seat.service.SeatSseBroadcaster;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 좌석 SSE 하트비트 스케줄러
+ * - 이벤트가 없는 동안에도 주기적으로 주석 프레임을 보내 프록시/LB의 유휴 연결 종료를 방지
+ * - 전송 실패 또는 전송 큐 초과로 끊어진 구독자를 정리
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SeatSseHeartbeatScheduler {
+
+    private final SeatSseBroadcaster sseBroadcaster;
+
+    @Scheduled(fixedRateString = "${seat.sse.heartbeat-interval-ms:15000}")
+    public void sendHeartbeat() {
+        try {
+            if (sseBroadcaster.getTotalSubscriberCount() > 0) {
+                sseBroadcaster.sendHeartbeat();
+            }
+        } catch (Exception e) {
+            log.error("SSE 하트비트 전송 중 오류 발생", e);
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.team03.ticketmon.seat.scheduler;
+
+import com.team03.ticketmon._global.util.RedisKeyGenerator;
+import com.team03.ticketmon.concert.domain.enums.ConcertStatus;
+import com.team03.ticketmon.concert.repository.ConcertRepository;
+import com.team03.ticketmon.seat.service.SeatStatusService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 사용자 선점 인덱스 정합성 복구 스케줄러
+ * 기능:
+ * - 판매 중인 콘서트의 좌석 Hash를 기준으로 사용자별 선점 인덱스(seat:user_seats:*)를 재검증
+ * - 상태 전이 스크립트가 인덱스를 원자적으로 갱신하므로 평상시에는 변경 사항 없음 (안전망 역할)
+ * - 분산 락을 사용하여 중복 실행 방지
+ *
+ * 스케줄링 주기: 10분마다 실행
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SeatUserIndexReconcileScheduler {
+
+    private final ConcertRepository concertRepository;
+    private final SeatStatusService seatStatusService;
+    private final RedissonClient redissonClient;
+
+    @Scheduled(fixedDelay = 600000) // 10분마다 실행
+    public void reconcileUserReservationIndex() {
+        RLock lock = redissonClient.getLock(RedisKeyGenerator.SEAT_USER_INDEX_RECONCILE_LOCK_KEY);
+
+        try {
+            // waitTime 0: 다른 인스턴스가 실행 중이면 즉시 건너뜀, leaseTime -1: 워치독 자동 갱신
+            boolean isLocked = lock.tryLock(0, -1, TimeUnit.SECONDS);
+            if (!isLocked) {
+                log.debug("다른 인스턴스에서 사용자 선점 인덱스 복구가 실행 중입니다. 건너뜁니다.");
+                return;
+            }
+
+            List<Long> concertIds = concertRepository.findConcertIdsByStatus(ConcertStatus.ON_SALE);
+
+            for (Long concertId : concertIds) {
+                try {
+                    seatStatusService.reconcileUserReservationIndex(concertId);
+                } catch (Exception e) {
+                    log.error("사용자 선점 인덱스 복구 실패: concertId={}", concertId, e);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.error("사용자 선점 인덱스 복구 스케줄러 락 획득 중 인터럽트 발생", e);
+        } finally {
+            if (lock.isHeldByCurrentThread()) {
+                lock.unlock();
+            }
+        }
+    }
+}
@@ -0,0 +1,260 @@
+package com.team03.ticketmon.seat.service;
+
+import com.team03.ticketmon.seat.adapter.SeatRedisScriptAdapter.ReserveOutcome;
+import com.team03.ticketmon.seat.config.SeatProperties;
+import com.team03.ticketmon.seat.domain.PackedSeatState;
+import com.team03.ticketmon.seat.domain.SeatAvailabilityCounts;
+import com.team03.ticketmon.seat.domain.SeatLayoutSnapshot;
+import com.team03.ticketmon.seat.domain.SeatRowIndex;
+import com.team03.ticketmon.seat.domain.SeatStateSnapshot;
+import com.team03.ticketmon.seat.dto.SeatAutoAssignResponseDTO;
+import com.team03.ticketmon.seat.dto.SeatBulkReserveResponseDTO;
+import com.team03.ticketmon.seat.exception.SeatReservationException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 좌석 자동 배정(Best-Available) 서비스
+ * - 배치도 스냅샷으로 구성한 열 인덱스 + Redis 패킹 상태로 "같은 열에서 번호가 이어지는 예매 가능 좌석 블록"을 탐색
+ * - 블록 점수 = 열 가중치 × 열 순서 + 중앙 가중치 × |블록 중앙 - 열 중앙| (낮을수록 좋은 좌석)
+ * - 상위 후보(seat.allocation.candidate-pool-size) 중 무작위로 선택하여 동시 요청이 같은 앞 열 좌석에 몰리지 않도록 분산
+ * - 선점은 일괄 선점 스크립트(All-or-Nothing)로 처리하고, 충돌한 좌석을 제외하고 다른 블록으로 재시도
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SeatAutoAssignService {
+
+    private final SeatLayoutService seatLayoutService;
+    private final SeatStateService seatStateService;
+    private final SeatStatusService seatStatusService;
+    private final SeatCounterService seatCounterService;
+    private final SeatProperties seatProperties;
+
+    // 콘서트별 열 인덱스 (배치도 스냅샷이 교체되면 다시 구성)
+    private final Map<Long, SeatRowIndex> rowIndexes = new ConcurrentHashMap<>();
+
+    // 모니터링 지표
+    private final AtomicLong requestCount = new AtomicLong(0);
+    private final AtomicLong assignedCount = new AtomicLong(0);
+    private final AtomicLong collisionRetryCount = new AtomicLong(0);
+    private final AtomicLong noBlockCount = new AtomicLong(0);
+    private final AtomicLong counterRejectCount = new AtomicLong(0);
+
+    /**
+     * 최적 연석 자동 배정 및 임시 선점
+     *
+     * @param concertId   콘서트 ID
+     * @param userId      사용자 ID
+     * @param quantity    연석 수 (1 ~ seat.reservation.max-seat-count)
+     * @param sectionName 희망 구역 (null/공백이면 전체 구역)
+     * @return 배정 결과 (연석 블록이 없거나 재시도 횟수를 넘기면 assigned=false)
+     * @throws SeatReservationException 요청 좌석 수가 범위를 벗어나거나 구역이 없는 경우
+     */
+    public SeatAutoAssignResponseDTO assignBestAvailable(Long concertId, Long userId, int quantity, String sectionName) {
+        int maxSeatCount = seatProperties.getReservation().getMaxSeatCount();
+        if (quantity < 1 || quantity > maxSeatCount) {
+            throw new SeatReservationException(
+                    String.format("좌석은 1개 이상 최대 %d개까지 배정받을 수 있습니다. 요청 좌석: %d개", maxSeatCount, quantity));
+        }
+        requestCount.incrementAndGet();
+
+        SeatRowIndex rowIndex = getRowIndex(concertId);
+        String section = resolveSection(rowIndex.getSource(), sectionName);
+
+        // 가용성 카운터로 남은 좌석 수가 부족한 요청은 좌석 탐색 없이 거절 (매진 직후 요청 폭주 대비)
+        if (!hasEnoughAvailableSeats(concertId, section, quantity)) {
+            counterRejectCount.incrementAndGet();
+            log.info("자동 배정 불가 (잔여 좌석 부족): concertId={}, section={}, quantity={}", concertId, section, quantity);
+            return SeatAutoAssignResponseDTO.failure(concertId, 0, null);
+        }
+
+        SeatProperties.Allocation allocation = seatProperties.getAllocation();
+        int maxAttempts = Math.max(1, allocation.getMaxAttempts());
+        Set<Long> excludedSeatIds = new HashSet<>();
+        SeatBulkReserveResponseDTO lastResult = null;
+
+        for (int attempt = 1; attempt <= maxAttempts; attempt++) {
+            SeatStateSnapshot liveState = seatStateService.getSnapshot(concertId);
+            List<SeatBlock> candidates = findBestBlocks(rowIndex, liveState, quantity, section, excludedSeatIds);
+            if (candidates.isEmpty()) {
+                noBlockCount.incrementAndGet();
+                log.info("자동 배정 가능한 연석 없음: concertId={}, section={}, quantity={}, attempt={}",
+                        concertId, section, quantity, attempt);
+                return SeatAutoAssignResponseDTO.failure(concertId, attempt - 1, lastResult);
+            }
+
+            SeatBlock block = candidates.get(ThreadLocalRandom.current().nextInt(candidates.size()));
+            lastResult = seatStatusService.reserveSeats(concertId, block.seatIds(), userId);
+
+            if (lastResult.reserved()) {
+                assignedCount.incrementAndGet();
+                log.info("좌석 자동 배정 완료: concertId={}, userId={}, section={}, row={}, seats={}, attempt={}",
+                        concertId, userId, block.row().section(), block.row().seatRow(), block.seatLabels(), attempt);
+                return SeatAutoAssignResponseDTO.success(concertId, block.row().section(), block.row().seatRow(),
+                        block.seatLabels(), attempt, lastResult);
+            }
+
+            // 사용자 선점 한도 초과는 다른 블록으로 재시도해도 동일
+            boolean limitExceeded = lastResult.failures().stream()
+                    .anyMatch(failure -> ReserveOutcome.LIMIT_EXCEEDED.name().equals(failure.reason()));
+            if (limitExceeded) {
+                return SeatAutoAssignResponseDTO.failure(concertId, attempt, lastResult);
+            }
+
+            // 다른 사용자와 충돌한 좌석을 제외하고 다음 후보 블록으로 재시도
+            collisionRetryCount.incrementAndGet();
+            lastResult.failures().forEach(failure -> excludedSeatIds.add(failure.seatId()));
+            log.debug("자동 배정 선점 충돌. 재시도: concertId={}, userId={}, seats={}, attempt={}",
+                    concertId, userId, block.seatIds(), attempt);
+        }
+
+        log.info("자동 배정 재시도 횟수 초과: concertId={}, userId={}, quantity={}", concertId, userId, quantity);
+        return SeatAutoAssignResponseDTO.failure(concertId, maxAttempts, lastResult);
+    }
+
+    /**
+     * 자동 배정 통계 조회
+     */
+    public Map<String, Object> getStats() {
+        return Map.of(
+                "requestCount", requestCount.get(),
+                "assignedCount", assignedCount.get(),
+                "collisionRetryCount", collisionRetryCount.get(),
+                "noBlockCount", noBlockCount.get(),
+                "counterRejectCount", counterRejectCount.get(),
+                "cachedRowIndexes", rowIndexes.size()
+        );
+    }
+
+    /**
+     * 점수가 가장 좋은 후보 블록 조회 (최대 candidate-pool-size 개, 점수 오름차순)
+     * - 열마다 예매 가능 좌석이 번호순으로 이어지는 구간을 한 번 훑으며, 구간 안의 모든 quantity 길이 창을 후보로 평가
+     */
+    List<SeatBlock> findBestBlocks(SeatRowIndex rowIndex, SeatStateSnapshot liveState, int quantity,
+                                   String section, Set<Long> excludedSeatIds) {
+        SeatProperties.Allocation allocation = seatProperties.getAllocation();
+        int poolSize = Math.max(1, allocation.getCandidatePoolSize());
+        // 점수가 가장 나쁜 후보가 맨 앞 (상위 poolSize 개만 유지)
+        PriorityQueue<SeatBlock> best = new PriorityQueue<>(
+                Comparator.comparingDouble(SeatBlock::score).reversed());
+
+        for (SeatRowIndex.Row row : rowIndex.getRows()) {
+            if ((section != null && !section.equals(row.section())) || row.size() < quantity) {
+                continue;
+            }
+            double rowCenter = row.centerNumber();
+            int runStart = 0;
+
+            for (int i = 0; i < row.size(); i++) {
+                long seatId = row.concertSeatIds()[i];
+                if (liveState.stateOfSeat(seatId) != PackedSeatState.AVAILABLE || excludedSeatIds.contains(seatId)) {
+                    runStart = i + 1;
+                    continue;
+                }
+                if (i > runStart && !row.isAdjacentToPrevious(i)) {
+                    runStart = i;
+                }
+                if (i - runStart + 1 < quantity) {
+                    continue;
+                }
+
+                int from = i - quantity + 1;
+                double blockCenter = (row.seatNumbers()[from] + row.seatNumbers()[i]) / 2.0;
+                double score = allocation.getRowWeight() * row.rowRank()
+                        + allocation.getCenterWeight() * Math.abs(blockCenter - rowCenter);
+
+                if (best.size() < poolSize) {
+                    best.add(new SeatBlock(row, from, quantity, score));
+                } else if (score < best.peek().score()) {
+                    best.poll();
+                    best.add(new SeatBlock(row, from, quantity, score));
+                }
+            }
+        }
+
+        List<SeatBlock> candidates = new ArrayList<>(best);
+        candidates.sort(Comparator.comparingDouble(SeatBlock::score));
+        return candidates;
+    }
+
+    /**
+     * 콘서트 열 인덱스 조회 (배치도 스냅샷이 같으면 JVM 보관본 재사용)
+     */
+    private SeatRowIndex getRowIndex(Long concertId) {
+        SeatLayoutSnapshot snapshot = seatLayoutService.getLayoutSnapshot(concertId);
+        SeatRowIndex cached = rowIndexes.get(concertId);
+        if (cached != null && cached.getSource() == snapshot) {
+            return cached;
+        }
+
+        SeatRowIndex built = SeatRowIndex.of(snapshot);
+        rowIndexes.put(concertId, built);
+        log.debug("좌석 열 인덱스 구성: concertId={}, rows={}", concertId, built.getRows().size());
+        return built;
+    }
+
+    /**
+     * 희망 구역명을 배치도의 구역명으로 변환 (대소문자 무시, 없으면 null = 전체 구역)
+     */
+    private String resolveSection(SeatLayoutSnapshot snapshot, String sectionName) {
+        if (sectionName == null || sectionName.isBlank()) {
+            return null;
+        }
+        SeatLayoutSnapshot.Section section = snapshot.findSection(sectionName);
+        if (section == null) {
+            throw new SeatReservationException(String.format("'%s' 구역을 찾을 수 없습니다. 사용 가능한 구역: %s",
+                    sectionName.trim(), String.join(", ", snapshot.sectionNames())));
+        }
+        return section.name();
+    }
+
+    /**
+     * 가용성 카운터 기준 잔여 좌석 확인 (카운터가 없거나 조회 실패 시 탐색으로 판단)
+     */
+    private boolean hasEnoughAvailableSeats(Long concertId, String section, int quantity) {
+        try {
+            SeatAvailabilityCounts counts = seatCounterService.getCountsIfPresent(concertId);
+            if (counts == null) {
+                return true;
+            }
+            long available = section != null ? counts.availableIn(section) : counts.available();
+            return available >= quantity;
+        } catch (Exception e) {
+            log.warn("가용성 카운터 조회 실패. 좌석 탐색으로 진행: concertId={}", concertId, e);
+            return true;
+        }
+    }
+
+    /**
+     * 후보 연석 블록
+     *
+     * @param row    열
+     * @param from   열 안에서의 시작 위치
+     * @param length 좌석 수
+     * @param score  점수 (낮을수록 좋은 좌석)
+     */
+    record SeatBlock(SeatRowIndex.Row row, int from, int length, double score) {
+
+        List<Long> seatIds() {
+            return Arrays.stream(row.concertSeatIds(), from, from + length).boxed().toList();
+        }
+
+        List<String> seatLabels() {
+            return List.of(Arrays.copyOfRange(row.seatLabels(), from, from + length));
+        }
+    }
+}
@@ -1,28 +1,57 @@
 package com.team03.ticketmon.seat.service;
 
 import com.team03.ticketmon._global.util.RedisKeyGenerator;
-import com.team03.ticketmon.concert.domain.ConcertSeat;
+import com.team03.ticketmon.concert.dto.ConcertSeatCacheRowDTO;
 import com.team03.ticketmon.concert.repository.ConcertSeatRepository;
+import com.team03.ticketmon.seat.adapter.SeatStatusCodec;
+import com.team03.ticketmon.seat.adapter.SeatStatusShardRouter;
+import com.team03.ticketmon.seat.config.SeatProperties;
+import com.team03.ticketmon.seat.domain.PackedSeatState;
+import com.team03.ticketmon.seat.domain.SeatAvailabilityCounts;
+import com.team03.ticketmon.seat.domain.SeatHoldJournal;
 import com.team03.ticketmon.seat.domain.SeatStatus;
 import com.team03.ticketmon.seat.domain.SeatStatus.SeatStatusEnum;
-import com.team03.ticketmon.venue.domain.Seat;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.redisson.api.RMap;
+import org.redisson.api.BatchOptions;
+import org.redisson.api.RBatch;
+import org.redisson.api.RLock;
 import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.ByteArrayCodec;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntConsumer;
 
 /**
  * 좌석 상태 캐시 초기화 서비스
  * ✅ 수정사항:
  * - ID 매핑 수정: seat.getSeatId() → concertSeat.getConcertSeatId()
  * - Cache-Aside 패턴 지원
- * - 배치 처리 최적화
+ * - 배치 처리 최적화 (DB는 키셋 페이지 단위로 스트리밍 조회, Redis는 청크 단위 파이프라인 기록)
+ * - Cache Miss 재구성은 콘서트별 Single-Flight (JVM 내 요청 합류 + 분산 락으로 서버 간 1회만 DB 조회)
+ * - 임시 Hash를 채운 뒤 RENAME으로 교체하여 조회 측에서 절반만 채워진 Hash가 보이지 않음 (샤드 모드는 샤드별 임시 Hash)
+ * - DB 재구성 시 선점 저널(seat_hold_journal)의 유효 선점을 남은 TTL과 함께 복원 (Redis 장애 후 선점 유실 방지)
  */
 @Slf4j
 @Service
@@ -31,115 +60,346 @@ public class SeatCacheInitService {
 
     private final RedissonClient redissonClient;
     private final ConcertSeatRepository concertSeatRepository;
-    private static final String SEAT_STATUS_KEY_PREFIX = RedisKeyGenerator.SEAT_STATUS_KEY_PREFIX;
+    private final SeatStatusCodec seatStatusCodec;
+    private final SeatStatusShardRouter seatStatusShardRouter;
+    private final SeatNearCache seatNearCache;
+    private final SeatProperties seatProperties;
+    private final SeatJournalService seatJournalService;
+
+    // 콘서트별 진행 중인 Cache Miss 재구성 (같은 JVM의 동시 요청은 결과만 대기)
+    private final Map<Long, CompletableFuture<Boolean>> inFlightLoads = new ConcurrentHashMap<>();
+
+    // 모니터링 지표
+    private final AtomicLong dbLoadCount = new AtomicLong(0);
+    private final AtomicLong localJoinCount = new AtomicLong(0);
+    private final AtomicLong loadedByOtherCount = new AtomicLong(0);
+    private final AtomicLong waitTimeoutCount = new AtomicLong(0);
 
     /**
-     * ✅ 수정된 DB 기반 좌석 캐시 초기화
-     * 핵심 수정: ConcertSeat ID 사용으로 ID 매핑 일관성 확보
+     * Cache Miss 시 좌석 캐시 재구성 (Single-Flight)
+     * - 같은 JVM에서 이미 재구성 중이면 그 결과를 대기 (DB 조회/락 대기 없음)
+     * - 서버 간에는 콘서트별 분산 락으로 한 서버만 DB 조회, 나머지는 락 대기 후 캐시 존재 여부만 재확인
+     * - 대기 시간(seat.cache.init-wait-ms) 초과 시 재구성 없이 false 반환 (호출 측은 기존 Cache Miss 처리)
+     *
+     * @param concertId 콘서트 ID
+     * @return 좌석 Hash가 존재하면 true
      */
-    @Transactional(readOnly = true)
-    public void initializeSeatCacheFromDB(Long concertId) {
-        log.info("DB 기반 좌석 캐시 초기화 시작: concertId={}", concertId);
+    public boolean loadSeatCacheIfAbsent(Long concertId) {
+        CompletableFuture<Boolean> flight = new CompletableFuture<>();
+        CompletableFuture<Boolean> inFlight = inFlightLoads.putIfAbsent(concertId, flight);
+        if (inFlight != null) {
+            localJoinCount.incrementAndGet();
+            return awaitInFlightLoad(concertId, inFlight);
+        }
 
         try {
-            // 1. DB에서 콘서트의 모든 좌석 정보 조회 (Fetch Join 적용)
-            List<ConcertSeat> concertSeats = concertSeatRepository.findByConcertIdWithDetails(concertId);
+            boolean loaded = loadWithClusterLock(concertId);
+            flight.complete(loaded);
+            return loaded;
+        } catch (RuntimeException e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlightLoads.remove(concertId, flight);
+        }
+    }
 
-            if (concertSeats.isEmpty()) {
-                log.warn("콘서트 좌석 데이터가 없습니다: concertId={}", concertId);
-                return;
+    private boolean awaitInFlightLoad(Long concertId, CompletableFuture<Boolean> inFlight) {
+        try {
+            return inFlight.get(seatProperties.getCache().getInitWaitMs(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            waitTimeoutCount.incrementAndGet();
+            log.warn("좌석 캐시 재구성 대기 시간 초과: concertId={}", concertId);
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (ExecutionException e) {
+            // 재구성 실패는 재구성을 수행한 요청에서 로깅
+            return false;
+        }
+    }
+
+    /**
+     * 분산 락을 획득한 서버만 DB 기반 재구성 수행
+     */
+    private boolean loadWithClusterLock(Long concertId) {
+        if (seatStatusShardRouter.exists(concertId)) {
+            return true;
+        }
+
+        RLock lock = redissonClient.getLock(RedisKeyGenerator.seatCacheInitLockKey(concertId));
+        boolean acquired = false;
+        try {
+            acquired = lock.tryLock(seatProperties.getCache().getInitWaitMs(), -1, TimeUnit.MILLISECONDS);
+            if (!acquired) {
+                waitTimeoutCount.incrementAndGet();
+                log.warn("좌석 캐시 재구성 락 대기 시간 초과: concertId={}", concertId);
+                return seatStatusShardRouter.exists(concertId);
             }
 
-            // 2. Redis 캐시 구조 준비
-            String key = SEAT_STATUS_KEY_PREFIX + concertId;
-            RMap<String, SeatStatus> seatMap = redissonClient.getMap(key);
-
-            // 기존 캐시 클리어
-            seatMap.clear();
-
-            // 3. 로컬 맵에 모든 좌석 상태 준비 (배치 처리 최적화)
-            Map<String, SeatStatus> batchSeatData = new HashMap<>();
-            int bookedCount = 0;
-
-            for (ConcertSeat concertSeat : concertSeats) {
-                try {
-                    // 4. ✅ 핵심 수정: ConcertSeat ID 사용
-                    Seat seat = concertSeat.getSeat();
-                    Long concertSeatId = concertSeat.getConcertSeatId(); // ← 수정: ConcertSeat의 ID 사용
-
-                    // 5. 예매 여부 확인 (Ticket 존재 여부로 판별)
-                    boolean isBooked = concertSeat.getTicket() != null;
-                    SeatStatusEnum status = isBooked ? SeatStatusEnum.BOOKED : SeatStatusEnum.AVAILABLE;
-
-                    if (isBooked) {
-                        bookedCount++;
-                    }
-
-                    // 6. 좌석 정보 생성
-                    String seatInfo = generateSeatInfoFromDB(seat);
-
-                    // 7. ✅ 수정된 SeatStatus 객체 생성 (ConcertSeat ID 사용)
-                    SeatStatus seatStatus = SeatStatus.builder()
-                            .id(concertId + "-" + concertSeatId)  // ← 수정
-                            .concertId(concertId)
-                            .seatId(concertSeatId)                // ← 수정: ConcertSeat ID 사용
-                            .status(status)
-                            .userId(null) // 초기화 시에는 선점 사용자 없음
-                            .reservedAt(null)
-                            .expiresAt(null)
-                            .seatInfo(seatInfo)
-                            .build();
-
-                    // 8. ✅ 수정된 키 사용 (ConcertSeat ID로 저장)
-                    batchSeatData.put(concertSeatId.toString(), seatStatus); // ← 수정
-
-                } catch (Exception e) {
-                    log.error("좌석 상태 생성 중 오류: concertId={}, concertSeat={}",
-                            concertId, concertSeat.getConcertSeatId(), e);
-                    // 개별 좌석 오류는 스킵하고 계속 처리
-                }
+            // 락 대기 중 다른 서버가 재구성을 완료했으면 DB 조회 생략
+            if (seatStatusShardRouter.exists(concertId)) {
+                loadedByOtherCount.incrementAndGet();
+                return true;
             }
 
-            // 9. 한 번의 Redis 호출로 모든 데이터 일괄 저장
-            if (!batchSeatData.isEmpty()) {
-                seatMap.putAll(batchSeatData);
+            dbLoadCount.incrementAndGet();
+            initializeSeatCacheFromDB(concertId);
+            return seatStatusShardRouter.exists(concertId);
 
-                log.info("DB 기반 좌석 캐시 초기화 완료: concertId={}, totalSeats={}, bookedSeats={}, availableSeats={}",
-                        concertId, batchSeatData.size(), bookedCount, batchSeatData.size() - bookedCount);
-            } else {
-                log.warn("처리 가능한 좌석 데이터가 없습니다: concertId={}", concertId);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } finally {
+            if (acquired && lock.isHeldByCurrentThread()) {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * ✅ DB 기반 좌석 캐시 초기화 (스트리밍 적재)
+     * - concertSeatId 키셋 페이지(seat.cache.warmup-chunk-size) 단위로 필요한 컬럼만 조회하여 전체 좌석 엔티티를 힙에 올리지 않음
+     * - 청크마다 임시 키(seat:status_build:*)에 파이프라인으로 기록하여 거대한 단일 HSET 명령을 만들지 않음
+     * - 적재가 끝나면 좌석 Hash/순번/메타데이터/구역/패킹 상태/카운터를 하나의 MULTI/EXEC로 교체
+     *   (조회 측은 이전 캐시 또는 완성된 캐시만 봄)
+     * - 예매되지 않은 좌석에 선점 저널의 유효 선점이 있으면 RESERVED로 적재하고 TTL 키/만료 큐/사용자 인덱스도 함께 복원
+     */
+    public SeatCacheLoadResult initializeSeatCacheFromDB(Long concertId) {
+        return initializeSeatCacheFromDB(concertId, null);
+    }
+
+    /**
+     * DB 기반 좌석 캐시 초기화 (진행률 통지)
+     *
+     * @param concertId        콘서트 ID
+     * @param progressListener 청크 기록마다 누적 적재 좌석 수를 전달받는 콜백 (null 가능)
+     * @return 적재 결과 (좌석 수, 청크 수, DB/Redis 소요 시간)
+     */
+    public SeatCacheLoadResult initializeSeatCacheFromDB(Long concertId, IntConsumer progressListener) {
+        log.info("DB 기반 좌석 캐시 초기화 시작: concertId={}", concertId);
+
+        long startNanos = System.nanoTime();
+        int chunkSize = Math.max(1, seatProperties.getCache().getWarmupChunkSize());
+        long dbNanos = 0;
+        long journalStart = System.nanoTime();
+        Map<Long, SeatHoldJournal> journaledHolds = seatJournalService.findLiveHolds(concertId);
+        dbNanos += System.nanoTime() - journalStart;
+        CacheBuild build = new CacheBuild(concertId, journaledHolds);
+        long redisNanos = 0;
+
+        try {
+            long afterConcertSeatId = 0L;
+            while (true) {
+                long queryStart = System.nanoTime();
+                List<ConcertSeatCacheRowDTO> rows = concertSeatRepository.findCacheRowsAfter(
+                        concertId, afterConcertSeatId, PageRequest.of(0, chunkSize));
+                long writeStart = System.nanoTime();
+                dbNanos += writeStart - queryStart;
+
+                if (rows.isEmpty()) {
+                    break;
+                }
+
+                build.writeChunk(rows);
+                redisNanos += System.nanoTime() - writeStart;
+                afterConcertSeatId = rows.get(rows.size() - 1).concertSeatId();
+
+                if (progressListener != null) {
+                    progressListener.accept(build.seatCount);
+                }
+                if (rows.size() < chunkSize) {
+                    break;
+                }
+            }
+
+            if (build.seatCount == 0) {
+                log.warn("콘서트 좌석 데이터가 없습니다: concertId={}", concertId);
+                return new SeatCacheLoadResult(concertId, 0, 0, 0, 0, toMillis(dbNanos), 0, toMillis(System.nanoTime() - startNanos));
             }
 
+            // 임시 키를 좌석 캐시로 교체 (사용자 선점 인덱스/변경 로그는 교체 시 초기화)
+            long commitStart = System.nanoTime();
+            build.commit();
+            resetChangeLog(concertId);
+            redisNanos += System.nanoTime() - commitStart;
+
+            SeatCacheLoadResult result = new SeatCacheLoadResult(concertId, build.seatCount, build.bookedCount,
+                    build.restoredHolds.size(), build.chunkCount, toMillis(dbNanos), toMillis(redisNanos),
+                    toMillis(System.nanoTime() - startNanos));
+            log.info("DB 기반 좌석 캐시 초기화 완료: concertId={}, totalSeats={}, bookedSeats={}, restoredHolds={}, chunks={}, dbMs={}, redisMs={}, totalMs={}",
+                    concertId, result.totalSeats(), result.bookedSeats(), result.restoredHolds(), result.chunks(),
+                    result.dbMillis(), result.redisMillis(), result.totalMillis());
+            return result;
+
         } catch (Exception e) {
+            build.discard();
             log.error("DB 기반 좌석 캐시 초기화 중 오류 발생: concertId={}", concertId, e);
             throw new RuntimeException("좌석 캐시 초기화 실패: " + e.getMessage(), e);
         }
     }
 
     /**
-     * ✅ 내부 헬퍼 메서드: Seat 엔티티로부터 좌석 정보 생성 - seatInfo
+     * Cache Miss 재구성 통계 조회 (모니터링용)
+     */
+    public Map<String, Object> getCacheInitStats() {
+        return Map.of(
+                "dbLoadCount", dbLoadCount.get(),
+                "localJoinCount", localJoinCount.get(),
+                "loadedByOtherCount", loadedByOtherCount.get(),
+                "waitTimeoutCount", waitTimeoutCount.get(),
+                "inFlightLoads", inFlightLoads.size(),
+                "initWaitMs", seatProperties.getCache().getInitWaitMs()
+        );
+    }
+
+    /**
+     * ✅ 내부 헬퍼 메서드: 좌석 위치로부터 좌석 정보 생성 - seatInfo
      */
-    private String generateSeatInfoFromDB(Seat seat) {
-        if (seat == null) {
-            log.warn("Seat 엔티티가 null입니다. 해당 seatInfo를 null로 설정합니다.");
-            return null;
+    private String generateSeatInfo(String section, String seatRow, Integer seatNumber) {
+        return String.format("%s-%s-%d",
+                section != null ? section : "?",
+                seatRow != null ? seatRow : "?",
+                seatNumber != null ? seatNumber : 0);
+    }
+
+    private static long toMillis(long nanos) {
+        return TimeUnit.NANOSECONDS.toMillis(nanos);
+    }
+
+    /**
+     * ✅ 좌석 Hash 기준 패킹 상태 / 좌석 순번 / 정적 메타데이터 재구성
+     * - 패킹 상태만 유실된 경우(선점 정보 보존 필요) 사용
+     */
+    public void rebuildPackedSeatState(Long concertId) {
+        Map<String, SeatStatus> seats = seatStatusShardRouter.readAll(concertId);
+
+        if (seats.isEmpty()) {
+            log.warn("패킹 상태 재구성 대상 좌석이 없습니다: concertId={}", concertId);
+            return;
         }
 
-        String section = seat.getSection() != null ? seat.getSection() : "?";
-        String seatRow = seat.getSeatRow() != null ? seat.getSeatRow() : "?";
-        Integer seatNumber = seat.getSeatNumber() != null ? seat.getSeatNumber() : 0;
+        writePackedSeatState(concertId, seats.values());
+        log.info("좌석 패킹 상태 재구성 완료: concertId={}, totalSeats={}", concertId, seats.size());
+    }
 
-        return String.format("%s-%s-%d", section, seatRow, seatNumber);
+    /**
+     * 패킹 상태(seat:state), 좌석 순번(seat:ordinal), 정적 메타데이터(seat:meta),
+     * 좌석 구역(seat:section), 가용성 카운터(seat:counts) 일괄 저장
+     * - 순번은 concertSeatId 오름차순 (SeatOrdinalIndex와 동일 규칙)
+     * - MULTI/EXEC로 묶어 조회 측에서 세대(generation)와 상태, 카운터가 어긋나지 않도록 함
+     */
+    private void writePackedSeatState(Long concertId, Collection<SeatStatus> seats) {
+        List<SeatStatus> ordered = seats.stream()
+                .sorted(Comparator.comparing(SeatStatus::getSeatId))
+                .toList();
+
+        int[] codes = new int[ordered.size()];
+        Map<String, String> ordinals = new HashMap<>();
+        Map<String, String> metadata = new HashMap<>();
+        Map<String, String> sections = new HashMap<>();
+
+        for (int ordinal = 0; ordinal < ordered.size(); ordinal++) {
+            SeatStatus seat = ordered.get(ordinal);
+            String seatId = seat.getSeatId().toString();
+            codes[ordinal] = PackedSeatState.codeOf(seat);
+            ordinals.put(seatId, String.valueOf(ordinal));
+            metadata.put(seatId, seat.getSeatInfo() != null ? seat.getSeatInfo() : "");
+            sections.put(seatId, SeatAvailabilityCounts.sectionOf(seat.getSeatInfo()));
+        }
+
+        Map<String, String> counts = new HashMap<>();
+        SeatAvailabilityCounts.fromSeats(ordered).toHash()
+                .forEach((field, count) -> counts.put(field, String.valueOf(count)));
+
+        String ordinalKey = RedisKeyGenerator.seatOrdinalKey(concertId);
+        String metaKey = RedisKeyGenerator.seatMetaKey(concertId);
+        String sectionKey = RedisKeyGenerator.seatSectionKey(concertId);
+        String countsKey = RedisKeyGenerator.seatCountsKey(concertId);
+
+        RBatch batch = redissonClient.createBatch(BatchOptions.defaults()
+                .executionMode(BatchOptions.ExecutionMode.IN_MEMORY_ATOMIC));
+        batch.getKeys().deleteAsync(ordinalKey, metaKey, sectionKey, countsKey);
+        batch.getMap(ordinalKey, StringCodec.INSTANCE).putAllAsync(ordinals);
+        batch.getMap(metaKey, StringCodec.INSTANCE).putAllAsync(metadata);
+        batch.getMap(sectionKey, StringCodec.INSTANCE).putAllAsync(sections);
+        batch.getMap(countsKey, StringCodec.INSTANCE).putAllAsync(counts);
+        batch.getBucket(RedisKeyGenerator.seatStateKey(concertId),
+                ByteArrayCodec.INSTANCE)
+                .setAsync(PackedSeatState.pack(codes));
+        batch.getAtomicLong(RedisKeyGenerator.seatLayoutGenerationKey(concertId))
+                .setAsync(System.currentTimeMillis());
+        batch.execute();
+
+        log.debug("좌석 패킹 상태 저장: concertId={}, totalSeats={}, packedBytes={}",
+                concertId, codes.length, (codes.length + 3) / 4);
+    }
+
+    /**
+     * 패킹 상태 / 좌석 순번 / 정적 메타데이터 / 구역 / 가용성 카운터 삭제
+     */
+    private void clearPackedSeatState(Long concertId) {
+        redissonClient.getKeys().delete(
+                RedisKeyGenerator.seatStateKey(concertId),
+                RedisKeyGenerator.seatOrdinalKey(concertId),
+                RedisKeyGenerator.seatMetaKey(concertId),
+                RedisKeyGenerator.seatSectionKey(concertId),
+                RedisKeyGenerator.seatCountsKey(concertId),
+                RedisKeyGenerator.seatLayoutGenerationKey(concertId)
+        );
+    }
+
+    /**
+     * 변경 로그 초기화 (좌석 Hash 재구성/삭제 시)
+     * - 버전은 되돌리지 않고 1 증가시켜, 이전 버전을 가진 클라이언트가 델타 대신 전체 스냅샷을 받도록 함
+     * - 이 서버의 Near-Cache도 함께 비움 (다른 서버는 max-staleness-ms 이내에 재조회)
+     */
+    private void resetChangeLog(Long concertId) {
+        seatNearCache.invalidateConcert(concertId);
+        RBatch batch = redissonClient.createBatch(BatchOptions.defaults()
+                .executionMode(BatchOptions.ExecutionMode.IN_MEMORY_ATOMIC));
+        batch.getStream(RedisKeyGenerator.seatChangeLogKey(concertId),
+                StringCodec.INSTANCE).deleteAsync();
+        batch.getAtomicLong(RedisKeyGenerator.seatVersionKey(concertId)).incrementAndGetAsync();
+        batch.execute();
+    }
+
+    /**
+     * 사용자 선점 인덱스 및 선점 만료 큐 삭제 (관리자 캐시 삭제 시)
+     * - 삭제 대상 인덱스 키는 현재 좌석 Hash의 선점 사용자로 도출 (키 공간 SCAN 없음) → 좌석 Hash 삭제 전에 호출
+     */
+    private void clearUserReservationIndex(Long concertId) {
+        Set<Long> userIds = new HashSet<>();
+        for (SeatStatus seat : seatStatusShardRouter.readAllValues(concertId)) {
+            if (seat.getUserId() != null) {
+                userIds.add(seat.getUserId());
+            }
+        }
+        String[] keys = userReservationIndexKeys(concertId, userIds);
+        long deletedKeys = redissonClient.getKeys().delete(keys);
+        log.debug("사용자 선점 인덱스 삭제: concertId={}, candidateKeys={}, deletedKeys={}", concertId, keys.length, deletedKeys);
+    }
+
+    /**
+     * 선점 만료 큐 + 사용자별 선점 인덱스 키 목록
+     */
+    private String[] userReservationIndexKeys(Long concertId, Collection<Long> userIds) {
+        Set<String> keys = new LinkedHashSet<>();
+        keys.add(RedisKeyGenerator.seatExpiryQueueKey(concertId));
+        for (Long userId : userIds) {
+            keys.add(RedisKeyGenerator.seatUserIndexKey(concertId, userId));
+        }
+        return keys.toArray(new String[0]);
     }
 
     /**
      * ✅ 개선된 캐시 상태 확인
      */
     public Map<String, Object> getCacheStatus(Long concertId) {
-        String key = SEAT_STATUS_KEY_PREFIX + concertId;
-        RMap<String, SeatStatus> seatMap = redissonClient.getMap(key);
+        String key = RedisKeyGenerator.seatStatusKey(concertId);
 
-        if (!seatMap.isExists()) {
+        if (!seatStatusShardRouter.exists(concertId)) {
             return Map.of(
                     "concertId", concertId,
                     "cacheKey", key,
@@ -148,29 +408,24 @@ public class SeatCacheInitService {
             );
         }
 
-        // 캐시 통계 계산
-        Map<String, SeatStatus> allSeats = seatMap.readAllMap();
-
-        long availableSeats = allSeats.values().stream()
-                .mapToLong(seat -> seat.getStatus() == SeatStatusEnum.AVAILABLE ? 1 : 0)
-                .sum();
-
-        long reservedSeats = allSeats.values().stream()
-                .mapToLong(seat -> seat.getStatus() == SeatStatusEnum.RESERVED ? 1 : 0)
-                .sum();
-
-        long bookedSeats = allSeats.values().stream()
-                .mapToLong(seat -> seat.getStatus() == SeatStatusEnum.BOOKED ? 1 : 0)
-                .sum();
+        // 캐시 통계: 가용성 카운터 사용 (카운터 도입 이전 캐시만 좌석 전체 집계)
+        Map<String, String> countsHash = redissonClient
+                .<String, String>getMap(RedisKeyGenerator.seatCountsKey(concertId),
+                        StringCodec.INSTANCE)
+                .readAllMap();
+        SeatAvailabilityCounts counts = !countsHash.isEmpty()
+                ? SeatAvailabilityCounts.fromHash(countsHash)
+                : SeatAvailabilityCounts.fromSeats(seatStatusShardRouter.readAllValues(concertId));
 
         Map<String, Object> status = Map.of(
                 "concertId", concertId,
                 "cacheKey", key,
                 "cacheExists", true,
-                "totalSeats", allSeats.size(),
-                "availableSeats", availableSeats,
-                "reservedSeats", reservedSeats,
-                "bookedSeats", bookedSeats,
+                "shardCount", seatStatusShardRouter.getShardCount(),
+                "totalSeats", counts.totalSeats(),
+                "availableSeats", counts.available(),
+                "reservedSeats", counts.reserved(),
+                "bookedSeats", counts.booked(),
                 "lastUpdated", java.time.LocalDateTime.now()
         );
 
@@ -183,16 +438,18 @@ public class SeatCacheInitService {
      */
     public String clearSeatCache(Long concertId) {
         try {
-            String key = SEAT_STATUS_KEY_PREFIX + concertId;
-            RMap<String, SeatStatus> seatMap = redissonClient.getMap(key);
+            String key = RedisKeyGenerator.seatStatusKey(concertId);
 
-            if (!seatMap.isExists()) {
+            if (!seatStatusShardRouter.exists(concertId)) {
                 log.info("삭제할 좌석 캐시가 존재하지 않음: concertId={}, key={}", concertId, key);
                 return "삭제할 캐시가 없습니다.";
             }
 
-            int seatCount = seatMap.size();
-            boolean deleted = seatMap.delete();
+            int seatCount = seatStatusShardRouter.size(concertId);
+            clearUserReservationIndex(concertId);
+            boolean deleted = seatStatusShardRouter.delete(concertId) > 0;
+            clearPackedSeatState(concertId);
+            resetChangeLog(concertId);
 
             if (deleted) {
                 log.info("좌석 캐시 삭제 완료: concertId={}, deletedSeats={}", concertId, seatCount);
@@ -207,4 +464,241 @@ public class SeatCacheInitService {
             return "캐시 삭제 중 오류가 발생했습니다: " + e.getMessage();
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * 스트리밍 적재 중인 좌석 캐시 (임시 키에 청크 단위로 기록 후 commit 시 교체)
+     * - 힙에는 좌석당 2비트 상태 코드와 카운터만 누적 (저널에서 복원한 선점 좌석은 commit 시 부가 키 기록용으로 보관)
+     * - 적재한 좌석의 저널 선점 사용자를 모아 두었다가 commit 시 해당 사용자 인덱스를 초기화 (좌석 Hash 재조회 없음)
+     * - 샤드 모드에서는 좌석 상태를 샤드별 임시 Hash에 나눠 기록하고, commit 시 기록된 샤드만 교체
+     */
+    private final class CacheBuild {
+
+        private final Long concertId;
+        private final Map<Long, SeatHoldJournal> journaledHolds;
+        private final List<SeatStatus> restoredHolds = new ArrayList<>();
+        private final Set<Long> heldUserIds = new HashSet<>();
+        private final String statusBuildKey;
+        private final String ordinalBuildKey;
+        private final String metaBuildKey;
+        private final String sectionBuildKey;
+        private final int shardCount;
+        private final Set<Integer> writtenShards = new HashSet<>();
+        private final SeatAvailabilityCounts.Builder counts = SeatAvailabilityCounts.builder();
+
+        private int[] codes = new int[1024];
+        private int seatCount;
+        private int bookedCount;
+        private int chunkCount;
+
+        private CacheBuild(Long concertId, Map<Long, SeatHoldJournal> journaledHolds) {
+            this.concertId = concertId;
+            this.journaledHolds = journaledHolds;
+            this.statusBuildKey = RedisKeyGenerator.seatStatusBuildKey(concertId, UUID.randomUUID().toString());
+            this.ordinalBuildKey = statusBuildKey + ":ordinal";
+            this.metaBuildKey = statusBuildKey + ":meta";
+            this.sectionBuildKey = statusBuildKey + ":section";
+            this.shardCount = seatStatusShardRouter.getShardCount();
+        }
+
+        /**
+         * 샤드의 임시 좌석 상태 Hash 키 (단일 Hash 모드에서는 statusBuildKey)
+         */
+        private String statusBuildKeyOf(int shard) {
+            return shardCount <= 1 ? statusBuildKey : statusBuildKey + ":" + shard;
+        }
+
+        private String statusKeyOf(int shard) {
+            return shardCount <= 1 ? RedisKeyGenerator.seatStatusKey(concertId)
+                    : RedisKeyGenerator.seatStatusShardKey(concertId, shard);
+        }
+
+        /**
+         * 청크 1개를 임시 키에 파이프라인으로 기록 (순번은 concertSeatId 오름차순 조회 순서대로 부여)
+         */
+        private void writeChunk(List<ConcertSeatCacheRowDTO> rows) {
+            Map<Integer, Map<String, SeatStatus>> seatsByShard = new HashMap<>();
+            Map<String, String> ordinals = new HashMap<>();
+            Map<String, String> metadata = new HashMap<>();
+            Map<String, String> sections = new HashMap<>();
+
+            for (ConcertSeatCacheRowDTO row : rows) {
+                String seatId = row.concertSeatId().toString();
+                String seatInfo = generateSeatInfo(row.section(), row.seatRow(), row.seatNumber());
+                // 예매 완료(tickets)가 우선, 예매되지 않은 좌석만 저널의 유효 선점 복원
+                SeatHoldJournal journaled = journaledHolds.get(row.concertSeatId());
+                if (journaled != null) {
+                    heldUserIds.add(journaled.getUserId());
+                }
+                SeatHoldJournal hold = row.isBooked() ? null : journaled;
+                SeatStatusEnum status = row.isBooked() ? SeatStatusEnum.BOOKED
+                        : hold != null ? SeatStatusEnum.RESERVED : SeatStatusEnum.AVAILABLE;
+                if (row.isBooked()) {
+                    bookedCount++;
+                }
+
+                SeatStatus seatStatus = SeatStatus.builder()
+                        .id(concertId + "-" + seatId)
+                        .concertId(concertId)
+                        .seatId(row.concertSeatId())
+                        .status(status)
+                        .userId(hold != null ? hold.getUserId() : null)
+                        .reservedAt(hold != null ? hold.getRecordedAt() : null)
+                        .expiresAt(hold != null ? hold.getExpiresAt() : null) // 영구 선점은 null
+                        .seatInfo(seatInfo)
+                        .build();
+                if (hold != null) {
+                    restoredHolds.add(seatStatus);
+                }
+
+                int code = PackedSeatState.codeOf(seatStatus);
+                String section = SeatAvailabilityCounts.sectionOf(seatInfo);
+                if (seatCount == codes.length) {
+                    codes = Arrays.copyOf(codes, codes.length * 2);
+                }
+                codes[seatCount] = code;
+                counts.add(section, code);
+
+                int shard = shardCount <= 1 ? 0 : RedisKeyGenerator.seatStatusShardOf(row.concertSeatId(), shardCount);
+                seatsByShard.computeIfAbsent(shard, s -> new HashMap<>()).put(seatId, seatStatus);
+                ordinals.put(seatId, String.valueOf(seatCount));
+                metadata.put(seatId, seatInfo);
+                sections.put(seatId, section);
+                seatCount++;
+            }
+
+            // 적재가 중단되어도 임시 키가 남지 않도록 처음 기록하는 키에 TTL 설정
+            Duration ttl = Duration.ofSeconds(seatProperties.getCache().getBuildKeyTtlSeconds());
+            RBatch batch = redissonClient.createBatch(BatchOptions.defaults());
+            for (Map.Entry<Integer, Map<String, SeatStatus>> shardSeats : seatsByShard.entrySet()) {
+                String shardBuildKey = statusBuildKeyOf(shardSeats.getKey());
+                batch.<String, SeatStatus>getMap(shardBuildKey, seatStatusCodec).putAllAsync(shardSeats.getValue());
+                if (writtenShards.add(shardSeats.getKey())) {
+                    batch.getMap(shardBuildKey, seatStatusCodec).expireAsync(ttl);
+                }
+            }
+            batch.getMap(ordinalBuildKey, StringCodec.INSTANCE).putAllAsync(ordinals);
+            batch.getMap(metaBuildKey, StringCodec.INSTANCE).putAllAsync(metadata);
+            batch.getMap(sectionBuildKey, StringCodec.INSTANCE).putAllAsync(sections);
+            if (chunkCount == 0) {
+                batch.getMap(ordinalBuildKey, StringCodec.INSTANCE).expireAsync(ttl);
+                batch.getMap(metaBuildKey, StringCodec.INSTANCE).expireAsync(ttl);
+                batch.getMap(sectionBuildKey, StringCodec.INSTANCE).expireAsync(ttl);
+            }
+            batch.execute();
+            chunkCount++;
+        }
+
+        /**
+         * 임시 키를 좌석 캐시 키로 교체하고 패킹 상태/카운터/세대 번호를 함께 기록 (MULTI/EXEC)
+         * - 선점 사용자 인덱스/만료 큐 초기화와, 복원한 선점의 TTL 키(남은 시간)/만료 큐/사용자 선점 인덱스 기록도
+         *   같은 MULTI/EXEC에서 수행 (조회 측에서 교체 전후 캐시와 인덱스가 어긋나 보이지 않음)
+         */
+        private void commit() {
+            Map<String, String> countsHash = new HashMap<>();
+            counts.build().toHash().forEach((field, count) -> countsHash.put(field, String.valueOf(count)));
+
+            String ordinalKey = RedisKeyGenerator.seatOrdinalKey(concertId);
+            String metaKey = RedisKeyGenerator.seatMetaKey(concertId);
+            String sectionKey = RedisKeyGenerator.seatSectionKey(concertId);
+            String countsKey = RedisKeyGenerator.seatCountsKey(concertId);
+
+            RBatch swapBatch = redissonClient.createBatch(BatchOptions.defaults()
+                    .executionMode(BatchOptions.ExecutionMode.IN_MEMORY_ATOMIC));
+            // 기존 좌석 상태 Hash(샤드)를 지운 뒤 이번에 기록한 샤드만 교체 (비어 있는 샤드가 이전 값을 유지하지 않도록)
+            swapBatch.getKeys().deleteAsync(seatStatusShardRouter.deletableKeysOf(concertId));
+            for (Integer shard : writtenShards) {
+                swapBatch.getMap(statusBuildKeyOf(shard), seatStatusCodec).renameAsync(statusKeyOf(shard));
+                swapBatch.getMap(statusKeyOf(shard), seatStatusCodec).clearExpireAsync();
+            }
+            swapBatch.getMap(ordinalBuildKey, StringCodec.INSTANCE).renameAsync(ordinalKey);
+            swapBatch.getMap(ordinalKey, StringCodec.INSTANCE).clearExpireAsync();
+            swapBatch.getMap(metaBuildKey, StringCodec.INSTANCE).renameAsync(metaKey);
+            swapBatch.getMap(metaKey, StringCodec.INSTANCE).clearExpireAsync();
+            swapBatch.getMap(sectionBuildKey, StringCodec.INSTANCE).renameAsync(sectionKey);
+            swapBatch.getMap(sectionKey, StringCodec.INSTANCE).clearExpireAsync();
+            swapBatch.getKeys().deleteAsync(countsKey);
+            swapBatch.getMap(countsKey, StringCodec.INSTANCE).putAllAsync(countsHash);
+            swapBatch.getBucket(RedisKeyGenerator.seatStateKey(concertId),
+                    ByteArrayCodec.INSTANCE)
+                    .setAsync(PackedSeatState.pack(Arrays.copyOf(codes, seatCount)));
+            swapBatch.getAtomicLong(RedisKeyGenerator.seatLayoutGenerationKey(concertId))
+                    .setAsync(System.currentTimeMillis());
+            // 기존 선점 인덱스/만료 큐 초기화 후 복원한 선점만 다시 기록
+            swapBatch.getKeys().deleteAsync(userReservationIndexKeys(concertId, heldUserIds));
+            boolean hasExpiringHold = restoreHoldKeys(swapBatch);
+            swapBatch.execute();
+            if (hasExpiringHold) {
+                // 콘서트 공용 키는 다른 슬롯이므로 교체 배치(MULTI/EXEC) 밖에서 등록
+                redissonClient.getSet(RedisKeyGenerator.SEAT_EXPIRY_CONCERTS_KEY, StringCodec.INSTANCE)
+                        .add(concertId.toString());
+            }
+
+            log.debug("좌석 캐시 교체 완료: concertId={}, buildKey={}, totalSeats={}, chunks={}",
+                    concertId, statusBuildKey, seatCount, chunkCount);
+        }
+
+        /**
+         * 저널에서 복원한 선점의 부가 키 기록 (선점 스크립트와 같은 키/값 규칙)
+         * - 공통: 사용자 선점 인덱스에 추가
+         * - 임시 선점: TTL 키를 남은 시간으로 생성하고 만료 큐에 등록 (재구성 중 만료됐으면 TTL 키 없이 등록 → 만료 워커가 해제)
+         * - 영구 선점: 만료 없음
+         *
+         * @return 만료 큐에 등록한 임시 선점이 있으면 true
+         */
+        private boolean restoreHoldKeys(RBatch swapBatch) {
+            long now = System.currentTimeMillis();
+            boolean hasExpiringHold = false;
+            for (SeatStatus hold : restoredHolds) {
+                String seatId = hold.getSeatId().toString();
+                swapBatch.getSet(RedisKeyGenerator.seatUserIndexKey(concertId, hold.getUserId()),
+                        StringCodec.INSTANCE).addAsync(seatId);
+                if (hold.getExpiresAt() == null) {
+                    continue;
+                }
+
+                long expiresAtMillis = hold.getExpiresAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+                long remainingMillis = expiresAtMillis - now;
+                if (remainingMillis > 0) {
+                    swapBatch.getBucket(RedisKeyGenerator.seatTtlKey(concertId, hold.getSeatId()))
+                            .setAsync("reserved", remainingMillis, TimeUnit.MILLISECONDS);
+                }
+                swapBatch.getScoredSortedSet(RedisKeyGenerator.seatExpiryQueueKey(concertId),
+                        StringCodec.INSTANCE)
+                        .addAsync(expiresAtMillis, seatId);
+                hasExpiringHold = true;
+            }
+            return hasExpiringHold;
+        }
+
+        /**
+         * 적재 실패 시 임시 키 삭제 (삭제 실패해도 TTL로 정리됨)
+         */
+        private void discard() {
+            try {
+                List<String> buildKeys = new ArrayList<>(List.of(ordinalBuildKey, metaBuildKey, sectionBuildKey));
+                for (Integer shard : writtenShards) {
+                    buildKeys.add(statusBuildKeyOf(shard));
+                }
+                redissonClient.getKeys().delete(buildKeys.toArray(new String[0]));
+            } catch (Exception e) {
+                log.warn("좌석 캐시 임시 키 삭제 실패: concertId={}, buildKey={}", concertId, statusBuildKey, e);
+            }
+        }
+    }
+
+    /**
+     * DB 기반 좌석 캐시 적재 결과
+     *
+     * @param concertId     콘서트 ID
+     * @param totalSeats    적재한 좌석 수
+     * @param bookedSeats   예매 완료 좌석 수
+     * @param restoredHolds 선점 저널에서 복원한 선점 좌석 수
+     * @param chunks        청크(키셋 페이지) 수
+     * @param dbMillis      DB 조회 누적 시간 (ms, 선점 저널 조회 포함)
+     * @param redisMillis   Redis 기록/교체 누적 시간 (ms)
+     * @param totalMillis   전체 소요 시간 (ms)
+     */
+    public record SeatCacheLoadResult(Long concertId, int totalSeats, int bookedSeats, int restoredHolds, int chunks,
+                                      long dbMillis, long redisMillis, long totalMillis) {
+    }
+}
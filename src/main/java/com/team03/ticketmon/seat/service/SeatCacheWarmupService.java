@@ -0,0 +1,201 @@
+package com.team03.ticketmon.seat.service;
+
+import com.team03.ticketmon._global.util.TaskExecutorFactory;
+import com.team03.ticketmon.concert.repository.ConcertSeatRepository;
+import com.team03.ticketmon.seat.config.SeatProperties;
+import com.team03.ticketmon.seat.service.SeatCacheInitService.SeatCacheLoadResult;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 좌석 캐시 병렬 Warm-up 서비스
+ * - 여러 콘서트를 전용 스레드 풀에서 동시에 적재 (동시 실행 수: seat.cache.warmup-parallelism)
+ * - 콘서트별 진행률(적재 좌석 수 / 전체 좌석 수)과 DB/Redis 소요 시간을 기록하여 관리자 API로 제공
+ * - 실제 적재는 SeatCacheInitService의 스트리밍 적재(키셋 페이지 + 청크 파이프라인)를 사용
+ */
+@Slf4j
+@Service
+public class SeatCacheWarmupService {
+
+    // 완료된 진행 정보 보관 시간 (시간)
+    private static final long PROGRESS_RETENTION_HOURS = 24;
+
+    private final SeatCacheInitService seatCacheInitService;
+    private final ConcertSeatRepository concertSeatRepository;
+    private final ThreadPoolTaskExecutor warmupExecutor;
+
+    // 콘서트별 Warm-up 진행 정보 (현재 서버 기준)
+    private final Map<Long, WarmupProgress> progressByConcert = new ConcurrentHashMap<>();
+
+    public SeatCacheWarmupService(SeatCacheInitService seatCacheInitService,
+                                  ConcertSeatRepository concertSeatRepository,
+                                  SeatProperties seatProperties) {
+        this.seatCacheInitService = seatCacheInitService;
+        this.concertSeatRepository = concertSeatRepository;
+        this.warmupExecutor = TaskExecutorFactory.fixedPool(
+                "seat-cache-warmup-", seatProperties.getCache().getWarmupParallelism());
+    }
+
+    /**
+     * 여러 콘서트 좌석 캐시 병렬 Warm-up (모두 끝날 때까지 대기)
+     *
+     * @param concertIds Warm-up 대상 콘서트 ID
+     * @return 콘서트별 결과 (요청 순서)
+     */
+    public List<WarmupStatus> warmupConcerts(Collection<Long> concertIds) {
+        pruneFinishedProgress();
+
+        List<CompletableFuture<WarmupStatus>> futures = new ArrayList<>(concertIds.size());
+        for (Long concertId : concertIds) {
+            WarmupProgress progress = new WarmupProgress(concertId);
+            progressByConcert.put(concertId, progress);
+            try {
+                futures.add(CompletableFuture.supplyAsync(() -> runWarmup(progress), warmupExecutor));
+            } catch (RejectedExecutionException e) {
+                progress.fail("Warm-up 실행기가 종료되었습니다.");
+                futures.add(CompletableFuture.completedFuture(progress.toStatus()));
+            }
+        }
+
+        return futures.stream().map(CompletableFuture::join).toList();
+    }
+
+    /**
+     * 콘서트별 Warm-up 진행 상황 조회 (최근 시작 순)
+     */
+    public List<WarmupStatus> getProgress() {
+        return progressByConcert.values().stream()
+                .map(WarmupProgress::toStatus)
+                .sorted(Comparator.comparing(WarmupStatus::startedAt).reversed())
+                .toList();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        warmupExecutor.shutdown();
+    }
+
+    private WarmupStatus runWarmup(WarmupProgress progress) {
+        Long concertId = progress.concertId;
+        try {
+            progress.start(concertSeatRepository.countByConcertId(concertId));
+            SeatCacheLoadResult result = seatCacheInitService.initializeSeatCacheFromDB(concertId, progress::updateLoaded);
+            progress.complete(result);
+            log.info("좌석 캐시 Warm-up 완료: concertId={}, seats={}, chunks={}, dbMs={}, redisMs={}, totalMs={}",
+                    concertId, result.totalSeats(), result.chunks(),
+                    result.dbMillis(), result.redisMillis(), result.totalMillis());
+        } catch (Exception e) {
+            progress.fail(e.getMessage());
+            log.error("좌석 캐시 Warm-up 실패: concertId={}", concertId, e);
+        }
+        return progress.toStatus();
+    }
+
+    private void pruneFinishedProgress() {
+        LocalDateTime threshold = LocalDateTime.now().minusHours(PROGRESS_RETENTION_HOURS);
+        progressByConcert.values().removeIf(progress -> progress.isFinished() && progress.startedAt.isBefore(threshold));
+    }
+
+    /**
+     * Warm-up 진행 상태
+     */
+    public enum WarmupState {
+        QUEUED, RUNNING, COMPLETED, FAILED
+    }
+
+    /**
+     * 콘서트별 Warm-up 진행 정보 (Warm-up 스레드가 갱신, 조회 스레드는 toStatus로 읽음)
+     */
+    private static final class WarmupProgress {
+
+        private final Long concertId;
+        private final LocalDateTime startedAt = LocalDateTime.now();
+        private final long queuedNanos = System.nanoTime();
+        private final AtomicInteger loadedSeats = new AtomicInteger(0);
+
+        private volatile WarmupState state = WarmupState.QUEUED;
+        private volatile long totalSeats;
+        private volatile long queueWaitMillis;
+        private volatile SeatCacheLoadResult result;
+        private volatile String error;
+
+        private WarmupProgress(Long concertId) {
+            this.concertId = concertId;
+        }
+
+        private void start(long totalSeats) {
+            this.totalSeats = totalSeats;
+            this.queueWaitMillis = (System.nanoTime() - queuedNanos) / 1_000_000;
+            this.state = WarmupState.RUNNING;
+        }
+
+        private void updateLoaded(int seats) {
+            loadedSeats.set(seats);
+        }
+
+        private void complete(SeatCacheLoadResult result) {
+            this.result = result;
+            this.loadedSeats.set(result.totalSeats());
+            this.state = WarmupState.COMPLETED;
+        }
+
+        private void fail(String error) {
+            this.error = error;
+            this.state = WarmupState.FAILED;
+        }
+
+        private boolean isFinished() {
+            return state == WarmupState.COMPLETED || state == WarmupState.FAILED;
+        }
+
+        private WarmupStatus toStatus() {
+            int loaded = loadedSeats.get();
+            double rate = totalSeats > 0 ? Math.min(100.0, Math.round(loaded * 1000.0 / totalSeats) / 10.0) : 0.0;
+            SeatCacheLoadResult loadResult = result;
+            return new WarmupStatus(concertId, state, loaded, totalSeats, rate, startedAt, queueWaitMillis,
+                    loadResult != null ? loadResult.chunks() : 0,
+                    loadResult != null ? loadResult.dbMillis() : 0,
+                    loadResult != null ? loadResult.redisMillis() : 0,
+                    loadResult != null ? loadResult.totalMillis() : 0,
+                    error);
+        }
+    }
+
+    /**
+     * 콘서트별 Warm-up 진행 상황
+     *
+     * @param concertId       콘서트 ID
+     * @param state           진행 상태
+     * @param loadedSeats     적재 완료 좌석 수
+     * @param totalSeats      전체 좌석 수 (시작 시 DB 기준)
+     * @param progressRate    진행률 (%)
+     * @param startedAt       요청 시각
+     * @param queueWaitMillis 실행 대기 시간 (ms, 동시 실행 수 제한으로 대기한 시간)
+     * @param chunks          청크 수 (완료 시)
+     * @param dbMillis        DB 조회 누적 시간 (ms, 완료 시)
+     * @param redisMillis     Redis 기록/교체 누적 시간 (ms, 완료 시)
+     * @param totalMillis     적재 전체 소요 시간 (ms, 완료 시)
+     * @param error           실패 사유 (실패 시)
+     */
+    public record WarmupStatus(Long concertId, WarmupState state, int loadedSeats, long totalSeats,
+                               double progressRate, LocalDateTime startedAt, long queueWaitMillis, int chunks,
+                               long dbMillis, long redisMillis, long totalMillis, String error) {
+
+        public boolean isCompleted() {
+            return state == WarmupState.COMPLETED;
+        }
+    }
+}
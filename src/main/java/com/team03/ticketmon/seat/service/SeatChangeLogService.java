@@ -0,0 +1,104 @@
+package com.team03.ticketmon.seat.service;
+
+import com.team03.ticketmon._global.util.RedisKeyGenerator;
+import com.team03.ticketmon.seat.config.SeatProperties;
+import com.team03.ticketmon.seat.domain.PackedSeatState;
+import com.team03.ticketmon.seat.domain.SeatStatus.SeatStatusEnum;
+import com.team03.ticketmon.seat.dto.SeatChangeDTO;
+import com.team03.ticketmon.seat.dto.SeatChangesResponseDTO;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.BatchOptions;
+import org.redisson.api.BatchResult;
+import org.redisson.api.RBatch;
+import org.redisson.api.RedissonClient;
+import org.redisson.api.StreamMessageId;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 버전 기반 좌석 변경 로그 조회 서비스
+ * - 모든 좌석 상태 전이는 Lua 스크립트에서 콘서트 버전(seat:version:{concertId})을 1 증가시키고
+ *   같은 번호를 ID로 하는 항목을 변경 로그 Stream(seat:changes:{concertId})에 추가함
+ * - "sinceVersion 이후 변경분"을 정확히 돌려주고, 로그가 잘려 연속성을 보장할 수 없으면 전체 스냅샷으로 대체
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SeatChangeLogService {
+
+    private final RedissonClient redissonClient;
+    private final SeatStateService seatStateService;
+    private final SeatProperties seatProperties;
+
+    /**
+     * 현재 콘서트 좌석 버전 조회 (변경 이력이 없으면 0)
+     */
+    public long getCurrentVersion(Long concertId) {
+        return redissonClient.getAtomicLong(RedisKeyGenerator.seatVersionKey(concertId)).get();
+    }
+
+    /**
+     * sinceVersion 이후 좌석 변경분 조회
+     * - 버전과 변경 로그를 하나의 MULTI/EXEC로 읽어 두 값이 같은 시점을 가리키도록 보장
+     *
+     * @param concertId     콘서트 ID
+     * @param sinceVersion  클라이언트가 마지막으로 반영한 버전 (0이면 전체 스냅샷)
+     * @param currentUserId 현재 사용자 ID (본인 선점 여부 표시용)
+     */
+    public SeatChangesResponseDTO getChangesSince(Long concertId, long sinceVersion, Long currentUserId) {
+        int maxDeltaSize = seatProperties.getChangeLog().getMaxDeltaSize();
+
+        RBatch batch = redissonClient.createBatch(BatchOptions.defaults()
+                .executionMode(BatchOptions.ExecutionMode.IN_MEMORY_ATOMIC));
+        batch.getAtomicLong(RedisKeyGenerator.seatVersionKey(concertId)).getAsync();
+        batch.<String, String>getStream(RedisKeyGenerator.seatChangeLogKey(concertId),
+                StringCodec.INSTANCE)
+                .rangeAsync(maxDeltaSize + 1, new StreamMessageId(sinceVersion + 1, 0), StreamMessageId.MAX);
+        BatchResult<?> result = batch.execute();
+
+        long currentVersion = ((Number) result.getResponses().get(0)).longValue();
+        @SuppressWarnings("unchecked")
+        Map<StreamMessageId, Map<String, String>> entries =
+                (Map<StreamMessageId, Map<String, String>>) result.getResponses().get(1);
+
+        if (sinceVersion > 0 && sinceVersion == currentVersion) {
+            return SeatChangesResponseDTO.delta(concertId, sinceVersion, currentVersion, List.of());
+        }
+
+        // 연속성 검증: 첫 항목이 정확히 sinceVersion + 1 이고 변경량이 상한 이내여야 델타 응답 가능
+        boolean contiguous = sinceVersion > 0 && sinceVersion < currentVersion && entries != null
+                && !entries.isEmpty() && entries.size() <= maxDeltaSize
+                && entries.keySet().iterator().next().getId0() == sinceVersion + 1;
+
+        if (!contiguous) {
+            log.debug("좌석 변경분 스냅샷 대체: concertId={}, sinceVersion={}, currentVersion={}",
+                    concertId, sinceVersion, currentVersion);
+            return SeatChangesResponseDTO.fullSnapshot(concertId, sinceVersion, currentVersion,
+                    seatStateService.getSeatStatusSnapshot(concertId, currentUserId, null));
+        }
+
+        List<SeatChangeDTO> changes = new ArrayList<>(entries.size());
+        entries.forEach((id, fields) -> changes.add(toChange(id, fields, currentUserId)));
+        return SeatChangesResponseDTO.delta(concertId, sinceVersion, currentVersion, changes);
+    }
+
+    private SeatChangeDTO toChange(StreamMessageId id, Map<String, String> fields, Long currentUserId) {
+        int state = Integer.parseInt(fields.get("state"));
+        String userId = fields.get("userId");
+        boolean isMine = PackedSeatState.isHeld(state) && currentUserId != null
+                && userId != null && userId.equals(String.valueOf(currentUserId));
+
+        return new SeatChangeDTO(
+                id.getId0(),
+                Long.valueOf(fields.get("seatId")),
+                SeatStatusEnum.valueOf(fields.get("status")),
+                state,
+                isMine
+        );
+    }
+}
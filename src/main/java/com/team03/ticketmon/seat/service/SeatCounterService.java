@@ -0,0 +1,200 @@
+package com.team03.ticketmon.seat.service;
+
+import com.team03.ticketmon._global.util.RedisKeyGenerator;
+import com.team03.ticketmon.seat.adapter.SeatRedisScriptAdapter;
+import com.team03.ticketmon.seat.domain.SeatAvailabilityCounts;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.BatchOptions;
+import org.redisson.api.BatchResult;
+import org.redisson.api.RBatch;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.ByteArrayCodec;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 좌석 가용성 카운터 서비스
+ * - 상태 전이 스크립트가 패킹 상태와 함께 seat:counts:{concertId}를 원자적으로 증감하므로,
+ *   요약/매진 확인은 좌석 전체를 읽지 않고 카운터 Hash 1회 조회 (구역 수에 비례)
+ * - 정합성 검사: 패킹 상태/순번/구역/카운터/버전을 하나의 MULTI/EXEC로 읽어 재집계 값과 비교
+ *   (검사는 느린 주기로만 수행하며, 복구는 재집계 이후 버전이 바뀌지 않은 경우에만 교체)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SeatCounterService {
+
+    private final RedissonClient redissonClient;
+    private final SeatCacheInitService seatCacheInitService;
+    private final SeatRedisScriptAdapter seatRedisScriptAdapter;
+
+    // 모니터링 지표
+    private final AtomicLong counterMissCount = new AtomicLong(0);
+    private final AtomicLong driftCheckCount = new AtomicLong(0);
+    private final AtomicLong driftDetectedCount = new AtomicLong(0);
+    private final AtomicLong driftRepairedCount = new AtomicLong(0);
+    private final AtomicLong repairConflictCount = new AtomicLong(0);
+    private final AtomicLong lastDriftConcertId = new AtomicLong(0);
+
+    /**
+     * 콘서트 가용성 카운터 조회 (카운터가 없으면 캐시 로딩/재집계 후 조회)
+     *
+     * @param concertId 콘서트 ID
+     * @return 가용성 카운터 (좌석 캐시를 구성할 수 없으면 빈 카운터)
+     */
+    public SeatAvailabilityCounts getCounts(Long concertId) {
+        Map<String, String> hash = readCountsHash(concertId);
+        if (!hash.isEmpty()) {
+            return SeatAvailabilityCounts.fromHash(hash);
+        }
+
+        counterMissCount.incrementAndGet();
+        if (!seatCacheInitService.loadSeatCacheIfAbsent(concertId)) {
+            return SeatAvailabilityCounts.empty();
+        }
+
+        hash = readCountsHash(concertId);
+        if (hash.isEmpty()) {
+            // 카운터 도입 이전에 구성된 캐시: 패킹 상태 기준으로 카운터만 구성
+            checkDrift(concertId, true);
+            hash = readCountsHash(concertId);
+        }
+        return SeatAvailabilityCounts.fromHash(hash);
+    }
+
+    /**
+     * 콘서트 가용성 카운터 조회 (캐시 로딩 없음, 카운터가 없으면 null)
+     */
+    public SeatAvailabilityCounts getCountsIfPresent(Long concertId) {
+        Map<String, String> hash = readCountsHash(concertId);
+        return hash.isEmpty() ? null : SeatAvailabilityCounts.fromHash(hash);
+    }
+
+    /**
+     * 매진 여부 (AVAILABLE 좌석 수 == 0)
+     */
+    public boolean isSoldOut(Long concertId) {
+        return getCounts(concertId).isSoldOut();
+    }
+
+    /**
+     * 카운터 정합성 검사
+     * - 검사 시점의 패킹 상태로 재집계한 값과 카운터 Hash를 비교
+     *
+     * @param concertId 콘서트 ID
+     * @param repair    불일치 시 재집계 값으로 교체할지 여부
+     * @return 검사 결과 (좌석 캐시가 없으면 seatCount 0)
+     */
+    public DriftReport checkDrift(Long concertId, boolean repair) {
+        driftCheckCount.incrementAndGet();
+        CounterRead read = readForDriftCheck(concertId);
+
+        if (read.ordinals().isEmpty()) {
+            return new DriftReport(concertId, read.version(), 0, Map.of(), false);
+        }
+
+        SeatAvailabilityCounts expected = SeatAvailabilityCounts.fromPackedState(
+                read.packedStates(), read.ordinals(), read.sections());
+        SeatAvailabilityCounts actual = SeatAvailabilityCounts.fromHash(read.counts());
+        Map<String, Long> differences = read.counts().isEmpty()
+                ? expected.toHash()
+                : actual.diff(expected);
+
+        if (differences.isEmpty()) {
+            return new DriftReport(concertId, read.version(), read.ordinals().size(), differences, false);
+        }
+
+        driftDetectedCount.incrementAndGet();
+        lastDriftConcertId.set(concertId);
+        log.warn("좌석 가용성 카운터 불일치: concertId={}, version={}, counterExists={}, differences={}",
+                concertId, read.version(), !read.counts().isEmpty(), differences);
+
+        boolean repaired = false;
+        if (repair) {
+            repaired = seatRedisScriptAdapter.replaceCounters(concertId, read.version(), expected.toHash());
+            if (repaired) {
+                driftRepairedCount.incrementAndGet();
+                log.info("좌석 가용성 카운터 복구 완료: concertId={}, version={}", concertId, read.version());
+            } else {
+                // 재집계 이후 좌석 상태가 바뀜 → 다음 검사에서 다시 확인
+                repairConflictCount.incrementAndGet();
+                log.info("좌석 가용성 카운터 복구 보류 (검사 중 상태 변경): concertId={}", concertId);
+            }
+        }
+        return new DriftReport(concertId, read.version(), read.ordinals().size(), differences, repaired);
+    }
+
+    /**
+     * 카운터 통계 조회
+     */
+    public Map<String, Object> getCounterStats() {
+        return Map.of(
+                "counterMissCount", counterMissCount.get(),
+                "driftCheckCount", driftCheckCount.get(),
+                "driftDetectedCount", driftDetectedCount.get(),
+                "driftRepairedCount", driftRepairedCount.get(),
+                "repairConflictCount", repairConflictCount.get(),
+                "lastDriftConcertId", lastDriftConcertId.get()
+        );
+    }
+
+    private Map<String, String> readCountsHash(Long concertId) {
+        return redissonClient.<String, String>getMap(
+                RedisKeyGenerator.seatCountsKey(concertId),
+                        StringCodec.INSTANCE).readAllMap();
+    }
+
+    /**
+     * 패킹 상태 / 순번 / 구역 / 카운터 / 버전을 하나의 MULTI/EXEC로 조회 (검사 기준 시점 일치)
+     */
+    @SuppressWarnings("unchecked")
+    private CounterRead readForDriftCheck(Long concertId) {
+        RBatch batch = redissonClient.createBatch(BatchOptions.defaults()
+                .executionMode(BatchOptions.ExecutionMode.IN_MEMORY_ATOMIC));
+        batch.getBucket(RedisKeyGenerator.seatStateKey(concertId),
+                ByteArrayCodec.INSTANCE).getAsync();
+        batch.getMap(RedisKeyGenerator.seatOrdinalKey(concertId),
+                StringCodec.INSTANCE).readAllMapAsync();
+        batch.getMap(RedisKeyGenerator.seatSectionKey(concertId),
+                StringCodec.INSTANCE).readAllMapAsync();
+        batch.getMap(RedisKeyGenerator.seatCountsKey(concertId),
+                StringCodec.INSTANCE).readAllMapAsync();
+        batch.getAtomicLong(RedisKeyGenerator.seatVersionKey(concertId)).getAsync();
+        BatchResult<?> result = batch.execute();
+
+        List<?> responses = result.getResponses();
+        return new CounterRead(
+                (byte[]) responses.get(0),
+                (Map<String, String>) responses.get(1),
+                (Map<String, String>) responses.get(2),
+                (Map<String, String>) responses.get(3),
+                ((Number) responses.get(4)).longValue()
+        );
+    }
+
+    private record CounterRead(byte[] packedStates, Map<String, String> ordinals, Map<String, String> sections,
+                               Map<String, String> counts, long version) {
+    }
+
+    /**
+     * 카운터 정합성 검사 결과
+     *
+     * @param concertId   콘서트 ID
+     * @param version     검사 기준 콘서트 좌석 버전
+     * @param seatCount   검사한 좌석 수
+     * @param differences 카운터 필드 → (카운터 값 - 재집계 값), 카운터가 없으면 재집계 값 전체
+     * @param repaired    재집계 값으로 교체했는지 여부
+     */
+    public record DriftReport(Long concertId, long version, int seatCount, Map<String, Long> differences,
+                              boolean repaired) {
+
+        public boolean hasDrift() {
+            return !differences.isEmpty();
+        }
+    }
+}
@@ -0,0 +1,187 @@
+package com.team03.ticketmon.seat.service;
+
+import com.team03.ticketmon._global.util.RedisKeyGenerator;
+import com.team03.ticketmon.seat.adapter.SeatRedisScriptAdapter;
+import com.team03.ticketmon.seat.adapter.SeatRedisScriptAdapter.ReleaseResult;
+import com.team03.ticketmon.seat.adapter.SeatStatusShardRouter;
+import com.team03.ticketmon.seat.config.SeatProperties;
+import com.team03.ticketmon.seat.domain.SeatStatus;
+import com.team03.ticketmon.seat.domain.SeatStatus.SeatStatusEnum;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RScoredSortedSet;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 임시 선점 만료 처리 서비스 (선점 만료 큐 기반)
+ * - 선점 시 seat:expiry:{concertId} Sorted Set에 만료 시각(score)으로 등록 (상태 전이 스크립트에서 원자적으로 갱신)
+ * - 만료 시각이 지난 좌석을 배치 단위로 꺼내 하나의 스크립트로 일괄 해제하고, 배치 이벤트 1건으로 알림
+ * - 해제 여부는 스크립트가 현재 상태와 TTL 키로 다시 판단하므로 여러 서버가 동시에 실행해도 안전 (멱등)
+ * - Keyspace Notification(notify-keyspace-events)에 의존하지 않으며, 재시작 중 만료된 선점도 다음 실행에서 처리
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SeatHoldExpiryService {
+
+    private final RedissonClient redissonClient;
+    private final SeatRedisScriptAdapter seatRedisScriptAdapter;
+    private final SeatStatusEventPublisher eventPublisher;
+    private final SeatNearCache seatNearCache;
+    private final SeatProperties seatProperties;
+    private final SeatStatusShardRouter seatStatusShardRouter;
+
+    // 모니터링 지표
+    private final AtomicLong runCount = new AtomicLong(0);
+    private final AtomicLong releasedSeatCount = new AtomicLong(0);
+    private final AtomicLong scriptCallCount = new AtomicLong(0);
+    private final AtomicLong failedConcertCount = new AtomicLong(0);
+    private final AtomicLong maxReleaseLagMs = new AtomicLong(0);
+    private final AtomicLong lastRunDurationMs = new AtomicLong(0);
+
+    /**
+     * 만료 대기 선점이 있는 콘서트 ID 목록 (워커 순회 대상)
+     */
+    public Set<String> getConcertsWithPendingExpiry() {
+        return redissonClient.<String>getSet(RedisKeyGenerator.SEAT_EXPIRY_CONCERTS_KEY, StringCodec.INSTANCE).readAll();
+    }
+
+    /**
+     * 만료 대기 선점이 있는 모든 콘서트 처리 (선점 만료 워커에서 호출)
+     *
+     * @return 해제된 좌석 수
+     */
+    public int releaseAllExpiredHolds() {
+        long startNanos = System.nanoTime();
+        int released = 0;
+
+        for (String concertId : getConcertsWithPendingExpiry()) {
+            try {
+                released += releaseExpiredHolds(Long.valueOf(concertId));
+            } catch (Exception e) {
+                failedConcertCount.incrementAndGet();
+                log.error("만료 선점 해제 실패: concertId={}", concertId, e);
+            }
+        }
+
+        runCount.incrementAndGet();
+        lastRunDurationMs.set(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+        return released;
+    }
+
+    /**
+     * 특정 콘서트의 만료된 임시 선점 일괄 해제
+     * - 배치마다: 만료 큐 조회 → 후보 좌석 상태 조회 → 해제 스크립트 1회 → 배치 이벤트 1건
+     *
+     * @return 해제된 좌석 수
+     */
+    public int releaseExpiredHolds(Long concertId) {
+        SeatProperties.Expiry expiry = seatProperties.getExpiry();
+        RScoredSortedSet<String> expiryQueue = redissonClient.getScoredSortedSet(
+                seatRedisScriptAdapter.getExpiryQueueKey(concertId), StringCodec.INSTANCE);
+        long lastUpdateTtlSecs = TimeUnit.HOURS.toSeconds(seatProperties.getReservation().getLastUpdateTtlHours());
+
+        int released = 0;
+        for (int batch = 0; batch < expiry.getMaxBatchesPerRun(); batch++) {
+            long now = System.currentTimeMillis();
+            Collection<String> dueSeatIds = expiryQueue.valueRange(
+                    Double.NEGATIVE_INFINITY, true, now, true, 0, expiry.getBatchSize());
+            if (dueSeatIds.isEmpty()) {
+                break;
+            }
+
+            Map<String, SeatStatus> currentSeats = seatStatusShardRouter.getAll(concertId, dueSeatIds);
+
+            // 조회 시점에 만료 시간이 있는 선점만 AVAILABLE 값을 준비 (최종 판단은 스크립트에서 수행)
+            Map<Long, SeatStatus> candidates = new LinkedHashMap<>();
+            for (String seatId : dueSeatIds) {
+                SeatStatus current = currentSeats.get(seatId);
+                boolean expiringHold = current != null && current.isReserved() && current.getExpiresAt() != null;
+                candidates.put(Long.valueOf(seatId), expiringHold ? toAvailable(current) : null);
+            }
+
+            ReleaseResult result = seatRedisScriptAdapter.releaseExpiredHolds(concertId, candidates, lastUpdateTtlSecs);
+            scriptCallCount.incrementAndGet();
+
+            if (result.releasedSeatIds().isEmpty()) {
+                // TTL 키가 남아 건너뛴 좌석은 만료 큐 앞에 그대로 남으므로, 같은 후보를 반복 조회하지 않고 다음 실행에서 재확인
+                break;
+            }
+
+            List<SeatStatus> releasedSeats = new ArrayList<>(result.releasedSeatIds().size());
+            for (Long seatId : result.releasedSeatIds()) {
+                SeatStatus previous = currentSeats.get(String.valueOf(seatId));
+                recordReleaseLag(previous, now);
+                releasedSeats.add(candidates.get(seatId));
+                seatNearCache.invalidate(concertId, seatId);
+            }
+            eventPublisher.publishSeatUpdates(concertId, releasedSeats, result.version());
+            released += releasedSeats.size();
+
+            log.info("만료 선점 일괄 해제: concertId={}, candidates={}, released={}, version={}",
+                    concertId, candidates.size(), releasedSeats.size(), result.version());
+
+            if (dueSeatIds.size() < expiry.getBatchSize()) {
+                break;
+            }
+        }
+
+        releasedSeatCount.addAndGet(released);
+        return released;
+    }
+
+    /**
+     * 선점 상태 → 해제 후 AVAILABLE 상태
+     */
+    private SeatStatus toAvailable(SeatStatus reserved) {
+        return SeatStatus.builder()
+                .id(reserved.getConcertId() + "-" + reserved.getSeatId())
+                .concertId(reserved.getConcertId())
+                .seatId(reserved.getSeatId())
+                .status(SeatStatusEnum.AVAILABLE)
+                .userId(null)
+                .reservedAt(null)
+                .expiresAt(null)
+                .seatInfo(reserved.getSeatInfo())
+                .build();
+    }
+
+    /**
+     * 만료 시각 → 실제 해제 시각 지연 기록
+     */
+    private void recordReleaseLag(SeatStatus previous, long nowMillis) {
+        if (previous == null || previous.getExpiresAt() == null) {
+            return;
+        }
+        long expiresAtMillis = Long.parseLong(SeatRedisScriptAdapter.toExpiryScore(previous.getExpiresAt()));
+        maxReleaseLagMs.accumulateAndGet(Math.max(0, nowMillis - expiresAtMillis), Math::max);
+    }
+
+    /**
+     * 선점 만료 처리 통계 조회 (모니터링용)
+     */
+    public Map<String, Object> getStats() {
+        return Map.of(
+                "pendingConcerts", getConcertsWithPendingExpiry().size(),
+                "runCount", runCount.get(),
+                "releasedSeatCount", releasedSeatCount.get(),
+                "scriptCallCount", scriptCallCount.get(),
+                "failedConcertCount", failedConcertCount.get(),
+                "maxReleaseLagMs", maxReleaseLagMs.get(),
+                "lastRunDurationMs", lastRunDurationMs.get(),
+                "batchSize", seatProperties.getExpiry().getBatchSize(),
+                "pollIntervalMs", seatProperties.getExpiry().getPollIntervalMs()
+        );
+    }
+}
@@ -0,0 +1,278 @@
+package com.team03.ticketmon.seat.service;
+
+import com.team03.ticketmon._global.util.RedisKeyGenerator;
+import com.team03.ticketmon.seat.adapter.SeatStatusCodec;
+import com.team03.ticketmon.seat.adapter.SeatStatusShardRouter;
+import com.team03.ticketmon.seat.config.SeatProperties;
+import com.team03.ticketmon.seat.domain.PackedSeatState;
+import com.team03.ticketmon.seat.domain.SeatHoldJournal;
+import com.team03.ticketmon.seat.domain.SeatStatus;
+import com.team03.ticketmon.seat.repository.SeatHoldJournalRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.BatchOptions;
+import org.redisson.api.BatchResult;
+import org.redisson.api.RBatch;
+import org.redisson.api.RMap;
+import org.redisson.api.RStream;
+import org.redisson.api.RedissonClient;
+import org.redisson.api.StreamMessageId;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 좌석 선점 Write-Behind 저널 서비스
+ * - 선점 경로는 Redis만 갱신하고(DB 동기 기록 없음), 이 서비스가 변경 로그(seat:changes:{concertId})를
+ *   반영 커서(seat:journal_cursor) 이후부터 읽어 seat_hold_journal 테이블에 일괄 INSERT
+ * - 변경 로그가 잘렸거나 캐시 재구성으로 초기화되어 연속성을 보장할 수 없으면, 좌석 Hash 기준 스냅샷으로 콘서트 저널을 교체
+ * - 캐시 재구성 시 좌석별 최신 저널 행에서 유효한 선점(RESERVED / PERMANENTLY_RESERVED)을 조회하여 복원에 사용
+ * ⚠️ 반영 주기(seat.journal.flush-interval-ms) 이내의 전이는 Redis 장애 시 유실될 수 있음 (Write-Behind 특성)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SeatJournalService {
+
+    private final RedissonClient redissonClient;
+    private final SeatStatusCodec seatStatusCodec;
+    private final SeatStatusShardRouter seatStatusShardRouter;
+    private final SeatHoldJournalRepository seatHoldJournalRepository;
+    private final SeatProperties seatProperties;
+
+    // 모니터링 지표
+    private final AtomicLong flushedEntryCount = new AtomicLong(0);
+    private final AtomicLong insertBatchCount = new AtomicLong(0);
+    private final AtomicLong snapshotCount = new AtomicLong(0);
+    private final AtomicLong skippedSnapshotCount = new AtomicLong(0);
+    private final AtomicLong compactedRowCount = new AtomicLong(0);
+    private final AtomicLong restoreLookupFailureCount = new AtomicLong(0);
+
+    /**
+     * 콘서트 변경 로그를 저널에 반영 (반영 스케줄러에서 호출)
+     *
+     * @param concertId 콘서트 ID
+     * @return 기록한 저널 행 수
+     */
+    public int flush(Long concertId) {
+        SeatProperties.Journal journal = seatProperties.getJournal();
+        RMap<String, String> cursors = getCursorMap();
+        String cursorValue = cursors.get(concertId.toString());
+        long cursor = cursorValue != null ? Long.parseLong(cursorValue) : 0L;
+        long currentVersion = redissonClient.getAtomicLong(RedisKeyGenerator.seatVersionKey(concertId)).get();
+
+        if (currentVersion == cursor) {
+            return 0;
+        }
+        if (currentVersion < cursor) {
+            // 버전이 되돌아감 (Redis 데이터 유실 후 재구성) → 커서를 믿을 수 없으므로 스냅샷으로 맞춤
+            return writeSnapshot(concertId);
+        }
+
+        RStream<String, String> changeLog = redissonClient.getStream(
+                RedisKeyGenerator.seatChangeLogKey(concertId), StringCodec.INSTANCE);
+        int batchSize = Math.max(1, journal.getBatchSize());
+        int persisted = 0;
+
+        while (cursor < currentVersion && persisted < journal.getMaxEntriesPerFlush()) {
+            Map<StreamMessageId, Map<String, String>> entries =
+                    changeLog.range(batchSize, new StreamMessageId(cursor + 1, 0), StreamMessageId.MAX);
+
+            // 연속성 검증: 첫 항목이 정확히 cursor + 1 이어야 함 (로그 MAXLEN 절단 / 캐시 재구성 시 초기화)
+            if (entries.isEmpty() || entries.keySet().iterator().next().getId0() != cursor + 1) {
+                log.info("좌석 변경 로그 연속성 없음, 저널 스냅샷 기록: concertId={}, cursor={}, currentVersion={}",
+                        concertId, cursor, currentVersion);
+                return persisted + writeSnapshot(concertId);
+            }
+
+            LocalDateTime recordedAt = LocalDateTime.now();
+            List<SeatHoldJournal> rows = new ArrayList<>(entries.size());
+            long lastVersion = cursor;
+            for (Map.Entry<StreamMessageId, Map<String, String>> entry : entries.entrySet()) {
+                lastVersion = entry.getKey().getId0();
+                rows.add(toJournal(concertId, lastVersion, entry.getValue(), recordedAt));
+            }
+
+            seatHoldJournalRepository.insertAll(rows);
+            cursors.fastPut(concertId.toString(), String.valueOf(lastVersion));
+            insertBatchCount.incrementAndGet();
+
+            cursor = lastVersion;
+            persisted += rows.size();
+        }
+
+        flushedEntryCount.addAndGet(persisted);
+        return persisted;
+    }
+
+    /**
+     * 좌석 Hash 기준 스냅샷으로 콘서트 저널 교체
+     * - 버전과 좌석 Hash(샤드 전체)를 하나의 MULTI/EXEC로 읽어 커서와 스냅샷이 같은 시점을 가리키도록 보장
+     * - 좌석 Hash가 없으면(캐시 미적재) 기존 저널을 지우지 않고 건너뜀 (재구성 시 복원 원본 보존)
+     */
+    private int writeSnapshot(Long concertId) {
+        RBatch batch = redissonClient.createBatch(BatchOptions.defaults()
+                .executionMode(BatchOptions.ExecutionMode.IN_MEMORY_ATOMIC));
+        batch.getAtomicLong(RedisKeyGenerator.seatVersionKey(concertId)).getAsync();
+        for (String statusKey : seatStatusShardRouter.keysOf(concertId)) {
+            batch.<String, SeatStatus>getMap(statusKey, seatStatusCodec).readAllValuesAsync();
+        }
+        BatchResult<?> result = batch.execute();
+
+        long version = ((Number) result.getResponses().get(0)).longValue();
+        List<SeatStatus> seats = new ArrayList<>();
+        for (int i = 1; i < result.getResponses().size(); i++) {
+            @SuppressWarnings("unchecked")
+            Collection<SeatStatus> shardSeats = (Collection<SeatStatus>) result.getResponses().get(i);
+            if (shardSeats != null) {
+                seats.addAll(shardSeats);
+            }
+        }
+
+        if (seats.isEmpty()) {
+            skippedSnapshotCount.incrementAndGet();
+            log.debug("좌석 캐시가 없어 저널 스냅샷 생략: concertId={}", concertId);
+            return 0;
+        }
+
+        LocalDateTime recordedAt = LocalDateTime.now();
+        List<SeatHoldJournal> rows = new ArrayList<>();
+        for (SeatStatus seat : seats) {
+            if (seat.isReserved() && seat.getUserId() != null) {
+                rows.add(SeatHoldJournal.builder()
+                        .concertId(concertId)
+                        .concertSeatId(seat.getSeatId())
+                        .seatVersion(version)
+                        .state(PackedSeatState.codeOf(seat))
+                        .userId(seat.getUserId())
+                        .expiresAt(seat.getExpiresAt())
+                        .recordedAt(recordedAt)
+                        .build());
+            }
+        }
+
+        seatHoldJournalRepository.replaceConcert(concertId, rows);
+        getCursorMap().fastPut(concertId.toString(), String.valueOf(version));
+        snapshotCount.incrementAndGet();
+        flushedEntryCount.addAndGet(rows.size());
+
+        log.info("좌석 선점 저널 스냅샷 기록: concertId={}, version={}, holds={}", concertId, version, rows.size());
+        return rows.size();
+    }
+
+    /**
+     * 저널 압축: 좌석별 최신 행 중 유효한 선점만 남기고 나머지(이전 행, 해제/예매/만료 행) 삭제
+     * - 조회 시점의 최대 journal_id 이하만 삭제하므로 이후 반영된 행은 영향 없음
+     *
+     * @return 삭제한 행 수
+     */
+    @Transactional
+    public int compact(Long concertId) {
+        List<SeatHoldJournal> latest = seatHoldJournalRepository.findLatestByConcertId(concertId);
+        if (latest.isEmpty()) {
+            return 0;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        long maxJournalId = 0;
+        List<Long> keepIds = new ArrayList<>();
+        for (SeatHoldJournal row : latest) {
+            maxJournalId = Math.max(maxJournalId, row.getJournalId());
+            if (row.isLiveHold(now)) {
+                keepIds.add(row.getJournalId());
+            }
+        }
+
+        int deleted = keepIds.isEmpty()
+                ? seatHoldJournalRepository.deleteUpTo(concertId, maxJournalId)
+                : seatHoldJournalRepository.deleteCompactable(concertId, maxJournalId, keepIds);
+        compactedRowCount.addAndGet(deleted);
+
+        if (deleted > 0) {
+            log.debug("좌석 선점 저널 압축: concertId={}, deleted={}, kept={}", concertId, deleted, keepIds.size());
+        }
+        return deleted;
+    }
+
+    /**
+     * 저널 행이 있는 콘서트 ID 목록 (압축 대상)
+     */
+    public List<Long> getJournaledConcertIds() {
+        return seatHoldJournalRepository.findDistinctConcertIds();
+    }
+
+    /**
+     * 캐시 재구성 시 복원할 유효 선점 조회 (concertSeatId → 최신 저널 행)
+     * - 저널 조회 실패 시 빈 결과 (선점 없이 재구성, 기존 동작과 동일)
+     */
+    public Map<Long, SeatHoldJournal> findLiveHolds(Long concertId) {
+        if (!seatProperties.getJournal().isEnabled()) {
+            return Map.of();
+        }
+
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            Map<Long, SeatHoldJournal> holds = new HashMap<>();
+            for (SeatHoldJournal row : seatHoldJournalRepository.findLatestByConcertId(concertId)) {
+                if (row.isLiveHold(now)) {
+                    holds.put(row.getConcertSeatId(), row);
+                }
+            }
+            return holds;
+        } catch (Exception e) {
+            restoreLookupFailureCount.incrementAndGet();
+            log.error("좌석 선점 저널 조회 실패 (선점 복원 없이 재구성): concertId={}", concertId, e);
+            return Map.of();
+        }
+    }
+
+    /**
+     * 저널 통계 조회 (모니터링용)
+     */
+    public Map<String, Object> getJournalStats() {
+        return Map.of(
+                "enabled", seatProperties.getJournal().isEnabled(),
+                "flushedEntryCount", flushedEntryCount.get(),
+                "insertBatchCount", insertBatchCount.get(),
+                "snapshotCount", snapshotCount.get(),
+                "skippedSnapshotCount", skippedSnapshotCount.get(),
+                "compactedRowCount", compactedRowCount.get(),
+                "restoreLookupFailureCount", restoreLookupFailureCount.get(),
+                "flushIntervalMs", seatProperties.getJournal().getFlushIntervalMs()
+        );
+    }
+
+    private RMap<String, String> getCursorMap() {
+        return redissonClient.getMap(RedisKeyGenerator.SEAT_JOURNAL_CURSOR_KEY, StringCodec.INSTANCE);
+    }
+
+    /**
+     * 변경 로그 항목 → 저널 행 (userId / expiresAt 빈 문자열은 null)
+     */
+    private SeatHoldJournal toJournal(Long concertId, long version, Map<String, String> fields,
+                                      LocalDateTime recordedAt) {
+        String userId = fields.get("userId");
+        String expiresAt = fields.get("expiresAt");
+        return SeatHoldJournal.builder()
+                .concertId(concertId)
+                .concertSeatId(Long.valueOf(fields.get("seatId")))
+                .seatVersion(version)
+                .state(Integer.parseInt(fields.get("state")))
+                .userId(userId != null && !userId.isEmpty() ? Long.valueOf(userId) : null)
+                .expiresAt(expiresAt != null && !expiresAt.isEmpty()
+                        ? LocalDateTime.ofInstant(Instant.ofEpochMilli(Long.parseLong(expiresAt)), ZoneId.systemDefault())
+                        : null)
+                .recordedAt(recordedAt)
+                .build();
+    }
+}
@@ -1,6 +1,11 @@
 package com.team03.ticketmon.seat.service;
 
 import com.team03.ticketmon._global.util.RedisKeyGenerator;
+import com.team03.ticketmon.seat.adapter.SeatRedisScriptAdapter;
+import com.team03.ticketmon.seat.adapter.SeatRedisScriptAdapter.HoldCheckOutcome;
+import com.team03.ticketmon.seat.adapter.SeatRedisScriptAdapter.HoldTransitionResult;
+import com.team03.ticketmon.seat.adapter.SeatStatusShardRouter;
+import com.team03.ticketmon.seat.config.SeatProperties;
 import com.team03.ticketmon.seat.domain.SeatStatus;
 import com.team03.ticketmon.seat.domain.SeatStatus.SeatStatusEnum;
 import com.team03.ticketmon.seat.dto.BulkSeatLockResultDTO;
@@ -10,28 +15,32 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.redisson.api.RBucket;
 import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
 
 /**
- * 좌석 영구 선점 처리 서비스 (보상 트랜잭션 패턴 적용)
+ * 좌석 영구 선점 처리 서비스
  *
  * 🔧 주요 개선사항:
  * - 일괄 처리 시 All-or-Nothing 정책 적용
- * - 실패 시 성공한 좌석들을 자동으로 원래 상태로 복원
+ * - 일괄 처리는 사용자 선점 좌석 전체를 단일 Lua 스크립트로 검증/전이 (부분 실패가 없어 보상 처리 불필요)
  * - 기존 단일 좌석 처리 메서드들은 변경 없음
- * - 최소한의 코드 수정으로 안전성 대폭 향상
  *
  * 목적: Redis TTL 삭제 후 좌석 상태를 영구적으로 선점 상태로 변경
  *
  * 주요 기능:
  * - 단일 좌석 영구 선점/복원 (기존 기능)
- * - 다중 좌석 일괄 영구 선점/복원 (보상 트랜잭션 적용)
+ * - 다중 좌석 일괄 영구 선점/복원 (단일 스크립트, 배치 이벤트 1건)
  * - TTL 키 삭제하여 자동 만료 방지
  * - 권한 검증 및 상태 검증
  * - 실시간 이벤트 발행
@@ -49,9 +58,16 @@ public class SeatLockService {
     private final SeatStatusService seatStatusService;
     private final RedissonClient redissonClient;
     private final SeatStatusEventPublisher eventPublisher;
+    private final SeatRedisScriptAdapter seatRedisScriptAdapter;
+    private final SeatStatusShardRouter seatStatusShardRouter;
+    private final SeatNearCache seatNearCache;
+    private final SeatProperties seatProperties;
 
-    // TTL 키 패턴 (SeatStatusService와 동일)
-    private static final String SEAT_TTL_KEY_PREFIX = RedisKeyGenerator.SEAT_TTL_KEY_PREFIX;
+    // 복원된 임시 선점의 유지 시간 (분)
+    private static final long RESTORED_HOLD_TTL_MINUTES = 5;
+
+    // 일괄 전이 중 사용자 선점 좌석이 바뀐 경우 최대 시도 횟수
+    private static final int MAX_BULK_TRANSITION_ATTEMPTS = 2;
 
     // ========== 기존 단일 좌석 처리 메서드들 (변경 없음) ==========
 
@@ -220,21 +236,15 @@ public class SeatLockService {
         }
     }
 
-    // ========== 🔧 새로운 보상 트랜잭션 패턴 적용 다중 좌석 처리 메서드들 ==========
+    // ========== 🔧 다중 좌석 일괄 처리 메서드들 (단일 Lua 스크립트, All-or-Nothing) ==========
 
     /**
-     * 🔧 사용자가 선점한 모든 좌석을 일괄 영구 선점 처리 (보상 트랜잭션 패턴 적용)
-     *
-     * 개선사항:
-     * - 실패 시 성공한 좌석들을 자동으로 원래 상태로 복원
-     * - All-or-Nothing 정책으로 데이터 일관성 보장
-     * - 기존 restoreSeatReservation 메서드 활용으로 최소 수정
+     * 🔧 사용자가 선점한 모든 좌석을 일괄 영구 선점 처리
      *
      * 프로세스:
-     * 1. 사용자의 모든 선점 좌석 조회
-     * 2. 각 좌석에 대해 영구 선점 처리 (순차 실행)
-     * 3. 실패 시 성공한 좌석들을 즉시 복원 (보상 트랜잭션)
-     * 4. 결과 집계 및 통계 생성
+     * 1. 사용자 선점 인덱스와 좌석 상태 조회
+     * 2. 단일 Lua 스크립트로 모든 좌석 검증 + TTL 키 삭제 + 영구 선점 전이 (하나라도 실패하면 아무것도 바뀌지 않음)
+     * 3. 변경된 좌석을 배치 이벤트 1건으로 발행
      *
      * @param concertId 콘서트 ID
      * @param userId 사용자 ID
@@ -242,153 +252,15 @@ public class SeatLockService {
      */
     @Transactional
     public BulkSeatLockResultDTO lockAllUserSeatsPermanently(Long concertId, Long userId) {
-        log.info("사용자 모든 좌석 일괄 영구 선점 요청 (보상 트랜잭션): concertId={}, userId={}", concertId, userId);
-
-        LocalDateTime bulkStartTime = LocalDateTime.now();
-
-        // 🔧 보상 트랜잭션을 위한 성공한 좌석 추적
-        List<Long> successfulSeatIds = new ArrayList<>();
-
-        try {
-            // 1. 사용자의 모든 선점 좌석 조회
-            List<SeatStatus> userReservedSeats = seatStatusService.getUserReservedSeats(concertId, userId);
-
-            if (userReservedSeats.isEmpty()) {
-                log.info("영구 선점할 좌석이 없음: concertId={}, userId={}", concertId, userId);
-                return BulkSeatLockResultDTO.failure(concertId, userId,
-                        BulkSeatLockResultDTO.BulkOperationType.LOCK, "선점된 좌석이 없습니다.");
-            }
-
-            log.info("일괄 영구 선점 대상 좌석 수: {} (concertId={}, userId={})",
-                    userReservedSeats.size(), concertId, userId);
-
-            // 2. 각 좌석에 대해 영구 선점 처리 (순차 실행 + 실패 시 즉시 중단)
-            List<SeatLockResultDTO> seatResults = new ArrayList<>();
-
-            for (SeatStatus seat : userReservedSeats) {
-                log.debug("좌석 영구 선점 처리 중: concertId={}, seatId={}, userId={}",
-                        concertId, seat.getSeatId(), userId);
-
-                SeatLockResultDTO result = lockSeatPermanently(concertId, seat.getSeatId(), userId);
-                seatResults.add(result);
-
-                if (result.isSuccess()) {
-                    // 🔧 성공한 좌석 ID 추적
-                    successfulSeatIds.add(seat.getSeatId());
-                    log.debug("좌석 영구 선점 성공: seatId={}", seat.getSeatId());
-                } else {
-                    // 🔧 실패 시 즉시 보상 트랜잭션 실행
-                    log.warn("좌석 영구 선점 실패 감지: seatId={}, error={}",
-                            seat.getSeatId(), result.getErrorMessage());
-
-                    // 지금까지 성공한 좌석들을 원래 상태로 복원
-                    executeCompensation(concertId, userId, successfulSeatIds);
-
-                    // 전체 실패로 처리
-                    LocalDateTime bulkEndTime = LocalDateTime.now();
-                    return BulkSeatLockResultDTO.builder()
-                            .concertId(concertId)
-                            .userId(userId)
-                            .bulkStartTime(bulkStartTime)
-                            .bulkEndTime(bulkEndTime)
-                            .seatResults(seatResults)
-                            .totalSeats(userReservedSeats.size())
-                            .successCount(0) // 보상 처리로 모든 성공을 취소
-                            .failureCount(userReservedSeats.size())
-                            .allSuccess(false)
-                            .partialSuccess(false)
-                            .operationType(BulkSeatLockResultDTO.BulkOperationType.LOCK)
-                            .errorMessage(String.format("좌석 %d에서 실패 후 전체 롤백 완료: %s",
-                                    seat.getSeatId(), result.getErrorMessage()))
-                            .build();
-                }
-            }
-
-            // 3. 모든 좌석 처리 성공 시 결과 집계 및 반환
-            LocalDateTime bulkEndTime = LocalDateTime.now();
-            BulkSeatLockResultDTO bulkResult = BulkSeatLockResultDTO.allSuccess(
-                    concertId, userId, seatResults,
-                    BulkSeatLockResultDTO.BulkOperationType.LOCK,
-                    bulkStartTime, bulkEndTime
-            );
-
-            log.info("사용자 모든 좌석 일괄 영구 선점 완료 (보상 트랜잭션): {}", bulkResult.getSummary());
-            return bulkResult;
-
-        } catch (Exception e) {
-            log.error("사용자 모든 좌석 일괄 영구 선점 중 예외 발생: concertId={}, userId={}",
-                    concertId, userId, e);
-
-            // 🔧 예외 발생 시에도 보상 트랜잭션 실행
-            executeCompensation(concertId, userId, successfulSeatIds);
-
-            return BulkSeatLockResultDTO.failure(concertId, userId,
-                    BulkSeatLockResultDTO.BulkOperationType.LOCK,
-                    "시스템 오류 후 전체 롤백 완료: " + e.getMessage());
-        }
+        log.info("사용자 모든 좌석 일괄 영구 선점 요청: concertId={}, userId={}", concertId, userId);
+        return transitionAllUserSeats(concertId, userId, BulkSeatLockResultDTO.BulkOperationType.LOCK, false);
     }
 
     /**
-     * 🔧 보상 트랜잭션 실행 메서드 (신규 추가)
+     * 🔧 사용자가 영구 선점한 모든 좌석을 일괄 상태 복원
      *
-     * 성공한 좌석들을 원래 상태(임시 선점)로 복원합니다.
-     * 기존 restoreSeatReservation 메서드를 활용하여 구현합니다.
-     *
-     * @param concertId 콘서트 ID
-     * @param userId 사용자 ID
-     * @param successfulSeatIds 복원할 좌석 ID 목록
-     */
-    private void executeCompensation(Long concertId, Long userId, List<Long> successfulSeatIds) {
-        if (successfulSeatIds.isEmpty()) {
-            log.info("보상 트랜잭션: 복원할 좌석이 없음 (concertId={}, userId={})", concertId, userId);
-            return;
-        }
-
-        log.warn("보상 트랜잭션 시작: 성공한 좌석 {}개를 원래 상태로 복원 (concertId={}, userId={}, seatIds={})",
-                successfulSeatIds.size(), concertId, userId, successfulSeatIds);
-
-        int restoredCount = 0;
-        int compensationFailures = 0;
-
-        // 각 성공한 좌석을 원래 상태로 복원
-        for (Long seatId : successfulSeatIds) {
-            try {
-                // 🔧 기존 restoreSeatReservation 메서드 활용
-                // restoreWithTTL=true로 설정하여 5분 TTL 재설정
-                SeatLockResultDTO restoreResult = restoreSeatReservation(concertId, seatId, userId, true);
-
-                if (restoreResult.isSuccess()) {
-                    restoredCount++;
-                    log.debug("보상 트랜잭션: 좌석 복원 성공 seatId={}", seatId);
-                } else {
-                    compensationFailures++;
-                    log.error("보상 트랜잭션: 좌석 복원 실패 seatId={}, error={}",
-                            seatId, restoreResult.getErrorMessage());
-                }
-            } catch (Exception e) {
-                compensationFailures++;
-                log.error("보상 트랜잭션: 좌석 복원 중 예외 seatId={}", seatId, e);
-            }
-        }
-
-        if (compensationFailures > 0) {
-            log.error("보상 트랜잭션 완료: 복원 성공 {}개, 복원 실패 {}개 - 관리자 확인 필요!",
-                    restoredCount, compensationFailures);
-        } else {
-            log.info("보상 트랜잭션 완료: 모든 좌석 복원 성공 ({}개)", restoredCount);
-        }
-    }
-
-    /**
-     * 🔧 사용자가 영구 선점한 모든 좌석을 일괄 상태 복원 (보상 트랜잭션 패턴 적용)
-     *
-     * 실패 시 부분 성공한 복원들을 다시 영구 선점으로 되돌림
-     *
-     * 프로세스:
-     * 1. 사용자의 모든 영구 선점 좌석 조회 (expiresAt이 null인 RESERVED 상태)
-     * 2. 각 좌석에 대해 상태 복원 처리 (순차 실행)
-     * 3. 실패 시 복원된 좌석들을 다시 영구 선점으로 되돌림 (보상 트랜잭션)
-     * 4. 결과 집계 및 통계 생성
+     * 영구 선점 좌석(expiresAt이 null인 RESERVED 상태)만 대상으로 하며,
+     * 단일 Lua 스크립트로 원자적으로 전이하므로 실패 시 되돌릴 좌석이 없음 (보상 처리 불필요)
      *
      * @param concertId 콘서트 ID
      * @param userId 사용자 ID
@@ -396,138 +268,186 @@ public class SeatLockService {
      * @return 일괄 상태 복원 처리 결과
      */
     public BulkSeatLockResultDTO restoreAllUserSeatsWithCompensation(Long concertId, Long userId, boolean restoreWithTTL) {
-        log.info("사용자 모든 좌석 일괄 상태 복원 요청 (보상 트랜잭션): concertId={}, userId={}, withTTL={}",
+        log.info("사용자 모든 좌석 일괄 상태 복원 요청: concertId={}, userId={}, withTTL={}",
                 concertId, userId, restoreWithTTL);
+        return transitionAllUserSeats(concertId, userId, BulkSeatLockResultDTO.BulkOperationType.RESTORE, restoreWithTTL);
+    }
 
+    /**
+     * 사용자 선점 좌석 일괄 전이 공통 처리
+     * - 조회 이후 사용자의 선점 좌석이 바뀌었으면(HOLDS_CHANGED) 재조회 후 재시도
+     */
+    private BulkSeatLockResultDTO transitionAllUserSeats(Long concertId, Long userId,
+                                                         BulkSeatLockResultDTO.BulkOperationType operationType,
+                                                         boolean restoreWithTTL) {
         LocalDateTime bulkStartTime = LocalDateTime.now();
-
-        // 복원에 성공한 좌석들을 추적 (실패 시 다시 영구 선점으로 되돌리기 위함)
-        List<Long> restoredSeatIds = new ArrayList<>();
+        boolean lock = operationType == BulkSeatLockResultDTO.BulkOperationType.LOCK;
 
         try {
-            // 1. 사용자의 모든 영구 선점 좌석 조회
-            List<SeatStatus> userPermanentlyLockedSeats = getUserPermanentlyLockedSeats(concertId, userId);
+            for (int attempt = 1; ; attempt++) {
+                // 1. 사용자 선점 인덱스의 모든 좌석과 현재 상태 조회
+                Set<String> indexedSeatIds = redissonClient.getSet(
+                        seatRedisScriptAdapter.getUserIndexKey(concertId, userId), StringCodec.INSTANCE).readAll();
+                Map<String, SeatStatus> currentSeats = indexedSeatIds.isEmpty()
+                        ? Map.of()
+                        : seatStatusShardRouter.getAll(concertId, indexedSeatIds);
+
+                // 2. 좌석별 전이 후 상태 계산 (대상이 아닌 좌석은 null)
+                Map<Long, SeatStatus> indexedSeats = new LinkedHashMap<>();
+                Map<Long, SeatStatus> previousSeats = new LinkedHashMap<>();
+                for (String seatId : indexedSeatIds) {
+                    SeatStatus current = currentSeats.get(seatId);
+                    boolean target = current != null && current.isReserved() && userId.equals(current.getUserId())
+                            && (lock || current.getExpiresAt() == null);
+                    indexedSeats.put(Long.valueOf(seatId), target
+                            ? (lock ? createPermanentlyLockedSeat(current) : createRestoredReservation(current, restoreWithTTL))
+                            : null);
+                    if (target) {
+                        previousSeats.put(Long.valueOf(seatId), current);
+                    }
+                }
 
-            if (userPermanentlyLockedSeats.isEmpty()) {
-                log.info("복원할 영구 선점 좌석이 없음: concertId={}, userId={}", concertId, userId);
-                return BulkSeatLockResultDTO.failure(concertId, userId,
-                        BulkSeatLockResultDTO.BulkOperationType.RESTORE, "영구 선점된 좌석이 없습니다.");
-            }
+                if (previousSeats.isEmpty()) {
+                    log.info("일괄 {} 대상 좌석이 없음: concertId={}, userId={}", operationType.getDescription(), concertId, userId);
+                    return BulkSeatLockResultDTO.failure(concertId, userId, operationType,
+                            lock ? "선점된 좌석이 없습니다." : "영구 선점된 좌석이 없습니다.");
+                }
 
-            log.info("일괄 상태 복원 대상 좌석 수: {} (concertId={}, userId={})",
-                    userPermanentlyLockedSeats.size(), concertId, userId);
-
-            // 2. 각 좌석에 대해 상태 복원 처리 (순차 실행 + 실패 시 즉시 중단)
-            List<SeatLockResultDTO> seatResults = new ArrayList<>();
-
-            for (SeatStatus seat : userPermanentlyLockedSeats) {
-                log.debug("좌석 상태 복원 처리 중: concertId={}, seatId={}, userId={}",
-                        concertId, seat.getSeatId(), userId);
-
-                SeatLockResultDTO result = restoreSeatReservation(concertId, seat.getSeatId(), userId, restoreWithTTL);
-                seatResults.add(result);
-
-                if (result.isSuccess()) {
-                    restoredSeatIds.add(seat.getSeatId());
-                    log.debug("좌석 상태 복원 성공: seatId={}", seat.getSeatId());
-                } else {
-                    log.warn("좌석 상태 복원 실패 감지: seatId={}, error={}",
-                            seat.getSeatId(), result.getErrorMessage());
-
-                    // 지금까지 복원된 좌석들을 다시 영구 선점으로 되돌림
-                    executeRestoreCompensation(concertId, userId, restoredSeatIds);
-
-                    // 전체 실패로 처리
-                    LocalDateTime bulkEndTime = LocalDateTime.now();
-                    return BulkSeatLockResultDTO.builder()
-                            .concertId(concertId)
-                            .userId(userId)
-                            .bulkStartTime(bulkStartTime)
-                            .bulkEndTime(bulkEndTime)
-                            .seatResults(seatResults)
-                            .totalSeats(userPermanentlyLockedSeats.size())
-                            .successCount(0) // 보상 처리로 모든 성공을 취소
-                            .failureCount(userPermanentlyLockedSeats.size())
-                            .allSuccess(false)
-                            .partialSuccess(false)
-                            .operationType(BulkSeatLockResultDTO.BulkOperationType.RESTORE)
-                            .errorMessage(String.format("좌석 %d에서 실패 후 전체 롤백 완료: %s",
-                                    seat.getSeatId(), result.getErrorMessage()))
-                            .build();
+                // 3. 단일 스크립트로 검증 + 전이 (All-or-Nothing)
+                HoldTransitionResult result = seatRedisScriptAdapter.transitionUserHolds(concertId, userId, operationType,
+                        indexedSeats, TimeUnit.MINUTES.toSeconds(RESTORED_HOLD_TTL_MINUTES),
+                        TimeUnit.HOURS.toSeconds(seatProperties.getReservation().getLastUpdateTtlHours()));
+
+                switch (result.outcome()) {
+                    case TRANSITIONED -> {
+                        return completeTransition(concertId, userId, operationType, indexedSeats, previousSeats,
+                                result.version(), bulkStartTime);
+                    }
+                    case HOLDS_CHANGED -> {
+                        if (attempt < MAX_BULK_TRANSITION_ATTEMPTS) {
+                            log.info("일괄 {} 중 사용자 선점 좌석 변경 감지, 재시도: concertId={}, userId={}, attempt={}",
+                                    operationType.getDescription(), concertId, userId, attempt);
+                            continue;
+                        }
+                        return BulkSeatLockResultDTO.failure(concertId, userId, operationType,
+                                "처리 중 선점 좌석이 변경되었습니다. 잠시 후 다시 시도해주세요.");
+                    }
+                    case SEAT_UNAVAILABLE -> {
+                        return buildTransitionFailure(concertId, userId, operationType, previousSeats, result,
+                                bulkStartTime);
+                    }
+                    default -> {
+                        log.error("일괄 {} 시 캐시 정보 없음: concertId={}, userId={}",
+                                operationType.getDescription(), concertId, userId);
+                        return BulkSeatLockResultDTO.failure(concertId, userId, operationType,
+                                "좌석 정보를 불러오지 못했습니다. 잠시 후 다시 시도해주세요.");
+                    }
                 }
             }
-
-            // 3. 모든 좌석 처리 성공 시 결과 집계 및 반환
-            LocalDateTime bulkEndTime = LocalDateTime.now();
-            BulkSeatLockResultDTO bulkResult = BulkSeatLockResultDTO.allSuccess(
-                    concertId, userId, seatResults,
-                    BulkSeatLockResultDTO.BulkOperationType.RESTORE,
-                    bulkStartTime, bulkEndTime
-            );
-
-            log.info("사용자 모든 좌석 일괄 상태 복원 완료 (보상 트랜잭션): {}", bulkResult.getSummary());
-            return bulkResult;
-
         } catch (Exception e) {
-            log.error("사용자 모든 좌석 일괄 상태 복원 중 예외 발생: concertId={}, userId={}",
-                    concertId, userId, e);
-
-            // 예외 발생 시에도 보상 트랜잭션 실행
-            executeRestoreCompensation(concertId, userId, restoredSeatIds);
-
-            return BulkSeatLockResultDTO.failure(concertId, userId,
-                    BulkSeatLockResultDTO.BulkOperationType.RESTORE,
-                    "시스템 오류 후 전체 롤백 완료: " + e.getMessage());
+            log.error("사용자 모든 좌석 일괄 {} 중 예외 발생: concertId={}, userId={}",
+                    operationType.getDescription(), concertId, userId, e);
+            return BulkSeatLockResultDTO.failure(concertId, userId, operationType, "시스템 오류: " + e.getMessage());
         }
     }
 
     /**
-     * 🔧 복원 보상 트랜잭션 실행 메서드 (신규 추가)
-     *
-     * 복원에 성공한 좌석들을 다시 영구 선점 상태로 되돌립니다.
-     *
-     * @param concertId 콘서트 ID
-     * @param userId 사용자 ID
-     * @param restoredSeatIds 다시 영구 선점으로 되돌릴 좌석 ID 목록
+     * 일괄 전이 성공 후처리 (Near-Cache 무효화, 배치 이벤트 1건 발행, 결과 집계)
      */
-    private void executeRestoreCompensation(Long concertId, Long userId, List<Long> restoredSeatIds) {
-        if (restoredSeatIds.isEmpty()) {
-            log.info("복원 보상 트랜잭션: 되돌릴 좌석이 없음 (concertId={}, userId={})", concertId, userId);
-            return;
+    private BulkSeatLockResultDTO completeTransition(Long concertId, Long userId,
+                                                     BulkSeatLockResultDTO.BulkOperationType operationType,
+                                                     Map<Long, SeatStatus> indexedSeats,
+                                                     Map<Long, SeatStatus> previousSeats,
+                                                     long version, LocalDateTime bulkStartTime) {
+        LocalDateTime bulkEndTime = LocalDateTime.now();
+        List<SeatStatus> transitioned = new ArrayList<>(previousSeats.size());
+        List<SeatLockResultDTO> seatResults = new ArrayList<>(previousSeats.size());
+
+        for (Map.Entry<Long, SeatStatus> entry : previousSeats.entrySet()) {
+            SeatStatus previous = entry.getValue();
+            SeatStatus next = indexedSeats.get(entry.getKey());
+            transitioned.add(next);
+            seatNearCache.invalidate(concertId, entry.getKey());
+            seatResults.add(SeatLockResultDTO.builder()
+                    .concertId(concertId)
+                    .concertSeatId(entry.getKey())
+                    .userId(userId)
+                    .lockStartTime(bulkStartTime)
+                    .lockEndTime(bulkEndTime)
+                    .previousStatus(previous.getStatus())
+                    .newStatus(next.getStatus())
+                    .ttlKeyRemoved(next.getExpiresAt() == null && previous.getExpiresAt() != null)
+                    .seatInfo(previous.getSeatInfo())
+                    .success(true)
+                    .build());
         }
 
-        log.warn("복원 보상 트랜잭션 시작: 복원된 좌석 {}개를 다시 영구 선점으로 되돌림 (concertId={}, userId={}, seatIds={})",
-                restoredSeatIds.size(), concertId, userId, restoredSeatIds);
-
-        int revertedCount = 0;
-        int compensationFailures = 0;
-
-        // 각 복원된 좌석을 다시 영구 선점으로 되돌림
-        for (Long seatId : restoredSeatIds) {
-            try {
-                // 기존 lockSeatPermanently 메서드 활용
-                SeatLockResultDTO revertResult = lockSeatPermanently(concertId, seatId, userId);
-
-                if (revertResult.isSuccess()) {
-                    revertedCount++;
-                    log.debug("복원 보상 트랜잭션: 좌석 영구 선점 되돌림 성공 seatId={}", seatId);
-                } else {
-                    compensationFailures++;
-                    log.error("복원 보상 트랜잭션: 좌석 영구 선점 되돌림 실패 seatId={}, error={}",
-                            seatId, revertResult.getErrorMessage());
-                }
-            } catch (Exception e) {
-                compensationFailures++;
-                log.error("복원 보상 트랜잭션: 좌석 영구 선점 되돌림 중 예외 seatId={}", seatId, e);
-            }
+        try {
+            eventPublisher.publishSeatUpdates(concertId, transitioned, version);
+        } catch (Exception e) {
+            log.warn("일괄 {} 이벤트 발행 실패: concertId={}, userId={}", operationType.getDescription(), concertId, userId, e);
         }
 
-        if (compensationFailures > 0) {
-            log.error("복원 보상 트랜잭션 완료: 되돌림 성공 {}개, 되돌림 실패 {}개 - 관리자 확인 필요!",
-                    revertedCount, compensationFailures);
-        } else {
-            log.info("복원 보상 트랜잭션 완료: 모든 좌석 되돌림 성공 ({}개)", revertedCount);
+        BulkSeatLockResultDTO bulkResult = BulkSeatLockResultDTO.allSuccess(
+                concertId, userId, seatResults, operationType, bulkStartTime, bulkEndTime);
+        log.info("사용자 모든 좌석 일괄 {} 완료: {}", operationType.getDescription(), bulkResult.getSummary());
+        return bulkResult;
+    }
+
+    /**
+     * 일괄 전이 실패 결과 생성 (스크립트에서 아무 좌석도 변경되지 않음)
+     */
+    private BulkSeatLockResultDTO buildTransitionFailure(Long concertId, Long userId,
+                                                         BulkSeatLockResultDTO.BulkOperationType operationType,
+                                                         Map<Long, SeatStatus> previousSeats,
+                                                         HoldTransitionResult result,
+                                                         LocalDateTime bulkStartTime) {
+        LocalDateTime bulkEndTime = LocalDateTime.now();
+        List<SeatLockResultDTO> seatResults = new ArrayList<>(previousSeats.size());
+        List<String> failures = new ArrayList<>();
+
+        for (Map.Entry<Long, SeatStatus> entry : previousSeats.entrySet()) {
+            String message = switch (result.seatOutcomes().getOrDefault(entry.getKey(), HoldCheckOutcome.NOT_TARGET)) {
+                case ALREADY_BOOKED -> "이미 예매 완료된 좌석입니다.";
+                case NOT_HELD_BY_USER -> "사용자가 선점한 좌석이 아닙니다.";
+                case SEAT_NOT_FOUND -> "존재하지 않는 좌석입니다.";
+                case HOLD_EXPIRED -> "만료된 선점 좌석은 영구 선점할 수 없습니다.";
+                case NOT_PERMANENT -> "영구 선점 상태가 아닌 좌석입니다.";
+                default -> null;
+            };
+            if (message != null) {
+                failures.add(entry.getKey() + ": " + message);
+            }
+            seatResults.add(SeatLockResultDTO.builder()
+                    .concertId(concertId)
+                    .concertSeatId(entry.getKey())
+                    .userId(userId)
+                    .lockStartTime(bulkStartTime)
+                    .lockEndTime(bulkEndTime)
+                    .previousStatus(entry.getValue().getStatus())
+                    .seatInfo(entry.getValue().getSeatInfo())
+                    .success(false)
+                    .errorMessage(message != null ? message : "다른 좌석 처리 실패로 변경되지 않았습니다.")
+                    .build());
         }
+
+        log.warn("사용자 모든 좌석 일괄 {} 실패 (변경된 좌석 없음): concertId={}, userId={}, failures={}",
+                operationType.getDescription(), concertId, userId, failures);
+
+        return BulkSeatLockResultDTO.builder()
+                .concertId(concertId)
+                .userId(userId)
+                .bulkStartTime(bulkStartTime)
+                .bulkEndTime(bulkEndTime)
+                .seatResults(seatResults)
+                .totalSeats(previousSeats.size())
+                .successCount(0)
+                .failureCount(previousSeats.size())
+                .allSuccess(false)
+                .partialSuccess(false)
+                .operationType(operationType)
+                .errorMessage("일괄 " + operationType.getDescription() + " 실패: " + String.join(", ", failures))
+                .build();
     }
 
     // ========== 🔧 기존 메서드들과 호환성을 위한 추가 메서드 (기존 API 유지) ==========
@@ -535,7 +455,7 @@ public class SeatLockService {
     /**
      * 사용자가 영구 선점한 모든 좌석을 일괄 상태 복원 (기존 API 호환)
      *
-     * 기존 API와의 호환성을 위해 유지하되, 내부적으로는 보상 트랜잭션 버전 호출
+     * 기존 API와의 호환성을 위해 유지 (restoreAllUserSeatsWithCompensation과 동일)
      *
      * @param concertId 콘서트 ID
      * @param userId 사용자 ID
@@ -543,7 +463,6 @@ public class SeatLockService {
      * @return 일괄 상태 복원 처리 결과
      */
     public BulkSeatLockResultDTO restoreAllUserSeats(Long concertId, Long userId, boolean restoreWithTTL) {
-        log.info("기존 API 호출 감지 - 보상 트랜잭션 버전으로 처리: concertId={}, userId={}", concertId, userId);
         return restoreAllUserSeatsWithCompensation(concertId, userId, restoreWithTTL);
     }
 
@@ -636,7 +555,7 @@ public class SeatLockService {
      */
     private boolean removeSeatTTLKey(Long concertId, Long concertSeatId) {
         try {
-            String ttlKey = SEAT_TTL_KEY_PREFIX + concertId + ":" + concertSeatId;
+            String ttlKey = RedisKeyGenerator.seatTtlKey(concertId, concertSeatId);
             RBucket<String> bucket = redissonClient.getBucket(ttlKey);
 
             boolean deleted = bucket.delete();
@@ -660,11 +579,11 @@ public class SeatLockService {
      */
     private void createSeatTTLKey(Long concertId, Long concertSeatId) {
         try {
-            String ttlKey = SEAT_TTL_KEY_PREFIX + concertId + ":" + concertSeatId;
+            String ttlKey = RedisKeyGenerator.seatTtlKey(concertId, concertSeatId);
             RBucket<String> bucket = redissonClient.getBucket(ttlKey);
 
             // 5분 TTL로 생성
-            bucket.set("reserved", 5, java.util.concurrent.TimeUnit.MINUTES);
+            bucket.set("reserved", RESTORED_HOLD_TTL_MINUTES, TimeUnit.MINUTES);
 
             log.debug("TTL 키 재생성: key={}, ttl=5분", ttlKey);
 
@@ -694,7 +613,7 @@ public class SeatLockService {
      */
     private SeatStatus createRestoredReservation(SeatStatus currentSeat, boolean withTTL) {
         LocalDateTime expiresAt = withTTL ?
-                LocalDateTime.now().plusMinutes(5) : null;
+                LocalDateTime.now().plusMinutes(RESTORED_HOLD_TTL_MINUTES) : null;
 
         return SeatStatus.builder()
                 .id(currentSeat.getId())
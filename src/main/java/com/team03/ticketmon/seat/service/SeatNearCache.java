@@ -0,0 +1,211 @@
+package com.team03.ticketmon.seat.service;
+
+import com.team03.ticketmon.seat.config.SeatProperties;
+import com.team03.ticketmon.seat.domain.SeatStatus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 좌석 상태 JVM 로컬 Near-Cache (읽기 전용 경로 전용)
+ * - 콘서트별 좌석 상태를 JVM에 보관하고, seat:status:update:* 이벤트 수신 시 해당 좌석을 무효화
+ * - Pub/Sub 메시지 유실(재연결 등)에 대비하여 항목마다 최대 허용 지연(maxStalenessMs)을 두고, 초과 시 Redis에서 재조회
+ * - 로딩 중 무효화가 발생하면 로딩 결과를 저장하지 않음 (콘서트별 무효화 세대 번호 비교)
+ * - JVM 전체 항목 수는 maxEntries로 제한하고, 초과 시 가장 오래 사용하지 않은 항목부터 제거 (LRU)
+ * - 항목이 모두 사라진 콘서트 영역은 제거 (판매가 끝난 콘서트의 영역이 남지 않음)
+ * <br>
+ * ⚠️ 선점/해제/예매 확정 등 쓰기 경로에서는 사용하지 않음 (항상 Redis 원본 기준으로 판단)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SeatNearCache {
+
+    private final SeatProperties seatProperties;
+
+    // 콘서트별 무효화 세대 번호 + 항목 수 (항목이 0개가 되면 제거)
+    private final Map<Long, ConcertRegion> regions = new ConcurrentHashMap<>();
+
+    // 전체 캐시 항목 (접근 순서 LRU, 항목/영역 변경은 모두 이 맵의 모니터 안에서 수행)
+    private final LinkedHashMap<SeatKey, CachedSeat> entries = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<SeatKey, CachedSeat> eldest) {
+            if (size() <= seatProperties.getNearCache().getMaxEntries()) {
+                return false;
+            }
+            evictedCount.incrementAndGet();
+            releaseEntry(eldest.getKey().concertId());
+            return true;
+        }
+    };
+
+    // 모니터링 지표
+    private final AtomicLong hitCount = new AtomicLong(0);
+    private final AtomicLong missCount = new AtomicLong(0);
+    private final AtomicLong staleCount = new AtomicLong(0);
+    private final AtomicLong invalidationCount = new AtomicLong(0);
+    private final AtomicLong discardedLoadCount = new AtomicLong(0);
+    private final AtomicLong evictedCount = new AtomicLong(0);
+
+    /**
+     * Near-Cache를 거친 좌석 상태 조회
+     * - 캐시 미사용 설정이면 loader를 그대로 호출
+     *
+     * @param concertId 콘서트 ID
+     * @param seatId    좌석 ID
+     * @param loader    Redis 원본 조회 (캐시 미스 또는 허용 지연 초과 시 호출)
+     */
+    public Optional<SeatStatus> get(Long concertId, Long seatId, Supplier<Optional<SeatStatus>> loader) {
+        if (!seatProperties.getNearCache().isEnabled()) {
+            return loader.get();
+        }
+
+        SeatKey key = new SeatKey(concertId, seatId);
+        CachedSeat cached;
+        synchronized (entries) {
+            cached = entries.get(key);
+        }
+        long now = System.nanoTime();
+
+        if (cached != null) {
+            if (now - cached.loadedAtNanos() <= maxStalenessNanos()) {
+                hitCount.incrementAndGet();
+                return Optional.of(cached.seatStatus());
+            }
+            staleCount.incrementAndGet();
+        } else {
+            missCount.incrementAndGet();
+        }
+
+        // 로딩 시작 시점의 영역과 세대 번호를 기억해두고, 로딩 중 무효화가 있었다면 결과를 캐시하지 않음
+        ConcertRegion region = regions.computeIfAbsent(concertId, k -> new ConcertRegion());
+        long generation = region.generation.get();
+        Optional<SeatStatus> loaded = loader.get();
+        store(key, region, loaded.orElse(null), generation, now);
+        return loaded;
+    }
+
+    /**
+     * 좌석 단건 무효화 (이벤트 수신 및 로컬 쓰기 직후 호출)
+     */
+    public void invalidate(Long concertId, Long seatId) {
+        ConcertRegion region = regions.get(concertId);
+        if (region == null) {
+            return;
+        }
+        region.generation.incrementAndGet();
+        synchronized (entries) {
+            if (entries.remove(new SeatKey(concertId, seatId)) != null) {
+                releaseEntry(concertId);
+            }
+        }
+        invalidationCount.incrementAndGet();
+    }
+
+    /**
+     * 콘서트 전체 무효화 (캐시 초기화/삭제 시 호출)
+     */
+    public void invalidateConcert(Long concertId) {
+        ConcertRegion region = regions.get(concertId);
+        if (region == null) {
+            return;
+        }
+        region.generation.incrementAndGet();
+        int removed;
+        synchronized (entries) {
+            removed = region.entryCount;
+            if (removed > 0) {
+                entries.keySet().removeIf(key -> key.concertId().equals(concertId));
+            }
+            region.entryCount = 0;
+            regions.remove(concertId, region);
+        }
+        invalidationCount.incrementAndGet();
+        log.debug("좌석 Near-Cache 콘서트 무효화: concertId={}, entries={}", concertId, removed);
+    }
+
+    /**
+     * 로딩 결과 저장
+     * - 무효화 세대가 바뀌었거나, 로딩 중 영역이 제거된 경우 저장하지 않음
+     * - 저장하지 않았고 영역에 항목이 없으면 영역 제거
+     */
+    private void store(SeatKey key, ConcertRegion region, SeatStatus seatStatus, long generation, long loadedAtNanos) {
+        synchronized (entries) {
+            boolean live = regions.get(key.concertId()) == region;
+            if (seatStatus != null && (!live || region.generation.get() != generation)) {
+                discardedLoadCount.incrementAndGet();
+            } else if (seatStatus != null) {
+                // 같은 영역의 항목이 LRU로 제거되어도 영역이 비지 않도록 항목 수를 먼저 반영
+                if (!entries.containsKey(key)) {
+                    region.entryCount++;
+                }
+                entries.put(key, new CachedSeat(seatStatus, loadedAtNanos));
+            }
+            if (live && region.entryCount == 0) {
+                regions.remove(key.concertId(), region);
+            }
+        }
+    }
+
+    /**
+     * 항목 1개 제거 반영 (entries 모니터 안에서 호출), 영역에 항목이 남지 않으면 영역 제거
+     */
+    private void releaseEntry(Long concertId) {
+        ConcertRegion region = regions.get(concertId);
+        if (region != null && --region.entryCount == 0) {
+            regions.remove(concertId, region);
+        }
+    }
+
+    private long maxStalenessNanos() {
+        return TimeUnit.MILLISECONDS.toNanos(seatProperties.getNearCache().getMaxStalenessMs());
+    }
+
+    /**
+     * Near-Cache 통계 조회 (모니터링용)
+     */
+    public Map<String, Object> getStats() {
+        long hits = hitCount.get();
+        long lookups = hits + missCount.get() + staleCount.get();
+        int size;
+        synchronized (entries) {
+            size = entries.size();
+        }
+        return Map.of(
+                "enabled", seatProperties.getNearCache().isEnabled(),
+                "maxStalenessMs", seatProperties.getNearCache().getMaxStalenessMs(),
+                "entries", size,
+                "concerts", regions.size(),
+                "hitCount", hits,
+                "missCount", missCount.get(),
+                "staleCount", staleCount.get(),
+                "hitRatio", lookups > 0 ? (double) hits / lookups : 0.0,
+                "invalidationCount", invalidationCount.get(),
+                "discardedLoadCount", discardedLoadCount.get(),
+                "evictedCount", evictedCount.get()
+        );
+    }
+
+    /**
+     * 콘서트별 캐시 영역 (무효화 세대 번호 + 항목 수)
+     */
+    private static class ConcertRegion {
+        private final AtomicLong generation = new AtomicLong(0);
+        // entries 모니터 안에서만 변경
+        private int entryCount;
+    }
+
+    private record SeatKey(Long concertId, Long seatId) {
+    }
+
+    private record CachedSeat(SeatStatus seatStatus, long loadedAtNanos) {
+    }
+}
@@ -1,8 +1,12 @@
 package com.team03.ticketmon.seat.service;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.team03.ticketmon.seat.config.SeatProperties;
+import com.team03.ticketmon.seat.dto.SeatUpdateBatchEventDTO;
 import com.team03.ticketmon.seat.dto.SeatUpdateEventDTO;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
 import org.springframework.web.context.request.async.DeferredResult;
@@ -10,6 +14,7 @@ import org.springframework.web.context.request.async.DeferredResult;
 import java.time.LocalDateTime;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 
 /**
@@ -17,22 +22,30 @@ import java.util.concurrent.atomic.AtomicLong;
  * - 활성 Long Polling 세션들을 콘서트별로 관리
  * - 이벤트 수신 시 해당 콘서트의 모든 대기 세션에 응답
  * - 메모리 누수 방지를 위한 자동 정리 기능
- * - 성능 최적화 및 동시성 개선
+ * - 세션은 sessionId 키의 ConcurrentHashMap에 보관 (등록/제거 O(1), 알림 시 목록 복사 없음)
+ * - 콘서트별/전체/사용자별 세션 수는 카운터로 관리 (조회 O(1))
+ * - 이벤트 응답은 이벤트당 한 번만 JSON 직렬화하여 모든 세션이 같은 byte[]를 공유
  */
 @Slf4j
 @Component
 public class SeatPollingSessionManager {
 
     private final SeatProperties seatProperties;
+    private final ObjectMapper objectMapper;
 
-    // 콘서트별 활성 세션 관리: concertId -> List<PollingSession>
-    private final Map<Long, List<PollingSession>> activeSessions = new ConcurrentHashMap<>();
+    // 콘서트별 활성 세션 관리: concertId -> ConcertSessions(sessionId -> PollingSession)
+    private final Map<Long, ConcertSessions> activeSessions = new ConcurrentHashMap<>();
+
+    // 전체 / 사용자별 세션 수 카운터
+    private final AtomicInteger totalSessionCount = new AtomicInteger(0);
+    private final Map<Long, AtomicInteger> userSessionCounts = new ConcurrentHashMap<>();
 
     // 세션 ID 생성기
     private final AtomicLong sessionIdGenerator = new AtomicLong(0);
 
-    public SeatPollingSessionManager(SeatProperties seatProperties) {
+    public SeatPollingSessionManager(SeatProperties seatProperties, ObjectMapper objectMapper) {
         this.seatProperties = seatProperties;
+        this.objectMapper = objectMapper;
     }
 
     /**
@@ -80,20 +93,18 @@ public class SeatPollingSessionManager {
             return null;
         }
 
-        // 세션 수 제한 확인
         int maxSessions = seatProperties.getSession().getMaxSessionsPerConcert();
-        if (getSessionCount(concertId) >= maxSessions) {
-            log.warn("콘서트 최대 세션 수 초과: concertId={}, currentCount={}",
-                    concertId, getSessionCount(concertId));
-            return null;
-        }
 
         String sessionId = generateSessionId();
         PollingSession session = new PollingSession(sessionId, deferredResult, userId, userAgent);
 
-        // 콘서트별 세션 리스트에 추가 (스레드 안전성 보장)
-        activeSessions.computeIfAbsent(concertId, k -> Collections.synchronizedList(new ArrayList<>()))
-                .add(session);
+        // 콘서트별 세션 수를 먼저 예약하여 동시 등록 시에도 최대 세션 수를 넘지 않도록 보장
+        ConcertSessions concertSessions = addSession(concertId, session, maxSessions);
+        if (concertSessions == null) {
+            log.warn("콘서트 최대 세션 수 초과: concertId={}, currentCount={}",
+                    concertId, getSessionCount(concertId));
+            return null;
+        }
 
         // DeferredResult 완료/타임아웃 시 자동 정리
         deferredResult.onCompletion(() -> removeSession(concertId, sessionId));
@@ -111,34 +122,40 @@ public class SeatPollingSessionManager {
      * @param event 좌석 업데이트 이벤트
      */
     public void notifyWaitingSessions(SeatUpdateEventDTO event) {
-        Long concertId = event.concertId();
-        List<PollingSession> sessions = activeSessions.get(concertId);
+        notifyWaitingSessions(event.concertId(), List.of(event));
+    }
+
+    /**
+     * 특정 콘서트의 모든 대기 세션에 여러 좌석 변경을 한 번에 알림 (배치 이벤트용)
+     * - 응답은 한 번만 구성하여 모든 세션에 동일하게 전달
+     *
+     * @param concertId 콘서트 ID
+     * @param events    좌석 업데이트 이벤트 목록
+     */
+    public void notifyWaitingSessions(Long concertId, List<SeatUpdateEventDTO> events) {
+        ConcertSessions concertSessions = activeSessions.get(concertId);
 
-        if (sessions == null || sessions.isEmpty()) {
+        if (concertSessions == null || concertSessions.count.get() == 0) {
             log.debug("알림할 세션이 없음: concertId={}", concertId);
             return;
         }
+        if (events.isEmpty()) {
+            return;
+        }
 
-        // 동시 수정 방지를 위해 복사본에서 작업
-        List<PollingSession> sessionsCopy = new ArrayList<>(sessions);
+        // 이벤트당 1회만 직렬화하여 모든 세션이 같은 응답 객체를 공유
+        ResponseEntity<?> response = createEventResponse(events);
+        if (response == null) {
+            return;
+        }
         int notifiedCount = 0;
         int errorCount = 0;
 
-        for (PollingSession session : sessionsCopy) {
+        // ConcurrentHashMap 순회는 약한 일관성을 보장하므로 복사 없이 순회 (순회 중 등록/제거 허용)
+        for (PollingSession session : concertSessions.sessions.values()) {
             try {
-                DeferredResult<ResponseEntity<?>> deferredResult = session.getDeferredResult();
-
-                if (!deferredResult.isSetOrExpired()) {
-                    // 응답 데이터 구성
-                    Map<String, Object> response = createEventResponse(event);
-                    deferredResult.setResult(ResponseEntity.ok(response));
+                if (session.getDeferredResult().setResult(response)) {
                     notifiedCount++;
-
-                    log.debug("세션 알림 성공: concertId={}, sessionId={}, userId={}",
-                            concertId, session.getSessionId(), session.getUserId());
-                } else {
-                    log.debug("만료된 세션 스킵: concertId={}, sessionId={}",
-                            concertId, session.getSessionId());
                 }
             } catch (Exception e) {
                 errorCount++;
@@ -147,8 +164,8 @@ public class SeatPollingSessionManager {
             }
         }
 
-        log.info("좌석 업데이트 알림 완료: concertId={}, seatId={}, notified={}/{}, errors={}",
-                concertId, event.seatId(), notifiedCount, sessionsCopy.size(), errorCount);
+        log.info("좌석 업데이트 알림 완료: concertId={}, seatCount={}, notified={}, errors={}",
+                concertId, events.size(), notifiedCount, errorCount);
     }
 
     /**
@@ -158,19 +175,56 @@ public class SeatPollingSessionManager {
      * @param sessionId 세션 ID
      */
     public void removeSession(Long concertId, String sessionId) {
-        List<PollingSession> sessions = activeSessions.get(concertId);
-        if (sessions != null) {
-            // 세션 제거 (스레드 안전)
-            sessions.removeIf(session -> sessionId.equals(session.getSessionId()));
-
-            // 빈 리스트이면 맵에서 제거 (메모리 절약)
-            if (sessions.isEmpty()) {
-                activeSessions.remove(concertId);
-            }
+        ConcertSessions concertSessions = activeSessions.get(concertId);
+        if (concertSessions == null) {
+            return;
+        }
+
+        // 완료/타임아웃/정리 스케줄러에서 중복 호출될 수 있으므로 실제로 제거한 경우에만 카운터 감소
+        PollingSession removed = concertSessions.sessions.remove(sessionId);
+        if (removed != null) {
+            concertSessions.count.decrementAndGet();
+            totalSessionCount.decrementAndGet();
+            decrementUserSessionCount(removed.getUserId());
 
             log.debug("폴링 세션 제거: concertId={}, sessionId={}, remainingSessions={}",
-                    concertId, sessionId, sessions.size());
+                    concertId, sessionId, concertSessions.count.get());
+        }
+    }
+
+    /**
+     * 콘서트 세션 목록에 세션 추가 (최대 세션 수 초과 시 null)
+     * - 정리 스케줄러가 빈 콘서트 항목을 제거하는 중에 추가된 경우, 새 항목에 다시 추가
+     */
+    private ConcertSessions addSession(Long concertId, PollingSession session, int maxSessions) {
+        while (true) {
+            ConcertSessions concertSessions = activeSessions.computeIfAbsent(concertId, k -> new ConcertSessions());
+            if (!concertSessions.tryReserve(maxSessions)) {
+                return null;
+            }
+            concertSessions.sessions.put(session.getSessionId(), session);
+
+            if (activeSessions.get(concertId) == concertSessions) {
+                totalSessionCount.incrementAndGet();
+                if (session.getUserId() != null) {
+                    userSessionCounts.computeIfAbsent(session.getUserId(), k -> new AtomicInteger()).incrementAndGet();
+                }
+                return concertSessions;
+            }
+            // 제거된 항목에 추가된 경우 되돌리고 재시도
+            concertSessions.sessions.remove(session.getSessionId());
+            concertSessions.count.decrementAndGet();
+        }
+    }
+
+    /**
+     * 사용자별 세션 수 감소 (0이 되면 항목 제거)
+     */
+    private void decrementUserSessionCount(Long userId) {
+        if (userId == null) {
+            return;
         }
+        userSessionCounts.computeIfPresent(userId, (k, count) -> count.decrementAndGet() <= 0 ? null : count);
     }
 
     /**
@@ -181,23 +235,14 @@ public class SeatPollingSessionManager {
         int cleanedCount = 0;
         int totalSessionsBefore = getTotalSessionCount();
 
-        // ConcurrentHashMap이므로 iterator 사용 가능
-        Iterator<Map.Entry<Long, List<PollingSession>>> concertIterator = activeSessions.entrySet().iterator();
-
-        while (concertIterator.hasNext()) {
-            Map.Entry<Long, List<PollingSession>> entry = concertIterator.next();
+        for (Map.Entry<Long, ConcertSessions> entry : activeSessions.entrySet()) {
             Long concertId = entry.getKey();
-            List<PollingSession> sessions = entry.getValue();
-
-            // 각 콘서트별 세션 정리
-            Iterator<PollingSession> sessionIterator = sessions.iterator();
-            while (sessionIterator.hasNext()) {
-                PollingSession session = sessionIterator.next();
 
+            for (PollingSession session : entry.getValue().sessions.values()) {
                 // 만료 조건: 설정 시간 이상 된 세션 또는 이미 처리된 세션
                 if (session.getStartTime().isBefore(cutoffTime) ||
                         session.getDeferredResult().isSetOrExpired()) {
-                    sessionIterator.remove();
+                    removeSession(concertId, session.getSessionId());
                     cleanedCount++;
 
                     log.debug("만료된 세션 정리: concertId={}, sessionId={}, startTime={}",
@@ -205,10 +250,9 @@ public class SeatPollingSessionManager {
                 }
             }
 
-            // 빈 세션 리스트 제거
-            if (sessions.isEmpty()) {
-                concertIterator.remove();
-            }
+            // 빈 콘서트 항목 제거 (등록과 경합하면 addSession이 새 항목으로 재시도)
+            activeSessions.computeIfPresent(concertId,
+                    (k, concertSessions) -> concertSessions.count.get() == 0 ? null : concertSessions);
         }
 
         if (cleanedCount > 0) {
@@ -221,17 +265,15 @@ public class SeatPollingSessionManager {
      * 특정 콘서트의 활성 세션 수 조회
      */
     public int getSessionCount(Long concertId) {
-        List<PollingSession> sessions = activeSessions.get(concertId);
-        return sessions != null ? sessions.size() : 0;
+        ConcertSessions concertSessions = activeSessions.get(concertId);
+        return concertSessions != null ? concertSessions.count.get() : 0;
     }
 
     /**
      * 전체 활성 세션 수 조회
      */
     public int getTotalSessionCount() {
-        return activeSessions.values().stream()
-                .mapToInt(List::size)
-                .sum();
+        return totalSessionCount.get();
     }
 
     /**
@@ -247,30 +289,45 @@ public class SeatPollingSessionManager {
     public long getUserSessionCount(Long userId) {
         if (userId == null) return 0;
 
-        return activeSessions.values().stream()
-                .flatMap(List::stream)
-                .filter(session -> userId.equals(session.getUserId()))
-                .count();
+        AtomicInteger count = userSessionCounts.get(userId);
+        return count != null ? count.get() : 0;
     }
 
     /**
-     * 이벤트 응답 데이터 구성 (개선된 버전)
+     * 이벤트 응답 구성 (개선된 버전)
+     * - 단건은 SEAT_STATUS_CHANGE, 여러 좌석이면 SEAT_STATUS_BATCH (seatUpdates 구조는 동일)
+     * - JSON으로 한 번만 직렬화한 byte[] 응답 (세션마다 메시지 컨버터가 다시 직렬화하지 않음)
+     *
+     * @return 직렬화 실패 시 null
      */
-    private Map<String, Object> createEventResponse(SeatUpdateEventDTO event) {
-        return Map.of(
+    private ResponseEntity<byte[]> createEventResponse(List<SeatUpdateEventDTO> events) {
+        List<Map<String, Object>> seatUpdates = new ArrayList<>(events.size());
+        for (SeatUpdateEventDTO event : events) {
+            // userId는 AVAILABLE일 때 null이므로 Map.of 대신 HashMap 사용
+            Map<String, Object> seatUpdate = new HashMap<>();
+            seatUpdate.put("seatId", event.seatId());
+            seatUpdate.put("status", event.status().toString());
+            seatUpdate.put("userId", event.userId());
+            seatUpdate.put("seatInfo", event.seatInfo());
+            seatUpdates.add(seatUpdate);
+        }
+
+        Map<String, Object> body = Map.of(
                 "hasUpdate", true,
-                "updateTime", event.timestamp(),
-                "eventType", "SEAT_STATUS_CHANGE",
-                "seatUpdates", List.of(
-                        Map.of(
-                                "seatId", event.seatId(),
-                                "status", event.status().toString(),
-                                "userId", event.userId(),
-                                "seatInfo", event.seatInfo()
-                        )
-                ),
+                "updateTime", events.get(events.size() - 1).timestamp(),
+                "eventType", events.size() == 1 ? "SEAT_STATUS_CHANGE" : SeatUpdateBatchEventDTO.EVENT_TYPE,
+                "seatUpdates", seatUpdates,
                 "serverTime", LocalDateTime.now()
         );
+
+        try {
+            return ResponseEntity.ok()
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(objectMapper.writeValueAsBytes(body));
+        } catch (JsonProcessingException e) {
+            log.error("폴링 이벤트 응답 직렬화 실패: seatCount={}", events.size(), e);
+            return null;
+        }
     }
 
     /**
@@ -292,4 +349,26 @@ public class SeatPollingSessionManager {
                 "lastCleanupTime", LocalDateTime.now()
         );
     }
-}
\ No newline at end of file
+
+    /**
+     * 콘서트별 세션 목록과 세션 수 카운터
+     */
+    private static class ConcertSessions {
+        private final Map<String, PollingSession> sessions = new ConcurrentHashMap<>();
+        private final AtomicInteger count = new AtomicInteger(0);
+
+        /**
+         * 최대 세션 수 이내일 때만 세션 수 1 증가 (CAS)
+         */
+        private boolean tryReserve(int maxSessions) {
+            int current;
+            do {
+                current = count.get();
+                if (current >= maxSessions) {
+                    return false;
+                }
+            } while (!count.compareAndSet(current, current + 1));
+            return true;
+        }
+    }
+}
@@ -0,0 +1,287 @@
+package com.team03.ticketmon.seat.service;
+
+import com.team03.ticketmon._global.util.TaskExecutorFactory;
+import com.team03.ticketmon.seat.config.SeatProperties;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 콘서트별 좌석 상태 SSE 브로드캐스터
+ * - 이벤트는 한 번만 SSE 프레임으로 구성하고, 같은 프레임을 모든 구독자에게 그대로 전송
+ * - 구독자마다 제한된 전송 큐를 두고 공용 전송 스레드가 비움 (한 구독자의 느린 소켓이 다른 구독자를 막지 않음)
+ * - 전송 큐가 가득 찬 구독자는 느린 구독자로 판단하여 연결 종료 (클라이언트는 재연결 또는 Long Polling으로 대체)
+ */
+@Slf4j
+@Service
+public class SeatSseBroadcaster {
+
+    public static final String SEAT_UPDATE_EVENT = "seat-update";
+    public static final String SEAT_UPDATE_BATCH_EVENT = "seat-update-batch";
+
+    private final SeatProperties seatProperties;
+
+    // 콘서트별 SSE 구독자
+    private final Map<Long, Set<SseSubscriber>> subscribers = new ConcurrentHashMap<>();
+
+    private final ThreadPoolTaskExecutor writerExecutor;
+
+    // 모니터링 지표
+    private final AtomicLong subscriberIdGenerator = new AtomicLong(0);
+    private final AtomicLong broadcastEventCount = new AtomicLong(0);
+    private final AtomicLong deliveredEventCount = new AtomicLong(0);
+    private final AtomicLong droppedSlowConsumerCount = new AtomicLong(0);
+    private final AtomicLong writeFailureCount = new AtomicLong(0);
+    private final AtomicLong rejectedSubscriptionCount = new AtomicLong(0);
+
+    public SeatSseBroadcaster(SeatProperties seatProperties) {
+        this.seatProperties = seatProperties;
+        this.writerExecutor = TaskExecutorFactory.fixedPool(
+                "seat-sse-writer-", seatProperties.getSse().getWriterThreads());
+    }
+
+    /**
+     * SSE 구독 등록
+     * - 구독자를 먼저 등록한 뒤 초기 이벤트를 생성하므로, 초기 이벤트 생성 중 발생한 변경도 누락되지 않음
+     *
+     * @param concertId             콘서트 ID
+     * @param userId                사용자 ID
+     * @param initialEventSupplier  연결 직후 전송할 초기 이벤트 (현재 버전 또는 변경분)
+     * @return SseEmitter, 콘서트 최대 구독자 수 초과 시 null
+     */
+    public SseEmitter subscribe(Long concertId, Long userId, Supplier<SseEmitter.SseEventBuilder> initialEventSupplier) {
+        int maxSubscribers = seatProperties.getSse().getMaxSubscribersPerConcert();
+        if (getSubscriberCount(concertId) >= maxSubscribers) {
+            rejectedSubscriptionCount.incrementAndGet();
+            log.warn("콘서트 최대 SSE 구독자 수 초과: concertId={}, max={}", concertId, maxSubscribers);
+            return null;
+        }
+
+        SseEmitter emitter = createEmitter();
+        SseSubscriber subscriber = new SseSubscriber(
+                "sse-" + subscriberIdGenerator.incrementAndGet(), concertId, userId, emitter,
+                new ArrayBlockingQueue<>(seatProperties.getSse().getSendQueueCapacity()));
+
+        subscribers.computeIfAbsent(concertId, k -> ConcurrentHashMap.newKeySet()).add(subscriber);
+
+        emitter.onCompletion(() -> unregister(subscriber));
+        emitter.onTimeout(() -> unregister(subscriber));
+        emitter.onError(throwable -> unregister(subscriber));
+
+        enqueue(subscriber, initialEventSupplier.get().build());
+
+        log.debug("SSE 구독 등록: concertId={}, subscriberId={}, userId={}, totalSubscribers={}",
+                concertId, subscriber.id(), userId, getSubscriberCount(concertId));
+        return emitter;
+    }
+
+    /**
+     * 구독자 SseEmitter 생성 (테스트에서 전송 프레임을 기록하는 Emitter로 대체)
+     */
+    SseEmitter createEmitter() {
+        return new SseEmitter(seatProperties.getSse().getEmitterTimeoutMs());
+    }
+
+    /**
+     * 좌석 상태 이벤트 브로드캐스트
+     * - 수신한 이벤트 JSON을 그대로 data로 사용하여 SSE 프레임을 1회만 구성
+     *
+     * @param concertId 콘서트 ID
+     * @param eventJson 좌석 업데이트 이벤트 JSON (Pub/Sub 메시지 원문)
+     * @param version   이벤트의 좌석 버전 (SSE 이벤트 ID, 모르면 null)
+     */
+    public void broadcast(Long concertId, String eventJson, Long version) {
+        broadcast(concertId, eventJson, SEAT_UPDATE_EVENT, version);
+    }
+
+    /**
+     * 지정한 SSE 이벤트 이름으로 브로드캐스트 (배치 이벤트는 seat-update-batch)
+     * - 버전을 이벤트 ID로 기록하여, 재연결 시 브라우저가 보내는 Last-Event-ID로 놓친 변경분을 조회할 수 있도록 함
+     *   (버전을 모르는 이벤트는 ID 없이 전송 → 브라우저는 마지막으로 받은 ID를 유지)
+     */
+    public void broadcast(Long concertId, String eventJson, String eventName, Long version) {
+        Set<SseSubscriber> concertSubscribers = subscribers.get(concertId);
+        if (concertSubscribers == null || concertSubscribers.isEmpty()) {
+            return;
+        }
+
+        SseEmitter.SseEventBuilder event = SseEmitter.event().name(eventName);
+        if (version != null && version > 0) {
+            event.id(String.valueOf(version));
+        }
+        Set<DataWithMediaType> frame = event.data(eventJson).build();
+        broadcastEventCount.incrementAndGet();
+
+        for (SseSubscriber subscriber : concertSubscribers) {
+            enqueue(subscriber, frame);
+        }
+    }
+
+    /**
+     * 전체 구독자에게 하트비트 전송 (프록시 유휴 연결 종료 방지 및 끊어진 연결 감지)
+     */
+    public void sendHeartbeat() {
+        Set<DataWithMediaType> frame = SseEmitter.event().comment("heartbeat").build();
+        subscribers.values().forEach(concertSubscribers ->
+                concertSubscribers.forEach(subscriber -> enqueue(subscriber, frame)));
+    }
+
+    /**
+     * 구독자 전송 큐에 프레임 추가 (가득 차면 느린 구독자로 판단하여 연결 종료)
+     */
+    private void enqueue(SseSubscriber subscriber, Set<DataWithMediaType> frame) {
+        if (subscriber.closed().get()) {
+            return;
+        }
+        if (!subscriber.queue().offer(frame)) {
+            droppedSlowConsumerCount.incrementAndGet();
+            log.warn("느린 SSE 구독자 연결 종료: concertId={}, subscriberId={}, userId={}, queued={}",
+                    subscriber.concertId(), subscriber.id(), subscriber.userId(), subscriber.queue().size());
+            close(subscriber);
+            return;
+        }
+        scheduleDrain(subscriber);
+    }
+
+    private void scheduleDrain(SseSubscriber subscriber) {
+        if (subscriber.draining().compareAndSet(false, true)) {
+            writerExecutor.execute(() -> drain(subscriber));
+        }
+    }
+
+    /**
+     * 구독자 전송 큐 비우기 (구독자당 동시에 하나의 전송 스레드만 실행)
+     */
+    private void drain(SseSubscriber subscriber) {
+        try {
+            Set<DataWithMediaType> frame;
+            while (!subscriber.closed().get() && (frame = subscriber.queue().poll()) != null) {
+                subscriber.emitter().send(frame);
+                deliveredEventCount.incrementAndGet();
+            }
+        } catch (Exception e) {
+            writeFailureCount.incrementAndGet();
+            log.debug("SSE 전송 실패로 구독 해제: concertId={}, subscriberId={}, error={}",
+                    subscriber.concertId(), subscriber.id(), e.getMessage());
+            unregister(subscriber);
+        } finally {
+            subscriber.draining().set(false);
+            // 플래그 해제 직전에 추가된 프레임 처리
+            if (!subscriber.closed().get() && !subscriber.queue().isEmpty()) {
+                scheduleDrain(subscriber);
+            }
+        }
+    }
+
+    /**
+     * 구독 종료
+     * - 느린 구독자의 소켓 쓰기가 진행 중일 수 있으므로 complete는 전송 스레드에서 수행
+     */
+    private void close(SseSubscriber subscriber) {
+        if (unregister(subscriber)) {
+            writerExecutor.execute(() -> {
+                try {
+                    subscriber.emitter().complete();
+                } catch (Exception e) {
+                    log.debug("SSE 구독 종료 중 오류: subscriberId={}, error={}", subscriber.id(), e.getMessage());
+                }
+            });
+        }
+    }
+
+    /**
+     * 구독자 제거
+     *
+     * @return 이번 호출로 제거된 경우 true
+     */
+    private boolean unregister(SseSubscriber subscriber) {
+        if (!subscriber.closed().compareAndSet(false, true)) {
+            return false;
+        }
+        subscriber.queue().clear();
+
+        subscribers.computeIfPresent(subscriber.concertId(), (concertId, concertSubscribers) -> {
+            concertSubscribers.remove(subscriber);
+            return concertSubscribers.isEmpty() ? null : concertSubscribers;
+        });
+
+        log.debug("SSE 구독 해제: concertId={}, subscriberId={}, userId={}",
+                subscriber.concertId(), subscriber.id(), subscriber.userId());
+        return true;
+    }
+
+    /**
+     * 특정 콘서트의 SSE 구독자 수 조회
+     */
+    public int getSubscriberCount(Long concertId) {
+        Set<SseSubscriber> concertSubscribers = subscribers.get(concertId);
+        return concertSubscribers != null ? concertSubscribers.size() : 0;
+    }
+
+    /**
+     * 전체 SSE 구독자 수 조회
+     */
+    public int getTotalSubscriberCount() {
+        return subscribers.values().stream().mapToInt(Set::size).sum();
+    }
+
+    /**
+     * 브로드캐스터 통계 조회 (모니터링용)
+     */
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("totalSubscribers", getTotalSubscriberCount());
+        stats.put("activeConcerts", subscribers.size());
+        stats.put("broadcastEventCount", broadcastEventCount.get());
+        stats.put("deliveredEventCount", deliveredEventCount.get());
+        stats.put("droppedSlowConsumerCount", droppedSlowConsumerCount.get());
+        stats.put("writeFailureCount", writeFailureCount.get());
+        stats.put("rejectedSubscriptionCount", rejectedSubscriptionCount.get());
+        stats.put("sendQueueCapacity", seatProperties.getSse().getSendQueueCapacity());
+        return stats;
+    }
+
+    /**
+     * 애플리케이션 종료 시 모든 구독 종료
+     */
+    @PreDestroy
+    public void shutdown() {
+        subscribers.values().forEach(concertSubscribers ->
+                concertSubscribers.forEach(subscriber -> {
+                    subscriber.closed().set(true);
+                    try {
+                        subscriber.emitter().complete();
+                    } catch (Exception ignored) {
+                        // 종료 중 오류 무시
+                    }
+                }));
+        subscribers.clear();
+        writerExecutor.shutdown();
+    }
+
+    /**
+     * SSE 구독자 (구독자별 전송 큐와 전송 상태)
+     */
+    private record SseSubscriber(String id, Long concertId, Long userId, SseEmitter emitter,
+                                 BlockingQueue<Set<DataWithMediaType>> queue,
+                                 AtomicBoolean draining, AtomicBoolean closed) {
+
+        SseSubscriber(String id, Long concertId, Long userId, SseEmitter emitter,
+                      BlockingQueue<Set<DataWithMediaType>> queue) {
+            this(id, concertId, userId, emitter, queue, new AtomicBoolean(false), new AtomicBoolean(false));
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package com.team03.ticketmon.seat.service;
+
+import com.team03.ticketmon._global.util.RedisKeyGenerator;
+import com.team03.ticketmon.seat.adapter.SeatStatusShardRouter;
+import com.team03.ticketmon.seat.config.SeatProperties;
+import com.team03.ticketmon.seat.domain.PackedSeatState;
+import com.team03.ticketmon.seat.domain.SeatOrdinalIndex;
+import com.team03.ticketmon.seat.domain.SeatStateSnapshot;
+import com.team03.ticketmon.seat.domain.SeatStatus;
+import com.team03.ticketmon.seat.dto.SeatStatusResponseDTO;
+import com.team03.ticketmon.seat.dto.SeatStatusSnapshotResponseDTO;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.BatchOptions;
+import org.redisson.api.BatchResult;
+import org.redisson.api.RBatch;
+import org.redisson.api.RMap;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.ByteArrayCodec;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 패킹 좌석 상태(seat:state:{concertId}) 기반 전체 좌석 가용성 조회 서비스
+ * - 좌석당 2비트만 Redis에서 전송하고, 좌석 순번 인덱스(정적 메타데이터)는 JVM에 보관
+ * - 상세 정보(선점 사용자, 만료 시간)가 필요한 선점 좌석만 JSON Hash에서 추가 조회
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SeatStateService {
+
+    private final RedissonClient redissonClient;
+    private final SeatCacheInitService seatCacheInitService;
+    private final SeatStatusShardRouter seatStatusShardRouter;
+
+    private final SeatProperties seatProperties;
+
+    // 콘서트별 좌석 순번 인덱스 (generation이 바뀌면 다시 로딩, 최근 조회 순으로 최대 콘서트 수까지만 보관)
+    private final Map<Long, SeatOrdinalIndex> ordinalIndexCache = Collections.synchronizedMap(
+            new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Long, SeatOrdinalIndex> eldest) {
+                    return size() > seatProperties.getCache().getMaxOrdinalIndexes();
+                }
+            });
+
+    /**
+     * 전체 좌석 패킹 상태 스냅샷 조회 - Cache-Aside 패턴 적용
+     * - 패킹 상태가 없고 좌석 Hash가 있으면 Hash 기준으로 재구성, 둘 다 없으면 DB 기반 초기화
+     */
+    public SeatStateSnapshot getSnapshot(Long concertId) {
+        PackedRead read = readPackedState(concertId);
+
+        if (read.packedStates() == null) {
+            log.info("좌석 패킹 상태가 비어있음. 자동 구성 시작: concertId={}", concertId);
+            try {
+                if (seatStatusShardRouter.exists(concertId)) {
+                    seatCacheInitService.rebuildPackedSeatState(concertId);
+                } else {
+                    seatCacheInitService.loadSeatCacheIfAbsent(concertId);
+                }
+                read = readPackedState(concertId);
+            } catch (Exception e) {
+                log.error("좌석 패킹 상태 자동 구성 실패: concertId={}", concertId, e);
+            }
+        }
+
+        if (read.packedStates() == null) {
+            return SeatStateSnapshot.empty(concertId);
+        }
+        return new SeatStateSnapshot(concertId, resolveOrdinalIndex(concertId, read.generation()), read.packedStates());
+    }
+
+    /**
+     * 패킹 상태가 이미 구성된 경우에만 스냅샷 조회 (캐시 초기화를 유발하지 않음)
+     *
+     * @return 패킹 상태가 없으면 null
+     */
+    public SeatStateSnapshot getSnapshotIfPresent(Long concertId) {
+        PackedRead read = readPackedState(concertId);
+        if (read.packedStates() == null) {
+            return null;
+        }
+        return new SeatStateSnapshot(concertId, resolveOrdinalIndex(concertId, read.generation()), read.packedStates());
+    }
+
+    /**
+     * 전체 좌석 상태 응답 생성 (SeatQueryController / 변경분 전체 스냅샷 용)
+     * - 좌석 상태는 패킹 바이트열 그대로 전달 (좌석별 DTO 생성 없음)
+     * - 선점 좌석만 JSON Hash에서 상세 정보 조회 (선점 사용자 여부, 남은 시간)
+     * - 순번 인덱스는 클라이언트 보관본의 세대 번호가 다를 때만 포함
+     *
+     * @param knownGeneration 클라이언트가 보관 중인 순번 인덱스 세대 번호 (없으면 null → 인덱스 포함)
+     */
+    public SeatStatusSnapshotResponseDTO getSeatStatusSnapshot(Long concertId, Long currentUserId, Long knownGeneration) {
+        SeatStateSnapshot snapshot = getSnapshot(concertId);
+        SeatOrdinalIndex index = snapshot.index();
+
+        Set<String> heldSeatIds = new HashSet<>();
+        for (int ordinal = 0; ordinal < snapshot.size(); ordinal++) {
+            if (PackedSeatState.isHeld(snapshot.stateAt(ordinal))) {
+                heldSeatIds.add(String.valueOf(index.seatIdAt(ordinal)));
+            }
+        }
+
+        Map<String, SeatStatus> heldSeats = heldSeatIds.isEmpty() ? Map.of() :
+                seatStatusShardRouter.getAll(concertId, heldSeatIds);
+
+        List<SeatStatusResponseDTO> heldResponses = new ArrayList<>(heldSeats.size());
+        for (SeatStatus held : heldSeats.values()) {
+            heldResponses.add(SeatStatusResponseDTO.from(held, currentUserId));
+        }
+
+        boolean includeIndex = knownGeneration == null || knownGeneration != index.getGeneration();
+        return SeatStatusSnapshotResponseDTO.from(snapshot, heldResponses, includeIndex);
+    }
+
+    /**
+     * 패킹 상태와 세대 번호를 하나의 MULTI/EXEC로 조회 (1회 왕복)
+     */
+    private PackedRead readPackedState(Long concertId) {
+        RBatch batch = redissonClient.createBatch(BatchOptions.defaults()
+                .executionMode(BatchOptions.ExecutionMode.IN_MEMORY_ATOMIC));
+        batch.getBucket(RedisKeyGenerator.seatStateKey(concertId),
+                ByteArrayCodec.INSTANCE).getAsync();
+        batch.getAtomicLong(RedisKeyGenerator.seatLayoutGenerationKey(concertId)).getAsync();
+        BatchResult<?> result = batch.execute();
+
+        byte[] packedStates = (byte[]) result.getResponses().get(0);
+        long generation = ((Number) result.getResponses().get(1)).longValue();
+        return new PackedRead(packedStates, generation);
+    }
+
+    /**
+     * 좌석 순번 인덱스 조회 (세대 번호가 같으면 JVM 보관본 재사용)
+     */
+    private SeatOrdinalIndex resolveOrdinalIndex(Long concertId, long generation) {
+        SeatOrdinalIndex cached = ordinalIndexCache.get(concertId);
+        if (cached != null && cached.getGeneration() == generation) {
+            return cached;
+        }
+
+        RMap<String, String> metaMap = redissonClient.getMap(
+                RedisKeyGenerator.seatMetaKey(concertId), StringCodec.INSTANCE);
+        Map<Long, String> seatInfoBySeatId = new HashMap<>();
+        metaMap.readAllMap().forEach((seatId, seatInfo) -> seatInfoBySeatId.put(Long.valueOf(seatId), seatInfo));
+
+        SeatOrdinalIndex loaded = SeatOrdinalIndex.of(generation, seatInfoBySeatId);
+        ordinalIndexCache.put(concertId, loaded);
+
+        log.debug("좌석 순번 인덱스 로딩: concertId={}, generation={}, seats={}", concertId, generation, loaded.size());
+        return loaded;
+    }
+
+    private record PackedRead(byte[] packedStates, long generation) {
+    }
+}
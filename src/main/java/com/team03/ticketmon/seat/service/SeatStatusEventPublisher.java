@@ -3,17 +3,28 @@ package com.team03.ticketmon.seat.service;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.team03.ticketmon._global.util.RedisKeyGenerator;
+import com.team03.ticketmon.seat.config.SeatProperties;
 import com.team03.ticketmon.seat.domain.SeatStatus;
 import com.team03.ticketmon.seat.domain.SeatStatus.SeatStatusEnum;
+import com.team03.ticketmon.seat.dto.SeatUpdateBatchEventDTO;
 import com.team03.ticketmon.seat.dto.SeatUpdateEventDTO;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.redisson.api.RTopic;
 import org.redisson.api.RedissonClient;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 import org.springframework.stereotype.Service;
 
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 
 /**
@@ -21,6 +32,8 @@ import java.util.concurrent.atomic.AtomicLong;
  * - 좌석 상태 변경 시 Redis Pub/Sub 채널에 이벤트 발행
  * - 실시간 좌석 상태 공유를 위한 핵심 컴포넌트
  * - 발행 통계 및 오류 처리 강화
+ * - 배치 모드(seat.event-batch.enabled): 콘서트별로 짧게 버퍼링하고 같은 좌석 변경은 병합하여
+ *   SEAT_STATUS_BATCH 메시지 하나로 발행 (단건 선점 스크립트도 이 모드에서는 PUBLISH하지 않고 이 버퍼를 거침)
  */
 @Slf4j
 @Service
@@ -29,6 +42,7 @@ public class SeatStatusEventPublisher {
 
     private final RedissonClient redissonClient;
     private final ObjectMapper objectMapper;
+    private final SeatProperties seatProperties;
 
     // Redis 채널 패턴: seat:status:update:{concertId}
     private static final String SEAT_CHANNEL_PREFIX = RedisKeyGenerator.SEAT_CHANNEL_PREFIX;
@@ -37,12 +51,37 @@ public class SeatStatusEventPublisher {
     private final AtomicLong publishedEventCount = new AtomicLong(0);
     private final AtomicLong failedEventCount = new AtomicLong(0);
 
+    // 배치 모드: 콘서트별 버퍼 (발행 후 제거되며, 다음 이벤트가 새 버퍼를 만듦)
+    private final Map<Long, ConcertEventBuffer> eventBuffers = new ConcurrentHashMap<>();
+    // 배치 발행 예약 스케줄러 (빈 종료 시 남은 배치 발행 후 종료)
+    private final ThreadPoolTaskScheduler batchFlushScheduler = createBatchFlushScheduler();
+
+    // 배치 통계
+    private final AtomicLong bufferedEventCount = new AtomicLong(0);
+    private final AtomicLong coalescedEventCount = new AtomicLong(0);
+    private final AtomicLong publishedBatchCount = new AtomicLong(0);
+    private final AtomicLong batchedSeatCount = new AtomicLong(0);
+    private final AtomicLong maxObservedBatchSize = new AtomicLong(0);
+    private final AtomicLong totalBufferDelayMicros = new AtomicLong(0);
+    private final AtomicLong maxBufferDelayMicros = new AtomicLong(0);
+
     /**
      * 좌석 상태 변경 이벤트 발행 (SeatStatus 객체 기반) - 개선된 버전
      *
      * @param seatStatus 변경된 좌석 상태 객체
      */
     public void publishSeatUpdate(SeatStatus seatStatus) {
+        publishSeatUpdate(seatStatus, null);
+    }
+
+    /**
+     * 좌석 상태 변경 이벤트 발행 (변경 후 버전 포함)
+     * - 버전은 SSE 이벤트 ID로 전달되어 재연결 시 Last-Event-ID 기반 델타 조회에 사용됨
+     *
+     * @param seatStatus 변경된 좌석 상태 객체
+     * @param version    변경 로그 버전 (모르면 null)
+     */
+    public void publishSeatUpdate(SeatStatus seatStatus, Long version) {
         // ✅ 개선: 입력 유효성 검증
         if (seatStatus == null) {
             log.warn("SeatStatus가 null입니다. 이벤트 발행을 건너뜁니다.");
@@ -58,7 +97,7 @@ public class SeatStatusEventPublisher {
         }
 
         try {
-            SeatUpdateEventDTO event = SeatUpdateEventDTO.from(seatStatus);
+            SeatUpdateEventDTO event = SeatUpdateEventDTO.from(seatStatus, version);
             publishEvent(event);
 
             log.debug("좌석 상태 이벤트 발행 성공 (SeatStatus): concertId={}, seatId={}, status={}",
@@ -103,6 +142,181 @@ public class SeatStatusEventPublisher {
         }
     }
 
+    /**
+     * 여러 좌석의 상태 변경을 하나의 이벤트로 발행 (일괄 해제/일괄 선점 등 한 번에 전이된 좌석용)
+     * - 배치 모드 설정과 무관하게 즉시 SEAT_STATUS_BATCH 메시지 1건으로 발행 (좌석 1개면 기존 단건 형식)
+     *
+     * @param concertId    콘서트 ID
+     * @param seatStatuses 변경된 좌석 상태 목록
+     * @param version      일괄 변경 후 버전 (모르면 null)
+     */
+    public void publishSeatUpdates(Long concertId, List<SeatStatus> seatStatuses, Long version) {
+        List<SeatUpdateEventDTO> updates = new ArrayList<>(seatStatuses.size());
+        for (SeatStatus seatStatus : seatStatuses) {
+            if (seatStatus != null && isValidSeatStatus(seatStatus)) {
+                updates.add(SeatUpdateEventDTO.from(seatStatus, version));
+            } else {
+                failedEventCount.incrementAndGet();
+            }
+        }
+
+        if (updates.isEmpty()) {
+            return;
+        }
+        if (updates.size() == 1) {
+            publishImmediately(updates.get(0));
+            return;
+        }
+        publishBatch(concertId, updates, updates.get(0).timestamp(), version);
+    }
+
+    /**
+     * 이벤트 발행 경로 선택 (배치 모드면 버퍼링, 아니면 즉시 발행)
+     */
+    private void publishEvent(SeatUpdateEventDTO event) {
+        if (seatProperties.getEventBatch().isEnabled()) {
+            bufferEvent(event);
+        } else {
+            publishImmediately(event);
+        }
+    }
+
+    /**
+     * 배치 버퍼에 이벤트 추가
+     * - 버퍼가 비어 있던 경우 flushIntervalMs 후 발행 예약, 최대 크기에 도달하면 즉시 발행
+     * - 같은 좌석의 이전 변경은 최신 변경으로 대체 (병합)
+     * - 발행이 끝나 제거된 버퍼를 잡은 경우 새 버퍼로 다시 시도
+     */
+    private void bufferEvent(SeatUpdateEventDTO event) {
+        Long concertId = event.concertId();
+
+        boolean firstInBatch;
+        boolean batchFull;
+        while (true) {
+            ConcertEventBuffer buffer = eventBuffers.computeIfAbsent(concertId, k -> new ConcertEventBuffer());
+            synchronized (buffer) {
+                if (buffer.retired) {
+                    continue;
+                }
+                firstInBatch = buffer.pending.isEmpty();
+                if (firstInBatch) {
+                    buffer.firstEnqueuedNanos = System.nanoTime();
+                    buffer.firstEventAt = event.timestamp();
+                }
+                if (buffer.pending.put(event.seatId(), event) != null) {
+                    coalescedEventCount.incrementAndGet();
+                }
+                batchFull = buffer.pending.size() >= seatProperties.getEventBatch().getMaxBatchSize();
+            }
+            break;
+        }
+        bufferedEventCount.incrementAndGet();
+
+        if (batchFull) {
+            batchFlushScheduler.execute(() -> flushBatch(concertId));
+        } else if (firstInBatch) {
+            batchFlushScheduler.schedule(() -> flushBatch(concertId),
+                    Instant.now().plusMillis(seatProperties.getEventBatch().getFlushIntervalMs()));
+        }
+    }
+
+    /**
+     * 콘서트 버퍼를 비우고 발행 (좌석 1개면 기존 단건 메시지 형식 유지)
+     * - 비운 버퍼는 맵에서 제거하여 종료된 콘서트의 빈 버퍼가 남지 않도록 함
+     */
+    private void flushBatch(Long concertId) {
+        ConcertEventBuffer buffer = eventBuffers.get(concertId);
+        if (buffer == null) {
+            return;
+        }
+
+        List<SeatUpdateEventDTO> updates;
+        long firstEnqueuedNanos;
+        LocalDateTime firstEventAt;
+        synchronized (buffer) {
+            buffer.retired = true;
+            eventBuffers.remove(concertId, buffer);
+            if (buffer.pending.isEmpty()) {
+                return;
+            }
+            updates = new ArrayList<>(buffer.pending.values());
+            firstEnqueuedNanos = buffer.firstEnqueuedNanos;
+            firstEventAt = buffer.firstEventAt;
+            buffer.pending.clear();
+        }
+
+        if (updates.size() == 1) {
+            publishImmediately(updates.get(0));
+            return;
+        }
+
+        long bufferDelayMicros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - firstEnqueuedNanos);
+        totalBufferDelayMicros.addAndGet(bufferDelayMicros);
+        maxBufferDelayMicros.accumulateAndGet(bufferDelayMicros, Math::max);
+
+        publishBatch(concertId, updates, firstEventAt, maxVersion(updates));
+    }
+
+    /**
+     * 병합된 변경 중 가장 높은 버전 (버전을 아는 변경이 없으면 null)
+     */
+    private static Long maxVersion(List<SeatUpdateEventDTO> updates) {
+        Long max = null;
+        for (SeatUpdateEventDTO update : updates) {
+            if (update.version() != null && (max == null || update.version() > max)) {
+                max = update.version();
+            }
+        }
+        return max;
+    }
+
+    /**
+     * 배치 이벤트(SEAT_STATUS_BATCH) 발행
+     */
+    private void publishBatch(Long concertId, List<SeatUpdateEventDTO> updates, LocalDateTime firstEventAt,
+                              Long version) {
+        String channelName = SEAT_CHANNEL_PREFIX + concertId;
+        try {
+            String batchJson = objectMapper.writeValueAsString(
+                    SeatUpdateBatchEventDTO.of(concertId, updates, firstEventAt, version));
+            long listenerCount = redissonClient.getTopic(channelName).publish(batchJson);
+
+            publishedEventCount.addAndGet(updates.size());
+            publishedBatchCount.incrementAndGet();
+            batchedSeatCount.addAndGet(updates.size());
+            maxObservedBatchSize.accumulateAndGet(updates.size(), Math::max);
+
+            log.info("좌석 상태 배치 이벤트 발행 완료: channel={}, seatCount={}, listeners={}",
+                    channelName, updates.size(), listenerCount);
+
+        } catch (Exception e) {
+            failedEventCount.addAndGet(updates.size());
+            log.error("좌석 상태 배치 이벤트 발행 실패: concertId={}, seatCount={}", concertId, updates.size(), e);
+        }
+    }
+
+    /**
+     * 애플리케이션 종료 시 남은 배치 발행
+     */
+    @PreDestroy
+    public void flushPendingBatches() {
+        eventBuffers.keySet().forEach(this::flushBatch);
+        batchFlushScheduler.shutdown();
+    }
+
+    /**
+     * 배치 발행 전용 스케줄러 생성
+     * - @EnableWebSocket이 TaskScheduler 빈을 이미 등록하므로, 공용 빈을 추가하지 않고 이 서비스가 생명주기를 관리
+     */
+    private static ThreadPoolTaskScheduler createBatchFlushScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(1);
+        scheduler.setThreadNamePrefix("seat-event-batch-");
+        scheduler.setDaemon(true);
+        scheduler.initialize();
+        return scheduler;
+    }
+
     /**
      * 실제 이벤트 발행 로직 (개선된 버전)
      * - 채널명: seat:status:update:{concertId}
@@ -110,7 +324,7 @@ public class SeatStatusEventPublisher {
      *
      * @param event 발행할 이벤트 객체
      */
-    private void publishEvent(SeatUpdateEventDTO event) {
+    private void publishImmediately(SeatUpdateEventDTO event) {
         try {
             String channelName = SEAT_CHANNEL_PREFIX + event.concertId();
             RTopic topic = redissonClient.getTopic(channelName);
@@ -152,6 +366,15 @@ public class SeatStatusEventPublisher {
         }
     }
 
+    /**
+     * Lua 스크립트 내부에서 직접 PUBLISH된 이벤트를 발행 통계에 반영
+     *
+     * @param count 스크립트가 발행한 이벤트 수
+     */
+    public void recordScriptPublished(int count) {
+        publishedEventCount.addAndGet(count);
+    }
+
     /**
      * SeatStatus 객체 유효성 검증 (새로 추가)
      */
@@ -213,12 +436,23 @@ public class SeatStatusEventPublisher {
         long totalEvents = publishedEventCount.get() + failedEventCount.get();
         double successRate = totalEvents > 0 ? (double) publishedEventCount.get() / totalEvents * 100.0 : 0.0;
 
+        long batches = publishedBatchCount.get();
         return Map.of(
                 "publishedEventCount", publishedEventCount.get(),
                 "failedEventCount", failedEventCount.get(),
                 "totalEventCount", totalEvents,
                 "successRate", successRate,
-                "channelPrefix", SEAT_CHANNEL_PREFIX
+                "channelPrefix", SEAT_CHANNEL_PREFIX,
+                "batching", Map.of(
+                        "enabled", seatProperties.getEventBatch().isEnabled(),
+                        "bufferedEventCount", bufferedEventCount.get(),
+                        "coalescedEventCount", coalescedEventCount.get(),
+                        "publishedBatchCount", batches,
+                        "avgBatchSize", batches > 0 ? (double) batchedSeatCount.get() / batches : 0.0,
+                        "maxBatchSize", maxObservedBatchSize.get(),
+                        "avgBufferDelayMs", batches > 0 ? totalBufferDelayMicros.get() / 1000.0 / batches : 0.0,
+                        "maxBufferDelayMs", maxBufferDelayMicros.get() / 1000.0
+                )
         );
     }
 
@@ -238,6 +472,13 @@ public class SeatStatusEventPublisher {
     public void resetStats() {
         publishedEventCount.set(0);
         failedEventCount.set(0);
+        bufferedEventCount.set(0);
+        coalescedEventCount.set(0);
+        publishedBatchCount.set(0);
+        batchedSeatCount.set(0);
+        maxObservedBatchSize.set(0);
+        totalBufferDelayMicros.set(0);
+        maxBufferDelayMicros.set(0);
         log.info("이벤트 발행 통계가 초기화되었습니다");
     }
 
@@ -266,4 +507,15 @@ public class SeatStatusEventPublisher {
             log.error("테스트 이벤트 발행 실패: concertId={}, seatId={}", concertId, seatId, e);
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * 콘서트별 배치 버퍼 (seatId 기준 병합, 삽입 순서 유지)
+     */
+    private static final class ConcertEventBuffer {
+        private final Map<Long, SeatUpdateEventDTO> pending = new LinkedHashMap<>();
+        private long firstEnqueuedNanos;
+        private LocalDateTime firstEventAt;
+        // 발행 후 맵에서 제거된 버퍼 (더 이상 이벤트를 받지 않음)
+        private boolean retired;
+    }
+}
@@ -1,7 +1,9 @@
 package com.team03.ticketmon.seat.service;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.team03.ticketmon._global.util.RedisKeyGenerator;
+import com.team03.ticketmon.seat.dto.SeatUpdateBatchEventDTO;
 import com.team03.ticketmon.seat.dto.SeatUpdateEventDTO;
 import jakarta.annotation.PostConstruct;
 import jakarta.annotation.PreDestroy;
@@ -12,6 +14,9 @@ import org.redisson.api.RedissonClient;
 import org.redisson.api.listener.PatternMessageListener;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
@@ -20,6 +25,9 @@ import java.util.concurrent.atomic.AtomicLong;
  * 좌석 상태 변경 이벤트 구독 서비스 (개선된 버전)
  * - Redis Pub/Sub 채널에서 좌석 상태 변경 이벤트 수신
  * - 수신된 이벤트를 SeatPollingSessionManager에 전달하여 대기 중인 클라이언트들에게 알림
+ * - SSE 구독자에게는 SeatSseBroadcaster를 통해 메시지 원문을 그대로 전달 (재직렬화 없음)
+ * - 단건 이벤트와 배치 이벤트(SEAT_STATUS_BATCH)를 모두 처리
+ * - 수신한 좌석 변경으로 JVM Near-Cache(SeatNearCache) 항목 무효화
  * - 연결 안정성 및 오류 처리 강화
  */
 @Slf4j
@@ -30,6 +38,8 @@ public class SeatStatusEventSubscriber implements PatternMessageListener<CharSeq
     private final RedissonClient redissonClient;
     private final ObjectMapper objectMapper;
     private final SeatPollingSessionManager sessionManager;
+    private final SeatSseBroadcaster sseBroadcaster;
+    private final SeatNearCache seatNearCache;
 
     // 구독할 채널 패턴: seat:status:update:*
     private static final String SEAT_CHANNEL_PATTERN = RedisKeyGenerator.SEAT_CHANNEL_PATTERN;
@@ -38,6 +48,12 @@ public class SeatStatusEventSubscriber implements PatternMessageListener<CharSeq
     private final AtomicBoolean isSubscribed = new AtomicBoolean(false);
     private final AtomicLong processedEventCount = new AtomicLong(0);
     private final AtomicLong errorEventCount = new AtomicLong(0);
+    private final AtomicLong batchEventCount = new AtomicLong(0);
+
+    // 종단 지연 (변경 발생 → 수신) 통계
+    private final AtomicLong deliveryDelayTotalMs = new AtomicLong(0);
+    private final AtomicLong deliveryDelaySamples = new AtomicLong(0);
+    private final AtomicLong maxDeliveryDelayMs = new AtomicLong(0);
 
     private RPatternTopic patternTopic;
     private int listenerId = -1;
@@ -114,8 +130,20 @@ public class SeatStatusEventSubscriber implements PatternMessageListener<CharSeq
                 return;
             }
 
+            JsonNode root = objectMapper.readTree(messageContent);
+
+            // 배치 이벤트는 eventType 필드로 구분
+            if (SeatUpdateBatchEventDTO.EVENT_TYPE.equals(root.path("eventType").asText())) {
+                handleBatchMessage(channelName, messageContent,
+                        objectMapper.treeToValue(root, SeatUpdateBatchEventDTO.class));
+                return;
+            }
+
             // JSON 메시지를 SeatUpdateEvent 객체로 역직렬화
-            SeatUpdateEventDTO event = objectMapper.readValue(messageContent, SeatUpdateEventDTO.class);
+            SeatUpdateEventDTO event = objectMapper.treeToValue(root, SeatUpdateEventDTO.class);
+
+            // Near-Cache 무효화는 유효성 검증과 무관하게 먼저 수행 (잘못된 좌석 정보여도 변경은 발생한 것)
+            invalidateNearCache(event);
 
             // ✅ 개선: 이벤트 데이터 유효성 검증 강화
             if (!isValidEvent(event)) {
@@ -135,11 +163,13 @@ public class SeatStatusEventSubscriber implements PatternMessageListener<CharSeq
                 return;
             }
 
-            // ✅ 핵심: 세션 매니저에 이벤트 전달
+            // ✅ 핵심: SSE 구독자 및 세션 매니저에 이벤트 전달
+            sseBroadcaster.broadcast(concertId, messageContent, event.version());
             sessionManager.notifyWaitingSessions(event);
 
             // 성공 카운터 증가
             processedEventCount.incrementAndGet();
+            recordDeliveryDelay(event.timestamp());
 
             log.info("좌석 상태 이벤트 처리 완료: concertId={}, seatId={}, status={}, processedTotal={}",
                     concertId, event.seatId(), event.status(), processedEventCount.get());
@@ -151,6 +181,63 @@ public class SeatStatusEventSubscriber implements PatternMessageListener<CharSeq
         }
     }
 
+    /**
+     * 배치 이벤트 처리
+     * - 유효한 좌석 변경만 폴링 세션에 한 번에 전달하고, SSE에는 메시지 원문을 그대로 전달
+     */
+    private void handleBatchMessage(String channelName, String messageContent, SeatUpdateBatchEventDTO batch) {
+        Long concertId = batch.concertId();
+        if (concertId == null || batch.updates() == null || !isChannelConcertIdMatch(channelName, concertId)) {
+            log.warn("유효하지 않은 배치 이벤트 무시: channel={}, concertId={}", channelName, concertId);
+            errorEventCount.incrementAndGet();
+            return;
+        }
+
+        batch.updates().forEach(this::invalidateNearCache);
+
+        List<SeatUpdateEventDTO> validUpdates = batch.updates().stream()
+                .filter(this::isValidEvent)
+                .filter(update -> concertId.equals(update.concertId()))
+                .toList();
+        errorEventCount.addAndGet(batch.updates().size() - validUpdates.size());
+        if (validUpdates.isEmpty()) {
+            return;
+        }
+
+        sseBroadcaster.broadcast(concertId, messageContent, SeatSseBroadcaster.SEAT_UPDATE_BATCH_EVENT,
+                batch.version());
+        sessionManager.notifyWaitingSessions(concertId, validUpdates);
+
+        processedEventCount.addAndGet(validUpdates.size());
+        batchEventCount.incrementAndGet();
+        recordDeliveryDelay(batch.firstEventAt());
+
+        log.info("좌석 상태 배치 이벤트 처리 완료: concertId={}, seatCount={}, processedTotal={}",
+                concertId, validUpdates.size(), processedEventCount.get());
+    }
+
+    /**
+     * 이벤트 좌석의 Near-Cache 항목 무효화
+     */
+    private void invalidateNearCache(SeatUpdateEventDTO event) {
+        if (event != null && event.concertId() != null && event.seatId() != null) {
+            seatNearCache.invalidate(event.concertId(), event.seatId());
+        }
+    }
+
+    /**
+     * 종단 지연 기록 (이벤트 발생 시간 → 수신 시간, 서버 간 시계 동기화 전제)
+     */
+    private void recordDeliveryDelay(LocalDateTime occurredAt) {
+        if (occurredAt == null) {
+            return;
+        }
+        long delayMs = Math.max(0, Duration.between(occurredAt, LocalDateTime.now()).toMillis());
+        deliveryDelayTotalMs.addAndGet(delayMs);
+        deliveryDelaySamples.incrementAndGet();
+        maxDeliveryDelayMs.accumulateAndGet(delayMs, Math::max);
+    }
+
     /**
      * 이벤트 데이터 유효성 검증 (새로 추가)
      *
@@ -220,7 +307,11 @@ public class SeatStatusEventSubscriber implements PatternMessageListener<CharSeq
                 "listenerId", listenerId,
                 "processedEventCount", processedEventCount.get(),
                 "errorEventCount", errorEventCount.get(),
-                "successRate", calculateSuccessRate()
+                "batchEventCount", batchEventCount.get(),
+                "successRate", calculateSuccessRate(),
+                "avgDeliveryDelayMs", deliveryDelaySamples.get() > 0
+                        ? (double) deliveryDelayTotalMs.get() / deliveryDelaySamples.get() : 0.0,
+                "maxDeliveryDelayMs", maxDeliveryDelayMs.get()
         );
     }
 
@@ -1,16 +1,28 @@
 package com.team03.ticketmon.seat.service;
 
 import com.team03.ticketmon._global.util.RedisKeyGenerator;
+import com.team03.ticketmon.seat.adapter.SeatRedisScriptAdapter;
+import com.team03.ticketmon.seat.adapter.SeatRedisScriptAdapter.BulkReserveOutcome;
+import com.team03.ticketmon.seat.adapter.SeatRedisScriptAdapter.BulkReserveResult;
+import com.team03.ticketmon.seat.adapter.SeatRedisScriptAdapter.ReserveOutcome;
+import com.team03.ticketmon.seat.adapter.SeatRedisScriptAdapter.ReserveResult;
+import com.team03.ticketmon.seat.adapter.SeatStatusShardRouter;
 import com.team03.ticketmon.seat.config.SeatProperties;
+import com.team03.ticketmon.seat.config.SeatProperties.ReservationEngine;
+import com.team03.ticketmon.seat.domain.SeatAvailabilityCounts;
 import com.team03.ticketmon.seat.domain.SeatStatus;
 import com.team03.ticketmon.seat.domain.SeatStatus.SeatStatusEnum;
+import com.team03.ticketmon.seat.dto.SeatBulkReserveResponseDTO;
+import com.team03.ticketmon.seat.dto.SeatStatusResponseDTO;
 import com.team03.ticketmon.seat.exception.SeatReservationException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.redisson.api.RBucket;
 import org.redisson.api.RLock;
 import org.redisson.api.RMap;
+import org.redisson.api.RSet;
 import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -27,6 +39,8 @@ import java.util.stream.Collectors;
  * - 분산 락을 활용한 원자적 좌석 선점 처리
  * - 사용자별 좌석 선점 개수 제한 (최대 6개) 추가
  * - 현재 테스트 환경임을 고려하여 선점 개수 제한을 2개로 설정
+ * - 좌석 선점을 단일 Lua 스크립트(1회 왕복)로 처리, 기존 RLock 방식은 설정으로 전환 가능
+ * - 읽기 전용 조회는 JVM Near-Cache(SeatNearCache) 경유 가능, 쓰기 경로는 항상 Redis 원본 조회
  */
 @Slf4j
 @Service
@@ -37,30 +51,24 @@ public class SeatStatusService {
     private final SeatStatusEventPublisher eventPublisher;
     private final SeatCacheInitService seatCacheInitService; // ✅ 추가된 필드
     private final SeatProperties seatProperties;
-
-    // Redis 키 패턴
-    private static final String SEAT_STATUS_KEY_PREFIX = RedisKeyGenerator.SEAT_STATUS_KEY_PREFIX;
-    private static final String SEAT_LOCK_KEY_PREFIX = RedisKeyGenerator.SEAT_LOCK_KEY_PREFIX;
-    private static final String SEAT_TTL_KEY_PREFIX = RedisKeyGenerator.SEAT_TTL_KEY_PREFIX;
-
-    // 업데이트 시간 추적을 위한 키
-    private static final String SEAT_LAST_UPDATE_KEY_PREFIX = RedisKeyGenerator.SEAT_LAST_UPDATE_KEY_PREFIX;
+    private final SeatRedisScriptAdapter seatRedisScriptAdapter;
+    private final SeatStatusShardRouter seatStatusShardRouter;
+    private final SeatNearCache seatNearCache;
+    private final SeatCounterService seatCounterService;
 
     /**
      * ✅ 수정된 전체 좌석 상태 조회 - Cache-Aside 패턴 적용
      */
     public Map<Long, SeatStatus> getAllSeatStatus(Long concertId) {
-        String key = SEAT_STATUS_KEY_PREFIX + concertId;
-        RMap<String, SeatStatus> seatMap = redissonClient.getMap(key);
-
-        Map<String, SeatStatus> rawMap = seatMap.readAllMap();
+        // 샤드 모드에서는 샤드별 HGETALL을 동시에 실행 후 병합
+        Map<String, SeatStatus> rawMap = seatStatusShardRouter.readAll(concertId);
 
         // ✅ Cache Miss 시 자동 초기화
         if (rawMap.isEmpty()) {
             log.info("좌석 캐시가 비어있음. 자동 초기화 시작: concertId={}", concertId);
             try {
-                seatCacheInitService.initializeSeatCacheFromDB(concertId);
-                rawMap = seatMap.readAllMap(); // 재조회
+                seatCacheInitService.loadSeatCacheIfAbsent(concertId);
+                rawMap = seatStatusShardRouter.readAll(concertId); // 재조회
                 log.info("좌석 캐시 자동 초기화 완료: concertId={}, 좌석수={}", concertId, rawMap.size());
             } catch (Exception e) {
                 log.error("좌석 캐시 자동 초기화 실패: concertId={}", concertId, e);
@@ -78,16 +86,15 @@ public class SeatStatusService {
      * ✅ 수정된 개별 좌석 상태 조회 - Cache-Aside 패턴 적용
      */
     public Optional<SeatStatus> getSeatStatus(Long concertId, Long concertSeatId) {
-        String key = SEAT_STATUS_KEY_PREFIX + concertId;
-        RMap<String, SeatStatus> seatMap = redissonClient.getMap(key);
+        RMap<String, SeatStatus> seatMap = seatStatusShardRouter.mapOf(concertId, concertSeatId);
 
         SeatStatus status = seatMap.get(concertSeatId.toString());
 
-        // ✅ 캐시에 없고 전체 캐시도 비어있으면 초기화 시도
-        if (status == null && seatMap.size() == 0) {
+        // ✅ 캐시에 없고 전체 캐시도 비어있으면 초기화 시도 (샤드 하나가 비어 있을 수 있으므로 전체 존재 여부로 판단)
+        if (status == null && !seatStatusShardRouter.exists(concertId)) {
             log.info("개별 좌석 조회 시 캐시 비어있음. 초기화 시도: concertId={}, concertSeatId={}", concertId, concertSeatId);
             try {
-                seatCacheInitService.initializeSeatCacheFromDB(concertId);
+                seatCacheInitService.loadSeatCacheIfAbsent(concertId);
                 status = seatMap.get(concertSeatId.toString()); // 재조회
             } catch (Exception e) {
                 log.error("개별 좌석 조회 시 캐시 초기화 실패: concertId={}, concertSeatId={}", concertId, concertSeatId, e);
@@ -97,24 +104,31 @@ public class SeatStatusService {
         return Optional.ofNullable(status);
     }
 
+    /**
+     * 읽기 전용 개별 좌석 상태 조회 - Near-Cache 경유 (seat.near-cache.enabled=true 일 때)
+     * - 화면 표시 / 사전 검증 용도로만 사용 (최대 seat.near-cache.max-staleness-ms 만큼 지연될 수 있음)
+     * <br>
+     * ⚠️ 선점/해제/예매 확정 판단에는 getSeatStatus(Redis 원본)를 사용해야 함
+     */
+    public Optional<SeatStatus> getSeatStatusForRead(Long concertId, Long concertSeatId) {
+        return seatNearCache.get(concertId, concertSeatId, () -> getSeatStatus(concertId, concertSeatId));
+    }
+
     /**
      * 좌석 상태 업데이트 (기본 버전)
-     * - Redis Hash에 좌석 상태 저장
+     * - Redis Hash에 좌석 상태 저장 (사용자별 선점 인덱스와 함께 원자적으로 갱신)
      * - 실시간 이벤트 발행으로 다른 사용자들에게 변경사항 알림
      */
     public void updateSeatStatus(SeatStatus seatStatus) {
-        String key = SEAT_STATUS_KEY_PREFIX + seatStatus.getConcertId();
-        RMap<String, SeatStatus> seatMap = redissonClient.getMap(key);
-
-        // 1. Redis에 좌석 상태 저장
-        seatMap.put(seatStatus.getSeatId().toString(), seatStatus);
-
-        // 2. 마지막 업데이트 시간 갱신
-        updateLastUpdateTime(seatStatus.getConcertId());
+        // 1. Redis에 좌석 상태 저장 + 사용자 선점 인덱스 / 마지막 업데이트 시간 원자적 갱신
+        long version = seatRedisScriptAdapter.updateSeatStatus(seatStatus,
+                TimeUnit.HOURS.toSeconds(seatProperties.getReservation().getLastUpdateTtlHours()));
+        // 같은 서버의 후속 조회가 이벤트 수신 전에도 변경을 보도록 로컬 Near-Cache 즉시 무효화
+        seatNearCache.invalidate(seatStatus.getConcertId(), seatStatus.getSeatId());
 
-        // 3. 실시간 이벤트 발행 (실패해도 좌석 상태 저장에는 영향 없음)
+        // 2. 실시간 이벤트 발행 (실패해도 좌석 상태 저장에는 영향 없음)
         try {
-            eventPublisher.publishSeatUpdate(seatStatus);
+            eventPublisher.publishSeatUpdate(seatStatus, version);
         } catch (Exception e) {
             log.warn("좌석 상태 이벤트 발행 실패 (서비스 계속 진행): concertId={}, seatId={}",
                     seatStatus.getConcertId(), seatStatus.getSeatId(), e);
@@ -129,7 +143,7 @@ public class SeatStatusService {
      */
     private void createSeatTTLKey(Long concertId, Long concertSeatId) {
         try {
-            String ttlKey = SEAT_TTL_KEY_PREFIX + concertId + ":" + concertSeatId;
+            String ttlKey = RedisKeyGenerator.seatTtlKey(concertId, concertSeatId);
             RBucket<String> bucket = redissonClient.getBucket(ttlKey);
 
             bucket.set("reserved", seatProperties.getReservation().getTtlMinutes(), TimeUnit.MINUTES);
@@ -145,7 +159,7 @@ public class SeatStatusService {
      */
     private void removeSeatTTLKey(Long concertId, Long concertSeatId) {
         try {
-            String ttlKey = SEAT_TTL_KEY_PREFIX + concertId + ":" + concertSeatId;
+            String ttlKey = RedisKeyGenerator.seatTtlKey(concertId, concertSeatId);
             RBucket<String> bucket = redissonClient.getBucket(ttlKey);
 
             boolean deleted = bucket.delete();
@@ -195,6 +209,249 @@ public class SeatStatusService {
 
     /**
      * 좌석 임시 선점 메서드 (4개 매개변수 버전)
+     * - seat.reservation.engine 설정에 따라 Lua 스크립트 또는 분산 락 방식으로 처리
+     *
+     * @param concertId     콘서트 ID
+     * @param concertSeatId 좌석 ID (ConcertSeat ID)
+     * @param userId        사용자 ID
+     * @param seatInfo      좌석 정보
+     * @return 선점된 좌석 상태
+     * @throws SeatReservationException 좌석 선점 실패 시
+     */
+    @Transactional
+    public SeatStatus reserveSeat(Long concertId, Long concertSeatId, Long userId, String seatInfo) {
+        if (seatProperties.getReservation().getEngine() == ReservationEngine.DISTRIBUTED_LOCK) {
+            return reserveSeatWithLock(concertId, concertSeatId, userId, seatInfo);
+        }
+        return reserveSeatWithScript(concertId, concertSeatId, userId, seatInfo);
+    }
+
+    /**
+     * ✅ Lua 스크립트 기반 좌석 임시 선점
+     * - 상태 확인, 사용자별 선점 개수 제한, 저장, TTL 키 생성, 이벤트 발행을 Redis 1회 왕복으로 원자적 처리
+     * - 락 획득/해제 왕복과 락 대기 경합이 없음
+     */
+    private SeatStatus reserveSeatWithScript(Long concertId, Long concertSeatId, Long userId, String seatInfo) {
+        SeatProperties.Reservation reservation = seatProperties.getReservation();
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime expiresAt = now.plusMinutes(reservation.getTtlMinutes());
+
+        SeatStatus reserved = SeatStatus.builder()
+                .id(concertId + "-" + concertSeatId)
+                .concertId(concertId)
+                .seatId(concertSeatId)
+                .status(SeatStatusEnum.RESERVED)
+                .userId(userId)
+                .reservedAt(now)
+                .expiresAt(expiresAt)
+                .seatInfo(seatInfo)
+                .build();
+
+        ReserveResult result = executeReserveScript(reserved);
+
+        // ✅ Cache Miss 시 자동 초기화 후 1회 재시도
+        if (result.outcome() == SeatRedisScriptAdapter.ReserveOutcome.CACHE_MISS) {
+            log.info("좌석 선점 시 캐시 비어있음. 초기화 후 재시도: concertId={}, concertSeatId={}", concertId, concertSeatId);
+            try {
+                seatCacheInitService.loadSeatCacheIfAbsent(concertId);
+            } catch (Exception e) {
+                log.error("좌석 선점 시 캐시 초기화 실패: concertId={}, concertSeatId={}", concertId, concertSeatId, e);
+            }
+            result = executeReserveScript(reserved);
+        }
+
+        // ✅ 선점 수 초과 시 본인 인덱스의 잔여 항목을 정리한 뒤 1회 재시도
+        if (result.outcome() == ReserveOutcome.LIMIT_EXCEEDED && repairUserIndex(concertId, userId) > 0) {
+            result = executeReserveScript(reserved);
+        }
+
+        switch (result.outcome()) {
+            case RESERVED -> {
+                seatNearCache.invalidate(concertId, concertSeatId);
+                if (seatProperties.getEventBatch().isEnabled()) {
+                    // 배치 모드에서는 스크립트가 발행하지 않으므로 배치 버퍼를 거쳐 발행
+                    eventPublisher.publishSeatUpdate(reserved, result.version());
+                } else {
+                    eventPublisher.recordScriptPublished(1);
+                }
+                log.info("좌석 선점 완료 (script): concertId={}, concertSeatId={}, userId={}, expiresAt={}, seatInfo={}",
+                        concertId, concertSeatId, userId, expiresAt, seatInfo);
+                return reserved;
+            }
+            case ALREADY_HELD_BY_USER -> {
+                log.info("동일 사용자의 좌석 재선점 요청: concertId={}, concertSeatId={}, userId={}",
+                        concertId, concertSeatId, userId);
+                return getSeatStatus(concertId, concertSeatId).orElse(reserved); // 기존 선점 상태 반환
+            }
+            case ALREADY_BOOKED -> throw new SeatReservationException("이미 예매 완료된 좌석입니다.");
+            case HELD_BY_OTHER -> throw new SeatReservationException("다른 사용자가 선점 중인 좌석입니다.");
+            case LIMIT_EXCEEDED -> {
+                log.warn("사용자 좌석 선점 개수 제한 초과: userId={}, concertId={}, currentCount={}, maxLimit={}",
+                        userId, concertId, result.heldCount(), reservation.getMaxSeatCount());
+                throw new SeatReservationException(
+                        String.format("좌석 선점은 최대 %d개까지만 가능합니다. 현재 선점 좌석: %d개",
+                                reservation.getMaxSeatCount(), result.heldCount())
+                );
+            }
+            default -> {
+                log.error("좌석 캐시 초기화 후에도 좌석 정보 없음: concertId={}, concertSeatId={}", concertId, concertSeatId);
+                throw new SeatReservationException("좌석 정보를 불러오지 못했습니다. 잠시 후 다시 시도해주세요.");
+            }
+        }
+    }
+
+    /**
+     * 다중 좌석 일괄 임시 선점 (All-or-Nothing)
+     * - 검증/저장/TTL/만료 큐 등록을 단일 Lua 스크립트로 처리, 하나라도 실패하면 아무 좌석도 선점하지 않음
+     * - 좌석 락 없이 처리하며 선점 엔진 설정(seat.reservation.engine)과 무관하게 스크립트 사용
+     * - 성공 시 새로 선점된 좌석을 배치 이벤트 1건으로 발행
+     *
+     * @param concertId      콘서트 ID
+     * @param concertSeatIds 선점할 좌석 ID 목록 (중복 제거, 최대 선점 수 이하)
+     * @param userId         사용자 ID
+     * @return 선점 결과 (실패 시 좌석별 사유 포함)
+     * @throws SeatReservationException 요청 좌석 수 초과 또는 스크립트 실행 오류 시
+     */
+    public SeatBulkReserveResponseDTO reserveSeats(Long concertId, List<Long> concertSeatIds, Long userId) {
+        SeatProperties.Reservation reservation = seatProperties.getReservation();
+        List<Long> seatIds = new ArrayList<>(new LinkedHashSet<>(concertSeatIds));
+        if (seatIds.size() > reservation.getMaxSeatCount()) {
+            throw new SeatReservationException(
+                    String.format("좌석 선점은 최대 %d개까지만 가능합니다. 요청 좌석: %d개",
+                            reservation.getMaxSeatCount(), seatIds.size()));
+        }
+
+        Map<String, SeatStatus> currentSeats = readSeats(concertId, seatIds);
+        if (currentSeats.isEmpty()) {
+            log.info("일괄 선점 시 캐시 비어있음. 초기화 후 재조회: concertId={}", concertId);
+            seatCacheInitService.loadSeatCacheIfAbsent(concertId);
+            currentSeats = readSeats(concertId, seatIds);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime expiresAt = now.plusMinutes(reservation.getTtlMinutes());
+        List<SeatStatus> reservedSeats = new ArrayList<>(seatIds.size());
+        for (Long seatId : seatIds) {
+            SeatStatus current = currentSeats.get(seatId.toString());
+            reservedSeats.add(SeatStatus.builder()
+                    .id(concertId + "-" + seatId)
+                    .concertId(concertId)
+                    .seatId(seatId)
+                    .status(SeatStatusEnum.RESERVED)
+                    .userId(userId)
+                    .reservedAt(now)
+                    .expiresAt(expiresAt)
+                    .seatInfo(current != null ? current.getSeatInfo() : null)
+                    .build());
+        }
+
+        BulkReserveResult result = executeReserveAllScript(concertId, userId, reservedSeats);
+
+        // ✅ 선점 수 초과 시 본인 인덱스의 잔여 항목을 정리한 뒤 1회 재시도
+        if (result.outcome() == BulkReserveOutcome.LIMIT_EXCEEDED && repairUserIndex(concertId, userId) > 0) {
+            result = executeReserveAllScript(concertId, userId, reservedSeats);
+        }
+
+        switch (result.outcome()) {
+            case RESERVED -> {
+                List<SeatStatus> newlyReserved = new ArrayList<>();
+                List<SeatStatusResponseDTO> responses = new ArrayList<>(reservedSeats.size());
+                for (SeatStatus reserved : reservedSeats) {
+                    if (result.seatOutcomes().get(reserved.getSeatId()) == ReserveOutcome.RESERVED) {
+                        newlyReserved.add(reserved);
+                        seatNearCache.invalidate(concertId, reserved.getSeatId());
+                        responses.add(SeatStatusResponseDTO.from(reserved, userId));
+                    } else {
+                        // 이미 본인이 선점 중인 좌석은 기존 선점 정보로 응답
+                        responses.add(SeatStatusResponseDTO.from(
+                                currentSeats.getOrDefault(reserved.getSeatId().toString(), reserved), userId));
+                    }
+                }
+                eventPublisher.publishSeatUpdates(concertId, newlyReserved, result.version());
+
+                log.info("좌석 일괄 선점 완료: concertId={}, userId={}, seats={}, newlyReserved={}, version={}",
+                        concertId, userId, seatIds, newlyReserved.size(), result.version());
+                return SeatBulkReserveResponseDTO.success(concertId, responses);
+            }
+            case LIMIT_EXCEEDED -> {
+                String message = String.format("좌석 선점은 최대 %d개까지만 가능합니다. 현재 선점 좌석: %d개",
+                        reservation.getMaxSeatCount(), result.heldCount());
+                log.warn("좌석 일괄 선점 개수 제한 초과: concertId={}, userId={}, requested={}, currentCount={}",
+                        concertId, userId, seatIds.size(), result.heldCount());
+                return SeatBulkReserveResponseDTO.failure(concertId, seatIds.stream()
+                        .map(seatId -> new SeatBulkReserveResponseDTO.SeatFailure(
+                                seatId, ReserveOutcome.LIMIT_EXCEEDED.name(), message))
+                        .toList());
+            }
+            case SEAT_UNAVAILABLE -> {
+                List<SeatBulkReserveResponseDTO.SeatFailure> failures = new ArrayList<>();
+                result.seatOutcomes().forEach((seatId, outcome) -> {
+                    String message = switch (outcome) {
+                        case ALREADY_BOOKED -> "이미 예매 완료된 좌석입니다.";
+                        case HELD_BY_OTHER -> "다른 사용자가 선점 중인 좌석입니다.";
+                        case SEAT_NOT_FOUND -> "존재하지 않는 좌석입니다.";
+                        default -> null;
+                    };
+                    if (message != null) {
+                        failures.add(new SeatBulkReserveResponseDTO.SeatFailure(seatId, outcome.name(), message));
+                    }
+                });
+                log.info("좌석 일괄 선점 실패 (선점된 좌석 없음): concertId={}, userId={}, failures={}",
+                        concertId, userId, failures.size());
+                return SeatBulkReserveResponseDTO.failure(concertId, failures);
+            }
+            default -> {
+                log.error("좌석 일괄 선점 시 캐시 정보 없음: concertId={}, seatIds={}", concertId, seatIds);
+                throw new SeatReservationException("좌석 정보를 불러오지 못했습니다. 잠시 후 다시 시도해주세요.");
+            }
+        }
+    }
+
+    /**
+     * 요청 좌석들의 현재 상태 일괄 조회 (샤드별 HMGET 1회)
+     */
+    private Map<String, SeatStatus> readSeats(Long concertId, List<Long> seatIds) {
+        Set<String> fields = seatIds.stream().map(String::valueOf).collect(Collectors.toSet());
+        return seatStatusShardRouter.getAll(concertId, fields);
+    }
+
+    /**
+     * 좌석 선점 스크립트 실행 (Redis 오류는 선점 실패로 변환)
+     */
+    private ReserveResult executeReserveScript(SeatStatus reserved) {
+        SeatProperties.Reservation reservation = seatProperties.getReservation();
+        try {
+            return seatRedisScriptAdapter.reserve(
+                    reserved,
+                    reservation.getMaxSeatCount(),
+                    TimeUnit.MINUTES.toSeconds(reservation.getTtlMinutes()),
+                    TimeUnit.HOURS.toSeconds(reservation.getLastUpdateTtlHours())
+            );
+        } catch (Exception e) {
+            log.error("좌석 선점 스크립트 실행 실패: concertId={}, concertSeatId={}, userId={}",
+                    reserved.getConcertId(), reserved.getSeatId(), reserved.getUserId(), e);
+            throw new SeatReservationException("좌석 선점 처리 중 오류가 발생했습니다. 잠시 후 다시 시도해주세요.", e);
+        }
+    }
+
+    /**
+     * 일괄 선점 스크립트 실행 (Redis 오류는 선점 실패로 변환)
+     */
+    private BulkReserveResult executeReserveAllScript(Long concertId, Long userId, List<SeatStatus> reservedSeats) {
+        SeatProperties.Reservation reservation = seatProperties.getReservation();
+        try {
+            return seatRedisScriptAdapter.reserveAll(concertId, userId, reservedSeats, reservation.getMaxSeatCount(),
+                    TimeUnit.MINUTES.toSeconds(reservation.getTtlMinutes()),
+                    TimeUnit.HOURS.toSeconds(reservation.getLastUpdateTtlHours()));
+        } catch (Exception e) {
+            log.error("좌석 일괄 선점 스크립트 실행 실패: concertId={}, seatIds={}, userId={}",
+                    concertId, reservedSeats.stream().map(SeatStatus::getSeatId).toList(), userId, e);
+            throw new SeatReservationException("좌석 선점 처리 중 오류가 발생했습니다. 잠시 후 다시 시도해주세요.", e);
+        }
+    }
+
+    /**
+     * 분산 락 기반 좌석 임시 선점 (seat.reservation.engine=DISTRIBUTED_LOCK)
      * - 좌석 가용성 확인과 선점 처리를 원자적으로 수행
      * - Race Condition 방지 및 중복 예약 차단
      * - TTL 키 생성으로 자동 만료 처리 지원
@@ -207,9 +464,8 @@ public class SeatStatusService {
      * @return 선점된 좌석 상태
      * @throws SeatReservationException 좌석 선점 실패 시
      */
-    @Transactional
-    public SeatStatus reserveSeat(Long concertId, Long concertSeatId, Long userId, String seatInfo) {
-        String lockKey = SEAT_LOCK_KEY_PREFIX + concertId + ":" + concertSeatId;
+    private SeatStatus reserveSeatWithLock(Long concertId, Long concertSeatId, Long userId, String seatInfo) {
+        String lockKey = RedisKeyGenerator.seatLockKey(concertId, concertSeatId);
         RLock lock = redissonClient.getLock(lockKey);
 
         try {
@@ -432,59 +688,130 @@ public class SeatStatusService {
 
     /**
      * 특정 사용자의 선점 좌석 조회
+     * - ✅ 사용자 선점 인덱스(seat:user_seats:{concertId}:{userId})로 대상 좌석만 조회 (O(선점 좌석 수))
      */
     public List<SeatStatus> getUserReservedSeats(Long concertId, Long userId) {
-        Map<Long, SeatStatus> allSeats = getAllSeatStatus(concertId);
+        RSet<String> userIndex = redissonClient.getSet(
+                seatRedisScriptAdapter.getUserIndexKey(concertId, userId), StringCodec.INSTANCE);
+        Set<String> seatIds = userIndex.readAll();
+
+        if (seatIds.isEmpty()) {
+            return new ArrayList<>();
+        }
 
-        return allSeats.values().stream()
+        return seatStatusShardRouter.getAll(concertId, seatIds).values().stream()
                 .filter(seat -> seat.isReserved() && userId.equals(seat.getUserId()))
                 .collect(Collectors.toList());
     }
 
     /**
-     * 콘서트 좌석의 마지막 업데이트 시간 조회
+     * ✅ 사용자 선점 인덱스 정합성 복구
+     * - 좌석 Hash를 기준으로 사용자별 선점 좌석을 계산하고, 해당 사용자들의 기존 인덱스 항목과 합집합을 후보로
+     *   좌석별 현재 상태를 스크립트에서 재확인하여 인덱스를 맞춤 (진행 중인 상태 전이와 경합하지 않음)
+     * - 대상 사용자는 좌석 Hash의 RESERVED 값에서만 도출 (키 공간 SCAN 없음)
+     *   선점 좌석이 하나도 없는 사용자의 잔여 인덱스 항목은 선점 수 초과 시 repairUserIndex()에서 정리
+     *
+     * @param concertId 콘서트 ID
+     * @return 복구 결과 통계
      */
-    public LocalDateTime getLastUpdateTime(Long concertId) {
+    public Map<String, Object> reconcileUserReservationIndex(Long concertId) {
+        // 1. 좌석 Hash 기준 사용자별 선점 좌석
+        Map<Long, Set<Long>> candidates = new HashMap<>();
+        for (SeatStatus seat : seatStatusShardRouter.readAllValues(concertId)) {
+            if (seat.isReserved() && seat.getUserId() != null) {
+                candidates.computeIfAbsent(seat.getUserId(), id -> new HashSet<>()).add(seat.getSeatId());
+            }
+        }
+
+        // 2. 해당 사용자들의 기존 인덱스 항목 병합 (Hash와 어긋난 항목 제거 대상)
+        for (Map.Entry<Long, Set<Long>> entry : candidates.entrySet()) {
+            entry.getValue().addAll(readUserIndex(concertId, entry.getKey()));
+        }
+
+        // 3. 사용자별 원자적 재검증
+        long fixedEntries = 0;
+        for (Map.Entry<Long, Set<Long>> entry : candidates.entrySet()) {
+            fixedEntries += seatRedisScriptAdapter.reconcileUserIndex(concertId, entry.getKey(), entry.getValue());
+        }
+
+        if (fixedEntries > 0) {
+            log.warn("사용자 선점 인덱스 불일치 복구: concertId={}, users={}, fixedEntries={}",
+                    concertId, candidates.size(), fixedEntries);
+        } else {
+            log.debug("사용자 선점 인덱스 정합성 확인 완료: concertId={}, users={}", concertId, candidates.size());
+        }
+
+        return Map.of(
+                "concertId", concertId,
+                "checkedUsers", candidates.size(),
+                "fixedEntries", fixedEntries,
+                "checkedAt", LocalDateTime.now()
+        );
+    }
+
+    /**
+     * 특정 사용자의 선점 인덱스 재검증 (선점 수 초과 응답 전 잔여 항목 정리용)
+     *
+     * @return 수정된 인덱스 항목 수
+     */
+    private long repairUserIndex(Long concertId, Long userId) {
         try {
-            String key = SEAT_LAST_UPDATE_KEY_PREFIX + concertId;
-            RBucket<LocalDateTime> bucket = redissonClient.getBucket(key);
-            return bucket.get();
+            long fixed = seatRedisScriptAdapter.reconcileUserIndex(concertId, userId, readUserIndex(concertId, userId));
+            if (fixed > 0) {
+                log.warn("사용자 선점 인덱스 잔여 항목 정리: concertId={}, userId={}, fixedEntries={}", concertId, userId, fixed);
+            }
+            return fixed;
         } catch (Exception e) {
-            log.warn("마지막 업데이트 시간 조회 중 오류: concertId={}", concertId, e);
-            return null;
+            log.warn("사용자 선점 인덱스 재검증 실패: concertId={}, userId={}", concertId, userId, e);
+            return 0;
         }
     }
 
     /**
-     * 콘서트 좌석의 마지막 업데이트 시간 설정
+     * 사용자 선점 인덱스에 등록된 좌석 ID 조회
      */
-    private void updateLastUpdateTime(Long concertId) {
+    private Set<Long> readUserIndex(Long concertId, Long userId) {
+        Set<Long> seatIds = new HashSet<>();
+        for (String seatId : redissonClient.<String>getSet(
+                seatRedisScriptAdapter.getUserIndexKey(concertId, userId), StringCodec.INSTANCE).readAll()) {
+            seatIds.add(Long.valueOf(seatId));
+        }
+        return seatIds;
+    }
+
+    /**
+     * 콘서트 좌석의 마지막 업데이트 시간 조회
+     */
+    public LocalDateTime getLastUpdateTime(Long concertId) {
         try {
-            String key = SEAT_LAST_UPDATE_KEY_PREFIX + concertId;
+            String key = RedisKeyGenerator.seatLastUpdateKey(concertId);
             RBucket<LocalDateTime> bucket = redissonClient.getBucket(key);
-            bucket.set(LocalDateTime.now(), seatProperties.getReservation().getLastUpdateTtlHours(), TimeUnit.HOURS);
+            return bucket.get();
         } catch (Exception e) {
-            log.warn("마지막 업데이트 시간 설정 중 오류: concertId={}", concertId, e);
+            log.warn("마지막 업데이트 시간 조회 중 오류: concertId={}", concertId, e);
+            return null;
         }
     }
 
     /**
      * 현재 좌석 상태 요약 조회 (폴링용)
+     * - ✅ 좌석 전체 조회 대신 가용성 카운터 사용 (구역 수에 비례)
      */
     public Map<String, Object> getCurrentSeatStatus(Long concertId) {
         try {
-            Map<Long, SeatStatus> allSeats = getAllSeatStatus(concertId);
+            SeatAvailabilityCounts counts = seatCounterService.getCounts(concertId);
 
-            Map<String, Long> statusCounts = allSeats.values().stream()
-                    .collect(Collectors.groupingBy(
-                            seat -> seat.getStatus().toString(),
-                            Collectors.counting()
-                    ));
+            Map<String, Long> statusCounts = new LinkedHashMap<>();
+            statusCounts.put(SeatStatusEnum.AVAILABLE.name(), counts.available());
+            statusCounts.put(SeatStatusEnum.RESERVED.name(), counts.reserved());
+            statusCounts.put(SeatStatusEnum.BOOKED.name(), counts.booked());
 
             return Map.of(
                     "concertId", concertId,
-                    "totalSeats", allSeats.size(),
+                    "totalSeats", counts.totalSeats(),
                     "statusCounts", statusCounts,
+                    "sectionCounts", counts.toSectionSummary(),
+                    "soldOut", counts.isSoldOut(),
                     "lastChecked", LocalDateTime.now()
             );
         } catch (Exception e) {
@@ -0,0 +1,19 @@
+-- 좌석 선점 Write-Behind 저널 테이블 (SeatHoldJournal 엔티티)
+-- 운영(prod)은 ddl-auto: validate 이므로, 이 테이블을 포함한 버전을 배포하기 전에 먼저 실행합니다.
+-- 절차는 src/main/java/com/team03/ticketmon/seat/SEAT_JOURNAL_GUIDE.md 참고
+
+CREATE TABLE IF NOT EXISTS seat_hold_journal
+(
+    journal_id      BIGINT      NOT NULL AUTO_INCREMENT,
+    concert_id      BIGINT      NOT NULL,
+    concert_seat_id BIGINT      NOT NULL,
+    seat_version    BIGINT      NOT NULL,
+    state           TINYINT     NOT NULL,
+    user_id         BIGINT      NULL,
+    expires_at      DATETIME(6) NULL,
+    recorded_at     DATETIME(6) NOT NULL,
+    PRIMARY KEY (journal_id),
+    -- 좌석별 최신 행 조회 / 압축용
+    INDEX idx_seat_hold_journal_seat (concert_id, concert_seat_id, journal_id)
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4;
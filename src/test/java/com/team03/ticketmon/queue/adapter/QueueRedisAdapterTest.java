@@ -0,0 +1,211 @@
+package com.team03.ticketmon.queue.adapter;
+
+import com.team03.ticketmon._global.config.RedissonConfig;
+import com.team03.ticketmon._global.util.RedisKeyGenerator;
+import com.team03.ticketmon.queue.adapter.QueueRedisAdapter.AdmitOrEnqueueOutcome;
+import com.team03.ticketmon.queue.adapter.QueueRedisAdapter.AdmitOrEnqueueResult;
+import com.team03.ticketmon.queue.adapter.QueueRedisAdapter.ReleaseOutcome;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.LongCodec;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.redis.DataRedisTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 대기열 Lua 스크립트(QueueLuaScripts)를 실제 Redis에서 실행하여
+ * 슬롯 점유/대기열 등록의 원자성과 순번 규칙을 검증하는 테스트 클래스.
+ */
+@ActiveProfiles("test")
+@Testcontainers
+@DataRedisTest
+@Import({RedissonConfig.class, RedisKeyGenerator.class, QueueRedisAdapter.class})
+class QueueRedisAdapterTest {
+
+    private static final long CONCERT_ID = 1L;
+    private static final long TTL_SECONDS = 300L;
+
+    @Autowired
+    private QueueRedisAdapter queueRedisAdapter;
+    @Autowired
+    private RedisKeyGenerator keyGenerator;
+    @Autowired
+    private RedissonClient redissonClient;
+
+    @Container
+    public static GenericContainer<?> redis = new GenericContainer<>("redis:7-alpine")
+            .withExposedPorts(6379);
+
+    @DynamicPropertySource
+    static void redisProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.data.redis.host", () -> redis.getHost());
+        registry.add("spring.data.redis.port", () -> redis.getMappedPort(6379));
+        registry.add("spring.data.redis.ssl.enabled", () -> false);
+    }
+
+    @BeforeEach
+    void setUp() {
+        redissonClient.getKeys().flushdb();
+    }
+
+    @Test
+    @DisplayName("이미 입장한 사용자가 다시 신청하면 활성 사용자 수를 늘리지 않고 기존 AccessKey를 반환한다.")
+    void admitOrEnqueue_duplicateApply_returnsExistingGrant() {
+        // given: user-1이 즉시 입장
+        AdmitOrEnqueueResult first = queueRedisAdapter.admitOrEnqueue(CONCERT_ID, 1L, "key-1", 1, TTL_SECONDS);
+
+        // when: 같은 사용자가 다른 AccessKey 후보로 다시 신청
+        AdmitOrEnqueueResult retried = queueRedisAdapter.admitOrEnqueue(CONCERT_ID, 1L, "key-2", 1, TTL_SECONDS);
+
+        // then: 슬롯은 1개만 점유되고, 처음 발급한 AccessKey가 그대로 유지된다.
+        assertThat(first.outcome()).isEqualTo(AdmitOrEnqueueOutcome.ADMITTED);
+        assertThat(retried.outcome()).isEqualTo(AdmitOrEnqueueOutcome.ALREADY_ADMITTED);
+        assertThat(retried.existingAccessKey()).isEqualTo("key-1");
+        assertThat(queueRedisAdapter.getAccessKeyBucket(CONCERT_ID, 1L).get()).isEqualTo("key-1");
+        assertThat(queueRedisAdapter.getActiveUserCounter(CONCERT_ID).get()).isEqualTo(1L);
+        assertThat(queueRedisAdapter.getQueue(CONCERT_ID).isEmpty()).isTrue();
+    }
+
+    @Test
+    @DisplayName("AccessKey가 만료된 세션의 사용자가 다시 신청하면 남은 세션을 정리하고 새로 입장시킨다.")
+    void admitOrEnqueue_expiredAccessKey_replacesStaleSession() {
+        // given: 세션/카운터는 남아 있지만 AccessKey는 이미 만료된 상태 (정리 스케줄러 실행 전)
+        queueRedisAdapter.getActiveSessions(CONCERT_ID).add(System.currentTimeMillis() - 1000, 1L);
+        queueRedisAdapter.getActiveUserCounter(CONCERT_ID).set(1);
+
+        // when
+        AdmitOrEnqueueResult result = queueRedisAdapter.admitOrEnqueue(CONCERT_ID, 1L, "key-new", 1, TTL_SECONDS);
+
+        // then: 이전 슬롯을 반환한 뒤 같은 슬롯으로 다시 입장 (활성 사용자 수는 그대로 1)
+        assertThat(result.outcome()).isEqualTo(AdmitOrEnqueueOutcome.ADMITTED);
+        assertThat(queueRedisAdapter.getAccessKeyBucket(CONCERT_ID, 1L).get()).isEqualTo("key-new");
+        assertThat(queueRedisAdapter.getActiveUserCounter(CONCERT_ID).get()).isEqualTo(1L);
+        assertThat(queueRedisAdapter.getActiveSessions(CONCERT_ID).size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("슬롯이 가득 차면 AccessKey를 발급하지 않고 대기열에 등록하여 0-based 순번을 반환한다.")
+    void admitOrEnqueue_fullSlots_enqueues() {
+        // given: 최대 1명, user-1이 슬롯 점유
+        queueRedisAdapter.admitOrEnqueue(CONCERT_ID, 1L, "key-1", 1, TTL_SECONDS);
+
+        // when
+        AdmitOrEnqueueResult second = queueRedisAdapter.admitOrEnqueue(CONCERT_ID, 2L, "key-2", 1, TTL_SECONDS);
+        AdmitOrEnqueueResult third = queueRedisAdapter.admitOrEnqueue(CONCERT_ID, 3L, "key-3", 1, TTL_SECONDS);
+
+        // then
+        assertThat(second.outcome()).isEqualTo(AdmitOrEnqueueOutcome.ENQUEUED);
+        assertThat(second.rank()).isZero();
+        assertThat(second.slotAvailable()).isFalse();
+        assertThat(third.rank()).isEqualTo(1L);
+        assertThat(queueRedisAdapter.getAccessKeyBucket(CONCERT_ID, 2L).isExists()).isFalse();
+        assertThat(queueRedisAdapter.getActiveUserCounter(CONCERT_ID).get()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("대기자가 있으면 빈 슬롯이 있어도 새 사용자를 대기열 뒤에 등록하고 빈 슬롯 여부를 알린다.")
+    void admitOrEnqueue_waitersExist_doesNotJumpQueue() {
+        // given: user-1 입장, user-2 대기 중에 user-1의 슬롯이 반환됨
+        queueRedisAdapter.admitOrEnqueue(CONCERT_ID, 1L, "key-1", 1, TTL_SECONDS);
+        queueRedisAdapter.admitOrEnqueue(CONCERT_ID, 2L, "key-2", 1, TTL_SECONDS);
+        assertThat(queueRedisAdapter.releaseUser(CONCERT_ID, 1L)).isEqualTo(ReleaseOutcome.SLOT_RELEASED);
+
+        // when: 대기열 입장 처리 전에 user-3이 신청
+        AdmitOrEnqueueResult result = queueRedisAdapter.admitOrEnqueue(CONCERT_ID, 3L, "key-3", 1, TTL_SECONDS);
+
+        // then: user-3은 user-2 뒤에 등록되고, 빈 슬롯은 점유되지 않은 채 남는다.
+        assertThat(result.outcome()).isEqualTo(AdmitOrEnqueueOutcome.ENQUEUED);
+        assertThat(result.rank()).isEqualTo(1L);
+        assertThat(result.slotAvailable()).isTrue();
+        assertThat(queueRedisAdapter.getActiveUserCounter(CONCERT_ID).get()).isZero();
+        assertThat(queueRedisAdapter.getAccessKeyBucket(CONCERT_ID, 3L).isExists()).isFalse();
+    }
+
+    @Test
+    @DisplayName("대기열 점수는 콘서트별 시퀀스 카운터 값으로 도착 순서를 따르며, 중복 신청은 시퀀스를 소비하지 않는다.")
+    void admitOrEnqueue_sequenceScores_followArrivalOrder() {
+        // given: 슬롯이 없는 콘서트 (최대 0명)에 3명이 순서대로 신청
+        queueRedisAdapter.admitOrEnqueue(CONCERT_ID, 30L, "k", 0, TTL_SECONDS);
+        queueRedisAdapter.admitOrEnqueue(CONCERT_ID, 10L, "k", 0, TTL_SECONDS);
+        queueRedisAdapter.admitOrEnqueue(CONCERT_ID, 20L, "k", 0, TTL_SECONDS);
+
+        // when: 첫 번째 사용자가 다시 신청한 뒤 새 사용자가 신청
+        AdmitOrEnqueueResult retried = queueRedisAdapter.admitOrEnqueue(CONCERT_ID, 30L, "k", 0, TTL_SECONDS);
+        AdmitOrEnqueueResult fourth = queueRedisAdapter.admitOrEnqueue(CONCERT_ID, 40L, "k", 0, TTL_SECONDS);
+
+        // then: userId와 무관하게 도착 순서대로 1, 2, 3, 4 점수가 부여된다.
+        assertThat(retried.outcome()).isEqualTo(AdmitOrEnqueueOutcome.ALREADY_WAITING);
+        assertThat(retried.rank()).isZero();
+        assertThat(fourth.rank()).isEqualTo(3L);
+        assertThat(queueRedisAdapter.getQueue(CONCERT_ID).getScore(30L)).isEqualTo(1.0);
+        assertThat(queueRedisAdapter.getQueue(CONCERT_ID).getScore(10L)).isEqualTo(2.0);
+        assertThat(queueRedisAdapter.getQueue(CONCERT_ID).getScore(20L)).isEqualTo(3.0);
+        assertThat(queueRedisAdapter.getQueue(CONCERT_ID).getScore(40L)).isEqualTo(4.0);
+        assertThat(redissonClient.getAtomicLong(keyGenerator.getWaitQueueSequenceKey(CONCERT_ID)).get()).isEqualTo(4L);
+        assertThat(queueRedisAdapter.getQueue(CONCERT_ID).readAll()).containsExactly(30L, 10L, 20L, 40L);
+    }
+
+    @Test
+    @DisplayName("대기열과 시퀀스 카운터는 콘서트별로 독립적이다.")
+    void admitOrEnqueue_sequencePerConcert() {
+        queueRedisAdapter.admitOrEnqueue(1L, 1L, "k", 0, TTL_SECONDS);
+        queueRedisAdapter.admitOrEnqueue(1L, 2L, "k", 0, TTL_SECONDS);
+
+        AdmitOrEnqueueResult otherConcert = queueRedisAdapter.admitOrEnqueue(2L, 3L, "k", 0, TTL_SECONDS);
+
+        assertThat(otherConcert.rank()).isZero();
+        assertThat(redissonClient.getScoredSortedSet(keyGenerator.getWaitQueueKey(2L), LongCodec.INSTANCE)
+                .getScore(3L)).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("대기열 입장 처리는 빈 슬롯 수만큼만 대기 순서대로 입장시키고 각 사용자에게 AccessKey를 발급한다.")
+    void admitFromQueue_admitsOnlyUpToFreeSlots() {
+        // given: 최대 2명, user-1 입장 후 user-2, user-3, user-4 대기
+        queueRedisAdapter.admitOrEnqueue(CONCERT_ID, 1L, "key-1", 1, TTL_SECONDS);
+        queueRedisAdapter.admitOrEnqueue(CONCERT_ID, 2L, "k", 1, TTL_SECONDS);
+        queueRedisAdapter.admitOrEnqueue(CONCERT_ID, 3L, "k", 1, TTL_SECONDS);
+        queueRedisAdapter.admitOrEnqueue(CONCERT_ID, 4L, "k", 1, TTL_SECONDS);
+
+        // when: 빈 슬롯(1개)보다 많은 AccessKey 후보로 입장 처리
+        List<Long> admitted = queueRedisAdapter.admitFromQueue(CONCERT_ID, 2, List.of("key-2", "key-3", "key-4"), TTL_SECONDS);
+
+        // then: 선두 대기자 1명만 입장하고 활성 사용자 수는 최대치를 넘지 않는다.
+        assertThat(admitted).containsExactly(2L);
+        assertThat(queueRedisAdapter.getAccessKeyBucket(CONCERT_ID, 2L).get()).isEqualTo("key-2");
+        assertThat(queueRedisAdapter.getAccessKeyBucket(CONCERT_ID, 3L).isExists()).isFalse();
+        assertThat(queueRedisAdapter.getActiveUserCounter(CONCERT_ID).get()).isEqualTo(2L);
+        assertThat(queueRedisAdapter.getQueue(CONCERT_ID).readAll()).containsExactly(3L, 4L);
+    }
+
+    @Test
+    @DisplayName("이미 활성 세션이 있는 사용자가 대기열에서 추출되면 활성 사용자 수를 중복으로 늘리지 않는다.")
+    void admitFromQueue_existingSession_notCountedTwice() {
+        // given: user-1이 활성 세션을 가진 채로 대기열에도 남아 있는 비정상 상태
+        queueRedisAdapter.admitOrEnqueue(CONCERT_ID, 1L, "key-1", 3, TTL_SECONDS);
+        queueRedisAdapter.getQueue(CONCERT_ID).add(1, 1L);
+        queueRedisAdapter.getQueue(CONCERT_ID).add(2, 2L);
+
+        // when
+        List<Long> admitted = queueRedisAdapter.admitFromQueue(CONCERT_ID, 3, List.of("key-a", "key-b"), TTL_SECONDS);
+
+        // then: 새로 세션이 추가된 user-2만 입장 인원으로 집계되고, user-1의 기존 AccessKey는 유지된다.
+        assertThat(admitted).containsExactly(2L);
+        assertThat(queueRedisAdapter.getActiveUserCounter(CONCERT_ID).get()).isEqualTo(2L);
+        assertThat(queueRedisAdapter.getActiveSessions(CONCERT_ID).size()).isEqualTo(2);
+        assertThat(queueRedisAdapter.getAccessKeyBucket(CONCERT_ID, 1L).get()).isEqualTo("key-1");
+        assertThat(queueRedisAdapter.getQueue(CONCERT_ID).isEmpty()).isTrue();
+    }
+}
@@ -1,7 +1,12 @@
 package com.team03.ticketmon.queue.scheduler;
 
 import com.team03.ticketmon._global.config.RedissonConfig;
+import com.team03.ticketmon._global.util.RedisKeyGenerator;
+import com.team03.ticketmon.queue.adapter.QueueRedisAdapter;
+import com.team03.ticketmon.queue.service.AdmissionDispatcher;
+import com.team03.ticketmon.queue.service.QueueConcertRegistry;
 import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.redisson.api.RAtomicLong;
@@ -13,21 +18,39 @@ import org.springframework.context.annotation.Import;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.DynamicPropertyRegistry;
 import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.testcontainers.containers.GenericContainer;
 import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
 
+import java.util.List;
+
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 @ActiveProfiles("test")
 @Testcontainers
 @DataRedisTest
-@Import({RedissonConfig.class, CleanupScheduler.class})
+@Import({RedissonConfig.class, RedisKeyGenerator.class, QueueRedisAdapter.class,
+        QueueConcertTaskRunner.class, CleanupScheduler.class})
 class CleanupSchedulerTest {
 
+    private static final long CONCERT_ID = 1L;
+
+    @MockitoBean
+    private AdmissionDispatcher admissionDispatcher;
+    @MockitoBean
+    private QueueConcertRegistry queueConcertRegistry;
+
     @Autowired
     private CleanupScheduler cleanupScheduler;
 
+    @Autowired
+    private QueueRedisAdapter queueRedisAdapter;
+
     @Autowired
     private RedissonClient redissonClient;
 
@@ -42,29 +65,34 @@ class CleanupSchedulerTest {
         registry.add("spring.data.redis.ssl.enabled", () -> false);
     }
 
+    @BeforeEach
+    void setUp() {
+        given(queueConcertRegistry.getActiveConcertIds()).willReturn(List.of(CONCERT_ID));
+    }
+
     @AfterEach
     void tearDown() {
         redissonClient.getKeys().flushall();
     }
 
     @Test
-    @DisplayName("정리 스케줄러가 실행되면, 만료된 세션을 감지하여 활성 사용자 수를 감소시킨다.")
+    @DisplayName("정리 스케줄러가 실행되면, 만료된 세션을 감지하여 활성 사용자 수를 감소시키고 다음 대기자 입장을 요청한다.")
     void cleanupExpiredSessions() {
         // given
         // 1. 초기 활성 사용자 수를 5로 설정
-        RAtomicLong activeUsersCount = redissonClient.getAtomicLong("active_users_count");
+        RAtomicLong activeUsersCount = queueRedisAdapter.getActiveUserCounter(CONCERT_ID);
         activeUsersCount.set(5);
 
-        // 2. active_sessions Set에 테스트 데이터 추가
-        RScoredSortedSet<String> activeSessions = redissonClient.getScoredSortedSet("active_sessions");
+        // 2. 콘서트 활성 세션 Sorted Set에 테스트 데이터 추가 (score: 만료 시각)
+        RScoredSortedSet<Long> activeSessions = queueRedisAdapter.getActiveSessions(CONCERT_ID);
         long now = System.currentTimeMillis();
         // - 만료된 사용자 2명 (과거 시간)
-        activeSessions.add(now - 10000, "expired-user-1");
-        activeSessions.add(now - 5000, "expired-user-2");
+        activeSessions.add(now - 10000, 1L);
+        activeSessions.add(now - 5000, 2L);
         // - 아직 유효한 사용자 3명 (미래 시간)
-        activeSessions.add(now + 60000, "active-user-1");
-        activeSessions.add(now + 70000, "active-user-2");
-        activeSessions.add(now + 80000, "active-user-3");
+        activeSessions.add(now + 60000, 3L);
+        activeSessions.add(now + 70000, 4L);
+        activeSessions.add(now + 80000, 5L);
 
         // when
         cleanupScheduler.cleanupExpiredSessions();
@@ -72,9 +100,26 @@ class CleanupSchedulerTest {
         // then
         // 1. 활성 사용자 수가 2명 감소하여 3명이 되었는가?
         assertThat(activeUsersCount.get()).isEqualTo(3);
-        // 2. active_sessions Set에는 유효한 3명만 남아있는가?
+        // 2. 활성 세션에는 유효한 3명만 남아있는가?
         assertThat(activeSessions.size()).isEqualTo(3);
         // 3. 만료된 사용자가 정말로 삭제되었는가?
-        assertThat(activeSessions.contains("expired-user-1")).isFalse();
+        assertThat(activeSessions.contains(1L)).isFalse();
+        // 4. 빈 슬롯이 생겼으므로 해당 콘서트의 입장 처리를 즉시 요청했는가?
+        verify(admissionDispatcher).requestAdmission(CONCERT_ID);
+    }
+
+    @Test
+    @DisplayName("만료된 세션이 없으면 활성 사용자 수를 유지하고 입장 처리를 요청하지 않는다.")
+    void cleanupExpiredSessions_noExpiredSession() {
+        // given: 유효한 세션 1명
+        queueRedisAdapter.getActiveUserCounter(CONCERT_ID).set(1);
+        queueRedisAdapter.getActiveSessions(CONCERT_ID).add(System.currentTimeMillis() + 60000, 1L);
+
+        // when
+        cleanupScheduler.cleanupExpiredSessions();
+
+        // then
+        assertThat(queueRedisAdapter.getActiveUserCounter(CONCERT_ID).get()).isEqualTo(1L);
+        verify(admissionDispatcher, never()).requestAdmission(anyLong());
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,184 @@
+package com.team03.ticketmon.queue.scheduler;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.redisson.api.RLock;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * QueueConcertTaskRunner의 콘서트별 락 건너뜀, 이전 실행의 진행 중 작업 건너뜀,
+ * 작업 대기열 포화 시 거부, 실행 제한 시간 초과 처리를 검증하는 단위 테스트.
+ * 분산 락(RLock)은 Mock으로 대체하고, 작업 진행은 CountDownLatch로 제어합니다.
+ */
+class QueueConcertTaskRunnerTest {
+
+    private static final String JOB = "test-job";
+
+    private QueueConcertTaskRunner runner;
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        if (runner != null) {
+            runner.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("다른 서버가 콘서트 락을 잡고 있으면 해당 콘서트만 건너뛰고 나머지 콘서트는 처리한다.")
+    void runForEachConcert_skipsConcertLockedElsewhere() throws Exception {
+        // given: 콘서트 1은 락 획득 가능, 콘서트 2는 다른 서버가 처리 중
+        runner = new QueueConcertTaskRunner(2, 10, 5_000);
+        RLock freeLock = freeLock();
+        RLock heldLock = lockHeldElsewhere();
+        Map<Long, RLock> locks = Map.of(1L, freeLock, 2L, heldLock);
+        Set<Long> processed = ConcurrentHashMap.newKeySet();
+
+        // when
+        runner.runForEachConcert(JOB, List.of(1L, 2L), locks::get, processed::add);
+
+        // then
+        assertThat(processed).containsExactly(1L);
+        assertThat(jobStats())
+                .containsEntry("processedCount", 1L)
+                .containsEntry("skippedLockedCount", 1L);
+        verify(freeLock).unlock();
+        verify(heldLock, never()).unlock();
+    }
+
+    @Test
+    @DisplayName("실행 제한 시간이 지나면 작업을 기다리지 않고 반환하며, 남은 작업은 백그라운드에서 끝까지 실행된다.")
+    void runForEachConcert_returnsAfterRunTimeout() throws Exception {
+        // given
+        runner = new QueueConcertTaskRunner(2, 10, 200);
+        RLock lock = freeLock();
+        AtomicInteger completed = new AtomicInteger();
+
+        // when: 작업이 release 전까지 끝나지 않음
+        long startNanos = System.nanoTime();
+        runner.runForEachConcert(JOB, List.of(1L), concertId -> lock, concertId -> {
+            awaitRelease();
+            completed.incrementAndGet();
+        });
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+
+        // then: 제한 시간 직후 반환, 작업은 아직 진행 중
+        assertThat(elapsedMs).isBetween(150L, 5_000L);
+        assertThat(completed).hasValue(0);
+        assertThat(jobStats()).containsEntry("timedOutRunCount", 1L);
+
+        // when & then: 작업이 끝나면 처리 완료로 집계되고 락이 해제된다.
+        release.countDown();
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() -> {
+            assertThat(completed).hasValue(1);
+            assertThat(runner.getStats()).containsEntry("inFlightTasks", 0);
+        });
+        assertThat(jobStats()).containsEntry("processedCount", 1L);
+        verify(lock).unlock();
+    }
+
+    @Test
+    @DisplayName("이전 실행의 같은 콘서트 작업이 아직 진행 중이면 새 작업을 만들지 않고 건너뛰고, 끝난 뒤에는 다시 실행한다.")
+    void runForEachConcert_skipsConcertStillRunningFromLastTick() throws Exception {
+        // given: 첫 실행의 콘서트 1 작업이 제한 시간을 넘겨 계속 진행 중
+        runner = new QueueConcertTaskRunner(2, 10, 100);
+        RLock lock = freeLock();
+        AtomicInteger started = new AtomicInteger();
+        runner.runForEachConcert(JOB, List.of(1L), concertId -> lock, concertId -> {
+            started.incrementAndGet();
+            awaitRelease();
+        });
+
+        // when: 다음 실행
+        runner.runForEachConcert(JOB, List.of(1L), concertId -> lock, concertId -> started.incrementAndGet());
+
+        // then: 락 시도도 하지 않고 건너뜀
+        assertThat(started).hasValue(1);
+        assertThat(jobStats()).containsEntry("skippedInFlightCount", 1L);
+        verify(lock, times(1)).tryLock(0, -1, TimeUnit.SECONDS);
+
+        // when: 진행 중이던 작업이 끝난 뒤 다시 실행
+        release.countDown();
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() ->
+                assertThat(runner.getStats()).containsEntry("inFlightTasks", 0));
+        runner.runForEachConcert(JOB, List.of(1L), concertId -> lock, concertId -> started.incrementAndGet());
+
+        // then
+        assertThat(started).hasValue(2);
+        assertThat(jobStats()).containsEntry("processedCount", 2L);
+    }
+
+    @Test
+    @DisplayName("작업 스레드와 대기열이 가득 차면 남은 콘서트는 거부하고, 다음 실행에서 다시 처리한다.")
+    void runForEachConcert_rejectsConcertsWhenPoolIsFull() throws Exception {
+        // given: 스레드 1개 + 대기열 1칸, 콘서트 1이 스레드를 점유하고 콘서트 2가 대기열을 채움
+        runner = new QueueConcertTaskRunner(1, 1, 100);
+        Map<Long, RLock> locks = Map.of(1L, freeLock(), 2L, freeLock(), 3L, freeLock());
+        Set<Long> processed = ConcurrentHashMap.newKeySet();
+
+        // when
+        runner.runForEachConcert(JOB, List.of(1L, 2L, 3L), locks::get, concertId -> {
+            awaitRelease();
+            processed.add(concertId);
+        });
+
+        // then: 콘서트 3은 제출 단계에서 거부되어 진행 중 목록에 남지 않는다.
+        assertThat(jobStats()).containsEntry("rejectedCount", 1L);
+        release.countDown();
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() -> {
+            assertThat(processed).containsExactlyInAnyOrder(1L, 2L);
+            assertThat(runner.getStats()).containsEntry("inFlightTasks", 0);
+        });
+        verify(locks.get(3L), never()).tryLock(0, -1, TimeUnit.SECONDS);
+
+        // when: 다음 실행
+        runner.runForEachConcert(JOB, List.of(3L), locks::get, processed::add);
+
+        // then
+        assertThat(processed).contains(3L);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> jobStats() {
+        return (Map<String, Object>) runner.getStats().get(JOB);
+    }
+
+    private void awaitRelease() {
+        try {
+            release.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static RLock freeLock() throws InterruptedException {
+        RLock lock = mock(RLock.class);
+        given(lock.tryLock(0, -1, TimeUnit.SECONDS)).willReturn(true);
+        given(lock.isHeldByCurrentThread()).willReturn(true);
+        return lock;
+    }
+
+    private static RLock lockHeldElsewhere() throws InterruptedException {
+        RLock lock = mock(RLock.class);
+        given(lock.tryLock(0, -1, TimeUnit.SECONDS)).willReturn(false);
+        return lock;
+    }
+}
@@ -1,12 +1,18 @@
 package com.team03.ticketmon.queue.scheduler;
 
 import com.team03.ticketmon._global.config.RedissonConfig;
+import com.team03.ticketmon._global.util.RedisKeyGenerator;
+import com.team03.ticketmon.queue.adapter.QueueRedisAdapter;
+import com.team03.ticketmon.queue.service.AdmissionDispatcher;
+import com.team03.ticketmon.queue.service.AdmissionService;
 import com.team03.ticketmon.queue.service.NotificationService;
+import com.team03.ticketmon.queue.service.QueueConcertRegistry;
 import com.team03.ticketmon.queue.service.WaitingQueueService;
+import com.team03.ticketmon.queue.strategy.PersonalizedRankStrategy;
 import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
-import org.redisson.api.RAtomicLong;
 import org.redisson.api.RBucket;
 import org.redisson.api.RedissonClient;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -21,30 +27,49 @@ import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
 
 import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.awaitility.Awaitility.await;
+import static org.mockito.BDDMockito.given;
 
 /**
- * WaitingQueueScheduler의 핵심 로직이 올바르게 동작하는지 검증하는 통합 테스트.
+ * WaitingQueueScheduler(안전망)와 AdmissionDispatcher(이벤트 기반)의 입장 처리가 올바르게 동작하는지 검증하는 통합 테스트.
  * 실제 스케줄링 시간(fixedDelay)에 의존하지 않고, scheduler.execute() 메서드를 직접 호출하여
  * 실행 전후의 Redis 상태 변화를 확인합니다.
  */
 @ActiveProfiles("test")
 @Testcontainers
 @DataRedisTest
-@Import({RedissonConfig.class, WaitingQueueService.class, WaitingQueueScheduler.class})
+@Import({RedissonConfig.class, RedisKeyGenerator.class, QueueRedisAdapter.class, AdmissionService.class,
+        AdmissionDispatcher.class, WaitingQueueService.class, QueueConcertTaskRunner.class, WaitingQueueScheduler.class})
 class WaitingQueueSchedulerIntegrationTest {
 
+    private static final long CONCERT_ID = 1L;
+    private static final long MAX_ACTIVE_USERS = 3L;
+
     @MockitoBean
     private NotificationService notificationService;
+    @MockitoBean
+    private PersonalizedRankStrategy personalizedRankStrategy;
+    @MockitoBean
+    private QueueConcertRegistry queueConcertRegistry;
 
     @Autowired
     private WaitingQueueScheduler waitingQueueScheduler;
     @Autowired
     private WaitingQueueService waitingQueueService;
     @Autowired
+    private AdmissionService admissionService;
+    @Autowired
+    private QueueRedisAdapter queueRedisAdapter;
+    @Autowired
     private RedissonClient redissonClient;
 
     @Container
@@ -57,8 +82,13 @@ class WaitingQueueSchedulerIntegrationTest {
         registry.add("spring.data.redis.port", () -> redis.getMappedPort(6379));
         registry.add("spring.data.redis.ssl.enabled", () -> false);
 
-        registry.add("app.max-active-users", () -> 500L);
-        registry.add("app.access-key-ttl-minutes", () -> 10L);
+        registry.add("app.queue.max-active-users", () -> MAX_ACTIVE_USERS);
+        registry.add("app.queue.access-key-ttl-seconds", () -> 600L);
+    }
+
+    @BeforeEach
+    void setUp() {
+        given(queueConcertRegistry.getActiveConcertIds()).willReturn(List.of(CONCERT_ID));
     }
 
     /**
@@ -70,60 +100,108 @@ class WaitingQueueSchedulerIntegrationTest {
         redissonClient.getKeys().flushall();
     }
 
-    @Test
-    @DisplayName("스케줄러가 실행되면, 대기열의 사용자를 입장시키고, AccessKey를 발급하며, 활성 사용자 수를 증가시킨다.")
-    void execute_shouldAdmitUsers_and_updateStateInRedis() throws InterruptedException {
-        // given: 3명의 사용자가 대기열에 있고, 2개의 빈 자리가 있는 상황
-        long concertId = 1L;
-        waitingQueueService.apply(concertId, 1L);
-        waitingQueueService.apply(concertId, 2L);
-        waitingQueueService.apply(concertId, 3L);
+    /**
+     * 최대 인원까지 즉시 입장시킨 뒤 나머지 사용자를 대기열에 등록
+     */
+    private void fillSlotsAndEnqueue(long totalUsers) {
+        for (long userId = 1; userId <= totalUsers; userId++) {
+            waitingQueueService.apply(CONCERT_ID, userId);
+        }
+    }
 
-        RAtomicLong activeUsersCount = redissonClient.getAtomicLong("active_users_count");
-        activeUsersCount.set(498); // 최대 500명 중 498명 -> 2자리 남음
+    @Test
+    @DisplayName("스케줄러가 실행되면, 이벤트로 채워지지 않은 빈 슬롯만큼 대기자를 입장시키고 AccessKey를 발급한다.")
+    void execute_shouldAdmitUsers_and_updateStateInRedis() {
+        // given: 3명 입장, 3명 대기 중에 2개의 슬롯이 이벤트 없이 반환된 상황 (예: 서버 재시작으로 이벤트 유실)
+        fillSlotsAndEnqueue(6);
+        queueRedisAdapter.releaseUser(CONCERT_ID, 1L);
+        queueRedisAdapter.releaseUser(CONCERT_ID, 2L);
 
         // when: 스케줄러 로직 실행
         waitingQueueScheduler.execute();
 
         // then: 로직 실행 후 Redis의 상태가 올바르게 변경되었는지 검증
-        // 비동기(Pub/Sub) 처리 시간을 고려하여 Awaitility로 최대 5초 대기
-        await().atMost(Duration.ofSeconds(10)).untilAsserted(() -> {
-            // 1. 활성 사용자 수가 2명 증가하여 500명이 되었는가?
-            assertThat(redissonClient.getAtomicLong("active_users_count").get()).isEqualTo(500L);
-
-            // 2. 대기열에는 1명만 남아있는가?
-            assertThat(waitingQueueService.getWaitingCount(concertId)).isEqualTo(1L);
-
-            // 3. 입장 처리된 사용자에게 AccessKey가 발급되었는가?
-            RBucket<String> accessKey1 = redissonClient.getBucket("accesskey:1");
-            RBucket<String> accessKey2 = redissonClient.getBucket("accesskey:2");
-            assertThat(accessKey1.isExists()).isTrue();
-            assertThat(accessKey2.isExists()).isTrue();
-
-            // 4. 발급된 AccessKey에 유효시간(TTL)이 올바르게 설정되었는가? (10분 이하)
-            assertThat(accessKey1.remainTimeToLive()).isPositive().isLessThanOrEqualTo(TimeUnit.MINUTES.toMillis(10));
-        });
+        // 1. 활성 사용자 수가 다시 최대치(3명)가 되었는가?
+        assertThat(queueRedisAdapter.getActiveUserCounter(CONCERT_ID).get()).isEqualTo(MAX_ACTIVE_USERS);
+
+        // 2. 대기열에는 가장 늦게 온 1명만 남아있는가?
+        assertThat(queueRedisAdapter.getQueue(CONCERT_ID).readAll()).containsExactly(6L);
+
+        // 3. 입장 처리된 사용자(4, 5번)에게 AccessKey가 발급되었는가?
+        RBucket<String> accessKey4 = queueRedisAdapter.getAccessKeyBucket(CONCERT_ID, 4L);
+        RBucket<String> accessKey5 = queueRedisAdapter.getAccessKeyBucket(CONCERT_ID, 5L);
+        assertThat(accessKey4.isExists()).isTrue();
+        assertThat(accessKey5.isExists()).isTrue();
+
+        // 4. 발급된 AccessKey에 유효시간(TTL)이 올바르게 설정되었는가? (10분 이하)
+        assertThat(accessKey4.remainTimeToLive()).isPositive().isLessThanOrEqualTo(TimeUnit.MINUTES.toMillis(10));
     }
 
     @Test
     @DisplayName("활성 사용자 수가 최대치 이상일 때, 스케줄러는 아무 작업도 하지 않아야 한다.")
-    void execute_shouldDoNothing_whenNoSlotIsAvailable() throws InterruptedException {
+    void execute_shouldDoNothing_whenNoSlotIsAvailable() {
         // given: 대기열에 사용자가 있지만, 활성 사용자 수가 꽉 찬 상황
-        long concertId = 1L;
-        waitingQueueService.apply(concertId, 1L);
-
-        RAtomicLong activeUsersCount = redissonClient.getAtomicLong("active_users_count");
-        activeUsersCount.set(500); // 빈자리 없음
+        fillSlotsAndEnqueue(4);
 
         // when: 스케줄러 로직 실행
         waitingQueueScheduler.execute();
 
         // then: Redis의 상태에 아무 변화가 없어야 함
-        // 1. 활성 사용자 수는 그대로 500명이어야 한다.
-        assertThat(activeUsersCount.get()).isEqualTo(500L);
+        // 1. 활성 사용자 수는 그대로 3명이어야 한다.
+        assertThat(queueRedisAdapter.getActiveUserCounter(CONCERT_ID).get()).isEqualTo(MAX_ACTIVE_USERS);
         // 2. 대기열 인원도 그대로 1명이어야 한다.
-        assertThat(waitingQueueService.getWaitingCount(concertId)).isEqualTo(1L);
+        assertThat(queueRedisAdapter.getQueue(CONCERT_ID).size()).isEqualTo(1);
         // 3. 대기중인 사용자에게 AccessKey가 발급되지 않았어야 한다.
-        assertThat(redissonClient.getBucket("accesskey:1").isExists()).isFalse();
+        assertThat(queueRedisAdapter.getAccessKeyBucket(CONCERT_ID, 4L).isExists()).isFalse();
+    }
+
+    @Test
+    @DisplayName("여러 서버가 동시에 입장 처리를 실행해도 최대 활성 사용자 수를 초과해 입장시키지 않는다.")
+    void admitWaitingUsers_concurrentCallers_neverExceedMaxActiveUsers() throws Exception {
+        // given: 모든 슬롯이 비어 있고 대기자는 10명 (슬롯을 먼저 채운 뒤 모두 반환)
+        fillSlotsAndEnqueue(13);
+        for (long userId = 1; userId <= MAX_ACTIVE_USERS; userId++) {
+            queueRedisAdapter.releaseUser(CONCERT_ID, userId);
+        }
+
+        // when: 두 호출자가 동시에 입장 처리
+        CountDownLatch startLatch = new CountDownLatch(1);
+        Callable<Integer> caller = () -> {
+            startLatch.await();
+            return admissionService.admitWaitingUsers(CONCERT_ID, 500).size();
+        };
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<Integer> first = executor.submit(caller);
+            Future<Integer> second = executor.submit(caller);
+            startLatch.countDown();
+
+            // then: 두 호출자가 입장시킨 인원의 합이 빈 슬롯 수와 같고, 활성 사용자 수/세션도 최대치를 넘지 않는다.
+            assertThat(first.get(10, TimeUnit.SECONDS) + second.get(10, TimeUnit.SECONDS)).isEqualTo((int) MAX_ACTIVE_USERS);
+        } finally {
+            executor.shutdownNow();
+        }
+        assertThat(queueRedisAdapter.getActiveUserCounter(CONCERT_ID).get()).isEqualTo(MAX_ACTIVE_USERS);
+        assertThat(queueRedisAdapter.getActiveSessions(CONCERT_ID).size()).isEqualTo((int) MAX_ACTIVE_USERS);
+        assertThat(queueRedisAdapter.getQueue(CONCERT_ID).size()).isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("활성 사용자가 퇴장하면 슬롯이 반환되고, 이벤트 기반 디스패처가 다음 대기자를 즉시 입장시킨다.")
+    void leave_shouldReleaseSlot_and_admitNextUser() {
+        // given: 3명 입장, user-4 대기 중
+        fillSlotsAndEnqueue(4);
+
+        // when: user-1이 퇴장 (스케줄러는 실행하지 않음)
+        waitingQueueService.leave(CONCERT_ID, 1L);
+
+        // then: user-1의 세션/AccessKey가 삭제되고, 반환된 슬롯으로 user-4가 입장
+        assertThat(queueRedisAdapter.getActiveSessions(CONCERT_ID).contains(1L)).isFalse();
+        assertThat(queueRedisAdapter.getAccessKeyBucket(CONCERT_ID, 1L).isExists()).isFalse();
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() -> {
+            assertThat(queueRedisAdapter.getAccessKeyBucket(CONCERT_ID, 4L).isExists()).isTrue();
+            assertThat(queueRedisAdapter.getQueue(CONCERT_ID).isEmpty()).isTrue();
+            assertThat(queueRedisAdapter.getActiveUserCounter(CONCERT_ID).get()).isEqualTo(MAX_ACTIVE_USERS);
+        });
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,125 @@
+package com.team03.ticketmon.queue.service;
+
+import com.team03.ticketmon.queue.adapter.QueueRedisAdapter;
+import com.team03.ticketmon.queue.strategy.PersonalizedRankStrategy;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.RScoredSortedSet;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * AdmissionDispatcher가 콘서트별 입장 처리 요청을 합쳐(coalescing) 실행하는지 검증하는 단위 테스트.
+ * 디스패처 스레드를 1개로 두고 다른 콘서트 작업으로 막아 둔 상태에서 요청을 보내 합쳐지는 조건을 재현합니다.
+ */
+@ExtendWith(MockitoExtension.class)
+class AdmissionDispatcherTest {
+
+    private static final int BATCH_SIZE = 500;
+
+    @Mock
+    private AdmissionService admissionService;
+    @Mock
+    private QueueRedisAdapter queueRedisAdapter;
+    @Mock
+    private PersonalizedRankStrategy personalizedRankStrategy;
+    @Mock
+    private RScoredSortedSet<Long> queue;
+
+    private AdmissionDispatcher admissionDispatcher;
+
+    @BeforeEach
+    void setUp() {
+        admissionDispatcher = new AdmissionDispatcher(admissionService, queueRedisAdapter, personalizedRankStrategy, 1, BATCH_SIZE);
+    }
+
+    @AfterEach
+    void tearDown() {
+        admissionDispatcher.shutdown();
+    }
+
+    @Test
+    @DisplayName("같은 콘서트의 입장 처리 요청이 실행 전에 여러 번 들어오면 하나의 작업으로 합쳐진다.")
+    void requestAdmission_coalescesPendingRequestsForSameConcert() throws InterruptedException {
+        // given: 유일한 디스패처 스레드가 콘서트 1의 입장 처리에 묶여 있는 상황
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        given(admissionService.admitWaitingUsers(1L, BATCH_SIZE)).willAnswer(invocation -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return List.of();
+        });
+        given(admissionService.admitWaitingUsers(2L, BATCH_SIZE)).willReturn(List.of());
+        admissionDispatcher.requestAdmission(1L);
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // when: 콘서트 2에 대해 실행 전 요청이 두 번 들어옴
+        admissionDispatcher.requestAdmission(2L);
+        admissionDispatcher.requestAdmission(2L);
+        release.countDown();
+
+        // then: 두 번째 요청은 합쳐지고, 콘서트 2의 입장 처리는 한 번만 실행된다.
+        verify(admissionService, timeout(5000)).admitWaitingUsers(2L, BATCH_SIZE);
+        verify(admissionService, after(200).times(1)).admitWaitingUsers(2L, BATCH_SIZE);
+        assertThat(admissionDispatcher.getStats())
+                .containsEntry("triggerCount", 3L)
+                .containsEntry("coalescedTriggerCount", 1L)
+                .containsEntry("pendingConcerts", 0);
+    }
+
+    @Test
+    @DisplayName("작업이 실행을 시작한 뒤 들어온 요청은 합쳐지지 않고 다음 작업으로 다시 실행된다.")
+    void requestAdmission_afterRunStarted_schedulesNextRun() throws InterruptedException {
+        // given: 콘서트 1의 첫 번째 입장 처리가 실행 중인 상황
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        given(admissionService.admitWaitingUsers(1L, BATCH_SIZE)).willAnswer(invocation -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return List.of();
+        });
+        admissionDispatcher.requestAdmission(1L);
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // when: 실행 중에 같은 콘서트의 슬롯이 다시 반환됨
+        admissionDispatcher.requestAdmission(1L);
+        release.countDown();
+
+        // then: 실행 중 반환된 슬롯을 놓치지 않도록 입장 처리가 한 번 더 실행된다.
+        verify(admissionService, timeout(5000).times(2)).admitWaitingUsers(1L, BATCH_SIZE);
+        assertThat(admissionDispatcher.getStats()).containsEntry("coalescedTriggerCount", 0L);
+    }
+
+    @Test
+    @DisplayName("안전망 스케줄러의 동기 입장 처리는 호출 스레드에서 바로 실행되고 안전망 입장 인원으로 집계된다.")
+    void admit_runsSynchronously() {
+        // given: 대기자 2명이 입장 가능하고, 입장 후 대기열은 비어 있는 상황
+        given(admissionService.admitWaitingUsers(1L, BATCH_SIZE)).willReturn(List.of(10L, 11L));
+        given(queueRedisAdapter.getQueue(1L)).willReturn(queue);
+        given(queue.isEmpty()).willReturn(true);
+
+        // when: 안전망 경로로 직접 입장 처리
+        int admitted = admissionDispatcher.admit(1L);
+
+        // then
+        assertThat(admitted).isEqualTo(2);
+        assertThat(admissionDispatcher.getStats())
+                .containsEntry("safetyNetAdmittedCount", 2L)
+                .containsEntry("eventAdmittedCount", 0L);
+        verify(admissionService).admitWaitingUsers(1L, BATCH_SIZE);
+    }
+}
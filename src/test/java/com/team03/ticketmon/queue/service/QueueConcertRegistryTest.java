@@ -0,0 +1,144 @@
+package com.team03.ticketmon.queue.service;
+
+import com.team03.ticketmon._global.config.RedissonConfig;
+import com.team03.ticketmon._global.util.RedisKeyGenerator;
+import com.team03.ticketmon.concert.domain.enums.ConcertStatus;
+import com.team03.ticketmon.concert.repository.ConcertRepository;
+import com.team03.ticketmon.queue.adapter.QueueRedisAdapter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.redisson.api.RSet;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.redis.DataRedisTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.BDDMockito.given;
+
+/**
+ * QueueConcertRegistry의 등록 캐시, 유휴 콘서트 해제, DB 기준 정합성 복구(reconcile)를 실제 Redis에서 검증하는 테스트 클래스.
+ * 콘서트 상태 조회(ConcertRepository)는 Mock으로 대체합니다.
+ */
+@ActiveProfiles("test")
+@Testcontainers
+@DataRedisTest
+@Import({RedissonConfig.class, RedisKeyGenerator.class, QueueRedisAdapter.class, QueueConcertRegistry.class})
+class QueueConcertRegistryTest {
+
+    private static final long CONCERT_ID = 1L;
+    private static final long USER_ID = 1001L;
+
+    @MockitoBean
+    private ConcertRepository concertRepository;
+
+    @Autowired
+    private QueueConcertRegistry queueConcertRegistry;
+    @Autowired
+    private QueueRedisAdapter queueRedisAdapter;
+    @Autowired
+    private RedissonClient redissonClient;
+
+    @Container
+    public static GenericContainer<?> redis = new GenericContainer<>("redis:7-alpine")
+            .withExposedPorts(6379);
+
+    @DynamicPropertySource
+    static void redisProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.data.redis.host", () -> redis.getHost());
+        registry.add("spring.data.redis.port", () -> redis.getMappedPort(6379));
+        registry.add("spring.data.redis.ssl.enabled", () -> false);
+    }
+
+    @BeforeEach
+    void setUp() {
+        redissonClient.getKeys().flushdb();
+        // 이전 테스트가 남긴 로컬 등록 캐시를 빈 레지스트리 기준으로 비움
+        queueConcertRegistry.getActiveConcertIds();
+    }
+
+    @Test
+    @DisplayName("이미 등록한 콘서트는 다시 쓰지 않고, 레지스트리 조회로 해제가 확인되면 다음 진입 때 다시 등록한다.")
+    void register_skipsRepeatsUntilRegistryDropsConcert() {
+        // given: 최초 등록
+        queueConcertRegistry.register(CONCERT_ID);
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() ->
+                assertThat(registry().contains(String.valueOf(CONCERT_ID))).isTrue());
+
+        // when: 다른 인스턴스가 해제한 상황에서 같은 콘서트로 다시 진입
+        registry().remove(String.valueOf(CONCERT_ID));
+        queueConcertRegistry.register(CONCERT_ID);
+
+        // then: 로컬 캐시에 등록되어 있으므로 Redis에 다시 쓰지 않는다.
+        assertThat(registry().contains(String.valueOf(CONCERT_ID))).isFalse();
+
+        // when: 스케줄러가 레지스트리를 읽어 해제를 확인한 뒤 다시 진입
+        assertThat(queueConcertRegistry.getActiveConcertIds()).isEmpty();
+        queueConcertRegistry.register(CONCERT_ID);
+
+        // then
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() ->
+                assertThat(registry().contains(String.valueOf(CONCERT_ID))).isTrue());
+    }
+
+    @Test
+    @DisplayName("대기열이나 활성 세션이 남아 있으면 해제하지 않고, 모두 비면 해제한 뒤 다음 진입 때 다시 등록한다.")
+    void unregisterIfIdle_keepsConcertWithLiveQueue() {
+        // given: 대기자 1명이 있는 등록 콘서트
+        queueConcertRegistry.register(CONCERT_ID);
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() ->
+                assertThat(registry().contains(String.valueOf(CONCERT_ID))).isTrue());
+        queueRedisAdapter.getQueue(CONCERT_ID).add(1, USER_ID);
+
+        // when & then: 대기열이 남아 있으면 유지
+        assertThat(queueConcertRegistry.unregisterIfIdle(CONCERT_ID)).isFalse();
+        assertThat(registry().contains(String.valueOf(CONCERT_ID))).isTrue();
+
+        // when & then: 대기열이 비면 해제
+        queueRedisAdapter.getQueue(CONCERT_ID).remove(USER_ID);
+        assertThat(queueConcertRegistry.unregisterIfIdle(CONCERT_ID)).isTrue();
+        assertThat(registry().isEmpty()).isTrue();
+
+        // when & then: 같은 인스턴스에서 해제했으므로 다음 진입 시 바로 다시 등록
+        queueConcertRegistry.register(CONCERT_ID);
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() ->
+                assertThat(registry().contains(String.valueOf(CONCERT_ID))).isTrue());
+    }
+
+    @Test
+    @DisplayName("정합성 복구는 누락된 판매 중 콘서트를 등록하고, 판매가 끝난 유휴 콘서트만 해제하며 정리 중인 콘서트는 유지한다.")
+    void reconcile_registersMissingAndRemovesOnlyIdleStaleConcerts() {
+        // given: DB 판매 중 {1, 2}, 레지스트리 {2, 3, 4}
+        //        3번은 판매 종료됐지만 활성 세션이 남아 있고(draining), 4번은 판매 종료 + 유휴(stale)
+        given(concertRepository.findConcertIdsByStatus(ConcertStatus.ON_SALE)).willReturn(List.of(1L, 2L));
+        registry().addAll(List.of("2", "3", "4"));
+        queueRedisAdapter.getActiveSessions(3L).add(System.currentTimeMillis() + 60_000, USER_ID);
+
+        // when
+        queueConcertRegistry.reconcile();
+
+        // then
+        assertThat(queueConcertRegistry.getActiveConcertIds()).containsExactlyInAnyOrder(1L, 2L, 3L);
+        assertThat(queueConcertRegistry.getStats())
+                .containsEntry("reconcileCount", 1L)
+                .containsEntry("lastMissingCount", 1L)
+                .containsEntry("lastStaleRemovedCount", 1L)
+                .containsEntry("lastDrainingCount", 1L);
+    }
+
+    private RSet<String> registry() {
+        return queueRedisAdapter.getActiveConcertRegistry();
+    }
+}
@@ -1,8 +1,9 @@
 package com.team03.ticketmon.queue.service;
 
 import com.team03.ticketmon._global.config.RedissonConfig;
-import com.team03.ticketmon._global.exception.BusinessException;
-import com.team03.ticketmon._global.exception.ErrorCode;
+import com.team03.ticketmon._global.util.RedisKeyGenerator;
+import com.team03.ticketmon.queue.adapter.QueueRedisAdapter;
+import com.team03.ticketmon.queue.domain.QueueStatus;
 import com.team03.ticketmon.queue.dto.QueueStatusDto;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -14,6 +15,7 @@ import org.springframework.context.annotation.Import;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.DynamicPropertyRegistry;
 import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.testcontainers.containers.GenericContainer;
 import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
@@ -21,21 +23,36 @@ import org.testcontainers.junit.jupiter.Testcontainers;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.junit.Assert.assertThrows;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 /**
- * WaitingQueueService의 핵심 기능(대기열 추가, 조회, 추출)을 검증하는 테스트 클래스.
- * Redis의 Sorted Set을 사용하는 로직이 정확히 동작하는지 확인합니다.
+ * WaitingQueueService의 핵심 기능(즉시 입장, 대기열 추가, 조회, 추출)을 검증하는 테스트 클래스.
+ * 즉시 입장/대기열 등록 Lua 스크립트가 실제 Redis에서 정확히 동작하는지 확인합니다.
+ * (빈 슬롯 이벤트를 처리하는 AdmissionDispatcher는 Mock으로 대체하여 호출 여부만 검증)
  */
 @ActiveProfiles("test") // 테스트용 프로필 사용
 @Testcontainers
 @DataRedisTest
-@Import({RedissonConfig.class, WaitingQueueService.class})
+@Import({RedissonConfig.class, RedisKeyGenerator.class, QueueRedisAdapter.class,
+        AdmissionService.class, WaitingQueueService.class})
 class WaitingQueueServiceTest {
 
+    // 콘서트당 최대 활성 사용자 수 (앞선 2명은 즉시 입장, 이후는 대기열 등록)
+    private static final long MAX_ACTIVE_USERS = 2L;
+
+    @MockitoBean
+    private AdmissionDispatcher admissionDispatcher;
+    @MockitoBean
+    private NotificationService notificationService;
+    @MockitoBean
+    private QueueConcertRegistry queueConcertRegistry;
+
     @Autowired
     private WaitingQueueService waitingQueueService;
     @Autowired
+    private QueueRedisAdapter queueRedisAdapter;
+    @Autowired
     private RedissonClient redissonClient;
 
     @Container
@@ -54,6 +71,9 @@ class WaitingQueueServiceTest {
         registry.add("spring.data.redis.host", () -> redis.getHost());
         registry.add("spring.data.redis.port", () -> redis.getMappedPort(6379));
         registry.add("spring.data.redis.ssl.enabled", () -> false);
+
+        registry.add("app.queue.max-active-users", () -> MAX_ACTIVE_USERS);
+        registry.add("app.queue.access-key-ttl-seconds", () -> 300L);
     }
 
     /**
@@ -67,36 +87,60 @@ class WaitingQueueServiceTest {
     }
 
     @Test
-    @DisplayName("여러 사용자가 순차적으로 진입하면 각자의 순번을 정확히 반환한다.")
+    @DisplayName("빈 슬롯이 있는 동안은 즉시 입장하고, 슬롯이 가득 차면 도착 순서대로 순번을 반환한다.")
     void applyAndGetRank_multipleUsers() {
-        // given, when: 3명의 사용자가 순서대로 대기열에 진입
+        // given, when: 4명의 사용자가 순서대로 진입 (최대 활성 사용자 2명)
         QueueStatusDto queueStatusDto1 = waitingQueueService.apply(1L, 1L);
         QueueStatusDto queueStatusDto2 = waitingQueueService.apply(1L, 2L);
         QueueStatusDto queueStatusDto3 = waitingQueueService.apply(1L, 3L);
-
-        // then: 각자 1, 2, 3등의 순번을 부여받는다.
-        assertThat(queueStatusDto1.rank()).isEqualTo(1L);
-        assertThat(queueStatusDto2.rank()).isEqualTo(2L);
-        assertThat(queueStatusDto3.rank()).isEqualTo(3L);
+        QueueStatusDto queueStatusDto4 = waitingQueueService.apply(1L, 4L);
+
+        // then: 앞선 2명은 AccessKey를 받아 즉시 입장하고, 나머지는 1, 2등의 순번을 부여받는다.
+        assertThat(queueStatusDto1.status()).isEqualTo(QueueStatus.IMMEDIATE_ENTRY);
+        assertThat(queueStatusDto1.accessKey()).isNotBlank();
+        assertThat(queueStatusDto2.status()).isEqualTo(QueueStatus.IMMEDIATE_ENTRY);
+        assertThat(queueStatusDto3.status()).isEqualTo(QueueStatus.WAITING);
+        assertThat(queueStatusDto3.rank()).isEqualTo(1L);
+        assertThat(queueStatusDto4.rank()).isEqualTo(2L);
+
+        // 즉시 입장한 사용자의 AccessKey가 조회 API와 같은 값으로 저장되었는가?
+        assertThat(queueRedisAdapter.getAccessKeyBucket(1L, 1L).get()).isEqualTo(queueStatusDto1.accessKey());
+        assertThat(queueRedisAdapter.getActiveUserCounter(1L).get()).isEqualTo(MAX_ACTIVE_USERS);
     }
 
     @Test
     @DisplayName("이미 대기열에 있는 사용자가 다시 진입을 시도해도 순번은 변하지 않는다 (멱등성).")
-    void applyAndGetRank_idempotency() throws InterruptedException {
-        // given: user-1이 먼저 진입하고, 잠시 후 user-2가 진입
-        QueueStatusDto queueStatusDto1 = waitingQueueService.apply(1L, 1L);
-        Thread.sleep(10); // 점수(timestamp)를 다르게 하기 위한 지연
+    void applyAndGetRank_idempotency() {
+        // given: 슬롯이 가득 찬 뒤 user-3, user-4가 순서대로 대기열에 진입
+        waitingQueueService.apply(1L, 1L);
         waitingQueueService.apply(1L, 2L);
+        QueueStatusDto queueStatusDto3 = waitingQueueService.apply(1L, 3L);
+        waitingQueueService.apply(1L, 4L);
+
+        // when: user-3이 다시 진입을 시도
+        QueueStatusDto retried = waitingQueueService.apply(1L, 3L);
+
+        // then: user-3의 순번은 처음 부여받은 1등에서 변하지 않고, 대기 인원도 늘지 않는다.
+        assertThat(queueStatusDto3.rank()).isEqualTo(1L);
+        assertThat(retried.status()).isEqualTo(QueueStatus.WAITING);
+        assertThat(retried.rank()).isEqualTo(1L);
+        assertThat(queueRedisAdapter.getQueue(1L).size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("이미 입장한 사용자가 다시 진입을 시도하면 슬롯을 추가로 점유하지 않고 기존 AccessKey를 반환한다.")
+    void apply_alreadyAdmitted_returnsExistingAccessKey() {
+        // given: user-1이 즉시 입장
+        QueueStatusDto first = waitingQueueService.apply(1L, 1L);
 
         // when: user-1이 다시 진입을 시도
-        BusinessException ex = assertThrows(
-                BusinessException.class,
-                () -> waitingQueueService.apply(1L, 1L)
-        );
-
-        // then: user-1의 순번은 처음 부여받은 1등에서 변하지 않는다.
-        assertThat(queueStatusDto1.rank()).isEqualTo(1L);
-        assertThat(ex.getErrorCode()).isEqualTo(ErrorCode.QUEUE_ALREADY_JOINED);
+        QueueStatusDto retried = waitingQueueService.apply(1L, 1L);
+
+        // then: 기존 AccessKey가 그대로 반환되고 활성 사용자 수/세션은 1명으로 유지된다.
+        assertThat(retried.status()).isEqualTo(QueueStatus.ADMITTED);
+        assertThat(retried.accessKey()).isEqualTo(first.accessKey());
+        assertThat(queueRedisAdapter.getActiveUserCounter(1L).get()).isEqualTo(1L);
+        assertThat(queueRedisAdapter.getActiveSessions(1L).size()).isEqualTo(1);
     }
 
     @Test
@@ -106,27 +150,70 @@ class WaitingQueueServiceTest {
         long concertIdA = 1L;
         long concertIdB = 2L;
 
-        // when: 각 콘서트에 사용자들이 신청
-        QueueStatusDto queueStatusDto1 = waitingQueueService.apply(concertIdA, 1L);
-        QueueStatusDto queueStatusDto2 = waitingQueueService.apply(concertIdB, 2L);
+        // when: 콘서트 A의 슬롯을 모두 채운 뒤 각 콘서트에 사용자들이 신청
+        waitingQueueService.apply(concertIdA, 1L);
+        waitingQueueService.apply(concertIdA, 2L);
         QueueStatusDto queueStatusDto3 = waitingQueueService.apply(concertIdA, 3L);
+        QueueStatusDto queueStatusDto4 = waitingQueueService.apply(concertIdB, 4L);
+        QueueStatusDto queueStatusDto5 = waitingQueueService.apply(concertIdA, 5L);
+
+        // then: 각 콘서트 대기열은 독립적으로 슬롯과 순번을 계산한다.
+        assertThat(queueStatusDto3.rank()).isEqualTo(1L);
+        assertThat(queueStatusDto4.status()).isEqualTo(QueueStatus.IMMEDIATE_ENTRY);
+        assertThat(queueStatusDto5.rank()).isEqualTo(2L);
+        assertThat(queueRedisAdapter.getActiveUserCounter(concertIdB).get()).isEqualTo(1L);
+    }
 
-        // then: 각 콘서트 대기열은 독립적으로 순번을 계산한다.
-        assertThat(queueStatusDto1.rank()).isEqualTo(1L);
-        assertThat(queueStatusDto2.rank()).isEqualTo(1L);
-        assertThat(queueStatusDto3.rank()).isEqualTo(2L);
+    @Test
+    @DisplayName("대기자가 있으면 빈 슬롯이 생겨도 새 사용자는 즉시 입장하지 않고 대기열 뒤에 등록되며, 선두 대기자 입장을 요청한다.")
+    void apply_shouldNotJumpQueue_whenUsersAreWaiting() {
+        // given: 슬롯이 가득 찬 상태에서 user-3이 대기 중
+        long concertId = 1L;
+        waitingQueueService.apply(concertId, 1L);
+        waitingQueueService.apply(concertId, 2L);
+        waitingQueueService.apply(concertId, 3L);
+        verify(admissionDispatcher, never()).requestAdmission(concertId);
+
+        // when: user-1의 슬롯이 반환된 직후(디스패처가 처리하기 전) user-4가 진입
+        queueRedisAdapter.releaseUser(concertId, 1L);
+        QueueStatusDto newcomer = waitingQueueService.apply(concertId, 4L);
+
+        // then: user-4는 user-3 뒤에 등록되고, 빈 슬롯은 그대로 남아 선두 대기자 몫이 된다.
+        assertThat(newcomer.status()).isEqualTo(QueueStatus.WAITING);
+        assertThat(newcomer.rank()).isEqualTo(2L);
+        assertThat(queueRedisAdapter.getActiveUserCounter(concertId).get()).isEqualTo(1L);
+        // 빈 슬롯이 남은 채 대기열에 등록되었으므로 선두 대기자 입장을 즉시 요청
+        verify(admissionDispatcher).requestAdmission(concertId);
+    }
+
+    @Test
+    @DisplayName("활성 사용자가 퇴장하면 세션과 AccessKey가 삭제되고 슬롯이 반환된다.")
+    void leave_shouldReleaseSlot() {
+        // given: user-1, user-2가 즉시 입장
+        long concertId = 1L;
+        waitingQueueService.apply(concertId, 1L);
+        waitingQueueService.apply(concertId, 2L);
+
+        // when: user-1이 퇴장
+        waitingQueueService.leave(concertId, 1L);
+
+        // then: user-1의 세션/AccessKey가 삭제되고 활성 사용자 수가 1 감소한다.
+        assertThat(queueRedisAdapter.getActiveUserCounter(concertId).get()).isEqualTo(1L);
+        assertThat(queueRedisAdapter.getActiveSessions(concertId).contains(1L)).isFalse();
+        assertThat(queueRedisAdapter.getAccessKeyBucket(concertId, 1L).isExists()).isFalse();
+        verify(admissionDispatcher).requestAdmission(concertId);
     }
 
     @Test
     @DisplayName("대기열에서 N명을 추출(poll)하면, 가장 오래 기다린 N명이 순서대로 반환되고 대기열에서 제거된다.")
-    void poll() throws InterruptedException {
-        // given: 3명의 사용자가 순서대로 대기열에 진입
+    void poll() {
+        // given: 슬롯이 가득 찬 뒤 3명의 사용자가 순서대로 대기열에 진입
         long concertId = 1L;
         waitingQueueService.apply(concertId, 1L);
-        Thread.sleep(10);
         waitingQueueService.apply(concertId, 2L);
-        Thread.sleep(10);
         waitingQueueService.apply(concertId, 3L);
+        waitingQueueService.apply(concertId, 4L);
+        waitingQueueService.apply(concertId, 5L);
 
         // when: 가장 오래 기다린 2명을 추출
         List<Long> polledUsers = waitingQueueService.poll(concertId, 2);
@@ -134,17 +221,14 @@ class WaitingQueueServiceTest {
         // then:
         // 1. 요청한 2명이 반환되었는가?
         assertThat(polledUsers).hasSize(2);
-        // 2. 가장 먼저 들어온 순서("user-1", "user-2")대로 반환되었는가?
-        assertThat(polledUsers).containsExactly(1L, 2L);
+        // 2. 가장 먼저 들어온 순서("user-3", "user-4")대로 반환되었는가?
+        assertThat(polledUsers).containsExactly(3L, 4L);
         // 3. 대기열에 남은 인원은 1명인가?
-        assertThat(waitingQueueService.getWaitingCount(concertId)).isEqualTo(1L);
-
-        // 4. 대기열에 남은 사람은 user-3 인가?
-        BusinessException ex = assertThrows(
-                BusinessException.class,
-                () -> waitingQueueService.apply(1L, 3L)
-        );
+        assertThat(queueRedisAdapter.getQueue(concertId).size()).isEqualTo(1);
 
-        assertThat(ex.getErrorCode()).isEqualTo(ErrorCode.QUEUE_ALREADY_JOINED);
+        // 4. 대기열에 남은 사람은 user-5 인가? (다시 진입해도 1등 순번 유지)
+        QueueStatusDto remaining = waitingQueueService.apply(concertId, 5L);
+        assertThat(remaining.status()).isEqualTo(QueueStatus.WAITING);
+        assertThat(remaining.rank()).isEqualTo(1L);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,123 @@
+package com.team03.ticketmon.seat.controller;
+
+import com.team03.ticketmon._global.config.SecurityConfig;
+import com.team03.ticketmon.auth.Util.CookieUtil;
+import com.team03.ticketmon.auth.jwt.JwtTokenProvider;
+import com.team03.ticketmon.auth.service.RefreshTokenService;
+import com.team03.ticketmon.auth.service.ReissueService;
+import com.team03.ticketmon.concert.domain.enums.SeatGrade;
+import com.team03.ticketmon.seat.domain.SeatLayoutSnapshot;
+import com.team03.ticketmon.seat.dto.SeatDetailResponseDTO;
+import com.team03.ticketmon.seat.dto.SectionLayoutResponseDTO;
+import com.team03.ticketmon.seat.service.SeatLayoutService;
+import com.team03.ticketmon.user.service.SocialUserService;
+import com.team03.ticketmon.user.service.UserEntityService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.oauth2.client.registration.ClientRegistrationRepository;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * SeatLayoutController의 정적 배치도 ETag 재검증(200/304)과 구역별 배치도 응답을 검증하는 테스트.
+ * SeatLayoutService는 Mock으로 대체하고 실제 SeatLayoutSnapshot을 반환합니다.
+ */
+@WebMvcTest(controllers = SeatLayoutController.class)
+@Import(SecurityConfig.class)
+class SeatLayoutControllerTest {
+
+    private static final Long CONCERT_ID = 1L;
+    private static final String BODY = "{\"success\":true,\"message\":\"좌석 배치도 조회 성공\"}";
+
+    @Autowired private MockMvc mockMvc;
+
+    @MockitoBean private SeatLayoutService seatLayoutService;
+    @MockitoBean private JwtTokenProvider jwtTokenProvider;
+    @MockitoBean private ReissueService reissueService;
+    @MockitoBean private RefreshTokenService refreshTokenService;
+    @MockitoBean private UserEntityService userEntityService;
+    @MockitoBean private SocialUserService socialUserService;
+    @MockitoBean private CookieUtil cookieUtil;
+    @MockitoBean private ClientRegistrationRepository clientRegistrationRepository;
+
+    private SeatLayoutSnapshot snapshot;
+
+    @BeforeEach
+    void setUp() {
+        snapshot = new SeatLayoutSnapshot(CONCERT_ID, 10L, "테스트 공연장",
+                List.of(new SeatLayoutSnapshot.Section("VIP", List.of(seatEntry(1L, 1), seatEntry(2L, 2)))),
+                BODY.getBytes(StandardCharsets.UTF_8));
+        given(seatLayoutService.getLayoutSnapshot(CONCERT_ID)).willReturn(snapshot);
+    }
+
+    @Test
+    @DisplayName("성공: If-None-Match 없이 조회하면 200 OK와 ETag, 미리 직렬화된 본문을 반환한다")
+    void getStaticSeatLayout_returnsBodyWithETag() throws Exception {
+        mockMvc.perform(get("/api/concerts/{concertId}/seat-layout/static", CONCERT_ID))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, snapshot.getETag()))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache"))
+                .andExpect(content().bytes(snapshot.getBody()));
+    }
+
+    @Test
+    @DisplayName("성공: If-None-Match가 현재 ETag와 일치하면 본문 없이 304 Not Modified를 반환한다")
+    void getStaticSeatLayout_returnsNotModifiedOnETagMatch() throws Exception {
+        mockMvc.perform(get("/api/concerts/{concertId}/seat-layout/static", CONCERT_ID)
+                        .header(HttpHeaders.IF_NONE_MATCH, snapshot.getETag()))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, snapshot.getETag()))
+                .andExpect(content().bytes(new byte[0]));
+
+        // 약한 비교: 프록시가 붙인 W/ 접두사도 일치로 판단
+        mockMvc.perform(get("/api/concerts/{concertId}/seat-layout/static", CONCERT_ID)
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"stale\", W/" + snapshot.getETag()))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    @DisplayName("성공: If-None-Match가 이전 ETag이면 200 OK와 새 본문을 반환한다")
+    void getStaticSeatLayout_returnsBodyOnETagMismatch() throws Exception {
+        mockMvc.perform(get("/api/concerts/{concertId}/seat-layout/static", CONCERT_ID)
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"stale\""))
+                .andExpect(status().isOk())
+                .andExpect(content().bytes(snapshot.getBody()));
+    }
+
+    @Test
+    @DisplayName("성공: 구역별 조회는 요청한 구역의 좌석만 반환한다")
+    void getSectionLayout_returnsRequestedSection() throws Exception {
+        // GIVEN: 서비스가 스냅샷에서 잘라낸 VIP 구역 응답
+        SeatLayoutSnapshot.Section vip = snapshot.findSection("vip");
+        given(seatLayoutService.getSectionLayout(CONCERT_ID, "vip")).willReturn(SectionLayoutResponseDTO.from(
+                vip.name(), vip.seats().stream().map(entry -> SeatDetailResponseDTO.from(entry, true)).toList()));
+
+        // WHEN & THEN
+        mockMvc.perform(get("/api/concerts/{concertId}/seat-layout/sections/{sectionName}", CONCERT_ID, "vip"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.totalSeats").value(2))
+                .andExpect(jsonPath("$.data.seats.length()").value(2))
+                .andExpect(jsonPath("$.data.seats[0].seatLabel").value("VIP-1-1"));
+    }
+
+    private static SeatLayoutSnapshot.SeatEntry seatEntry(long concertSeatId, int seatNumber) {
+        return new SeatLayoutSnapshot.SeatEntry(concertSeatId, concertSeatId + 100, "VIP", "1", seatNumber,
+                "VIP-1-" + seatNumber, SeatGrade.VIP, BigDecimal.valueOf(150000), false);
+    }
+}
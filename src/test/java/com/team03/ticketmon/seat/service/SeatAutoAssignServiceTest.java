@@ -0,0 +1,175 @@
+package com.team03.ticketmon.seat.service;
+
+import com.team03.ticketmon.concert.domain.enums.SeatGrade;
+import com.team03.ticketmon.seat.config.SeatProperties;
+import com.team03.ticketmon.seat.domain.PackedSeatState;
+import com.team03.ticketmon.seat.domain.SeatLayoutSnapshot;
+import com.team03.ticketmon.seat.domain.SeatOrdinalIndex;
+import com.team03.ticketmon.seat.domain.SeatRowIndex;
+import com.team03.ticketmon.seat.domain.SeatStateSnapshot;
+import com.team03.ticketmon.seat.service.SeatAutoAssignService.SeatBlock;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * SeatAutoAssignService.findBestBlocks의 연석 블록 탐색을 검증하는 단위 테스트.
+ * - A구역 1열: 좌석 번호 1~6 (ID 1~6)
+ * - A구역 2열: 좌석 번호 1, 2, 4, 5, 6 (3번 없음, ID 11, 12, 14, 15, 16)
+ * - B구역 1열: 좌석 번호 1~4 (ID 21~24)
+ * 점수 = 열 가중치(1.0) × 열 순서 + 중앙 가중치(0.5) × |블록 중앙 - 열 중앙| (낮을수록 좋은 좌석)
+ */
+@ExtendWith(MockitoExtension.class)
+class SeatAutoAssignServiceTest {
+
+    private static final Long CONCERT_ID = 1L;
+
+    @Mock
+    private SeatLayoutService seatLayoutService;
+    @Mock
+    private SeatStateService seatStateService;
+    @Mock
+    private SeatStatusService seatStatusService;
+    @Mock
+    private SeatCounterService seatCounterService;
+
+    private SeatProperties seatProperties;
+    private SeatAutoAssignService seatAutoAssignService;
+    private SeatRowIndex rowIndex;
+    private final Map<Long, Integer> states = new TreeMap<>();
+
+    @BeforeEach
+    void setUp() {
+        seatProperties = new SeatProperties();
+        seatProperties.getAllocation().setRowWeight(1.0);
+        seatProperties.getAllocation().setCenterWeight(0.5);
+        seatProperties.getAllocation().setCandidatePoolSize(8);
+        seatAutoAssignService = new SeatAutoAssignService(seatLayoutService, seatStateService, seatStatusService,
+                seatCounterService, seatProperties);
+
+        List<SeatLayoutSnapshot.SeatEntry> sectionA = new ArrayList<>();
+        for (int number = 1; number <= 6; number++) {
+            sectionA.add(seat(number, "A", "1", number));
+        }
+        for (int number : new int[]{1, 2, 4, 5, 6}) {
+            sectionA.add(seat(10 + number, "A", "2", number));
+        }
+        List<SeatLayoutSnapshot.SeatEntry> sectionB = new ArrayList<>();
+        for (int number = 1; number <= 4; number++) {
+            sectionB.add(seat(20 + number, "B", "1", number));
+        }
+        rowIndex = SeatRowIndex.of(new SeatLayoutSnapshot(CONCERT_ID, 1L, "테스트 공연장",
+                List.of(new SeatLayoutSnapshot.Section("A", sectionA), new SeatLayoutSnapshot.Section("B", sectionB)),
+                new byte[0]));
+    }
+
+    @Test
+    @DisplayName("좌석 번호가 끊긴 곳은 연석으로 보지 않고, 끊긴 뒤부터 새 연속 구간을 탐색한다.")
+    void findBestBlocks_doesNotBridgeSeatNumberGaps() {
+        // given: A구역 1열 전체 예매 완료 → 2열(1, 2, _, 4, 5, 6)만 남음
+        for (long seatId = 1; seatId <= 6; seatId++) {
+            states.put(seatId, PackedSeatState.BOOKED);
+        }
+
+        // when
+        List<SeatBlock> triples = seatAutoAssignService.findBestBlocks(rowIndex, liveState(), 3, "A", Set.of());
+        List<SeatBlock> pairs = seatAutoAssignService.findBestBlocks(rowIndex, liveState(), 2, "A", Set.of());
+
+        // then: 3연석은 4~6번뿐, 2연석에 2번-4번 블록은 없다.
+        assertThat(triples).singleElement()
+                .satisfies(block -> assertThat(block.seatIds()).containsExactly(14L, 15L, 16L));
+        assertThat(pairs).extracting(SeatBlock::seatIds)
+                .containsExactlyInAnyOrder(List.of(11L, 12L), List.of(14L, 15L), List.of(15L, 16L));
+    }
+
+    @Test
+    @DisplayName("후보 블록은 앞 열, 열 중앙에 가까운 순(점수 오름차순)으로 반환되고 후보 수는 candidate-pool-size로 제한된다.")
+    void findBestBlocks_ordersByScoreAndKeepsTopCandidates() {
+        // when: 모든 좌석 예매 가능, A구역 2연석
+        List<SeatBlock> candidates = seatAutoAssignService.findBestBlocks(rowIndex, liveState(), 2, "A", Set.of());
+
+        // then: 1열 중앙(3~4번, 점수 0)이 최선, 2열 블록(열 가중치 1.0)은 1열 블록보다 뒤
+        assertThat(candidates).hasSize(8);
+        assertThat(candidates).extracting(SeatBlock::score).isSorted();
+        assertThat(candidates.get(0).seatIds()).containsExactly(3L, 4L);
+        assertThat(candidates.get(0).score()).isZero();
+        assertThat(candidates.subList(0, 5)).allSatisfy(block -> assertThat(block.row().seatRow()).isEqualTo("1"));
+        assertThat(candidates.get(5).seatIds()).containsExactly(14L, 15L);
+        assertThat(candidates.get(5).score()).isEqualTo(1.5);
+
+        // when: 후보 수 3개로 제한
+        seatProperties.getAllocation().setCandidatePoolSize(3);
+        List<SeatBlock> top = seatAutoAssignService.findBestBlocks(rowIndex, liveState(), 2, "A", Set.of());
+
+        // then: 점수가 가장 좋은 3개만 남는다. (2~3번, 4~5번은 동점)
+        assertThat(top.get(0).seatIds()).containsExactly(3L, 4L);
+        assertThat(top).extracting(SeatBlock::seatIds)
+                .containsExactlyInAnyOrder(List.of(3L, 4L), List.of(2L, 3L), List.of(4L, 5L));
+    }
+
+    @Test
+    @DisplayName("구역을 지정하지 않으면 모든 구역에서 탐색하고, 지정하면 해당 구역 열만 탐색한다.")
+    void findBestBlocks_filtersBySection() {
+        // when
+        List<SeatBlock> all = seatAutoAssignService.findBestBlocks(rowIndex, liveState(), 4, null, Set.of());
+        List<SeatBlock> sectionB = seatAutoAssignService.findBestBlocks(rowIndex, liveState(), 4, "B", Set.of());
+
+        // then
+        assertThat(all).extracting(block -> block.row().section()).contains("A", "B");
+        assertThat(sectionB).singleElement()
+                .satisfies(block -> assertThat(block.seatIds()).containsExactly(21L, 22L, 23L, 24L));
+    }
+
+    @Test
+    @DisplayName("선점 충돌로 제외된 좌석과 다른 사용자가 선점 중인 좌석은 어떤 후보 블록에도 포함되지 않는다.")
+    void findBestBlocks_skipsExcludedAndHeldSeats() {
+        // given: 이전 시도에서 3, 4번이 충돌로 제외되고, 12번은 다른 사용자가 임시 선점 중
+        states.put(12L, PackedSeatState.RESERVED);
+        Set<Long> excludedSeatIds = Set.of(3L, 4L);
+
+        // when
+        List<SeatBlock> candidates = seatAutoAssignService.findBestBlocks(rowIndex, liveState(), 2, "A",
+                excludedSeatIds);
+
+        // then: 1열은 1~2번, 5~6번(동점)만 남고, 2열은 4~6번 구간만 남는다.
+        assertThat(candidates).extracting(SeatBlock::seatIds)
+                .containsExactlyInAnyOrder(List.of(1L, 2L), List.of(5L, 6L), List.of(14L, 15L), List.of(15L, 16L));
+        assertThat(candidates).extracting(SeatBlock::score).containsExactly(1.0, 1.0, 1.5, 2.0);
+        assertThat(candidates).flatExtracting(SeatBlock::seatIds).doesNotContain(3L, 4L, 12L);
+    }
+
+    /**
+     * 기본 AVAILABLE + states에 지정한 좌석 상태로 패킹 상태 스냅샷 구성
+     */
+    private SeatStateSnapshot liveState() {
+        Map<Long, String> seatInfoBySeatId = new TreeMap<>();
+        for (SeatRowIndex.Row row : rowIndex.getRows()) {
+            for (int i = 0; i < row.size(); i++) {
+                seatInfoBySeatId.put(row.concertSeatIds()[i], row.seatLabels()[i]);
+            }
+        }
+        SeatOrdinalIndex index = SeatOrdinalIndex.of(1L, seatInfoBySeatId);
+        int[] codes = new int[index.size()];
+        for (int ordinal = 0; ordinal < codes.length; ordinal++) {
+            codes[ordinal] = states.getOrDefault(index.seatIdAt(ordinal), PackedSeatState.AVAILABLE);
+        }
+        return new SeatStateSnapshot(CONCERT_ID, index, PackedSeatState.pack(codes));
+    }
+
+    private static SeatLayoutSnapshot.SeatEntry seat(long concertSeatId, String section, String seatRow, int seatNumber) {
+        return new SeatLayoutSnapshot.SeatEntry(concertSeatId, concertSeatId + 100, section, seatRow, seatNumber,
+                section + "-" + seatRow + "-" + seatNumber, SeatGrade.R, BigDecimal.valueOf(100000), false);
+    }
+}
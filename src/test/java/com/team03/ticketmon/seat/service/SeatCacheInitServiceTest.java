@@ -0,0 +1,293 @@
+package com.team03.ticketmon.seat.service;
+
+import com.team03.ticketmon._global.config.RedissonConfig;
+import com.team03.ticketmon._global.util.RedisKeyGenerator;
+import com.team03.ticketmon.concert.dto.ConcertSeatCacheRowDTO;
+import com.team03.ticketmon.concert.repository.ConcertSeatRepository;
+import com.team03.ticketmon.seat.adapter.SeatStatusShardRouter;
+import com.team03.ticketmon.seat.config.SeatProperties;
+import com.team03.ticketmon.seat.config.SeatRedisCodecConfig;
+import com.team03.ticketmon.seat.domain.PackedSeatState;
+import com.team03.ticketmon.seat.domain.SeatHoldJournal;
+import com.team03.ticketmon.seat.domain.SeatStatus;
+import com.team03.ticketmon.seat.domain.SeatStatus.SeatStatusEnum;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.ByteArrayCodec;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.data.redis.DataRedisTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * SeatCacheInitService의 Cache Miss 재구성(Single-Flight)과 임시 Hash 교체가 실제 Redis에서 정확히 동작하는지 검증하는 테스트 클래스.
+ * DB 조회(ConcertSeatRepository)는 키셋 페이지를 흉내 내는 Mock으로 대체하고, 조회 횟수로 DB 적재 횟수를 판단합니다.
+ * 선점 저널(SeatJournalService)도 Mock으로 대체하여 재구성 시 선점 복원 결과를 확인합니다.
+ */
+@ActiveProfiles("test")
+@Testcontainers
+@DataRedisTest
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@Import({RedissonConfig.class, SeatProperties.class, SeatRedisCodecConfig.class, SeatStatusShardRouter.class,
+        SeatNearCache.class, SeatCacheInitService.class})
+class SeatCacheInitServiceTest {
+
+    private static final Long CONCERT_ID = 1L;
+    private static final int SEAT_COUNT = 5;
+    // 키셋 페이지 크기 (5석 → 2 / 2 / 1 세 번에 나눠 적재)
+    private static final int CHUNK_SIZE = 2;
+    private static final Long USER_ID = 1001L;
+    private static final Long OTHER_USER_ID = 1002L;
+
+    @MockitoBean
+    private ConcertSeatRepository concertSeatRepository;
+    @MockitoBean
+    private SeatJournalService seatJournalService;
+
+    @Autowired
+    private SeatCacheInitService seatCacheInitService;
+    @Autowired
+    private SeatStatusShardRouter seatStatusShardRouter;
+    @Autowired
+    private RedissonClient redissonClient;
+
+    @Container
+    public static GenericContainer<?> redis = new GenericContainer<>("redis:7-alpine")
+            .withExposedPorts(6379);
+
+    @DynamicPropertySource
+    static void redisProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.data.redis.host", () -> redis.getHost());
+        registry.add("spring.data.redis.port", () -> redis.getMappedPort(6379));
+        registry.add("spring.data.redis.ssl.enabled", () -> false);
+
+        registry.add("seat.cache.warmup-chunk-size", () -> CHUNK_SIZE);
+    }
+
+    private final ExecutorService callers = Executors.newFixedThreadPool(4);
+
+    @AfterEach
+    void tearDown() {
+        callers.shutdownNow();
+        // 각 테스트가 서로에게 영향을 주지 않도록, 테스트 실행 후 Redis 데이터를 모두 삭제합니다.
+        redissonClient.getKeys().flushall();
+    }
+
+    @Test
+    @DisplayName("같은 콘서트의 Cache Miss가 동시에 발생해도 DB 적재는 한 번만 수행되고, 나머지 요청은 그 결과를 기다린다.")
+    void loadSeatCacheIfAbsent_loadsOnceForConcurrentMisses() throws Exception {
+        // given: 첫 페이지 조회가 멈춰 있는 DB
+        CountDownLatch dbStarted = new CountDownLatch(1);
+        CountDownLatch releaseDb = new CountDownLatch(1);
+        stubCacheRows(false, 0L, dbStarted, releaseDb);
+        long joinedBefore = stat("localJoinCount");
+
+        List<Future<Boolean>> results = new ArrayList<>();
+        results.add(callers.submit(() -> seatCacheInitService.loadSeatCacheIfAbsent(CONCERT_ID)));
+        assertThat(dbStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // when: 적재 중에 같은 콘서트 Cache Miss 3건 추가 → 진행 중인 적재에 합류한 뒤 DB 조회 재개
+        for (int i = 0; i < 3; i++) {
+            results.add(callers.submit(() -> seatCacheInitService.loadSeatCacheIfAbsent(CONCERT_ID)));
+        }
+        await().atMost(Duration.ofSeconds(5)).until(() -> stat("localJoinCount") - joinedBefore == 3);
+        releaseDb.countDown();
+
+        // then: 모든 요청이 적재 완료를 보고, DB는 키셋 페이지 3번(1회 적재)만 조회
+        for (Future<Boolean> result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS)).isTrue();
+        }
+        verify(seatJournalService, times(1)).findLiveHolds(CONCERT_ID);
+        verify(concertSeatRepository, times(3)).findCacheRowsAfter(eq(CONCERT_ID), anyLong(), any(Pageable.class));
+        assertThat(seatStatusShardRouter.size(CONCERT_ID)).isEqualTo(SEAT_COUNT);
+
+        // when & then: 캐시가 있으면 DB를 조회하지 않는다.
+        assertThat(seatCacheInitService.loadSeatCacheIfAbsent(CONCERT_ID)).isTrue();
+        verify(seatJournalService, times(1)).findLiveHolds(CONCERT_ID);
+    }
+
+    @Test
+    @DisplayName("재구성 도중에는 이전 좌석 Hash와 카운터가 그대로 보이고, 적재가 끝나면 한 번에 새 Hash로 교체된다.")
+    void initializeSeatCacheFromDB_neverExposesHalfBuiltHash() throws Exception {
+        // given: 모든 좌석 예매 가능 상태로 캐시 구성
+        stubCacheRows(false, null, null, null);
+        seatCacheInitService.initializeSeatCacheFromDB(CONCERT_ID);
+        Map<String, SeatStatus> before = seatStatusShardRouter.readAll(CONCERT_ID);
+        Map<String, String> countsBefore = countsHash();
+        assertThat(before).hasSize(SEAT_COUNT)
+                .allSatisfy((seatId, seat) -> assertThat(seat.getStatus()).isEqualTo(SeatStatusEnum.AVAILABLE));
+
+        // when: 모든 좌석이 예매된 DB로 재구성하되, 첫 청크(좌석 1~2)를 임시 Hash에 기록한 뒤 멈춤
+        CountDownLatch firstChunkWritten = new CountDownLatch(1);
+        CountDownLatch releaseDb = new CountDownLatch(1);
+        stubCacheRows(true, 2L, firstChunkWritten, releaseDb);
+        Future<SeatCacheInitService.SeatCacheLoadResult> rebuild =
+                callers.submit(() -> seatCacheInitService.initializeSeatCacheFromDB(CONCERT_ID));
+        assertThat(firstChunkWritten.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // then: 조회 측은 임시 Hash 대신 이전 Hash 전체와 이전 카운터를 본다.
+        assertThat(buildKeyCount()).isPositive();
+        assertThat(seatStatusShardRouter.readAll(CONCERT_ID)).usingRecursiveComparison().isEqualTo(before);
+        assertThat(countsHash()).isEqualTo(countsBefore);
+
+        // when: 나머지 청크 적재 후 교체
+        releaseDb.countDown();
+        assertThat(rebuild.get(5, TimeUnit.SECONDS).bookedSeats()).isEqualTo(SEAT_COUNT);
+
+        // then: 새 Hash 전체가 한 번에 보이고 임시 키는 남지 않는다.
+        assertThat(seatStatusShardRouter.readAll(CONCERT_ID)).hasSize(SEAT_COUNT)
+                .allSatisfy((seatId, seat) -> assertThat(seat.getStatus()).isEqualTo(SeatStatusEnum.BOOKED));
+        assertThat(countsHash()).isNotEqualTo(countsBefore);
+        assertThat(buildKeyCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("DB 재구성 시 선점 저널의 임시/영구 선점을 남은 TTL과 함께 복원하고, 예매 완료 좌석은 저널보다 티켓을 우선한다.")
+    void initializeSeatCacheFromDB_restoresJournaledHolds() {
+        // given: 좌석 2 임시 선점(60초 남음), 좌석 3 영구 선점, 좌석 5는 저널 선점이 있지만 DB상 예매 완료
+        LocalDateTime expiresAt = LocalDateTime.now().plusSeconds(60);
+        given(seatJournalService.findLiveHolds(CONCERT_ID)).willReturn(Map.of(
+                2L, journal(2L, PackedSeatState.RESERVED, USER_ID, expiresAt),
+                3L, journal(3L, PackedSeatState.PERMANENTLY_RESERVED, OTHER_USER_ID, null),
+                5L, journal(5L, PackedSeatState.RESERVED, OTHER_USER_ID, expiresAt)));
+        given(concertSeatRepository.findCacheRowsAfter(eq(CONCERT_ID), anyLong(), any(Pageable.class)))
+                .willAnswer(invocation -> {
+                    long after = invocation.getArgument(1);
+                    List<ConcertSeatCacheRowDTO> rows = new ArrayList<>();
+                    for (long seatId = after + 1; seatId <= SEAT_COUNT && rows.size() < CHUNK_SIZE; seatId++) {
+                        rows.add(new ConcertSeatCacheRowDTO(seatId, "A", "1", (int) seatId, seatId == 5 ? 105L : null));
+                    }
+                    return rows;
+                });
+
+        // when
+        SeatCacheInitService.SeatCacheLoadResult result = seatCacheInitService.initializeSeatCacheFromDB(CONCERT_ID);
+
+        // then: 임시 선점은 RESERVED + 만료 시각, 남은 시간만큼의 TTL 키와 만료 큐 등록
+        Map<String, SeatStatus> seats = seatStatusShardRouter.readAll(CONCERT_ID);
+        assertThat(result.restoredHolds()).isEqualTo(2);
+        assertThat(seats.get("2").getStatus()).isEqualTo(SeatStatusEnum.RESERVED);
+        assertThat(seats.get("2").getUserId()).isEqualTo(USER_ID);
+        assertThat(seats.get("2").getExpiresAt()).isCloseTo(expiresAt, within(1, ChronoUnit.SECONDS));
+        assertThat(redissonClient.getBucket(RedisKeyGenerator.seatTtlKey(CONCERT_ID, 2L)).remainTimeToLive())
+                .isBetween(50_000L, 60_000L);
+        assertThat(expiryQueue()).containsExactly("2");
+        assertThat(packedState(2L)).isEqualTo(PackedSeatState.RESERVED);
+
+        // then: 영구 선점은 만료 시각/TTL 키/만료 큐 없이 PERMANENTLY_RESERVED로 복원
+        assertThat(seats.get("3").getStatus()).isEqualTo(SeatStatusEnum.RESERVED);
+        assertThat(seats.get("3").getUserId()).isEqualTo(OTHER_USER_ID);
+        assertThat(seats.get("3").getExpiresAt()).isNull();
+        assertThat(redissonClient.getBucket(RedisKeyGenerator.seatTtlKey(CONCERT_ID, 3L)).isExists()).isFalse();
+        assertThat(packedState(3L)).isEqualTo(PackedSeatState.PERMANENTLY_RESERVED);
+
+        // then: 예매 완료 좌석은 저널 선점을 무시하고, 사용자 선점 인덱스에는 복원한 좌석만 남는다.
+        assertThat(seats.get("5").getStatus()).isEqualTo(SeatStatusEnum.BOOKED);
+        assertThat(seats.get("5").getUserId()).isNull();
+        assertThat(userIndex(USER_ID)).containsExactly("2");
+        assertThat(userIndex(OTHER_USER_ID)).containsExactly("3");
+        assertThat(redissonClient.getSet(RedisKeyGenerator.SEAT_EXPIRY_CONCERTS_KEY, StringCodec.INSTANCE)
+                .contains(CONCERT_ID.toString())).isTrue();
+    }
+
+    /**
+     * 좌석 1~SEAT_COUNT를 concertSeatId 키셋 페이지로 반환하는 DB Mock
+     * - blockAfter가 지정되면 해당 afterConcertSeatId 페이지 조회에서 started를 알리고 release까지 대기
+     */
+    private void stubCacheRows(boolean booked, Long blockAfter, CountDownLatch started, CountDownLatch release) {
+        given(concertSeatRepository.findCacheRowsAfter(eq(CONCERT_ID), anyLong(), any(Pageable.class)))
+                .willAnswer(invocation -> {
+                    long after = invocation.getArgument(1);
+                    Pageable pageable = invocation.getArgument(2);
+                    if (blockAfter != null && blockAfter == after) {
+                        started.countDown();
+                        release.await(5, TimeUnit.SECONDS);
+                    }
+                    List<ConcertSeatCacheRowDTO> rows = new ArrayList<>();
+                    for (long seatId = after + 1; seatId <= SEAT_COUNT && rows.size() < pageable.getPageSize(); seatId++) {
+                        rows.add(new ConcertSeatCacheRowDTO(seatId, "A", "1", (int) seatId, booked ? 100 + seatId : null));
+                    }
+                    return rows;
+                });
+    }
+
+    private SeatHoldJournal journal(Long concertSeatId, int state, Long userId, LocalDateTime expiresAt) {
+        return SeatHoldJournal.builder()
+                .concertId(CONCERT_ID)
+                .concertSeatId(concertSeatId)
+                .seatVersion(1L)
+                .state(state)
+                .userId(userId)
+                .expiresAt(expiresAt)
+                .recordedAt(LocalDateTime.now())
+                .build();
+    }
+
+    private Set<String> userIndex(Long userId) {
+        return redissonClient.<String>getSet(RedisKeyGenerator.seatUserIndexKey(CONCERT_ID, userId), StringCodec.INSTANCE)
+                .readAll();
+    }
+
+    private Collection<String> expiryQueue() {
+        return redissonClient.<String>getScoredSortedSet(RedisKeyGenerator.seatExpiryQueueKey(CONCERT_ID),
+                StringCodec.INSTANCE).readAll();
+    }
+
+    private int packedState(Long concertSeatId) {
+        byte[] packed = redissonClient.<byte[]>getBucket(RedisKeyGenerator.seatStateKey(CONCERT_ID),
+                ByteArrayCodec.INSTANCE).get();
+        int ordinal = Integer.parseInt(redissonClient.<String, String>getMap(RedisKeyGenerator.seatOrdinalKey(CONCERT_ID),
+                StringCodec.INSTANCE).get(concertSeatId.toString()));
+        return PackedSeatState.stateAt(packed, ordinal);
+    }
+
+    private long stat(String name) {
+        return (long) seatCacheInitService.getCacheInitStats().get(name);
+    }
+
+    private Map<String, String> countsHash() {
+        return redissonClient.<String, String>getMap(RedisKeyGenerator.seatCountsKey(CONCERT_ID), StringCodec.INSTANCE)
+                .readAllMap();
+    }
+
+    private long buildKeyCount() {
+        return redissonClient.getKeys().getKeysStreamByPattern(RedisKeyGenerator.SEAT_STATUS_BUILD_KEY_PREFIX + "*")
+                .count();
+    }
+}
@@ -0,0 +1,174 @@
+package com.team03.ticketmon.seat.service;
+
+import com.team03.ticketmon._global.config.RedissonConfig;
+import com.team03.ticketmon._global.util.RedisKeyGenerator;
+import com.team03.ticketmon.concert.repository.ConcertSeatRepository;
+import com.team03.ticketmon.seat.adapter.SeatRedisScriptAdapter;
+import com.team03.ticketmon.seat.adapter.SeatStatusShardRouter;
+import com.team03.ticketmon.seat.config.SeatProperties;
+import com.team03.ticketmon.seat.config.SeatRedisCodecConfig;
+import com.team03.ticketmon.seat.domain.PackedSeatState;
+import com.team03.ticketmon.seat.domain.SeatAvailabilityCounts;
+import com.team03.ticketmon.seat.domain.SeatStatus;
+import com.team03.ticketmon.seat.domain.SeatStatus.SeatStatusEnum;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.redisson.api.RScoredSortedSet;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.data.redis.DataRedisTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * SeatHoldExpiryService의 만료 선점 일괄 해제가 실제 Redis에서 정확히 한 번만 반영되는지 검증하는 테스트 클래스.
+ * 만료 시각 경과는 만료 큐(seat:expiry:{concertId})의 score를 과거로 옮겨 재현하고,
+ * TTL 키(seat:expire:{concertId}:{seatId}) 존재 여부로 실제 만료 여부를 구분합니다.
+ */
+@ActiveProfiles("test")
+@Testcontainers
+@DataRedisTest
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@Import({RedissonConfig.class, SeatProperties.class, SeatRedisCodecConfig.class, SeatStatusService.class,
+        SeatStatusEventPublisher.class, SeatRedisScriptAdapter.class, SeatStatusShardRouter.class, SeatNearCache.class,
+        SeatCacheInitService.class, SeatCounterService.class, SeatStateService.class, SeatChangeLogService.class,
+        SeatHoldExpiryService.class})
+class SeatHoldExpiryServiceTest {
+
+    private static final Long CONCERT_ID = 1L;
+    private static final Long SEAT_ID = 1L;
+    private static final Long USER_ID = 1001L;
+    private static final int SEAT_COUNT = 10;
+
+    @MockitoBean
+    private ConcertSeatRepository concertSeatRepository;
+    @MockitoBean
+    private SeatJournalService seatJournalService;
+
+    @Autowired
+    private SeatHoldExpiryService seatHoldExpiryService;
+    @Autowired
+    private SeatStatusService seatStatusService;
+    @Autowired
+    private SeatCacheInitService seatCacheInitService;
+    @Autowired
+    private SeatCounterService seatCounterService;
+    @Autowired
+    private SeatStateService seatStateService;
+    @Autowired
+    private SeatChangeLogService seatChangeLogService;
+    @Autowired
+    private SeatStatusShardRouter seatStatusShardRouter;
+    @Autowired
+    private RedissonClient redissonClient;
+
+    @Container
+    public static GenericContainer<?> redis = new GenericContainer<>("redis:7-alpine")
+            .withExposedPorts(6379);
+
+    @DynamicPropertySource
+    static void redisProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.data.redis.host", () -> redis.getHost());
+        registry.add("spring.data.redis.port", () -> redis.getMappedPort(6379));
+        registry.add("spring.data.redis.ssl.enabled", () -> false);
+    }
+
+    @BeforeEach
+    void setUp() {
+        // 모든 좌석을 AVAILABLE로 적재한 뒤 패킹 상태 / 좌석 순번 / 가용성 카운터 구성
+        for (long seatId = 1; seatId <= SEAT_COUNT; seatId++) {
+            seatStatusShardRouter.mapOf(CONCERT_ID, seatId).fastPut(String.valueOf(seatId), SeatStatus.builder()
+                    .id(CONCERT_ID + "-" + seatId)
+                    .concertId(CONCERT_ID)
+                    .seatId(seatId)
+                    .status(SeatStatusEnum.AVAILABLE)
+                    .seatInfo("A-1-" + seatId)
+                    .build());
+        }
+        seatCacheInitService.rebuildPackedSeatState(CONCERT_ID);
+
+        // 1번 좌석 임시 선점 (버전 1) 후 만료 시각이 지난 것으로 만료 큐 score 이동
+        seatStatusService.reserveSeat(CONCERT_ID, SEAT_ID, USER_ID, "A-1-1");
+        expiryQueue().add(System.currentTimeMillis() - 1000, SEAT_ID.toString());
+        // 만료 큐 보유 콘서트 등록은 비동기로 전송되므로 반영될 때까지 대기
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() ->
+                assertThat(seatHoldExpiryService.getConcertsWithPendingExpiry()).contains(CONCERT_ID.toString()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        // 각 테스트가 서로에게 영향을 주지 않도록, 테스트 실행 후 Redis 데이터를 모두 삭제합니다.
+        redissonClient.getKeys().flushall();
+    }
+
+    @Test
+    @DisplayName("만료된 선점은 한 번만 해제되고, 다시 실행해도 상태/카운터/버전이 추가로 변경되지 않는다.")
+    void releaseExpiredHolds_shouldBeIdempotent() {
+        // given: TTL 키까지 만료된 선점
+        redissonClient.getBucket(RedisKeyGenerator.seatTtlKey(CONCERT_ID, SEAT_ID)).delete();
+
+        // when
+        int firstRun = seatHoldExpiryService.releaseExpiredHolds(CONCERT_ID);
+        int secondRun = seatHoldExpiryService.releaseExpiredHolds(CONCERT_ID);
+
+        // then
+        // 1. 첫 실행에서만 해제된다.
+        assertThat(firstRun).isEqualTo(1);
+        assertThat(secondRun).isZero();
+        // 2. 좌석 Hash / 패킹 상태 / 사용자 인덱스 / 만료 큐가 모두 해제 상태로 맞춰진다.
+        assertThat(seatStatusService.getSeatStatus(CONCERT_ID, SEAT_ID).get().getStatus()).isEqualTo(SeatStatusEnum.AVAILABLE);
+        assertThat(seatStateService.getSnapshotIfPresent(CONCERT_ID).stateOfSeat(SEAT_ID)).isEqualTo(PackedSeatState.AVAILABLE);
+        assertThat(redissonClient.getSet(RedisKeyGenerator.seatUserIndexKey(CONCERT_ID, USER_ID), StringCodec.INSTANCE)
+                .isExists()).isFalse();
+        assertThat(expiryQueue().isEmpty()).isTrue();
+        // 3. 카운터는 한 번만 이동하고, 버전은 해제 1건만 증가한다. (선점 v1 → 해제 v2)
+        SeatAvailabilityCounts counts = seatCounterService.getCountsIfPresent(CONCERT_ID);
+        assertThat(counts.available()).isEqualTo(SEAT_COUNT);
+        assertThat(counts.reserved()).isZero();
+        assertThat(seatChangeLogService.getCurrentVersion(CONCERT_ID)).isEqualTo(2L);
+        // 4. 만료 대기 선점이 없으므로 워커 순회 대상에서 제외된다.
+        assertThat(seatHoldExpiryService.getConcertsWithPendingExpiry()).doesNotContain(CONCERT_ID.toString());
+    }
+
+    @Test
+    @DisplayName("만료 큐 score가 지났더라도 TTL 키가 남아있는 선점은 해제하지 않고 만료 큐에 유지한다.")
+    void releaseExpiredHolds_shouldSkipWhenTtlKeyStillPresent() {
+        // given: 만료 큐 score는 지났지만 TTL 키는 아직 존재 (선점 연장 / 서버 간 시계 차이)
+        assertThat(redissonClient.getBucket(RedisKeyGenerator.seatTtlKey(CONCERT_ID, SEAT_ID)).isExists()).isTrue();
+
+        // when
+        int released = seatHoldExpiryService.releaseExpiredHolds(CONCERT_ID);
+
+        // then
+        assertThat(released).isZero();
+        SeatStatus seat = seatStatusService.getSeatStatus(CONCERT_ID, SEAT_ID).get();
+        assertThat(seat.getStatus()).isEqualTo(SeatStatusEnum.RESERVED);
+        assertThat(seat.getUserId()).isEqualTo(USER_ID);
+        assertThat(seatStateService.getSnapshotIfPresent(CONCERT_ID).stateOfSeat(SEAT_ID)).isEqualTo(PackedSeatState.RESERVED);
+        assertThat(seatCounterService.getCountsIfPresent(CONCERT_ID).reserved()).isEqualTo(1L);
+        assertThat(seatChangeLogService.getCurrentVersion(CONCERT_ID)).isEqualTo(1L);
+        // 다음 실행에서 다시 확인하도록 만료 큐와 워커 순회 대상에 남아있다.
+        assertThat(expiryQueue().contains(SEAT_ID.toString())).isTrue();
+        assertThat(seatHoldExpiryService.getConcertsWithPendingExpiry()).contains(CONCERT_ID.toString());
+    }
+
+    private RScoredSortedSet<String> expiryQueue() {
+        return redissonClient.getScoredSortedSet(RedisKeyGenerator.seatExpiryQueueKey(CONCERT_ID), StringCodec.INSTANCE);
+    }
+}
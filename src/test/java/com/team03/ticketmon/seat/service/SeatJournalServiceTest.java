@@ -0,0 +1,224 @@
+package com.team03.ticketmon.seat.service;
+
+import com.team03.ticketmon._global.config.RedissonConfig;
+import com.team03.ticketmon._global.util.RedisKeyGenerator;
+import com.team03.ticketmon.seat.adapter.SeatStatusShardRouter;
+import com.team03.ticketmon.seat.config.SeatProperties;
+import com.team03.ticketmon.seat.config.SeatRedisCodecConfig;
+import com.team03.ticketmon.seat.domain.PackedSeatState;
+import com.team03.ticketmon.seat.domain.SeatHoldJournal;
+import com.team03.ticketmon.seat.domain.SeatStatus;
+import com.team03.ticketmon.seat.domain.SeatStatus.SeatStatusEnum;
+import com.team03.ticketmon.seat.repository.SeatHoldJournalRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.redisson.api.RedissonClient;
+import org.redisson.api.StreamMessageId;
+import org.redisson.api.stream.StreamAddArgs;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.data.redis.DataRedisTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * SeatJournalService.flush의 변경 로그 반영과 연속성 검증 실패 시 스냅샷 교체가 실제 Redis에서 정확히 동작하는지 검증하는 테스트 클래스.
+ * 저널 테이블(SeatHoldJournalRepository)은 Mock으로 대체하고, 변경 로그(Stream)와 좌석 버전/Hash는 직접 기록하여 준비합니다.
+ */
+@ActiveProfiles("test")
+@Testcontainers
+@DataRedisTest
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@Import({RedissonConfig.class, SeatProperties.class, SeatRedisCodecConfig.class, SeatStatusShardRouter.class,
+        SeatJournalService.class})
+class SeatJournalServiceTest {
+
+    private static final Long CONCERT_ID = 1L;
+    private static final Long USER_ID = 1001L;
+
+    @MockitoBean
+    private SeatHoldJournalRepository seatHoldJournalRepository;
+
+    @Autowired
+    private SeatJournalService seatJournalService;
+    @Autowired
+    private SeatStatusShardRouter seatStatusShardRouter;
+    @Autowired
+    private RedissonClient redissonClient;
+
+    @Container
+    public static GenericContainer<?> redis = new GenericContainer<>("redis:7-alpine")
+            .withExposedPorts(6379);
+
+    @DynamicPropertySource
+    static void redisProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.data.redis.host", () -> redis.getHost());
+        registry.add("spring.data.redis.port", () -> redis.getMappedPort(6379));
+        registry.add("spring.data.redis.ssl.enabled", () -> false);
+    }
+
+    private final LocalDateTime expiresAt = LocalDateTime.now().plusMinutes(5);
+
+    @BeforeEach
+    void setUp() {
+        // 좌석 1: 사용자 임시 선점, 좌석 2: 예매 가능 (현재 버전 4)
+        seatStatusShardRouter.mapOf(CONCERT_ID, 1L).fastPut("1", seat(1L, SeatStatusEnum.RESERVED, USER_ID));
+        seatStatusShardRouter.mapOf(CONCERT_ID, 2L).fastPut("2", seat(2L, SeatStatusEnum.AVAILABLE, null));
+        redissonClient.getAtomicLong(RedisKeyGenerator.seatVersionKey(CONCERT_ID)).set(4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        // 각 테스트가 서로에게 영향을 주지 않도록, 테스트 실행 후 Redis 데이터를 모두 삭제합니다.
+        redissonClient.getKeys().flushall();
+    }
+
+    @Test
+    @DisplayName("변경 로그가 커서 다음 버전부터 이어지면 로그 항목을 그대로 저널에 추가하고 커서를 마지막 버전으로 옮긴다.")
+    void flush_appendsContinuousChangeLog() {
+        // given: 버전 2까지 반영, 변경 로그에 버전 3(선점), 4(해제) 존재
+        setCursor(2);
+        appendChange(3, 1L, PackedSeatState.RESERVED, USER_ID);
+        appendChange(4, 2L, PackedSeatState.AVAILABLE, null);
+
+        // when
+        int persisted = seatJournalService.flush(CONCERT_ID);
+
+        // then
+        assertThat(persisted).isEqualTo(2);
+        assertThat(insertedRows()).extracting(SeatHoldJournal::getSeatVersion, SeatHoldJournal::getConcertSeatId,
+                        row -> row.getState().intValue(), SeatHoldJournal::getUserId)
+                .containsExactly(tuple(3L, 1L, PackedSeatState.RESERVED, USER_ID),
+                        tuple(4L, 2L, PackedSeatState.AVAILABLE, null));
+        verify(seatHoldJournalRepository, never()).replaceConcert(any(), anyList());
+        assertThat(cursor()).isEqualTo("4");
+    }
+
+    @Test
+    @DisplayName("변경 로그가 잘려 커서 다음 버전이 없으면 좌석 Hash 기준 스냅샷으로 콘서트 저널을 교체한다.")
+    void flush_fallsBackToSnapshotWhenContinuityCheckFails() {
+        // given: 버전 1까지 반영했지만, 로그 절단으로 버전 2가 없고 3, 4만 남음
+        setCursor(1);
+        appendChange(3, 1L, PackedSeatState.RESERVED, USER_ID);
+        appendChange(4, 2L, PackedSeatState.AVAILABLE, null);
+
+        // when
+        int persisted = seatJournalService.flush(CONCERT_ID);
+
+        // then: 로그 항목은 추가하지 않고, 현재 선점 좌석(좌석 1)만 스냅샷 버전(4)으로 교체 기록
+        assertThat(persisted).isEqualTo(1);
+        verify(seatHoldJournalRepository, never()).insertAll(anyList());
+        assertThat(replacedRows()).singleElement().satisfies(row -> {
+            assertThat(row.getConcertSeatId()).isEqualTo(1L);
+            assertThat(row.getSeatVersion()).isEqualTo(4L);
+            assertThat(row.getState().intValue()).isEqualTo(PackedSeatState.RESERVED);
+            assertThat(row.getUserId()).isEqualTo(USER_ID);
+            assertThat(row.getExpiresAt()).isNotNull();
+        });
+        assertThat(cursor()).isEqualTo("4");
+        assertThat(seatJournalService.getJournalStats()).containsEntry("snapshotCount", 1L);
+    }
+
+    @Test
+    @DisplayName("캐시 재구성으로 버전이 커서보다 작아지면 변경 로그를 읽지 않고 스냅샷으로 교체한다.")
+    void flush_fallsBackToSnapshotWhenVersionGoesBackwards() {
+        // given: 이전 캐시에서 버전 10까지 반영했지만, 재구성 후 버전은 4
+        setCursor(10);
+
+        // when
+        int persisted = seatJournalService.flush(CONCERT_ID);
+
+        // then
+        assertThat(persisted).isEqualTo(1);
+        assertThat(replacedRows()).extracting(SeatHoldJournal::getConcertSeatId).containsExactly(1L);
+        assertThat(cursor()).isEqualTo("4");
+    }
+
+    @Test
+    @DisplayName("좌석 캐시가 없으면 스냅샷을 건너뛰어 재구성 시 복원 원본인 기존 저널을 지우지 않는다.")
+    void flush_skipsSnapshotWithoutSeatCache() {
+        // given: 좌석 Hash 유실, 커서는 버전보다 앞섬
+        seatStatusShardRouter.delete(CONCERT_ID);
+        setCursor(10);
+
+        // when
+        int persisted = seatJournalService.flush(CONCERT_ID);
+
+        // then
+        assertThat(persisted).isZero();
+        verify(seatHoldJournalRepository, never()).replaceConcert(any(), anyList());
+        assertThat(cursor()).isEqualTo("10");
+    }
+
+    private List<SeatHoldJournal> insertedRows() {
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<SeatHoldJournal>> rows = ArgumentCaptor.forClass(List.class);
+        verify(seatHoldJournalRepository).insertAll(rows.capture());
+        return rows.getValue();
+    }
+
+    private List<SeatHoldJournal> replacedRows() {
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<SeatHoldJournal>> rows = ArgumentCaptor.forClass(List.class);
+        verify(seatHoldJournalRepository).replaceConcert(eq(CONCERT_ID), rows.capture());
+        return rows.getValue();
+    }
+
+    private void setCursor(long version) {
+        redissonClient.<String, String>getMap(RedisKeyGenerator.SEAT_JOURNAL_CURSOR_KEY, StringCodec.INSTANCE)
+                .fastPut(CONCERT_ID.toString(), String.valueOf(version));
+    }
+
+    private String cursor() {
+        return redissonClient.<String, String>getMap(RedisKeyGenerator.SEAT_JOURNAL_CURSOR_KEY, StringCodec.INSTANCE)
+                .get(CONCERT_ID.toString());
+    }
+
+    /**
+     * 선점 스크립트와 같은 형식(ID = 버전-0)으로 변경 로그 항목 기록
+     */
+    private void appendChange(long version, Long seatId, int state, Long userId) {
+        redissonClient.<String, String>getStream(RedisKeyGenerator.seatChangeLogKey(CONCERT_ID), StringCodec.INSTANCE)
+                .add(new StreamMessageId(version, 0), StreamAddArgs.entries(Map.of(
+                        "seatId", seatId.toString(),
+                        "state", String.valueOf(state),
+                        "userId", userId != null ? userId.toString() : "",
+                        "expiresAt", "")));
+    }
+
+    private SeatStatus seat(Long seatId, SeatStatusEnum status, Long userId) {
+        return SeatStatus.builder()
+                .id(CONCERT_ID + "-" + seatId)
+                .concertId(CONCERT_ID)
+                .seatId(seatId)
+                .status(status)
+                .userId(userId)
+                .reservedAt(userId != null ? LocalDateTime.now() : null)
+                .expiresAt(userId != null ? expiresAt : null)
+                .seatInfo("A-1-" + seatId)
+                .build();
+    }
+}
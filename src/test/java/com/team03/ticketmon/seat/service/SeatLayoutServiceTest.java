@@ -0,0 +1,237 @@
+package com.team03.ticketmon.seat.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.team03.ticketmon._global.exception.BusinessException;
+import com.team03.ticketmon._global.exception.ErrorCode;
+import com.team03.ticketmon._global.util.RedisKeyGenerator;
+import com.team03.ticketmon.booking.domain.Ticket;
+import com.team03.ticketmon.concert.domain.Concert;
+import com.team03.ticketmon.concert.domain.ConcertSeat;
+import com.team03.ticketmon.concert.domain.enums.SeatGrade;
+import com.team03.ticketmon.concert.repository.ConcertRepository;
+import com.team03.ticketmon.concert.repository.ConcertSeatRepository;
+import com.team03.ticketmon.seat.config.SeatProperties;
+import com.team03.ticketmon.seat.domain.SeatLayoutSnapshot;
+import com.team03.ticketmon.seat.dto.SeatDetailResponseDTO;
+import com.team03.ticketmon.seat.dto.SectionLayoutResponseDTO;
+import com.team03.ticketmon.venue.domain.Seat;
+import com.team03.ticketmon.venue.service.VenueService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.api.listener.MessageListener;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * SeatLayoutService의 배치도 스냅샷 단일 구성(single-flight), 구역 조회, Pub/Sub 기반 스냅샷 삭제 전파를 검증하는 단위 테스트.
+ * DB/공연장/Redis 의존성은 Mock으로 대체하고, 스냅샷 구성 횟수는 콘서트 조회(findById) 호출 수로 판단합니다.
+ */
+@ExtendWith(MockitoExtension.class)
+class SeatLayoutServiceTest {
+
+    private static final Long CONCERT_ID = 1L;
+
+    @Mock
+    private ConcertRepository concertRepository;
+    @Mock
+    private ConcertSeatRepository concertSeatRepository;
+    @Mock
+    private VenueService venueService;
+    @Mock
+    private SeatStateService seatStateService;
+    @Mock
+    private SeatCounterService seatCounterService;
+    @Mock
+    private RedissonClient redissonClient;
+    @Mock
+    private RTopic evictTopic;
+    @Mock
+    private Concert concert;
+
+    private SeatLayoutService seatLayoutService;
+    private ExecutorService callers;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(redissonClient.getTopic(anyString())).thenReturn(evictTopic);
+        lenient().when(venueService.getVenueByName(any())).thenThrow(new BusinessException(ErrorCode.VENUE_NOT_FOUND));
+        lenient().when(concert.getVenueName()).thenReturn("테스트 공연장");
+
+        seatLayoutService = new SeatLayoutService(concertRepository, concertSeatRepository, venueService,
+                seatStateService, seatCounterService, new SeatProperties(), new ObjectMapper().findAndRegisterModules(),
+                redissonClient);
+        callers = Executors.newFixedThreadPool(4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        callers.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("스냅샷이 없을 때 동시 요청이 몰려도 DB 기반 스냅샷 구성은 한 번만 수행되고 모두 같은 스냅샷을 받는다.")
+    void getLayoutSnapshot_buildsOnceForConcurrentMisses() throws Exception {
+        // given: 첫 구성 요청이 콘서트 조회에서 멈춰 있는 상황
+        CountDownLatch buildStarted = new CountDownLatch(1);
+        CountDownLatch releaseBuild = new CountDownLatch(1);
+        given(concertRepository.findById(CONCERT_ID)).willAnswer(invocation -> {
+            buildStarted.countDown();
+            releaseBuild.await(5, TimeUnit.SECONDS);
+            return Optional.of(concert);
+        });
+        List<ConcertSeat> concertSeats = concertSeats();
+        given(concertSeatRepository.findByConcertIdWithDetails(CONCERT_ID)).willReturn(concertSeats);
+
+        List<Future<SeatLayoutSnapshot>> results = new ArrayList<>();
+        results.add(callers.submit(() -> seatLayoutService.getLayoutSnapshot(CONCERT_ID)));
+        assertThat(buildStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // when: 구성 중에 같은 콘서트 요청이 추가로 들어온 뒤 구성 완료
+        for (int i = 0; i < 3; i++) {
+            results.add(callers.submit(() -> seatLayoutService.getLayoutSnapshot(CONCERT_ID)));
+        }
+        releaseBuild.countDown();
+
+        // then
+        SeatLayoutSnapshot first = results.get(0).get(5, TimeUnit.SECONDS);
+        for (Future<SeatLayoutSnapshot> result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS)).isSameAs(first);
+        }
+        assertThat(seatLayoutService.getLayoutSnapshot(CONCERT_ID)).isSameAs(first);
+        verify(concertRepository, times(1)).findById(CONCERT_ID);
+    }
+
+    @Test
+    @DisplayName("스냅샷 구성이 실패하면 대기 중인 요청도 같은 예외를 받고, 다음 요청은 다시 구성을 시도한다.")
+    void getLayoutSnapshot_propagatesBuildFailureAndRetries() {
+        // given
+        given(concertRepository.findById(CONCERT_ID)).willReturn(Optional.empty());
+
+        // when & then
+        assertThatThrownBy(() -> seatLayoutService.getLayoutSnapshot(CONCERT_ID))
+                .isInstanceOf(BusinessException.class);
+        assertThatThrownBy(() -> seatLayoutService.getLayoutSnapshot(CONCERT_ID))
+                .isInstanceOf(BusinessException.class);
+        verify(concertRepository, times(2)).findById(CONCERT_ID);
+    }
+
+    @Test
+    @DisplayName("구역 조회는 스냅샷에서 해당 구역 좌석만 잘라 반환한다. (대소문자 무시)")
+    void getSectionLayout_returnsOnlyRequestedSection() {
+        // given
+        given(concertRepository.findById(CONCERT_ID)).willReturn(Optional.of(concert));
+        List<ConcertSeat> concertSeats = concertSeats();
+        given(concertSeatRepository.findByConcertIdWithDetails(CONCERT_ID)).willReturn(concertSeats);
+
+        // when
+        SectionLayoutResponseDTO vip = seatLayoutService.getSectionLayout(CONCERT_ID, " vip ");
+
+        // then: VIP 구역 좌석 2개만 포함되고, 스냅샷 구성 시점에 예매된 좌석은 예매 불가로 표시된다. (패킹 상태 없음)
+        assertThat(vip.seats()).extracting(SeatDetailResponseDTO::seatLabel)
+                .containsExactly("VIP-1-1", "VIP-1-2");
+        assertThat(vip.totalSeats()).isEqualTo(2);
+        assertThat(vip.availableSeats()).isEqualTo(1);
+        assertThat(seatLayoutService.getSectionLayout(CONCERT_ID, "A").seats()).hasSize(1);
+        verify(concertRepository, times(1)).findById(CONCERT_ID);
+    }
+
+    @Test
+    @DisplayName("없는 구역을 조회하면 사용 가능한 구역 목록과 함께 SEAT_NOT_FOUND 예외가 발생한다.")
+    void getSectionLayout_unknownSectionThrows() {
+        // given
+        given(concertRepository.findById(CONCERT_ID)).willReturn(Optional.of(concert));
+        List<ConcertSeat> concertSeats = concertSeats();
+        given(concertSeatRepository.findByConcertIdWithDetails(CONCERT_ID)).willReturn(concertSeats);
+
+        // when & then
+        assertThatThrownBy(() -> seatLayoutService.getSectionLayout(CONCERT_ID, "Z"))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining("A, VIP")
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.SEAT_NOT_FOUND);
+    }
+
+    @Test
+    @DisplayName("스냅샷 삭제는 Pub/Sub으로 전파되고, 다른 서버의 삭제 메시지를 받으면 로컬 스냅샷을 삭제한다.")
+    void evictLayoutSnapshot_propagatesOverPubSub() {
+        // given: 구독 시작 후 스냅샷 구성
+        seatLayoutService.subscribeToLayoutEvictions();
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<MessageListener<CharSequence>> listener = ArgumentCaptor.forClass(MessageListener.class);
+        verify(evictTopic).addListener(eq(CharSequence.class), listener.capture());
+        given(concertRepository.findById(CONCERT_ID)).willReturn(Optional.of(concert));
+        List<ConcertSeat> concertSeats = concertSeats();
+        given(concertSeatRepository.findByConcertIdWithDetails(CONCERT_ID)).willReturn(concertSeats);
+        SeatLayoutSnapshot built = seatLayoutService.getLayoutSnapshot(CONCERT_ID);
+
+        // when: 관리자 삭제 요청
+        seatLayoutService.evictLayoutSnapshot(CONCERT_ID);
+
+        // then: 삭제 메시지(concertId)를 발행하고, 다음 조회는 다시 구성한다.
+        verify(redissonClient, times(2)).getTopic(RedisKeyGenerator.SEAT_LAYOUT_EVICT_TOPIC);
+        verify(evictTopic).publish(String.valueOf(CONCERT_ID));
+        SeatLayoutSnapshot rebuilt = seatLayoutService.getLayoutSnapshot(CONCERT_ID);
+        assertThat(rebuilt).isNotSameAs(built);
+
+        // when: 다른 서버가 발행한 삭제 메시지 수신
+        listener.getValue().onMessage(RedisKeyGenerator.SEAT_LAYOUT_EVICT_TOPIC, String.valueOf(CONCERT_ID));
+
+        // then: 로컬 스냅샷도 삭제되어 다시 구성한다.
+        assertThat(seatLayoutService.getLayoutSnapshot(CONCERT_ID)).isNotSameAs(rebuilt);
+        verify(concertRepository, times(3)).findById(CONCERT_ID);
+    }
+
+    /**
+     * 구역 VIP(좌석 2, 1개 예매) + A(좌석 1) 구성 (DB 조회 순서: 구역 → 열 → 번호)
+     */
+    private List<ConcertSeat> concertSeats() {
+        return List.of(
+                concertSeat(11L, "A", 1, SeatGrade.A, false),
+                concertSeat(1L, "VIP", 1, SeatGrade.VIP, true),
+                concertSeat(2L, "VIP", 2, SeatGrade.VIP, false)
+        );
+    }
+
+    private ConcertSeat concertSeat(Long concertSeatId, String section, int seatNumber, SeatGrade grade, boolean booked) {
+        Seat seat = mock(Seat.class);
+        given(seat.getSeatId()).willReturn(concertSeatId + 100);
+        given(seat.getSection()).willReturn(section);
+        given(seat.getSeatRow()).willReturn("1");
+        given(seat.getSeatNumber()).willReturn(seatNumber);
+
+        ConcertSeat concertSeat = mock(ConcertSeat.class);
+        given(concertSeat.getConcertSeatId()).willReturn(concertSeatId);
+        given(concertSeat.getSeat()).willReturn(seat);
+        given(concertSeat.getGrade()).willReturn(grade);
+        given(concertSeat.getPrice()).willReturn(BigDecimal.valueOf(grade == SeatGrade.VIP ? 150000 : 80000));
+        given(concertSeat.getTicket()).willReturn(booked ? mock(Ticket.class) : null);
+        return concertSeat;
+    }
+}
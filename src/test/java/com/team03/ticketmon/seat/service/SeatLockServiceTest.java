@@ -0,0 +1,322 @@
+package com.team03.ticketmon.seat.service;
+
+import com.team03.ticketmon._global.config.RedissonConfig;
+import com.team03.ticketmon._global.util.RedisKeyGenerator;
+import com.team03.ticketmon.concert.repository.ConcertSeatRepository;
+import com.team03.ticketmon.seat.adapter.SeatRedisScriptAdapter;
+import com.team03.ticketmon.seat.adapter.SeatStatusShardRouter;
+import com.team03.ticketmon.seat.config.SeatProperties;
+import com.team03.ticketmon.seat.config.SeatRedisCodecConfig;
+import com.team03.ticketmon.seat.domain.PackedSeatState;
+import com.team03.ticketmon.seat.domain.SeatStatus;
+import com.team03.ticketmon.seat.domain.SeatStatus.SeatStatusEnum;
+import com.team03.ticketmon.seat.dto.BulkSeatLockResultDTO;
+import com.team03.ticketmon.seat.dto.SeatLockResultDTO;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.redisson.api.RScoredSortedSet;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.data.redis.DataRedisTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * SeatLockService의 사용자 선점 좌석 일괄 전이(영구 선점 / 복원)가 실제 Redis에서 All-or-Nothing으로 동작하는지 검증하는 테스트 클래스.
+ * 단일 Lua 스크립트(TRANSITION_USER_HOLDS)가 좌석 Hash, TTL 키, 선점 만료 큐, 패킹 상태, 사용자 선점 인덱스를 함께 갱신하거나
+ * 하나도 갱신하지 않는지 확인하고, 조회 이후 선점 좌석이 바뀐 경우(HOLDS_CHANGED)의 재시도를 확인합니다.
+ */
+@ActiveProfiles("test")
+@Testcontainers
+@DataRedisTest
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@Import({RedissonConfig.class, SeatProperties.class, SeatRedisCodecConfig.class, SeatStatusService.class,
+        SeatStatusEventPublisher.class, SeatRedisScriptAdapter.class, SeatStatusShardRouter.class, SeatNearCache.class,
+        SeatCacheInitService.class, SeatCounterService.class, SeatStateService.class, SeatChangeLogService.class,
+        SeatLockService.class})
+class SeatLockServiceTest {
+
+    private static final Long CONCERT_ID = 1L;
+    private static final Long USER_ID = 1001L;
+    // 사용자당 최대 선점 좌석 수
+    private static final int MAX_SEAT_COUNT = 3;
+    private static final int SEAT_COUNT = 5;
+
+    @MockitoBean
+    private ConcertSeatRepository concertSeatRepository;
+    @MockitoBean
+    private SeatJournalService seatJournalService;
+    @MockitoSpyBean
+    private SeatRedisScriptAdapter seatRedisScriptAdapter;
+
+    @Autowired
+    private SeatLockService seatLockService;
+    @Autowired
+    private SeatStatusService seatStatusService;
+    @Autowired
+    private SeatCacheInitService seatCacheInitService;
+    @Autowired
+    private SeatStateService seatStateService;
+    @Autowired
+    private SeatChangeLogService seatChangeLogService;
+    @Autowired
+    private SeatStatusShardRouter seatStatusShardRouter;
+    @Autowired
+    private RedissonClient redissonClient;
+
+    @Container
+    public static GenericContainer<?> redis = new GenericContainer<>("redis:7-alpine")
+            .withExposedPorts(6379);
+
+    @DynamicPropertySource
+    static void redisProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.data.redis.host", () -> redis.getHost());
+        registry.add("spring.data.redis.port", () -> redis.getMappedPort(6379));
+        registry.add("spring.data.redis.ssl.enabled", () -> false);
+
+        registry.add("seat.reservation.max-seat-count", () -> MAX_SEAT_COUNT);
+    }
+
+    @BeforeEach
+    void setUp() {
+        // 모든 좌석을 AVAILABLE로 적재한 뒤 패킹 상태 구성, 사용자가 1~3번 좌석을 임시 선점
+        for (long seatId = 1; seatId <= SEAT_COUNT; seatId++) {
+            seatStatusShardRouter.mapOf(CONCERT_ID, seatId).fastPut(String.valueOf(seatId), availableSeat(seatId));
+        }
+        seatCacheInitService.rebuildPackedSeatState(CONCERT_ID);
+
+        for (long seatId = 1; seatId <= 3; seatId++) {
+            seatStatusService.reserveSeat(CONCERT_ID, seatId, USER_ID, "A-1-" + seatId);
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        // 각 테스트가 서로에게 영향을 주지 않도록, 테스트 실행 후 Redis 데이터를 모두 삭제합니다.
+        redissonClient.getKeys().flushall();
+    }
+
+    @Test
+    @DisplayName("일괄 영구 선점 시 사용자가 선점한 모든 좌석의 만료 시간, TTL 키, 만료 큐 항목이 한 번에 제거된다.")
+    void lockAllUserSeatsPermanently_shouldTransitionEverySeat() {
+        // when
+        BulkSeatLockResultDTO result = seatLockService.lockAllUserSeatsPermanently(CONCERT_ID, USER_ID);
+
+        // then
+        assertThat(result.isAllSuccess()).isTrue();
+        assertThat(result.getSuccessCount()).isEqualTo(3);
+        assertThat(result.getSeatResults()).allMatch(SeatLockResultDTO::isTtlKeyRemoved);
+
+        for (long seatId = 1; seatId <= 3; seatId++) {
+            SeatStatus seat = seatStatusService.getSeatStatus(CONCERT_ID, seatId).orElseThrow();
+            assertThat(seat.getStatus()).isEqualTo(SeatStatusEnum.RESERVED);
+            assertThat(seat.getUserId()).isEqualTo(USER_ID);
+            assertThat(seat.getExpiresAt()).isNull();
+            assertThat(ttlKeyExists(seatId)).isFalse();
+            assertThat(expiryQueue().contains(String.valueOf(seatId))).isFalse();
+            assertThat(packedState(seatId)).isEqualTo(PackedSeatState.PERMANENTLY_RESERVED);
+        }
+        // 사용자 선점 인덱스는 유지 (영구 선점도 사용자 선점 좌석)
+        assertThat(userIndex()).containsExactlyInAnyOrder("1", "2", "3");
+    }
+
+    @Test
+    @DisplayName("일괄 복원 시 영구 선점된 모든 좌석이 만료 시간, TTL 키, 만료 큐 항목과 함께 임시 선점으로 돌아간다.")
+    void restoreAllUserSeats_shouldTransitionEverySeat() {
+        // given
+        seatLockService.lockAllUserSeatsPermanently(CONCERT_ID, USER_ID);
+
+        // when
+        BulkSeatLockResultDTO result = seatLockService.restoreAllUserSeatsWithCompensation(CONCERT_ID, USER_ID, true);
+
+        // then
+        assertThat(result.isAllSuccess()).isTrue();
+        assertThat(result.getSuccessCount()).isEqualTo(3);
+
+        for (long seatId = 1; seatId <= 3; seatId++) {
+            SeatStatus seat = seatStatusService.getSeatStatus(CONCERT_ID, seatId).orElseThrow();
+            assertThat(seat.getStatus()).isEqualTo(SeatStatusEnum.RESERVED);
+            assertThat(seat.getExpiresAt()).isNotNull();
+            assertThat(ttlKeyExists(seatId)).isTrue();
+            assertThat(expiryQueue().contains(String.valueOf(seatId))).isTrue();
+            assertThat(packedState(seatId)).isEqualTo(PackedSeatState.RESERVED);
+        }
+        assertThat(userIndex()).containsExactlyInAnyOrder("1", "2", "3");
+    }
+
+    @Test
+    @DisplayName("영구 선점 중 하나라도 선점이 만료되었으면 SEAT_UNAVAILABLE로 실패하고 좌석/TTL 키/인덱스/버전이 그대로 유지된다.")
+    void lockAllUserSeatsPermanently_shouldLeaveEverythingUntouchedOnSeatUnavailable() {
+        // given: 2번 좌석의 TTL 키만 만료 (만료 리스너 처리 전 상태)
+        redissonClient.getBucket(RedisKeyGenerator.seatTtlKey(CONCERT_ID, 2L)).delete();
+        long versionBefore = seatChangeLogService.getCurrentVersion(CONCERT_ID);
+
+        // when
+        BulkSeatLockResultDTO result = seatLockService.lockAllUserSeatsPermanently(CONCERT_ID, USER_ID);
+
+        // then
+        assertThat(result.isAllSuccess()).isFalse();
+        assertThat(result.getSuccessCount()).isZero();
+        assertThat(result.getFailureCount()).isEqualTo(3);
+        assertThat(result.getErrorMessage()).contains("2: 만료된 선점 좌석");
+
+        for (long seatId = 1; seatId <= 3; seatId++) {
+            SeatStatus seat = seatStatusService.getSeatStatus(CONCERT_ID, seatId).orElseThrow();
+            assertThat(seat.getExpiresAt()).isNotNull();
+            assertThat(expiryQueue().contains(String.valueOf(seatId))).isTrue();
+            assertThat(packedState(seatId)).isEqualTo(PackedSeatState.RESERVED);
+        }
+        assertThat(ttlKeyExists(1L)).isTrue();
+        assertThat(ttlKeyExists(3L)).isTrue();
+        assertThat(userIndex()).containsExactlyInAnyOrder("1", "2", "3");
+        assertThat(seatChangeLogService.getCurrentVersion(CONCERT_ID)).isEqualTo(versionBefore);
+    }
+
+    @Test
+    @DisplayName("복원 중 하나라도 복원할 수 없게 되면 SEAT_UNAVAILABLE로 실패하고 모든 좌석이 영구 선점 상태로 유지된다.")
+    void restoreAllUserSeats_shouldLeaveEverythingUntouchedOnSeatUnavailable() {
+        // given: 조회 이후 스크립트 실행 전에 3번 좌석이 예매 완료됨
+        seatLockService.lockAllUserSeatsPermanently(CONCERT_ID, USER_ID);
+        long versionBefore = seatChangeLogService.getCurrentVersion(CONCERT_ID);
+        doAnswer(invocation -> {
+            SeatStatus current = seatStatusService.getSeatStatus(CONCERT_ID, 3L).orElseThrow();
+            seatStatusShardRouter.mapOf(CONCERT_ID, 3L).fastPut("3", copyOf(current, SeatStatusEnum.BOOKED));
+            return invocation.callRealMethod();
+        }).when(seatRedisScriptAdapter).transitionUserHolds(any(), any(), any(), anyMap(), anyLong(), anyLong());
+
+        // when
+        BulkSeatLockResultDTO result = seatLockService.restoreAllUserSeatsWithCompensation(CONCERT_ID, USER_ID, true);
+
+        // then
+        assertThat(result.isAllSuccess()).isFalse();
+        assertThat(result.getErrorMessage()).contains("3: 이미 예매 완료된 좌석");
+
+        for (long seatId = 1; seatId <= 2; seatId++) {
+            SeatStatus seat = seatStatusService.getSeatStatus(CONCERT_ID, seatId).orElseThrow();
+            assertThat(seat.getExpiresAt()).isNull();
+            assertThat(ttlKeyExists(seatId)).isFalse();
+            assertThat(expiryQueue().contains(String.valueOf(seatId))).isFalse();
+            assertThat(packedState(seatId)).isEqualTo(PackedSeatState.PERMANENTLY_RESERVED);
+        }
+        assertThat(userIndex()).containsExactlyInAnyOrder("1", "2", "3");
+        assertThat(seatChangeLogService.getCurrentVersion(CONCERT_ID)).isEqualTo(versionBefore);
+    }
+
+    @Test
+    @DisplayName("조회 이후 사용자가 좌석을 추가로 선점하면 HOLDS_CHANGED 후 재조회하여 추가된 좌석까지 영구 선점한다.")
+    void lockAllUserSeatsPermanently_shouldRetryWhenHoldsChanged() {
+        // given: 사용자가 2석만 선점한 상태에서, 첫 스크립트 실행 직전에 3번째 좌석을 선점
+        seatStatusService.releaseSeat(CONCERT_ID, 3L, USER_ID);
+        AtomicInteger calls = new AtomicInteger();
+        doAnswer(invocation -> {
+            if (calls.getAndIncrement() == 0) {
+                seatStatusService.reserveSeat(CONCERT_ID, 3L, USER_ID, "A-1-3");
+            }
+            return invocation.callRealMethod();
+        }).when(seatRedisScriptAdapter).transitionUserHolds(any(), any(), any(), anyMap(), anyLong(), anyLong());
+
+        // when
+        BulkSeatLockResultDTO result = seatLockService.lockAllUserSeatsPermanently(CONCERT_ID, USER_ID);
+
+        // then: 두 번째 시도에서 3석 모두 전이
+        verify(seatRedisScriptAdapter, times(2))
+                .transitionUserHolds(any(), any(), any(), anyMap(), anyLong(), anyLong());
+        assertThat(result.isAllSuccess()).isTrue();
+        assertThat(result.getSeatResults()).extracting(SeatLockResultDTO::getConcertSeatId)
+                .containsExactlyInAnyOrder(1L, 2L, 3L);
+        for (long seatId = 1; seatId <= 3; seatId++) {
+            assertThat(seatStatusService.getSeatStatus(CONCERT_ID, seatId).orElseThrow().getExpiresAt()).isNull();
+            assertThat(ttlKeyExists(seatId)).isFalse();
+        }
+    }
+
+    @Test
+    @DisplayName("재시도에서도 선점 좌석이 계속 바뀌면 최대 시도 후 실패하고 아무 좌석도 변경되지 않는다.")
+    void lockAllUserSeatsPermanently_shouldGiveUpWhenHoldsKeepChanging() {
+        // given: 매 스크립트 실행 직전에 사용자 선점 인덱스가 바뀜
+        long versionBefore = seatChangeLogService.getCurrentVersion(CONCERT_ID);
+        AtomicInteger calls = new AtomicInteger();
+        doAnswer(invocation -> {
+            redissonClient.getSet(RedisKeyGenerator.seatUserIndexKey(CONCERT_ID, USER_ID), StringCodec.INSTANCE)
+                    .add(String.valueOf(90 + calls.incrementAndGet()));
+            return invocation.callRealMethod();
+        }).when(seatRedisScriptAdapter).transitionUserHolds(any(), any(), any(), anyMap(), anyLong(), anyLong());
+
+        // when
+        BulkSeatLockResultDTO result = seatLockService.lockAllUserSeatsPermanently(CONCERT_ID, USER_ID);
+
+        // then
+        verify(seatRedisScriptAdapter, times(2))
+                .transitionUserHolds(any(), any(), any(), anyMap(), anyLong(), anyLong());
+        assertThat(result.isAllSuccess()).isFalse();
+        assertThat(result.getErrorMessage()).contains("선점 좌석이 변경");
+        for (long seatId = 1; seatId <= 3; seatId++) {
+            assertThat(seatStatusService.getSeatStatus(CONCERT_ID, seatId).orElseThrow().getExpiresAt()).isNotNull();
+            assertThat(ttlKeyExists(seatId)).isTrue();
+        }
+        assertThat(seatChangeLogService.getCurrentVersion(CONCERT_ID)).isEqualTo(versionBefore);
+    }
+
+    private int packedState(long seatId) {
+        return seatStateService.getSnapshotIfPresent(CONCERT_ID).stateOfSeat(seatId);
+    }
+
+    private boolean ttlKeyExists(long seatId) {
+        return redissonClient.getBucket(RedisKeyGenerator.seatTtlKey(CONCERT_ID, seatId)).isExists();
+    }
+
+    private RScoredSortedSet<String> expiryQueue() {
+        return redissonClient.getScoredSortedSet(RedisKeyGenerator.seatExpiryQueueKey(CONCERT_ID), StringCodec.INSTANCE);
+    }
+
+    private Set<String> userIndex() {
+        return redissonClient.<String>getSet(RedisKeyGenerator.seatUserIndexKey(CONCERT_ID, USER_ID), StringCodec.INSTANCE)
+                .readAll();
+    }
+
+    private SeatStatus copyOf(SeatStatus seat, SeatStatusEnum status) {
+        return SeatStatus.builder()
+                .id(seat.getId())
+                .concertId(seat.getConcertId())
+                .seatId(seat.getSeatId())
+                .status(status)
+                .userId(seat.getUserId())
+                .reservedAt(seat.getReservedAt())
+                .expiresAt(null)
+                .seatInfo(seat.getSeatInfo())
+                .build();
+    }
+
+    private SeatStatus availableSeat(long seatId) {
+        return SeatStatus.builder()
+                .id(CONCERT_ID + "-" + seatId)
+                .concertId(CONCERT_ID)
+                .seatId(seatId)
+                .status(SeatStatusEnum.AVAILABLE)
+                .seatInfo("A-1-" + seatId)
+                .build();
+    }
+}
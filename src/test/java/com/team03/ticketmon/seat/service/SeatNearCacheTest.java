@@ -0,0 +1,194 @@
+package com.team03.ticketmon.seat.service;
+
+import com.team03.ticketmon.seat.config.SeatProperties;
+import com.team03.ticketmon.seat.domain.SeatStatus;
+import com.team03.ticketmon.seat.domain.SeatStatus.SeatStatusEnum;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * SeatNearCache의 무효화 세대 비교, 최대 허용 지연(staleness) 상한, LRU 제거와 빈 콘서트 영역 정리를 검증하는 단위 테스트.
+ * loader 호출 횟수로 캐시 적중 여부를 판단합니다.
+ */
+class SeatNearCacheTest {
+
+    private static final Long CONCERT_ID = 1L;
+    private static final Long OTHER_CONCERT_ID = 2L;
+    private static final long MAX_STALENESS_MS = 200;
+
+    private SeatProperties seatProperties;
+    private SeatNearCache seatNearCache;
+    private final AtomicInteger loadCount = new AtomicInteger(0);
+
+    @BeforeEach
+    void setUp() {
+        seatProperties = new SeatProperties();
+        seatProperties.getNearCache().setEnabled(true);
+        seatProperties.getNearCache().setMaxStalenessMs(MAX_STALENESS_MS);
+        seatProperties.getNearCache().setMaxEntries(100);
+        seatNearCache = new SeatNearCache(seatProperties);
+    }
+
+    @Test
+    @DisplayName("허용 지연 안에서는 캐시된 값을 반환하고, 허용 지연이 지나면 Redis에서 다시 조회한다.")
+    void get_reloadsAfterMaxStaleness() {
+        // given: 좌석 1을 한 번 조회하여 캐시
+        get(CONCERT_ID, 1L);
+
+        // when & then: 허용 지연 안의 재조회는 loader를 호출하지 않는다.
+        get(CONCERT_ID, 1L);
+        assertThat(loadCount.get()).isEqualTo(1);
+
+        // when & then: 허용 지연이 지나면 무효화 이벤트가 없어도 다시 조회한다. (Pub/Sub 유실 대비 상한)
+        await().pollDelay(Duration.ofMillis(MAX_STALENESS_MS + 50)).atMost(Duration.ofSeconds(2))
+                .untilAsserted(() -> {
+                    get(CONCERT_ID, 1L);
+                    assertThat(loadCount.get()).isEqualTo(2);
+                });
+        assertThat(seatNearCache.getStats())
+                .containsEntry("hitCount", 1L)
+                .containsEntry("staleCount", 1L);
+    }
+
+    @Test
+    @DisplayName("좌석을 무효화하면 다음 조회에서 다시 로딩한다.")
+    void invalidate_forcesReload() {
+        // given
+        get(CONCERT_ID, 1L);
+
+        // when
+        seatNearCache.invalidate(CONCERT_ID, 1L);
+        get(CONCERT_ID, 1L);
+
+        // then
+        assertThat(loadCount.get()).isEqualTo(2);
+        assertThat(seatNearCache.getStats()).containsEntry("invalidationCount", 1L);
+    }
+
+    @Test
+    @DisplayName("로딩 중 같은 콘서트에 무효화가 발생하면 로딩 결과를 캐시하지 않는다.")
+    void get_discardsLoadRacingWithInvalidation() {
+        // given: 좌석 2를 캐시해 두어 콘서트 영역이 유지되는 상태
+        get(CONCERT_ID, 2L);
+
+        // when: 좌석 1 로딩 도중 무효화 이벤트 수신 (로딩한 값은 이미 오래된 값일 수 있음)
+        seatNearCache.get(CONCERT_ID, 1L, () -> {
+            seatNearCache.invalidate(CONCERT_ID, 1L);
+            return Optional.of(seat(CONCERT_ID, 1L));
+        });
+
+        // then: 결과를 저장하지 않으므로 다음 조회는 다시 로딩한다.
+        get(CONCERT_ID, 1L);
+        assertThat(loadCount.get()).isEqualTo(2);
+        assertThat(seatNearCache.getStats()).containsEntry("discardedLoadCount", 1L);
+    }
+
+    @Test
+    @DisplayName("콘서트 전체 무효화 도중 시작된 로딩 결과는 저장하지 않고, 비워진 콘서트 영역은 제거된다.")
+    void invalidateConcert_discardsInFlightLoadAndPrunesRegion() {
+        // given
+        get(CONCERT_ID, 1L);
+        get(CONCERT_ID, 2L);
+
+        // when: 좌석 3 로딩 도중 콘서트 전체 무효화
+        seatNearCache.get(CONCERT_ID, 3L, () -> {
+            seatNearCache.invalidateConcert(CONCERT_ID);
+            return Optional.of(seat(CONCERT_ID, 3L));
+        });
+
+        // then: 모든 항목과 콘서트 영역이 제거된다.
+        assertThat(seatNearCache.getStats())
+                .containsEntry("entries", 0)
+                .containsEntry("concerts", 0)
+                .containsEntry("discardedLoadCount", 1L);
+        get(CONCERT_ID, 1L);
+        assertThat(loadCount.get()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("최대 항목 수를 넘으면 가장 오래 사용하지 않은 항목을 제거하고 새 항목을 저장한다.")
+    void get_evictsLeastRecentlyUsedWhenFull() {
+        // given: 최대 2개, 좌석 1 → 2 순으로 캐시한 뒤 좌석 1을 다시 사용
+        seatProperties.getNearCache().setMaxEntries(2);
+        get(CONCERT_ID, 1L);
+        get(CONCERT_ID, 2L);
+        get(CONCERT_ID, 1L);
+
+        // when: 다른 콘서트 좌석 저장 → 가장 오래 사용하지 않은 좌석 2 제거
+        get(OTHER_CONCERT_ID, 1L);
+
+        // then: 새 항목은 저장되고, 좌석 1은 적중, 좌석 2는 다시 로딩
+        assertThat(loadCount.get()).isEqualTo(3);
+        get(OTHER_CONCERT_ID, 1L);
+        get(CONCERT_ID, 1L);
+        assertThat(loadCount.get()).isEqualTo(3);
+        get(CONCERT_ID, 2L);
+        assertThat(loadCount.get()).isEqualTo(4);
+        assertThat(seatNearCache.getStats())
+                .containsEntry("entries", 2)
+                .containsEntry("evictedCount", 2L);
+    }
+
+    @Test
+    @DisplayName("콘서트의 마지막 항목이 무효화되거나 LRU로 제거되면 콘서트 영역도 제거된다.")
+    void regions_arePrunedWhenEmpty() {
+        // given: 최대 1개
+        seatProperties.getNearCache().setMaxEntries(1);
+        get(CONCERT_ID, 1L);
+
+        // when: 다른 콘서트 좌석 저장 → 콘서트 1의 유일한 항목이 제거됨
+        get(OTHER_CONCERT_ID, 1L);
+
+        // then
+        assertThat(seatNearCache.getStats()).containsEntry("concerts", 1);
+
+        // when: 남은 콘서트의 마지막 항목 무효화
+        seatNearCache.invalidate(OTHER_CONCERT_ID, 1L);
+
+        // then: 빈 영역이 남지 않는다.
+        assertThat(seatNearCache.getStats())
+                .containsEntry("entries", 0)
+                .containsEntry("concerts", 0);
+    }
+
+    @Test
+    @DisplayName("좌석이 없어 로딩 결과가 비어 있으면 캐시하지 않고 빈 콘서트 영역도 남기지 않는다.")
+    void get_doesNotKeepRegionForEmptyLoad() {
+        // when
+        Optional<SeatStatus> result = seatNearCache.get(CONCERT_ID, 1L, () -> {
+            loadCount.incrementAndGet();
+            return Optional.empty();
+        });
+
+        // then
+        assertThat(result).isEmpty();
+        assertThat(seatNearCache.getStats())
+                .containsEntry("entries", 0)
+                .containsEntry("concerts", 0);
+    }
+
+    private Optional<SeatStatus> get(Long concertId, Long seatId) {
+        return seatNearCache.get(concertId, seatId, () -> {
+            loadCount.incrementAndGet();
+            return Optional.of(seat(concertId, seatId));
+        });
+    }
+
+    private static SeatStatus seat(Long concertId, Long seatId) {
+        return SeatStatus.builder()
+                .id(concertId + "-" + seatId)
+                .concertId(concertId)
+                .seatId(seatId)
+                .status(SeatStatusEnum.AVAILABLE)
+                .seatInfo("A-" + seatId)
+                .build();
+    }
+}
@@ -0,0 +1,192 @@
+package com.team03.ticketmon.seat.service;
+
+import com.team03.ticketmon._global.config.RedissonConfig;
+import com.team03.ticketmon._global.util.RedisKeyGenerator;
+import com.team03.ticketmon.seat.adapter.SeatRedisScriptAdapter;
+import com.team03.ticketmon.seat.adapter.SeatStatusShardRouter;
+import com.team03.ticketmon.seat.config.SeatProperties;
+import com.team03.ticketmon.seat.config.SeatRedisCodecConfig;
+import com.team03.ticketmon.seat.domain.SeatStatus;
+import com.team03.ticketmon.seat.domain.SeatStatus.SeatStatusEnum;
+import com.team03.ticketmon.seat.dto.SeatBulkReserveResponseDTO;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.redisson.api.NatMapper;
+import org.redisson.api.RKeys;
+import org.redisson.api.RedissonClient;
+import org.redisson.misc.RedisURI;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.data.redis.DataRedisTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.wait.strategy.Wait;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Redis Cluster 환경 좌석 선점 통합 테스트
+ * - 3개 마스터 노드 클러스터 컨테이너에 연결하여 Lua 스크립트(단일/일괄 선점)가 CROSSSLOT 오류 없이 동작하는지 검증
+ * - 콘서트 단위 키가 {concertId} 해시 태그로 같은 슬롯에 배치되는지 검증
+ * - 기본 test 태스크에서는 제외되며 ./gradlew redisClusterTest 로 실행
+ */
+@Tag("redis-cluster")
+@ActiveProfiles("test")
+@Testcontainers
+@DataRedisTest
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@Import({RedissonConfig.class, SeatProperties.class, SeatRedisCodecConfig.class, SeatStatusService.class,
+        SeatStatusEventPublisher.class, SeatRedisScriptAdapter.class, SeatStatusShardRouter.class, SeatNearCache.class,
+        SeatRedisClusterIntegrationTest.ClusterNatConfig.class})
+class SeatRedisClusterIntegrationTest {
+
+    private static final Long CONCERT_ID = 7L;
+    private static final Long USER_ID = 1001L;
+    private static final int[] NODE_PORTS = {7000, 7001, 7002};
+
+    @Autowired
+    private SeatStatusService seatStatusService;
+
+    @Autowired
+    private SeatStatusShardRouter seatStatusShardRouter;
+
+    @Autowired
+    private SeatProperties seatProperties;
+
+    @Autowired
+    private RedissonClient redissonClient;
+
+    @MockBean
+    private SeatCacheInitService seatCacheInitService;
+
+    @MockBean
+    private SeatCounterService seatCounterService;
+
+    @Container
+    public static GenericContainer<?> redisCluster = new GenericContainer<>("grokzen/redis-cluster:7.0.10")
+            .withEnv("IP", "0.0.0.0")
+            .withEnv("INITIAL_PORT", "7000")
+            .withEnv("MASTERS", "3")
+            .withEnv("SLAVES_PER_MASTER", "0")
+            .withExposedPorts(7000, 7001, 7002)
+            .waitingFor(Wait.forLogMessage(".*Cluster state changed: ok.*", NODE_PORTS.length));
+
+    @DynamicPropertySource
+    static void redisProperties(DynamicPropertyRegistry registry) {
+        List<String> nodes = new ArrayList<>();
+        for (int port : NODE_PORTS) {
+            nodes.add(redisCluster.getHost() + ":" + redisCluster.getMappedPort(port));
+        }
+        registry.add("spring.data.redis.cluster.nodes", () -> String.join(",", nodes));
+        registry.add("spring.data.redis.ssl.enabled", () -> false);
+    }
+
+    /**
+     * 클러스터 노드가 광고하는 컨테이너 내부 주소(포트 7000~7002)를 호스트의 매핑 포트로 변환
+     */
+    @TestConfiguration
+    static class ClusterNatConfig {
+
+        @Bean
+        NatMapper clusterNatMapper() {
+            return new NatMapper() {
+                @Override
+                public RedisURI map(RedisURI uri) {
+                    for (int port : NODE_PORTS) {
+                        if (uri.getPort() == port) {
+                            return new RedisURI(uri.getScheme(), redisCluster.getHost(), redisCluster.getMappedPort(port));
+                        }
+                    }
+                    return uri;
+                }
+            };
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        seatProperties.getStorage().setStatusShardCount(1);
+        redissonClient.getKeys().flushall();
+    }
+
+    @Test
+    @DisplayName("클러스터 모드에서 단일 좌석 선점 스크립트가 정상 동작하고, 콘서트 좌석 키는 모두 같은 슬롯에 배치된다.")
+    void reserveSeatOnCluster() {
+        // given
+        seedAvailableSeats(10);
+
+        // when
+        SeatStatus reserved = seatStatusService.reserveSeat(CONCERT_ID, 3L, USER_ID, "A-1-3");
+
+        // then
+        assertThat(reserved.getStatus()).isEqualTo(SeatStatusEnum.RESERVED);
+        Optional<SeatStatus> stored = seatStatusService.getSeatStatus(CONCERT_ID, 3L);
+        assertThat(stored).isPresent();
+        assertThat(stored.get().getUserId()).isEqualTo(USER_ID);
+
+        RKeys keys = redissonClient.getKeys();
+        int slot = keys.getSlot(RedisKeyGenerator.seatStatusKey(CONCERT_ID));
+        assertThat(keys.getSlot(RedisKeyGenerator.seatTtlKey(CONCERT_ID, 3L))).isEqualTo(slot);
+        assertThat(keys.getSlot(RedisKeyGenerator.seatUserIndexKey(CONCERT_ID, USER_ID))).isEqualTo(slot);
+        assertThat(keys.getSlot(RedisKeyGenerator.seatExpiryQueueKey(CONCERT_ID))).isEqualTo(slot);
+        assertThat(keys.getSlot(RedisKeyGenerator.seatChangeLogKey(CONCERT_ID))).isEqualTo(slot);
+        assertThat(keys.getSlot(RedisKeyGenerator.seatVersionKey(CONCERT_ID))).isEqualTo(slot);
+    }
+
+    @Test
+    @DisplayName("좌석 상태 Hash가 여러 샤드로 분산되어도 클러스터 모드에서 일괄 선점 스크립트가 정상 동작한다.")
+    void reserveSeatsAcrossShardsOnCluster() {
+        // given: 좌석 1, 2가 서로 다른 샤드 Hash에 저장됨
+        seatProperties.getStorage().setStatusShardCount(4);
+        seedAvailableSeats(10);
+        assertThat(seatStatusShardRouter.keyOf(CONCERT_ID, 1L)).isNotEqualTo(seatStatusShardRouter.keyOf(CONCERT_ID, 2L));
+
+        // when
+        SeatBulkReserveResponseDTO response = seatStatusService.reserveSeats(CONCERT_ID, List.of(1L, 2L), USER_ID);
+
+        // then
+        assertThat(response.reserved()).isTrue();
+        assertThat(seatStatusService.getUserReservedSeats(CONCERT_ID, USER_ID))
+                .extracting(SeatStatus::getSeatId)
+                .containsExactlyInAnyOrder(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("대기열 관련 키도 콘서트 해시 태그로 같은 슬롯에 배치된다.")
+    void queueKeysShareConcertSlot() {
+        RedisKeyGenerator keyGenerator = new RedisKeyGenerator();
+        RKeys keys = redissonClient.getKeys();
+
+        int slot = keys.getSlot(keyGenerator.getWaitQueueKey(CONCERT_ID));
+        assertThat(keys.getSlot(keyGenerator.getActiveSessionsKey(CONCERT_ID))).isEqualTo(slot);
+        assertThat(keys.getSlot(keyGenerator.getActiveUsersCountKey(CONCERT_ID))).isEqualTo(slot);
+        assertThat(keys.getSlot(keyGenerator.getAccessKey(CONCERT_ID, USER_ID))).isEqualTo(slot);
+    }
+
+    private void seedAvailableSeats(int seatCount) {
+        for (long seatId = 1; seatId <= seatCount; seatId++) {
+            seatStatusShardRouter.mapOf(CONCERT_ID, seatId).fastPut(String.valueOf(seatId), SeatStatus.builder()
+                    .id(CONCERT_ID + "-" + seatId)
+                    .concertId(CONCERT_ID)
+                    .seatId(seatId)
+                    .status(SeatStatusEnum.AVAILABLE)
+                    .seatInfo("A-1-" + seatId)
+                    .build());
+        }
+    }
+}
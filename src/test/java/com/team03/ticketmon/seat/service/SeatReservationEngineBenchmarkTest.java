@@ -0,0 +1,208 @@
+package com.team03.ticketmon.seat.service;
+
+import com.team03.ticketmon._global.config.RedissonConfig;
+import com.team03.ticketmon._global.util.RedisKeyGenerator;
+import com.team03.ticketmon.seat.adapter.SeatRedisScriptAdapter;
+import com.team03.ticketmon.seat.adapter.SeatStatusShardRouter;
+import com.team03.ticketmon.seat.config.SeatProperties;
+import com.team03.ticketmon.seat.config.SeatRedisCodecConfig;
+import com.team03.ticketmon.seat.config.SeatProperties.ReservationEngine;
+import com.team03.ticketmon.seat.domain.SeatStatus;
+import com.team03.ticketmon.seat.domain.SeatStatus.SeatStatusEnum;
+import com.team03.ticketmon.seat.exception.SeatReservationException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.redisson.api.RMap;
+import org.redisson.api.RedissonClient;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.data.redis.DataRedisTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 좌석 선점 엔진 경합 벤치마크 (LUA_SCRIPT vs DISTRIBUTED_LOCK)
+ * - 동일 좌석에 다수 사용자가 동시에 선점을 시도하는 상황을 반복 재현
+ * - 라운드마다 정확히 1명만 선점에 성공하는지 검증하고, 엔진별 처리 시간/지연 분포를 로그로 남김
+ * - 기본 test 태스크에서는 제외되며 ./gradlew benchmarkTest 로 실행
+ */
+@Tag("benchmark")
+@ActiveProfiles("test")
+@Testcontainers
+@DataRedisTest
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@Import({RedissonConfig.class, SeatProperties.class, SeatRedisCodecConfig.class, SeatStatusService.class,
+        SeatStatusEventPublisher.class, SeatRedisScriptAdapter.class, SeatStatusShardRouter.class, SeatNearCache.class})
+class SeatReservationEngineBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(SeatReservationEngineBenchmarkTest.class);
+
+    private static final Long CONCERT_ID = 1L;
+    private static final int SEAT_COUNT = 50;
+    private static final int CONTENDERS = 32;
+    private static final int ROUNDS = 50;
+
+    @Autowired
+    private SeatStatusService seatStatusService;
+
+    @Autowired
+    private SeatProperties seatProperties;
+
+    @Autowired
+    private RedissonClient redissonClient;
+
+    @MockBean
+    private SeatCacheInitService seatCacheInitService;
+
+    @MockBean
+    private SeatCounterService seatCounterService;
+
+    @Container
+    public static GenericContainer<?> redis = new GenericContainer<>("redis:7-alpine")
+            .withExposedPorts(6379);
+
+    @DynamicPropertySource
+    static void redisProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.data.redis.host", () -> redis.getHost());
+        registry.add("spring.data.redis.port", () -> redis.getMappedPort(6379));
+        registry.add("spring.data.redis.ssl.enabled", () -> false);
+    }
+
+    @BeforeEach
+    void setUp() {
+        seedAvailableSeats();
+    }
+
+    @AfterEach
+    void tearDown() {
+        seatProperties.getReservation().setEngine(ReservationEngine.LUA_SCRIPT);
+        redissonClient.getKeys().flushall();
+    }
+
+    @Test
+    @DisplayName("동일 좌석 경합 시 두 엔진 모두 라운드당 1명만 선점에 성공하며, 엔진별 지연 시간을 비교한다.")
+    void compareReservationEnginesUnderContention() throws Exception {
+        // warm-up (스크립트 캐시 적재, 커넥션 풀 준비)
+        runRounds(ReservationEngine.LUA_SCRIPT, 5);
+        runRounds(ReservationEngine.DISTRIBUTED_LOCK, 5);
+
+        BenchmarkResult script = runRounds(ReservationEngine.LUA_SCRIPT, ROUNDS);
+        BenchmarkResult lock = runRounds(ReservationEngine.DISTRIBUTED_LOCK, ROUNDS);
+
+        log.info(script.summary());
+        log.info(lock.summary());
+
+        assertThat(script.winnersPerRound()).hasSize(ROUNDS).containsOnly(1);
+        assertThat(lock.winnersPerRound()).hasSize(ROUNDS).containsOnly(1);
+    }
+
+    private BenchmarkResult runRounds(ReservationEngine engine, int rounds) throws Exception {
+        seatProperties.getReservation().setEngine(engine);
+        ExecutorService executor = Executors.newFixedThreadPool(CONTENDERS);
+        List<Long> latenciesNanos = Collections.synchronizedList(new ArrayList<>());
+        List<Integer> winnersPerRound = new ArrayList<>();
+        long startedAt = System.nanoTime();
+
+        try {
+            for (int round = 0; round < rounds; round++) {
+                long seatId = (round % SEAT_COUNT) + 1;
+                CountDownLatch startGate = new CountDownLatch(1);
+                AtomicInteger winners = new AtomicInteger();
+                List<Future<?>> futures = new ArrayList<>();
+
+                for (int contender = 0; contender < CONTENDERS; contender++) {
+                    long userId = 1000L + contender;
+                    futures.add(executor.submit(() -> {
+                        startGate.await();
+                        long begin = System.nanoTime();
+                        try {
+                            seatStatusService.reserveSeat(CONCERT_ID, seatId, userId, "A-1-" + seatId);
+                            winners.incrementAndGet();
+                        } catch (SeatReservationException ignored) {
+                            // 경합에서 패배한 요청
+                        } finally {
+                            latenciesNanos.add(System.nanoTime() - begin);
+                        }
+                        return null;
+                    }));
+                }
+
+                startGate.countDown();
+                for (Future<?> future : futures) {
+                    future.get(30, TimeUnit.SECONDS);
+                }
+                winnersPerRound.add(winners.get());
+                seatStatusService.forceReleaseSeat(CONCERT_ID, seatId);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        return new BenchmarkResult(engine, System.nanoTime() - startedAt, new ArrayList<>(latenciesNanos), winnersPerRound);
+    }
+
+    private void seedAvailableSeats() {
+        RMap<String, SeatStatus> seatMap = redissonClient.getMap(
+                RedisKeyGenerator.seatStatusKey(CONCERT_ID));
+        Map<String, SeatStatus> seats = new HashMap<>();
+        for (long seatId = 1; seatId <= SEAT_COUNT; seatId++) {
+            seats.put(String.valueOf(seatId), SeatStatus.builder()
+                    .id(CONCERT_ID + "-" + seatId)
+                    .concertId(CONCERT_ID)
+                    .seatId(seatId)
+                    .status(SeatStatusEnum.AVAILABLE)
+                    .seatInfo("A-1-" + seatId)
+                    .build());
+        }
+        seatMap.putAll(seats);
+    }
+
+    private record BenchmarkResult(ReservationEngine engine, long elapsedNanos,
+                                   List<Long> latenciesNanos, List<Integer> winnersPerRound) {
+
+        String summary() {
+            List<Long> sorted = new ArrayList<>(latenciesNanos);
+            Collections.sort(sorted);
+            double avgMs = sorted.stream().mapToLong(Long::longValue).average().orElse(0) / 1_000_000.0;
+            double p50Ms = percentile(sorted, 0.50) / 1_000_000.0;
+            double p99Ms = percentile(sorted, 0.99) / 1_000_000.0;
+            double throughput = sorted.size() / (elapsedNanos / 1_000_000_000.0);
+            return String.format("[%s] requests=%d, elapsed=%.1fms, throughput=%.0f req/s, avg=%.2fms, p50=%.2fms, p99=%.2fms",
+                    engine, sorted.size(), elapsedNanos / 1_000_000.0, throughput, avgMs, p50Ms, p99Ms);
+        }
+
+        private static long percentile(List<Long> sorted, double ratio) {
+            if (sorted.isEmpty()) {
+                return 0;
+            }
+            int index = (int) Math.ceil(ratio * sorted.size()) - 1;
+            return sorted.get(Math.max(0, Math.min(index, sorted.size() - 1)));
+        }
+    }
+}
@@ -0,0 +1,217 @@
+package com.team03.ticketmon.seat.service;
+
+import com.team03.ticketmon.seat.config.SeatProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * SeatSseBroadcaster의 구독 등록, 콘서트별 브로드캐스트, 느린 구독자 차단, Last-Event-ID 재연결 흐름을 검증하는 단위 테스트.
+ * 서블릿 비동기 요청 없이 동작하도록 Emitter를 전송 프레임을 기록하는 RecordingEmitter로 대체합니다.
+ */
+class SeatSseBroadcasterTest {
+
+    private static final Long CONCERT_ID = 1L;
+    private static final Long OTHER_CONCERT_ID = 2L;
+    private static final String EVENT_JSON = "{\"concertId\":1,\"seatId\":10,\"status\":\"RESERVED\",\"version\":7}";
+
+    private final List<RecordingEmitter> emitters = new CopyOnWriteArrayList<>();
+    private SeatProperties seatProperties;
+    private SeatSseBroadcaster broadcaster;
+
+    @BeforeEach
+    void setUp() {
+        seatProperties = new SeatProperties();
+        seatProperties.getSse().setMaxSubscribersPerConcert(3);
+        seatProperties.getSse().setSendQueueCapacity(2);
+        seatProperties.getSse().setWriterThreads(2);
+
+        broadcaster = new SeatSseBroadcaster(seatProperties) {
+            @Override
+            SseEmitter createEmitter() {
+                RecordingEmitter emitter = new RecordingEmitter();
+                emitters.add(emitter);
+                return emitter;
+            }
+        };
+    }
+
+    @AfterEach
+    void tearDown() {
+        emitters.forEach(emitter -> emitter.gate.countDown());
+        broadcaster.shutdown();
+    }
+
+    @Test
+    @DisplayName("구독하면 초기 이벤트가 먼저 전송되고, 콘서트 최대 구독자 수를 넘으면 구독이 거부된다.")
+    void subscribe_sendsInitialEventAndRejectsOverLimit() {
+        // when: 최대 구독자 수(3)까지 구독
+        for (long userId = 1; userId <= 3; userId++) {
+            assertThat(broadcaster.subscribe(CONCERT_ID, userId, () -> initEvent(5L))).isNotNull();
+        }
+
+        // then: 각 구독자는 init 이벤트를 받고, 네 번째 구독은 거부된다.
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() ->
+                assertThat(emitters).allSatisfy(emitter -> assertThat(emitter.frames)
+                        .singleElement().satisfies(frame -> {
+                            assertThat(eventId(frame)).isEqualTo("5");
+                            assertThat(frame).contains("event:init\n");
+                        })));
+        assertThat(broadcaster.subscribe(CONCERT_ID, 4L, () -> initEvent(5L))).isNull();
+        assertThat(broadcaster.getSubscriberCount(CONCERT_ID)).isEqualTo(3);
+        assertThat(broadcaster.getStats()).containsEntry("rejectedSubscriptionCount", 1L);
+    }
+
+    @Test
+    @DisplayName("브로드캐스트는 해당 콘서트 구독자에게만 같은 프레임을 전송하고, 좌석 버전을 이벤트 ID로 기록한다.")
+    void broadcast_fansOutToConcertSubscribersWithVersionId() {
+        // given: 콘서트 1 구독자 2명, 콘서트 2 구독자 1명
+        broadcaster.subscribe(CONCERT_ID, 1L, () -> initEvent(6L));
+        broadcaster.subscribe(CONCERT_ID, 2L, () -> initEvent(6L));
+        broadcaster.subscribe(OTHER_CONCERT_ID, 3L, () -> initEvent(1L));
+        RecordingEmitter first = emitters.get(0);
+        RecordingEmitter second = emitters.get(1);
+        RecordingEmitter other = emitters.get(2);
+
+        // when: 버전이 있는 이벤트와 버전을 모르는 이벤트를 차례로 브로드캐스트
+        broadcaster.broadcast(CONCERT_ID, EVENT_JSON, 7L);
+        broadcaster.broadcast(CONCERT_ID, EVENT_JSON, null);
+
+        // then: 콘서트 1 구독자만 두 이벤트를 순서대로 받고, 버전이 없는 이벤트에는 ID가 없다.
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() -> {
+            assertThat(first.frames).hasSize(3);
+            assertThat(second.frames).hasSize(3);
+        });
+        for (RecordingEmitter emitter : List.of(first, second)) {
+            assertThat(eventId(emitter.frames.get(1))).isEqualTo("7");
+            assertThat(emitter.frames.get(1))
+                    .contains("event:" + SeatSseBroadcaster.SEAT_UPDATE_EVENT + "\n", "data:" + EVENT_JSON);
+            assertThat(eventId(emitter.frames.get(2))).isNull();
+            assertThat(emitter.frames.get(2)).contains("data:" + EVENT_JSON);
+        }
+        assertThat(other.frames).hasSize(1);
+        assertThat(broadcaster.getStats()).containsEntry("broadcastEventCount", 2L);
+    }
+
+    @Test
+    @DisplayName("전송 큐가 가득 찬 느린 구독자는 연결이 종료되고, 다른 구독자의 전송은 계속된다.")
+    void broadcast_dropsSlowConsumerWithoutBlockingOthers() throws InterruptedException {
+        // given: 소켓 쓰기가 멈춘 구독자(slow)와 정상 구독자(fast)
+        broadcaster.subscribe(CONCERT_ID, 1L, () -> initEvent(1L));
+        RecordingEmitter slow = emitters.get(0);
+        slow.blockSends();
+        broadcaster.subscribe(CONCERT_ID, 2L, () -> initEvent(1L));
+        RecordingEmitter fast = emitters.get(1);
+        // slow 구독자는 init 이벤트 이후 전송에서 멈춤 → 이후 프레임은 전송 큐에 쌓임
+        broadcaster.broadcast(CONCERT_ID, EVENT_JSON, 2L);
+        assertThat(slow.sendEntered.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // when: 전송 큐 크기(2)를 넘는 이벤트를 브로드캐스트
+        for (long version = 3; version <= 5; version++) {
+            broadcaster.broadcast(CONCERT_ID, EVENT_JSON, version);
+        }
+
+        // then: slow 구독자만 구독 해제 및 연결 종료되고, fast 구독자는 모든 이벤트를 받는다.
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() -> {
+            assertThat(slow.completed).isTrue();
+            assertThat(fast.frames).hasSize(5);
+        });
+        assertThat(eventId(fast.frames.get(4))).isEqualTo("5");
+        assertThat(broadcaster.getSubscriberCount(CONCERT_ID)).isEqualTo(1);
+        assertThat(broadcaster.getStats()).containsEntry("droppedSlowConsumerCount", 1L);
+    }
+
+    @Test
+    @DisplayName("Last-Event-ID로 재연결하면 누락 변경분(delta)이 먼저 전송되고, 이후 이벤트는 이어지는 버전을 ID로 가진다.")
+    void subscribe_resumesFromLastEventId() {
+        // given: 버전 10까지 받은 구독자가 연결이 끊긴 사이 버전 11, 12 변경이 발생
+        broadcaster.subscribe(CONCERT_ID, 1L, () -> initEvent(10L));
+        RecordingEmitter previous = emitters.get(0);
+        await().atMost(Duration.ofSeconds(5)).until(() -> previous.frames.size() == 1);
+        String lastEventId = eventId(previous.frames.get(0));
+
+        // when: 브라우저가 Last-Event-ID(10)로 재연결 → 컨트롤러처럼 해당 버전 이후 변경분을 delta 이벤트로 구성
+        broadcaster.subscribe(CONCERT_ID, 1L, () -> SseEmitter.event()
+                .id("12")
+                .name("delta")
+                .data("{\"sinceVersion\":" + lastEventId + ",\"currentVersion\":12}"));
+        broadcaster.broadcast(CONCERT_ID, EVENT_JSON, 13L);
+
+        // then: delta(12) → seat-update(13) 순서로 전송되어 다음 재연결도 이어서 가능하다.
+        RecordingEmitter resumed = emitters.get(1);
+        await().atMost(Duration.ofSeconds(5)).until(() -> resumed.frames.size() == 2);
+        assertThat(eventId(resumed.frames.get(0))).isEqualTo("12");
+        assertThat(resumed.frames.get(0)).contains("event:delta\n", "\"sinceVersion\":10");
+        assertThat(eventId(resumed.frames.get(1))).isEqualTo("13");
+    }
+
+    /**
+     * SSE 프레임의 이벤트 ID (id: 줄이 없으면 null)
+     */
+    private static String eventId(String frame) {
+        for (String line : frame.split("\n")) {
+            if (line.startsWith("id:")) {
+                return line.substring("id:".length());
+            }
+        }
+        return null;
+    }
+
+    private static SseEmitter.SseEventBuilder initEvent(long currentVersion) {
+        return SseEmitter.event()
+                .id(String.valueOf(currentVersion))
+                .name("init")
+                .data("{\"currentVersion\":" + currentVersion + "}");
+    }
+
+    /**
+     * 전송된 SSE 프레임을 문자열로 기록하는 Emitter (blockSends 이후 전송은 gate가 열릴 때까지 대기)
+     */
+    private static class RecordingEmitter extends SseEmitter {
+        private final List<String> frames = new CopyOnWriteArrayList<>();
+        private final CountDownLatch sendEntered = new CountDownLatch(1);
+        private final CountDownLatch gate = new CountDownLatch(1);
+        private volatile boolean blocking;
+        private volatile boolean completed;
+
+        void blockSends() {
+            blocking = true;
+        }
+
+        @Override
+        public void send(Set<DataWithMediaType> items) throws IOException {
+            if (blocking) {
+                sendEntered.countDown();
+                try {
+                    gate.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException(e);
+                }
+            }
+            StringBuilder frame = new StringBuilder();
+            items.forEach(item -> frame.append(item.getData()));
+            frames.add(frame.toString());
+        }
+
+        @Override
+        public void complete() {
+            completed = true;
+            super.complete();
+        }
+    }
+}
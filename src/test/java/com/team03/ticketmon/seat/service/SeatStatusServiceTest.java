@@ -0,0 +1,335 @@
+package com.team03.ticketmon.seat.service;
+
+import com.team03.ticketmon._global.config.RedissonConfig;
+import com.team03.ticketmon._global.util.RedisKeyGenerator;
+import com.team03.ticketmon.concert.repository.ConcertSeatRepository;
+import com.team03.ticketmon.seat.adapter.SeatRedisScriptAdapter;
+import com.team03.ticketmon.seat.adapter.SeatStatusShardRouter;
+import com.team03.ticketmon.seat.config.SeatProperties;
+import com.team03.ticketmon.seat.config.SeatRedisCodecConfig;
+import com.team03.ticketmon.seat.domain.PackedSeatState;
+import com.team03.ticketmon.seat.domain.SeatAvailabilityCounts;
+import com.team03.ticketmon.seat.domain.SeatStatus;
+import com.team03.ticketmon.seat.domain.SeatStatus.SeatStatusEnum;
+import com.team03.ticketmon.seat.dto.SeatBulkReserveResponseDTO;
+import com.team03.ticketmon.seat.dto.SeatChangeDTO;
+import com.team03.ticketmon.seat.dto.SeatChangesResponseDTO;
+import com.team03.ticketmon.seat.dto.SeatStatusResponseDTO;
+import com.team03.ticketmon.seat.exception.SeatReservationException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.data.redis.DataRedisTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * SeatStatusService의 Lua 스크립트 기반 좌석 선점/상태 전이가 실제 Redis에서 정확히 동작하는지 검증하는 테스트 클래스.
+ * 좌석 Hash와 함께 갱신되는 사용자 선점 인덱스, 패킹 상태, 가용성 카운터, 변경 로그를 함께 확인합니다.
+ * (DB 기반 캐시 초기화는 사용하지 않고, 좌석 Hash를 직접 적재한 뒤 패킹 상태를 재구성하여 준비)
+ */
+@ActiveProfiles("test")
+@Testcontainers
+@DataRedisTest
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@Import({RedissonConfig.class, SeatProperties.class, SeatRedisCodecConfig.class, SeatStatusService.class,
+        SeatStatusEventPublisher.class, SeatRedisScriptAdapter.class, SeatStatusShardRouter.class, SeatNearCache.class,
+        SeatCacheInitService.class, SeatCounterService.class, SeatStateService.class, SeatChangeLogService.class})
+class SeatStatusServiceTest {
+
+    private static final Long CONCERT_ID = 1L;
+    private static final Long USER_ID = 1001L;
+    private static final Long OTHER_USER_ID = 1002L;
+    // 사용자당 최대 선점 좌석 수
+    private static final int MAX_SEAT_COUNT = 2;
+    // A구역 1~5번, B구역 6~10번 좌석
+    private static final int SEAT_COUNT = 10;
+
+    @MockitoBean
+    private ConcertSeatRepository concertSeatRepository;
+    @MockitoBean
+    private SeatJournalService seatJournalService;
+
+    @Autowired
+    private SeatStatusService seatStatusService;
+    @Autowired
+    private SeatCacheInitService seatCacheInitService;
+    @Autowired
+    private SeatCounterService seatCounterService;
+    @Autowired
+    private SeatStateService seatStateService;
+    @Autowired
+    private SeatChangeLogService seatChangeLogService;
+    @Autowired
+    private SeatStatusShardRouter seatStatusShardRouter;
+    @Autowired
+    private RedissonClient redissonClient;
+
+    @Container
+    public static GenericContainer<?> redis = new GenericContainer<>("redis:7-alpine")
+            .withExposedPorts(6379);
+
+    @DynamicPropertySource
+    static void redisProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.data.redis.host", () -> redis.getHost());
+        registry.add("spring.data.redis.port", () -> redis.getMappedPort(6379));
+        registry.add("spring.data.redis.ssl.enabled", () -> false);
+
+        registry.add("seat.reservation.max-seat-count", () -> MAX_SEAT_COUNT);
+    }
+
+    @BeforeEach
+    void setUp() {
+        // 모든 좌석을 AVAILABLE로 적재한 뒤 패킹 상태 / 좌석 순번 / 가용성 카운터 구성
+        for (long seatId = 1; seatId <= SEAT_COUNT; seatId++) {
+            seatStatusShardRouter.mapOf(CONCERT_ID, seatId).fastPut(String.valueOf(seatId), availableSeat(seatId));
+        }
+        seatCacheInitService.rebuildPackedSeatState(CONCERT_ID);
+    }
+
+    @AfterEach
+    void tearDown() {
+        // 각 테스트가 서로에게 영향을 주지 않도록, 테스트 실행 후 Redis 데이터를 모두 삭제합니다.
+        redissonClient.getKeys().flushall();
+    }
+
+    @Test
+    @DisplayName("사용자당 최대 선점 수를 초과하면 선점이 거부되고, 이미 본인이 선점한 좌석의 재요청은 허용된다.")
+    void reserveSeat_shouldEnforcePerUserLimit() {
+        // given: 사용자가 최대 선점 수(2석)만큼 선점
+        seatStatusService.reserveSeat(CONCERT_ID, 1L, USER_ID, "A-1-1");
+        seatStatusService.reserveSeat(CONCERT_ID, 2L, USER_ID, "A-1-2");
+
+        // when & then: 세 번째 좌석 선점은 거부
+        assertThatThrownBy(() -> seatStatusService.reserveSeat(CONCERT_ID, 3L, USER_ID, "A-1-3"))
+                .isInstanceOf(SeatReservationException.class)
+                .hasMessageContaining("최대 2개");
+        assertThat(seatStatusService.getSeatStatus(CONCERT_ID, 3L).get().getStatus()).isEqualTo(SeatStatusEnum.AVAILABLE);
+
+        // 이미 선점한 좌석의 재요청은 한도와 무관하게 기존 선점 상태를 반환
+        SeatStatus again = seatStatusService.reserveSeat(CONCERT_ID, 1L, USER_ID, "A-1-1");
+        assertThat(again.getUserId()).isEqualTo(USER_ID);
+
+        // 다른 사용자의 한도에는 영향을 주지 않음
+        seatStatusService.reserveSeat(CONCERT_ID, 3L, OTHER_USER_ID, "A-1-3");
+        assertThat(userIndex(USER_ID)).containsExactlyInAnyOrder("1", "2");
+        assertThat(userIndex(OTHER_USER_ID)).containsExactly("3");
+    }
+
+    @Test
+    @DisplayName("일괄 선점 중 하나라도 선점할 수 없으면 아무 좌석도 선점되지 않고 인덱스/카운터/버전도 변경되지 않는다.")
+    void reserveSeats_shouldBeAllOrNothing() {
+        // given: 다른 사용자가 5번 좌석을 선점 중
+        seatStatusService.reserveSeat(CONCERT_ID, 5L, OTHER_USER_ID, "A-1-5");
+        long versionBefore = seatChangeLogService.getCurrentVersion(CONCERT_ID);
+        Map<String, Long> countsBefore = counts().toHash();
+
+        // when: 4번(가능), 5번(타인 선점) 좌석 일괄 선점
+        SeatBulkReserveResponseDTO response = seatStatusService.reserveSeats(CONCERT_ID, List.of(4L, 5L), USER_ID);
+
+        // then
+        // 1. 실패 좌석과 사유만 응답
+        assertThat(response.reserved()).isFalse();
+        assertThat(response.failures())
+                .extracting(SeatBulkReserveResponseDTO.SeatFailure::seatId, SeatBulkReserveResponseDTO.SeatFailure::reason)
+                .containsExactly(tuple(5L, "HELD_BY_OTHER"));
+        // 2. 선점 가능했던 4번 좌석도 그대로 AVAILABLE
+        assertThat(seatStatusService.getSeatStatus(CONCERT_ID, 4L).get().getStatus()).isEqualTo(SeatStatusEnum.AVAILABLE);
+        assertThat(seatStateService.getSnapshotIfPresent(CONCERT_ID).stateOfSeat(4L)).isEqualTo(PackedSeatState.AVAILABLE);
+        // 3. 사용자 인덱스 / TTL 키 / 만료 큐에 흔적이 남지 않음
+        assertThat(userIndex(USER_ID)).isEmpty();
+        assertThat(redissonClient.getBucket(RedisKeyGenerator.seatTtlKey(CONCERT_ID, 4L)).isExists()).isFalse();
+        assertThat(redissonClient.getScoredSortedSet(RedisKeyGenerator.seatExpiryQueueKey(CONCERT_ID), StringCodec.INSTANCE)
+                .contains("4")).isFalse();
+        // 4. 카운터와 버전도 변경 없음
+        assertThat(counts().toHash()).isEqualTo(countsBefore);
+        assertThat(seatChangeLogService.getCurrentVersion(CONCERT_ID)).isEqualTo(versionBefore);
+    }
+
+    @Test
+    @DisplayName("일괄 선점 좌석 수와 기존 선점 수의 합이 한도를 넘으면 아무 좌석도 선점되지 않는다.")
+    void reserveSeats_shouldRejectWhenLimitExceeded() {
+        // given: 사용자가 이미 1석 선점
+        seatStatusService.reserveSeat(CONCERT_ID, 1L, USER_ID, "A-1-1");
+        long versionBefore = seatChangeLogService.getCurrentVersion(CONCERT_ID);
+
+        // when: 2석 추가 일괄 선점 (1 + 2 > 2)
+        SeatBulkReserveResponseDTO response = seatStatusService.reserveSeats(CONCERT_ID, List.of(2L, 3L), USER_ID);
+
+        // then
+        assertThat(response.reserved()).isFalse();
+        assertThat(response.failures()).extracting(SeatBulkReserveResponseDTO.SeatFailure::reason)
+                .containsOnly("LIMIT_EXCEEDED");
+        assertThat(userIndex(USER_ID)).containsExactly("1");
+        assertThat(counts().count(PackedSeatState.RESERVED)).isEqualTo(1);
+        assertThat(seatChangeLogService.getCurrentVersion(CONCERT_ID)).isEqualTo(versionBefore);
+    }
+
+    @Test
+    @DisplayName("좌석 상태가 전이될 때마다 패킹 상태와 전체/구역 가용성 카운터가 이전 상태에서 새 상태로 이동한다.")
+    void transitions_shouldMovePackedStateAndCounters() {
+        // 1. 임시 선점: AVAILABLE → RESERVED
+        SeatStatus reserved = seatStatusService.reserveSeat(CONCERT_ID, 1L, USER_ID, "A-1-1");
+        assertPackedStateAndCounts(PackedSeatState.RESERVED);
+
+        // 2. 영구 선점 (만료 시간 없음): RESERVED → PERMANENTLY_RESERVED
+        seatStatusService.updateSeatStatus(copyOf(reserved, SeatStatusEnum.RESERVED, USER_ID));
+        assertPackedStateAndCounts(PackedSeatState.PERMANENTLY_RESERVED);
+        assertThat(userIndex(USER_ID)).containsExactly("1");
+
+        // 3. 예매 완료: PERMANENTLY_RESERVED → BOOKED (사용자 인덱스에서 제거)
+        seatStatusService.updateSeatStatus(copyOf(reserved, SeatStatusEnum.BOOKED, USER_ID));
+        assertPackedStateAndCounts(PackedSeatState.BOOKED);
+        assertThat(userIndex(USER_ID)).isEmpty();
+
+        // 4. 관리자 해제: BOOKED → AVAILABLE (초기 카운터로 복귀)
+        seatStatusService.forceReleaseSeat(CONCERT_ID, 1L);
+        assertThat(seatStateService.getSnapshotIfPresent(CONCERT_ID).stateOfSeat(1L)).isEqualTo(PackedSeatState.AVAILABLE);
+        assertThat(counts().available()).isEqualTo(SEAT_COUNT);
+        assertThat(counts().availableIn("A")).isEqualTo(5);
+
+        // 전이 4회 = 버전 4, 카운터는 패킹 상태 재집계 결과와 일치
+        assertThat(seatChangeLogService.getCurrentVersion(CONCERT_ID)).isEqualTo(4L);
+        assertThat(seatCounterService.checkDrift(CONCERT_ID, false).differences()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("좌석 변경마다 버전이 1씩 증가하고, 클라이언트 버전 이후의 변경분만 순서대로 조회된다.")
+    void changeLog_shouldReturnDeltaSinceVersion() {
+        // given: 선점(v1) → 다른 사용자 선점(v2) → 선점 해제(v3)
+        seatStatusService.reserveSeat(CONCERT_ID, 1L, USER_ID, "A-1-1");
+        seatStatusService.reserveSeat(CONCERT_ID, 6L, OTHER_USER_ID, "B-1-6");
+        seatStatusService.releaseSeat(CONCERT_ID, 1L, USER_ID);
+
+        // when
+        SeatChangesResponseDTO delta = seatChangeLogService.getChangesSince(CONCERT_ID, 1L, OTHER_USER_ID);
+
+        // then
+        // 1. 현재 버전은 변경 횟수와 같다.
+        assertThat(seatChangeLogService.getCurrentVersion(CONCERT_ID)).isEqualTo(3L);
+        // 2. v1 이후 변경분(v2, v3)만 절대 상태로 전달된다.
+        assertThat(delta.fullSnapshot()).isFalse();
+        assertThat(delta.currentVersion()).isEqualTo(3L);
+        assertThat(delta.changes()).extracting(SeatChangeDTO::version).containsExactly(2L, 3L);
+        assertThat(delta.changes()).extracting(SeatChangeDTO::seatId).containsExactly(6L, 1L);
+        assertThat(delta.changes()).extracting(SeatChangeDTO::status)
+                .containsExactly(SeatStatusEnum.RESERVED, SeatStatusEnum.AVAILABLE);
+        // 3. 본인 선점 여부가 요청 사용자 기준으로 표시된다.
+        assertThat(delta.changes()).extracting(SeatChangeDTO::isReservedByCurrentUser).containsExactly(true, false);
+
+        // 최신 버전이면 빈 델타, 버전이 없으면(0) 전체 스냅샷
+        assertThat(seatChangeLogService.getChangesSince(CONCERT_ID, 3L, USER_ID).hasChanges()).isFalse();
+        SeatChangesResponseDTO snapshot = seatChangeLogService.getChangesSince(CONCERT_ID, 0L, USER_ID);
+        assertThat(snapshot.fullSnapshot()).isTrue();
+        assertThat(snapshot.snapshot().totalSeats()).isEqualTo(SEAT_COUNT);
+        assertThat(snapshot.snapshot().heldSeats()).extracting(SeatStatusResponseDTO::seatId).containsExactly(6L);
+        assertThat(snapshot.snapshot().index().seatIds()).hasSize(SEAT_COUNT);
+    }
+
+    @Test
+    @DisplayName("스크립트를 거치지 않고 좌석 Hash가 직접 수정되어도, 정합성 복구 시 사용자 선점 인덱스가 Hash 기준으로 맞춰진다.")
+    void reconcileUserReservationIndex_afterManualHashWrite() {
+        // given: 1번 좌석 선점 후, 운영 중 수동 HSET으로 1번은 AVAILABLE, 2번은 같은 사용자 선점으로 변경
+        SeatStatus reserved = seatStatusService.reserveSeat(CONCERT_ID, 1L, USER_ID, "A-1-1");
+        seatStatusShardRouter.mapOf(CONCERT_ID, 1L).fastPut("1", availableSeat(1L));
+        SeatStatus manual = SeatStatus.builder()
+                .id(CONCERT_ID + "-2")
+                .concertId(CONCERT_ID)
+                .seatId(2L)
+                .status(SeatStatusEnum.RESERVED)
+                .userId(USER_ID)
+                .reservedAt(reserved.getReservedAt())
+                .expiresAt(reserved.getExpiresAt())
+                .seatInfo("A-1-2")
+                .build();
+        seatStatusShardRouter.mapOf(CONCERT_ID, 2L).fastPut("2", manual);
+        assertThat(userIndex(USER_ID)).containsExactly("1");
+
+        // when
+        Map<String, Object> result = seatStatusService.reconcileUserReservationIndex(CONCERT_ID);
+
+        // then: 잘못된 항목(1번) 제거 + 누락된 항목(2번) 추가
+        assertThat(result).containsEntry("checkedUsers", 1).containsEntry("fixedEntries", 2L);
+        assertThat(userIndex(USER_ID)).containsExactly("2");
+        assertThat(seatStatusService.getUserReservedSeats(CONCERT_ID, USER_ID))
+                .extracting(SeatStatus::getSeatId)
+                .containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("좌석 Hash에 선점 좌석이 없는 사용자의 잔여 인덱스 항목은 선점 수 초과 시 정리된 뒤 선점이 성공한다.")
+    void reserveSeat_shouldRepairStaleIndexOnLimitExceeded() {
+        // given: 실제로는 선점 좌석이 없지만 인덱스에 2개 항목이 남아있는 사용자
+        redissonClient.getSet(RedisKeyGenerator.seatUserIndexKey(CONCERT_ID, USER_ID), StringCodec.INSTANCE)
+                .addAll(List.of("3", "4"));
+
+        // when
+        SeatStatus reserved = seatStatusService.reserveSeat(CONCERT_ID, 5L, USER_ID, "A-1-5");
+
+        // then
+        assertThat(reserved.getStatus()).isEqualTo(SeatStatusEnum.RESERVED);
+        assertThat(userIndex(USER_ID)).containsExactly("5");
+    }
+
+    private void assertPackedStateAndCounts(int code) {
+        SeatAvailabilityCounts counts = counts();
+        assertThat(seatStateService.getSnapshotIfPresent(CONCERT_ID).stateOfSeat(1L)).isEqualTo(code);
+        assertThat(counts.count(code)).isEqualTo(1);
+        assertThat(counts.available()).isEqualTo(SEAT_COUNT - 1);
+        assertThat(counts.availableIn("A")).isEqualTo(4);
+        assertThat(counts.availableIn("B")).isEqualTo(5);
+        assertThat(counts.totalSeats()).isEqualTo(SEAT_COUNT);
+    }
+
+    private SeatAvailabilityCounts counts() {
+        return seatCounterService.getCountsIfPresent(CONCERT_ID);
+    }
+
+    private Set<String> userIndex(Long userId) {
+        return redissonClient.<String>getSet(RedisKeyGenerator.seatUserIndexKey(CONCERT_ID, userId), StringCodec.INSTANCE)
+                .readAll();
+    }
+
+    private SeatStatus copyOf(SeatStatus seat, SeatStatusEnum status, Long userId) {
+        return SeatStatus.builder()
+                .id(seat.getId())
+                .concertId(seat.getConcertId())
+                .seatId(seat.getSeatId())
+                .status(status)
+                .userId(userId)
+                .reservedAt(seat.getReservedAt())
+                .expiresAt(null)
+                .seatInfo(seat.getSeatInfo())
+                .build();
+    }
+
+    private SeatStatus availableSeat(long seatId) {
+        return SeatStatus.builder()
+                .id(CONCERT_ID + "-" + seatId)
+                .concertId(CONCERT_ID)
+                .seatId(seatId)
+                .status(SeatStatusEnum.AVAILABLE)
+                .seatInfo((seatId <= 5 ? "A" : "B") + "-1-" + seatId)
+                .build();
+    }
+}
@@ -0,0 +1,189 @@
+package com.team03.ticketmon.seat.service;
+
+import com.team03.ticketmon._global.config.RedissonConfig;
+import com.team03.ticketmon._global.util.RedisKeyGenerator;
+import com.team03.ticketmon.concert.repository.ConcertSeatRepository;
+import com.team03.ticketmon.seat.adapter.SeatRedisScriptAdapter;
+import com.team03.ticketmon.seat.adapter.SeatStatusCodec;
+import com.team03.ticketmon.seat.adapter.SeatStatusShardRouter;
+import com.team03.ticketmon.seat.config.SeatProperties;
+import com.team03.ticketmon.seat.config.SeatRedisCodecConfig;
+import com.team03.ticketmon.seat.domain.PackedSeatState;
+import com.team03.ticketmon.seat.domain.SeatStatus;
+import com.team03.ticketmon.seat.domain.SeatStatus.SeatStatusEnum;
+import com.team03.ticketmon.seat.dto.SeatBulkReserveResponseDTO;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.data.redis.DataRedisTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * 좌석 상태 Hash 샤드 모드(seat.storage.status-shard-count > 1)에서 단일/일괄 선점과 전체 좌석 조회가
+ * 실제 Redis에서 정확히 동작하는지 검증하는 테스트 클래스.
+ * 좌석 N은 seat:status:{concertId}:(N % 4) 샤드에 저장되며, 단일 Hash 키(seat:status:{concertId})는 사용하지 않습니다.
+ */
+@ActiveProfiles("test")
+@Testcontainers
+@DataRedisTest
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@Import({RedissonConfig.class, SeatProperties.class, SeatRedisCodecConfig.class, SeatStatusService.class,
+        SeatStatusEventPublisher.class, SeatRedisScriptAdapter.class, SeatStatusShardRouter.class, SeatNearCache.class,
+        SeatCacheInitService.class, SeatCounterService.class, SeatStateService.class, SeatChangeLogService.class})
+class SeatStatusShardingTest {
+
+    private static final Long CONCERT_ID = 1L;
+    private static final Long USER_ID = 1001L;
+    private static final Long OTHER_USER_ID = 1002L;
+    private static final int SHARD_COUNT = 4;
+    private static final int SEAT_COUNT = 10;
+
+    @MockitoBean
+    private ConcertSeatRepository concertSeatRepository;
+    @MockitoBean
+    private SeatJournalService seatJournalService;
+
+    @Autowired
+    private SeatStatusService seatStatusService;
+    @Autowired
+    private SeatCacheInitService seatCacheInitService;
+    @Autowired
+    private SeatStateService seatStateService;
+    @Autowired
+    private SeatStatusShardRouter seatStatusShardRouter;
+    @Autowired
+    private SeatStatusCodec seatStatusCodec;
+    @Autowired
+    private RedissonClient redissonClient;
+
+    @Container
+    public static GenericContainer<?> redis = new GenericContainer<>("redis:7-alpine")
+            .withExposedPorts(6379);
+
+    @DynamicPropertySource
+    static void redisProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.data.redis.host", () -> redis.getHost());
+        registry.add("spring.data.redis.port", () -> redis.getMappedPort(6379));
+        registry.add("spring.data.redis.ssl.enabled", () -> false);
+
+        registry.add("seat.storage.status-shard-count", () -> SHARD_COUNT);
+    }
+
+    @BeforeEach
+    void setUp() {
+        // 모든 좌석을 AVAILABLE로 각 샤드에 적재한 뒤 패킹 상태 / 좌석 순번 / 가용성 카운터 구성
+        for (long seatId = 1; seatId <= SEAT_COUNT; seatId++) {
+            seatStatusShardRouter.mapOf(CONCERT_ID, seatId).fastPut(String.valueOf(seatId), availableSeat(seatId));
+        }
+        seatCacheInitService.rebuildPackedSeatState(CONCERT_ID);
+    }
+
+    @AfterEach
+    void tearDown() {
+        // 각 테스트가 서로에게 영향을 주지 않도록, 테스트 실행 후 Redis 데이터를 모두 삭제합니다.
+        redissonClient.getKeys().flushall();
+    }
+
+    @Test
+    @DisplayName("전체 좌석 조회는 모든 샤드를 병합하여 반환하고, 단일 Hash 키는 만들지 않는다.")
+    void getAllSeatStatus_mergesAllShards() {
+        // when
+        Map<Long, SeatStatus> seats = seatStatusService.getAllSeatStatus(CONCERT_ID);
+
+        // then: 10석이 4개 샤드에 나뉘어 저장되어 있고, 병합 결과는 전체 좌석
+        assertThat(seats).hasSize(SEAT_COUNT);
+        assertThat(seats.keySet()).containsExactlyInAnyOrder(1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L, 10L);
+        for (int shard = 0; shard < SHARD_COUNT; shard++) {
+            long expectedShard = shard;
+            assertThat(shardFields(shard)).isNotEmpty()
+                    .allSatisfy(seatId -> assertThat(Long.parseLong(seatId) % SHARD_COUNT).isEqualTo(expectedShard));
+        }
+        assertThat(redissonClient.getKeys().countExists(RedisKeyGenerator.seatStatusKey(CONCERT_ID))).isZero();
+        assertThat(seatStatusShardRouter.size(CONCERT_ID)).isEqualTo(SEAT_COUNT);
+    }
+
+    @Test
+    @DisplayName("단일 선점은 좌석이 속한 샤드만 갱신하고, 개별/전체 조회와 패킹 상태에 반영된다.")
+    void reserveSeat_updatesOwningShard() {
+        // when: 좌석 6 (샤드 2) 선점
+        seatStatusService.reserveSeat(CONCERT_ID, 6L, USER_ID, "A-1-6");
+
+        // then
+        assertThat(seatStatusService.getSeatStatus(CONCERT_ID, 6L)).get()
+                .satisfies(seat -> {
+                    assertThat(seat.getStatus()).isEqualTo(SeatStatusEnum.RESERVED);
+                    assertThat(seat.getUserId()).isEqualTo(USER_ID);
+                });
+        assertThat(shardFields(2)).contains("6");
+        assertThat(seatStatusService.getAllSeatStatus(CONCERT_ID).get(6L).getStatus()).isEqualTo(SeatStatusEnum.RESERVED);
+        assertThat(seatStateService.getSnapshotIfPresent(CONCERT_ID).stateOfSeat(6L)).isEqualTo(PackedSeatState.RESERVED);
+        assertThat(userIndex(USER_ID)).containsExactly("6");
+    }
+
+    @Test
+    @DisplayName("여러 샤드에 걸친 일괄 선점도 All-or-Nothing으로 처리된다.")
+    void reserveSeats_acrossShardsIsAllOrNothing() {
+        // when: 좌석 1 (샤드 1), 2 (샤드 2) 일괄 선점
+        SeatBulkReserveResponseDTO reserved = seatStatusService.reserveSeats(CONCERT_ID, List.of(1L, 2L), OTHER_USER_ID);
+
+        // then
+        assertThat(reserved.reserved()).isTrue();
+        Map<Long, SeatStatus> seats = seatStatusService.getAllSeatStatus(CONCERT_ID);
+        assertThat(List.of(seats.get(1L), seats.get(2L)))
+                .extracting(SeatStatus::getStatus, SeatStatus::getUserId)
+                .containsOnly(tuple(SeatStatusEnum.RESERVED, OTHER_USER_ID));
+        assertThat(userIndex(OTHER_USER_ID)).containsExactlyInAnyOrder("1", "2");
+
+        // when: 좌석 3 (샤드 3, 가능), 2 (샤드 2, 타인 선점) 일괄 선점
+        SeatBulkReserveResponseDTO rejected = seatStatusService.reserveSeats(CONCERT_ID, List.of(3L, 2L), USER_ID);
+
+        // then: 다른 샤드의 좌석 3도 선점되지 않는다.
+        assertThat(rejected.reserved()).isFalse();
+        assertThat(rejected.failures())
+                .extracting(SeatBulkReserveResponseDTO.SeatFailure::seatId, SeatBulkReserveResponseDTO.SeatFailure::reason)
+                .containsExactly(tuple(2L, "HELD_BY_OTHER"));
+        assertThat(seatStatusService.getSeatStatus(CONCERT_ID, 3L).get().getStatus()).isEqualTo(SeatStatusEnum.AVAILABLE);
+        assertThat(seatStateService.getSnapshotIfPresent(CONCERT_ID).stateOfSeat(3L)).isEqualTo(PackedSeatState.AVAILABLE);
+        assertThat(userIndex(USER_ID)).isEmpty();
+    }
+
+    private Set<String> shardFields(int shard) {
+        return redissonClient.<String, SeatStatus>getMap(RedisKeyGenerator.seatStatusShardKey(CONCERT_ID, shard),
+                seatStatusCodec).readAllKeySet();
+    }
+
+    private Set<String> userIndex(Long userId) {
+        return redissonClient.<String>getSet(RedisKeyGenerator.seatUserIndexKey(CONCERT_ID, userId), StringCodec.INSTANCE)
+                .readAll();
+    }
+
+    private SeatStatus availableSeat(long seatId) {
+        return SeatStatus.builder()
+                .id(CONCERT_ID + "-" + seatId)
+                .concertId(CONCERT_ID)
+                .seatId(seatId)
+                .status(SeatStatusEnum.AVAILABLE)
+                .seatInfo("A-1-" + seatId)
+                .build();
+    }
+}